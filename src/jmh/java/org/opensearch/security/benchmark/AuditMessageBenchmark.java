@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.security.benchmark;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.collect.Tuple;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.security.auditlog.AuditLog.Origin;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.test.helper.config.SyntheticDocuments;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Creation and JSON encoding of an audit message with request bodies of various sizes.
+ * A new message is created per invocation because messages cache their encoding.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuditMessageBenchmark {
+
+    @Param({ "0", "10", "100", "1000" })
+    public int fields;
+
+    private ClusterService clusterService;
+    private BytesArray body;
+
+    @Setup
+    public void setup() {
+        final DiscoveryNode localNode = new DiscoveryNode("node-1", new TransportAddress(new InetSocketAddress("10.0.0.1", 9300)), Version.CURRENT);
+
+        clusterService = mock(ClusterService.class);
+        when(clusterService.localNode()).thenReturn(localNode);
+        when(clusterService.getClusterName()).thenReturn(new ClusterName("benchmark"));
+
+        body = new BytesArray(SyntheticDocuments.json(1, fields));
+    }
+
+    @Benchmark
+    public String toJson() {
+        final AuditMessage message = new AuditMessage(AuditCategory.INDEX_EVENT, clusterService, Origin.REST, Origin.TRANSPORT);
+        message.addEffectiveUser("user_1");
+        message.addAction("indices:data/write/index");
+        message.addIndices(new String[] { "logs-1-10" });
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, body));
+        return message.toJson();
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.security.benchmark;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.user.User;
+
+/**
+ * Serialization of the user into the thread context header, as done for every request sent to another node.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Base64HelperBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int backendRoles;
+
+    @Param({ "0", "20" })
+    public int attributes;
+
+    private User user;
+    private String serialized;
+
+    @Setup
+    public void setup() {
+        final List<String> roles = new ArrayList<>(backendRoles);
+        for (int i = 0; i < backendRoles; i++) {
+            roles.add("CN=group_" + i + ",OU=groups,DC=example,DC=com");
+        }
+
+        user = new User("user_1", roles, null);
+
+        final Map<String, String> customAttributes = new HashMap<>();
+        for (int i = 0; i < attributes; i++) {
+            customAttributes.put("attr.jwt.claim_" + i, "value_" + i);
+        }
+        user.addAttributes(customAttributes);
+
+        serialized = Base64Helper.serializeObject(user);
+    }
+
+    @Benchmark
+    public String serialize() {
+        return Base64Helper.serializeObject(user);
+    }
+
+    @Benchmark
+    public Serializable deserialize() {
+        return Base64Helper.deserializeObject(serialized);
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.benchmark;
+
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.OpenSearchSecurityPlugin;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.test.helper.config.SyntheticSecurityConfig;
+import org.opensearch.transport.RemoteClusterService;
+import org.opensearch.transport.TransportService;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * The cluster side of the benchmarks: the indices of a {@link SyntheticSecurityConfig} in a mocked cluster service
+ * and an index resolver working on it, without cross cluster search.
+ */
+final class ClusterFixture {
+
+    final ClusterState state;
+    final ClusterService clusterService;
+    final IndexNameExpressionResolver resolver;
+    final ClusterInfoHolder clusterInfoHolder;
+    final IndexResolverReplacer indexResolverReplacer;
+
+    ClusterFixture(final SyntheticSecurityConfig config) {
+        state = config.clusterState();
+        clusterService = mock(ClusterService.class);
+        when(clusterService.state()).thenReturn(state);
+
+        final TransportService transportService = mock(TransportService.class);
+        when(transportService.getRemoteClusterService()).thenReturn(mock(RemoteClusterService.class));
+        new OpenSearchSecurityPlugin.GuiceHolder(null, transportService, null);
+
+        resolver = new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY));
+        clusterInfoHolder = new ClusterInfoHolder();
+        indexResolverReplacer = new IndexResolverReplacer(resolver, clusterService, clusterInfoHolder);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+
+package org.opensearch.security.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.security.configuration.MaskedField;
+import org.opensearch.security.configuration.Salt;
+
+/**
+ * Masking of a single value with the default hash, an explicit algorithm and regex replacements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MaskedFieldBenchmark {
+
+    @Param({ "email", "email::SHA-256", "email::/@.*/::@masked.com" })
+    public String maskedField;
+
+    @Param({ "16", "256", "4096" })
+    public int valueLength;
+
+    private MaskedField field;
+    private byte[] value;
+
+    @Setup
+    public void setup() {
+        field = new MaskedField(maskedField, new Salt(new byte[16]));
+
+        final StringBuilder builder = new StringBuilder(valueLength);
+        while (builder.length() < valueLength - "@example.com".length()) {
+            builder.append((char) ('a' + builder.length() % 26));
+        }
+        value = builder.append("@example.com").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] mask() {
+        return field.mask(value);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.benchmark;
+
+import java.net.InetSocketAddress;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.ConfigCompiler;
+import org.opensearch.security.securityconf.ConfigModelV7;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.stats.SecurityStats;
+import org.opensearch.security.test.helper.config.SyntheticSecurityConfig;
+import org.opensearch.security.user.User;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Role mapping and privilege evaluation of a user mapped to {@code roles / groups} roles, some of them with DLS/FLS,
+ * in a cluster with {@code indices} indices.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SecurityRolesBenchmark {
+
+    private static final String[] SEARCH = { "indices:data/read/search" };
+
+    @Param({ "100", "1000", "5000" })
+    public int roles;
+
+    @Param({ "5000" })
+    public int indices;
+
+    @Param({ "logs-1-*", "logs-*", "logs-1-10,logs-2-10" })
+    public String indexExpression;
+
+    private SecurityDynamicConfiguration<RoleV7> rolesConfig;
+    private SecurityDynamicConfiguration<RoleMappingsV7> roleMappingsConfig;
+    private SecurityDynamicConfiguration<ActionGroupsV7> actionGroupsConfig;
+    private SecurityDynamicConfiguration<TenantV7> tenantsConfig;
+    private DynamicConfigModel dynamicConfigModel;
+    private ExecutorService compilationExecutor;
+    private ConfigCompiler compiler;
+
+    private ClusterFixture cluster;
+    private ConfigModelV7 configModel;
+    private User user;
+    private TransportAddress caller;
+    private SecurityRoles securityRoles;
+    private Resolved resolved;
+
+    @Setup
+    public void setup() throws Exception {
+        final SyntheticSecurityConfig config = new SyntheticSecurityConfig().setRoles(roles).setIndices(indices);
+        rolesConfig = config.sdc(CType.ROLES);
+        roleMappingsConfig = config.sdc(CType.ROLESMAPPING);
+        actionGroupsConfig = config.sdc(CType.ACTIONGROUPS);
+        tenantsConfig = config.sdc(CType.TENANTS);
+
+        dynamicConfigModel = mock(DynamicConfigModel.class);
+        when(dynamicConfigModel.getHostsResolverMode()).thenReturn("ip-only");
+
+        compilationExecutor = Executors.newFixedThreadPool(Math.min(10, Runtime.getRuntime().availableProcessors()));
+        compiler = new ConfigCompiler(compilationExecutor, Settings.EMPTY, SecurityStats.NONE);
+        cluster = new ClusterFixture(config);
+        configModel = compile();
+        user = config.user(1);
+        caller = new TransportAddress(new InetSocketAddress("127.0.0.1", 9300));
+        securityRoles = configModel.getSecurityRoles().filter(configModel.mapSecurityRoles(user, caller));
+        resolved = cluster.indexResolverReplacer.resolveRequest(new SearchRequest(indexExpression.split(",")));
+    }
+
+    @TearDown
+    public void tearDown() {
+        compilationExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public ConfigModelV7 compile() {
+        return new ConfigModelV7(rolesConfig, roleMappingsConfig, actionGroupsConfig, tenantsConfig, dynamicConfigModel, Settings.EMPTY,
+                cluster.clusterInfoHolder, compiler);
+    }
+
+    @Benchmark
+    public Set<String> mapSecurityRoles() {
+        return configModel.mapSecurityRoles(user, caller);
+    }
+
+    @Benchmark
+    public Resolved resolveRequest() {
+        return cluster.indexResolverReplacer.resolveRequest(new SearchRequest(indexExpression.split(",")));
+    }
+
+    @Benchmark
+    public boolean get() {
+        return securityRoles.get(resolved, user, SEARCH, cluster.resolver, cluster.clusterService);
+    }
+
+    @Benchmark
+    public Set<String> reduce() {
+        return securityRoles.reduce(resolved, user, SEARCH, cluster.resolver, cluster.clusterService);
+    }
+
+    @Benchmark
+    public EvaluatedDlsFlsConfig getDlsFls() {
+        return securityRoles.getDlsFls(user, false, cluster.resolver, cluster.clusterService, NamedXContentRegistry.EMPTY);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import org.opensearch.security.support.WildcardMatcher;
+import org.opensearch.security.test.helper.config.SyntheticSecurityConfig;
+
+/**
+ * Matches all index names of a synthetic cluster against the common pattern shapes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WildcardMatcherBenchmark {
+
+    @Param({ "logs-1-10", "logs-1-*", "*-10", "logs-*-1?", "/logs-[0-9]+-1.*/", "logs-1-*,logs-2-*,metrics-*" })
+    public String pattern;
+
+    private String[] patterns;
+    private WildcardMatcher matcher;
+    private List<String> indexNames;
+
+    @Setup
+    public void setup() {
+        patterns = pattern.split(",");
+        matcher = WildcardMatcher.from(patterns);
+        indexNames = new SyntheticSecurityConfig().setIndices(10000).indexNames();
+    }
+
+    @Benchmark
+    public void test(final Blackhole blackhole) {
+        for (final String indexName : indexNames) {
+            blackhole.consume(matcher.test(indexName));
+        }
+    }
+
+    @Benchmark
+    public List<String> getMatchAny() {
+        return matcher.getMatchAny(indexNames, Collectors.toList());
+    }
+
+    @Benchmark
+    public WildcardMatcher from() {
+        return WildcardMatcher.from(patterns);
+    }
+}
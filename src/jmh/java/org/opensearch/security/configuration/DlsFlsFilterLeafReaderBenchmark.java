@@ -0,0 +1,138 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.StoredFieldVisitor;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.shard.ShardId;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.test.helper.config.SyntheticDocuments;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Loading the source of documents of various sizes through the FLS and field masking visitors,
+ * as done for every hit of a restricted search and for every get.
+ * An empty {@code fls} and {@code masked} measures the unrestricted reader as a baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DlsFlsFilterLeafReaderBenchmark {
+
+    private static final int DOCUMENTS = 100;
+
+    @Param({ "10", "100", "1000" })
+    public int fields;
+
+    @Param({ "", "~secret", "department,email,field_1", "~secret*,~internal.*", "field_1*" })
+    public String fls;
+
+    @Param({ "", "email,ip::SHA-256" })
+    public String masked;
+
+    private ByteBuffersDirectory directory;
+    private DirectoryReader directoryReader;
+    private LeafReader reader;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = new ByteBuffersDirectory();
+        try (IndexWriter writer = new IndexWriter(directory, new IndexWriterConfig())) {
+            for (int i = 0; i < DOCUMENTS; i++) {
+                final Document document = new Document();
+                document.add(new StoredField("_id", String.valueOf(i)));
+                document.add(new StoredField("_source", new BytesRef(SyntheticDocuments.json(i, fields).getBytes(StandardCharsets.UTF_8))));
+                writer.addDocument(document);
+            }
+            writer.forceMerge(1);
+        }
+        directoryReader = DirectoryReader.open(directory);
+
+        final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        threadContext.putTransient(ConfigConstants.OPENDISTRO_SECURITY_ACTION_NAME, "indices:data/read/get");
+
+        reader = new DlsFlsFilterLeafReader(directoryReader.leaves().get(0).reader(), toSet(fls), null, null, threadContext,
+                mock(ClusterService.class), mock(AuditLog.class), toSet(masked), new ShardId("logs-1-10", "_na_", 0), new Salt(new byte[16]));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        directoryReader.close();
+        directory.close();
+    }
+
+    @Benchmark
+    public int loadSource() throws IOException {
+        int bytes = 0;
+        for (int i = 0; i < DOCUMENTS; i++) {
+            final SourceVisitor visitor = new SourceVisitor();
+            reader.document(i, visitor);
+            bytes += visitor.length;
+        }
+        return bytes;
+    }
+
+    private static Set<String> toSet(final String value) {
+        return value.isEmpty() ? Collections.emptySet() : new HashSet<>(Arrays.asList(value.split(",")));
+    }
+
+    private static class SourceVisitor extends StoredFieldVisitor {
+        private int length;
+
+        @Override
+        public Status needsField(final FieldInfo fieldInfo) {
+            return "_source".equals(fieldInfo.name) ? Status.YES : Status.NO;
+        }
+
+        @Override
+        public void binaryField(final FieldInfo fieldInfo, final byte[] value) {
+            length = value.length;
+        }
+    }
+}
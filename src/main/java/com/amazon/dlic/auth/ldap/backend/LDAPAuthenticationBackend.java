@@ -27,23 +27,28 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.ldaptive.Connection;
 import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapEntry;
 import org.ldaptive.SearchFilter;
 import org.ldaptive.SearchScope;
+import org.ldaptive.pool.ConnectionPool;
 
 import com.amazon.dlic.auth.ldap.LdapUser;
 import com.amazon.dlic.auth.ldap.util.ConfigConstants;
 import com.amazon.dlic.auth.ldap.util.LdapHelper;
 import com.amazon.dlic.auth.ldap.util.Utils;
+import com.amazon.dlic.auth.ldap2.LDAPConnectionPoolStats;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auth.AuthenticationBackend;
+import org.opensearch.security.auth.Destroyable;
+import org.opensearch.security.stats.ConnectionPoolStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
 
-public class LDAPAuthenticationBackend implements AuthenticationBackend {
+public class LDAPAuthenticationBackend implements AuthenticationBackend, Destroyable, ConnectionPoolStats.Provider {
 
     static final int ZERO_PLACEHOLDER = 0;
     static final String DEFAULT_USERBASE = "";
@@ -56,6 +61,9 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
     private final List<Map.Entry<String, Settings>> userBaseSettings;
     private final int customAttrMaxValueLen;
     private final WildcardMatcher whitelistedCustomLdapAttrMatcher;
+    private final LDAPConnectionPoolStats poolStats = new LDAPConnectionPoolStats();
+    private ConnectionPool connectionPool;
+    private ConnectionFactory connectionFactory;
 
     public LDAPAuthenticationBackend(final Settings settings, final Path configPath) {
         this.settings = settings;
@@ -65,6 +73,13 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
         customAttrMaxValueLen = settings.getAsInt(ConfigConstants.LDAP_CUSTOM_ATTR_MAXVAL_LEN, 36);
         whitelistedCustomLdapAttrMatcher = WildcardMatcher.from(settings.getAsList(ConfigConstants.LDAP_CUSTOM_ATTR_WHITELIST,
                 Collections.singletonList("*")));
+
+        try {
+            this.connectionPool = LDAPAuthorizationBackend.createConnectionPool(settings, configPath, poolStats);
+        } catch (final Exception e) {
+            throw new OpenSearchSecurityException("Unable to create LDAP connection pool: " + e, e);
+        }
+        this.connectionFactory = connectionPool != null ? poolStats.createPooledConnectionFactory(connectionPool) : null;
     }
 
     @Override
@@ -80,7 +95,7 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
             ConnectionConfig connectionConfig;
 
             try {
-                ldapConnection = LDAPAuthorizationBackend.getConnection(settings, configPath);
+                ldapConnection = LDAPAuthorizationBackend.getConnection(settings, configPath, connectionFactory);
 
                 entry = exists(user, ldapConnection, settings, userBaseSettings);
 
@@ -105,7 +120,9 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
 
                 connectionConfig = ldapConnection.getConnectionConfig();
             } finally {
+                // with pooling enabled this returns the connection to the pool before the user bind
                 Utils.unbindAndCloseSilently(ldapConnection);
+                ldapConnection = null;
             }
 
             LDAPAuthorizationBackend.checkConnection(connectionConfig, dn, password);
@@ -145,6 +162,19 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
         return "ldap";
     }
 
+    @Override
+    public LDAPConnectionPoolStats getConnectionPoolStats() {
+        return connectionPool != null ? poolStats : null;
+    }
+
+    @Override
+    public void destroy() {
+        if (this.connectionPool != null) {
+            this.connectionPool.close();
+            this.connectionPool = null;
+        }
+    }
+
     @Override
     public boolean exists(final User user) {
         Connection ldapConnection = null;
@@ -155,7 +185,7 @@ public class LDAPAuthenticationBackend implements AuthenticationBackend {
         }
 
         try {
-            ldapConnection = LDAPAuthorizationBackend.getConnection(settings, configPath);
+            ldapConnection = LDAPAuthorizationBackend.getConnection(settings, configPath, connectionFactory);
             LdapEntry userEntry = exists(userName, ldapConnection, settings, userBaseSettings);
             boolean exists = userEntry != null;
             
@@ -36,17 +36,18 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 
-import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
 import com.google.common.collect.HashMultimap;
 import io.netty.util.internal.PlatformDependent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.ldaptive.ActivePassiveConnectionStrategy;
 import org.ldaptive.BindConnectionInitializer;
 import org.ldaptive.BindRequest;
 import org.ldaptive.Connection;
 import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
 import org.ldaptive.Credential;
 import org.ldaptive.DefaultConnectionFactory;
 import org.ldaptive.LdapAttribute;
@@ -56,6 +57,7 @@ import org.ldaptive.Response;
 import org.ldaptive.SearchFilter;
 import org.ldaptive.SearchScope;
 import org.ldaptive.control.RequestControl;
+import org.ldaptive.pool.ConnectionPool;
 import org.ldaptive.provider.ProviderConnection;
 import org.ldaptive.sasl.Mechanism;
 import org.ldaptive.sasl.SaslConfig;
@@ -69,20 +71,25 @@ import org.ldaptive.ssl.ThreadLocalTLSSocketFactory;
 import com.amazon.dlic.auth.ldap.LdapUser;
 import com.amazon.dlic.auth.ldap.util.ConfigConstants;
 import com.amazon.dlic.auth.ldap.util.LdapHelper;
+import com.amazon.dlic.auth.ldap.util.NestedRoleResolver;
 import com.amazon.dlic.auth.ldap.util.Utils;
+import com.amazon.dlic.auth.ldap2.LDAPConnectionFactoryFactory;
+import com.amazon.dlic.auth.ldap2.LDAPConnectionPoolStats;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.SpecialPermission;
 import org.opensearch.common.Strings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auth.AuthorizationBackend;
+import org.opensearch.security.auth.Destroyable;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
+import org.opensearch.security.stats.ConnectionPoolStats;
 import org.opensearch.security.support.PemKeyReader;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
 
-public class LDAPAuthorizationBackend implements AuthorizationBackend {
+public class LDAPAuthorizationBackend implements AuthorizationBackend, Destroyable, ConnectionPoolStats.Provider {
 
     private static final AtomicInteger CONNECTION_COUNTER = new AtomicInteger();
     private static final String COM_SUN_JNDI_LDAP_OBJECT_DISABLE_ENDPOINT_IDENTIFICATION = "com.sun.jndi.ldap.object.disableEndpointIdentification";
@@ -98,10 +105,14 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
     private final Settings settings;
     private final WildcardMatcher skipUsersMatcher;
     private final WildcardMatcher nestedRoleMatcher;
+    private final NestedRoleResolver nestedRoleResolver;
 
     private final Path configPath;
     private final List<Map.Entry<String, Settings>> roleBaseSettings;
     private final List<Map.Entry<String, Settings>> userBaseSettings;
+    private final LDAPConnectionPoolStats poolStats = new LDAPConnectionPoolStats();
+    private ConnectionPool connectionPool;
+    private ConnectionFactory connectionFactory;
 
     public LDAPAuthorizationBackend(final Settings settings, final Path configPath) {
         this.settings = settings;
@@ -110,7 +121,15 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
                 WildcardMatcher.from(settings.getAsList(ConfigConstants.LDAP_AUTHZ_NESTEDROLEFILTER)) : null;
         this.configPath = configPath;
         this.roleBaseSettings = getRoleSearchSettings(settings);
+        this.nestedRoleResolver = nestedRoleMatcher != null ?
+                new NestedRoleResolver(settings, nestedRoleMatcher, roleBaseSettings) : null;
         this.userBaseSettings = LDAPAuthenticationBackend.getUserBaseSettings(settings);
+        try {
+            this.connectionPool = createConnectionPool(settings, configPath, poolStats);
+        } catch (final Exception e) {
+            throw new OpenSearchSecurityException("Unable to create LDAP connection pool: " + e, e);
+        }
+        this.connectionFactory = connectionPool != null ? poolStats.createPooledConnectionFactory(connectionPool) : null;
     }
 
     @SuppressWarnings("removal")
@@ -172,6 +191,90 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
 
     }
 
+    /**
+     * Returns a connection checked out from the given pooled connection factory or,
+     * if the factory is null, a newly opened connection.
+     */
+    @SuppressWarnings("removal")
+    public static Connection getConnection(final Settings settings, final Path configPath,
+                                           final ConnectionFactory pooledConnectionFactory) throws Exception {
+
+        if (pooledConnectionFactory == null) {
+            return getConnection(settings, configPath);
+        }
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<Connection>() {
+                @Override
+                public Connection run() throws Exception {
+                    return pooledConnectionFactory.getConnection();
+                }
+            });
+        } catch (PrivilegedActionException e) {
+            throw e.getException();
+        }
+    }
+
+    /**
+     * Creates a connection pool if pool.enabled is set, otherwise returns null.
+     * The pool shares its sizing, validation and pruning settings with the ldap2 backends.
+     */
+    @SuppressWarnings("removal")
+    public static ConnectionPool createConnectionPool(final Settings settings, final Path configPath,
+                                                      final LDAPConnectionPoolStats poolStats) throws Exception {
+
+        if (!settings.getAsBoolean(ConfigConstants.LDAP_POOL_ENABLED, false)) {
+            return null;
+        }
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<ConnectionPool>() {
+                @Override
+                public ConnectionPool run() throws Exception {
+                    final ConnectionConfig config = getConnectionConfig(settings, configPath, getLdapUrls(settings));
+                    config.setConnectionStrategy(new ActivePassiveConnectionStrategy());
+
+                    return LDAPConnectionFactoryFactory.createConnectionPool(settings,
+                            LDAPConnectionFactoryFactory.configurePrivilegedProvider(poolStats.createConnectionFactory(config)), poolStats);
+                }
+            });
+        } catch (PrivilegedActionException e) {
+            throw e.getException();
+        }
+    }
+
+    private static String getLdapUrls(final Settings settings) {
+        final boolean enableSSL = settings.getAsBoolean(ConfigConstants.LDAPS_ENABLE_SSL, false);
+        final List<String> ldapHosts = settings.getAsList(ConfigConstants.LDAP_HOSTS,
+                Collections.singletonList("localhost"));
+        final StringBuilder result = new StringBuilder();
+
+        for (String ldapHost : ldapHosts) {
+            final String[] split = ldapHost.split(":");
+            final int port = split.length > 1 ? Integer.parseInt(split[1]) : (enableSSL ? 636 : 389);
+
+            if (result.length() > 0) {
+                result.append(" ");
+            }
+
+            result.append("ldap").append(enableSSL ? "s" : "").append("://").append(split[0]).append(":").append(port);
+        }
+
+        return result.toString();
+    }
+
     private static List<Map.Entry<String, Settings>> getRoleSearchSettings(Settings settings) {
         Map<String, Settings> groupedSettings = settings.getGroups(ConfigConstants.LDAP_AUTHZ_ROLES, true);
 
@@ -273,54 +376,8 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
                     port = enableSSL ? 636 : 389;
                 }
 
-                final ConnectionConfig config = new ConnectionConfig();
-                config.setLdapUrl("ldap" + (enableSSL ? "s" : "") + "://" + split[0] + ":" + port);
-
-                if (isTraceEnabled) {
-                    log.trace("Connect to {}", config.getLdapUrl());
-                }
-
-                configureSSL(config, settings, configPath);
-
-                final String bindDn = settings.get(ConfigConstants.LDAP_BIND_DN, null);
-                final String password = settings.get(ConfigConstants.LDAP_PASSWORD, null);
-
-                if (isDebugEnabled) {
-                    log.debug("bindDn {}, password {}", bindDn,
-                            password != null && password.length() > 0 ? "****" : "<not set>");
-                }
-
-                if (bindDn != null && (password == null || password.length() == 0)) {
-                    log.error("No password given for bind_dn {}. Will try to authenticate anonymously to ldap", bindDn);
-                }
-
-                final boolean enableClientAuth = settings.getAsBoolean(ConfigConstants.LDAPS_ENABLE_SSL_CLIENT_AUTH,
-                        ConfigConstants.LDAPS_ENABLE_SSL_CLIENT_AUTH_DEFAULT);
-
-                if (isDebugEnabled) {
-                    if (enableClientAuth && bindDn == null) {
-                        log.debug("Will perform External SASL bind because client cert authentication is enabled");
-                    } else if (bindDn == null) {
-                        log.debug("Will perform anonymous bind because no bind dn is given");
-                    } else if (enableClientAuth && bindDn != null) {
-                        log.debug(
-                                "Will perform simple bind with bind dn because to bind dn is given and overrides client cert authentication");
-                    } else if (!enableClientAuth && bindDn != null) {
-                        log.debug("Will perform simple bind with bind dn");
-                    }
-                }
-
-                if (bindDn != null && password != null && password.length() > 0) {
-                    config.setConnectionInitializer(new BindConnectionInitializer(bindDn, new Credential(password)));
-                } else if (enableClientAuth) {
-                    SaslConfig saslConfig = new SaslConfig();
-                    saslConfig.setMechanism(Mechanism.EXTERNAL);
-                    BindConnectionInitializer bindConnectionInitializer = new BindConnectionInitializer();
-                    bindConnectionInitializer.setBindSaslConfig(saslConfig);
-                    config.setConnectionInitializer(bindConnectionInitializer);
-                } else {
-                    // No authentication
-                }
+                final ConnectionConfig config = getConnectionConfig(settings, configPath,
+                        "ldap" + (enableSSL ? "s" : "") + "://" + split[0] + ":" + port);
 
                 DefaultConnectionFactory connFactory = new DefaultConnectionFactory(config);
                 connection = connFactory.getConnection();
@@ -474,6 +531,63 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
         };
     }
 
+    private static ConnectionConfig getConnectionConfig(final Settings settings, final Path configPath, final String ldapUrl)
+            throws Exception {
+        final boolean isDebugEnabled = log.isDebugEnabled();
+        final boolean isTraceEnabled = log.isTraceEnabled();
+
+        final ConnectionConfig config = new ConnectionConfig();
+        config.setLdapUrl(ldapUrl);
+
+        if (isTraceEnabled) {
+            log.trace("Connect to {}", config.getLdapUrl());
+        }
+
+        configureSSL(config, settings, configPath);
+
+        final String bindDn = settings.get(ConfigConstants.LDAP_BIND_DN, null);
+        final String password = settings.get(ConfigConstants.LDAP_PASSWORD, null);
+
+        if (isDebugEnabled) {
+            log.debug("bindDn {}, password {}", bindDn,
+                    password != null && password.length() > 0 ? "****" : "<not set>");
+        }
+
+        if (bindDn != null && (password == null || password.length() == 0)) {
+            log.error("No password given for bind_dn {}. Will try to authenticate anonymously to ldap", bindDn);
+        }
+
+        final boolean enableClientAuth = settings.getAsBoolean(ConfigConstants.LDAPS_ENABLE_SSL_CLIENT_AUTH,
+                ConfigConstants.LDAPS_ENABLE_SSL_CLIENT_AUTH_DEFAULT);
+
+        if (isDebugEnabled) {
+            if (enableClientAuth && bindDn == null) {
+                log.debug("Will perform External SASL bind because client cert authentication is enabled");
+            } else if (bindDn == null) {
+                log.debug("Will perform anonymous bind because no bind dn is given");
+            } else if (enableClientAuth && bindDn != null) {
+                log.debug(
+                        "Will perform simple bind with bind dn because to bind dn is given and overrides client cert authentication");
+            } else if (!enableClientAuth && bindDn != null) {
+                log.debug("Will perform simple bind with bind dn");
+            }
+        }
+
+        if (bindDn != null && password != null && password.length() > 0) {
+            config.setConnectionInitializer(new BindConnectionInitializer(bindDn, new Credential(password)));
+        } else if (enableClientAuth) {
+            SaslConfig saslConfig = new SaslConfig();
+            saslConfig.setMechanism(Mechanism.EXTERNAL);
+            BindConnectionInitializer bindConnectionInitializer = new BindConnectionInitializer();
+            bindConnectionInitializer.setBindSaslConfig(saslConfig);
+            config.setConnectionInitializer(bindConnectionInitializer);
+        } else {
+            // No authentication
+        }
+
+        return config;
+    }
+
     @SuppressWarnings("removal")
     private static void restoreClassLoader0(final ClassLoader cl) {
         try {
@@ -712,7 +826,7 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
 
             if (entry == null || dn == null) {
 
-                connection = getConnection(settings, configPath);
+                connection = getConnection(settings, configPath, connectionFactory);
 
                 if (isValidDn(authenticatedUser)) {
                     // assume dn
@@ -877,27 +991,15 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
                 }
 
                 final Set<LdapName> nestedReturn = new HashSet<>(ldapRoles);
+                final Set<LdapName> nestedRoles = nestedRoleResolver.resolveNestedRoles(connection,
+                        resultRoleSearchBaseKeys, userRoleNames, rolesearchEnabled);
 
-                for (final LdapName roleLdapName : ldapRoles) {
-                    Set<Map.Entry<String, Settings>> nameRoleSearchBaseKeys = resultRoleSearchBaseKeys
-                            .get(roleLdapName);
-
-                    if (nameRoleSearchBaseKeys == null) {
-                        log.error("Could not find roleSearchBaseKeys for " + roleLdapName + "; existing: "
-                                + resultRoleSearchBaseKeys);
-                        continue;
-                    }
-
-                    final Set<LdapName> nestedRoles = resolveNestedRoles(roleLdapName, connection, userRoleNames, 0,
-                            rolesearchEnabled, nameRoleSearchBaseKeys);
-
-                    if (isTraceEnabled) {
-                        log.trace("{} nested roles for {}", nestedRoles.size(), roleLdapName);
-                    }
-
-                    nestedReturn.addAll(nestedRoles);
+                if (isTraceEnabled) {
+                    log.trace("{} nested roles for {}", nestedRoles.size(), ldapRoles);
                 }
 
+                nestedReturn.addAll(nestedRoles);
+
                 for (final LdapName roleLdapName : nestedReturn) {
                     final String role = getRoleFromEntry(connection, roleLdapName, roleName);
 
@@ -946,128 +1048,29 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
 
     }
 
-    protected Set<LdapName> resolveNestedRoles(final LdapName roleDn, final Connection ldapConnection,
-            String userRoleName, int depth, final boolean rolesearchEnabled,
-            Set<Map.Entry<String, Settings>> roleSearchBaseSettingsSet)
-            throws OpenSearchSecurityException, LdapException {
-
-        if (nestedRoleMatcher.test(roleDn.toString())) {
-
-            if (log.isTraceEnabled()) {
-                log.trace("Filter nested role {}", roleDn);
-            }
-
-            return Collections.emptySet();
-        }
-
-        depth++;
-
-        final boolean isDebugEnabled = log.isDebugEnabled();
-        final Set<LdapName> result = new HashSet<>(20);
-        final HashMultimap<LdapName, Map.Entry<String, Settings>> resultRoleSearchBaseKeys = HashMultimap.create();
-
-        final LdapEntry e0 = LdapHelper.lookup(ldapConnection, roleDn.toString());
-
-        if (e0.getAttribute(userRoleName) != null) {
-            final Collection<String> userRoles = e0.getAttribute(userRoleName).getStringValues();
-
-            for (final String possibleRoleDN : userRoles) {
-
-                if (isDebugEnabled){
-                    log.debug("DBGTRACE (10): possibleRoleDN"+possibleRoleDN);
-                }
-
-                if (isValidDn(possibleRoleDN)) {
-                    try {
-                        LdapName ldapName = new LdapName(possibleRoleDN);
-                        result.add(ldapName);
-                        resultRoleSearchBaseKeys.putAll(ldapName, this.roleBaseSettings);
-                    } catch (InvalidNameException e) {
-                        // ignore
-                    }
-                } else {
-                    if (isDebugEnabled) {
-                        log.debug("Cannot add {} as a role because its not a valid dn", possibleRoleDN);
-                    }
-                }
-            }
-        }
-
-        final boolean isTraceEnabled = log.isTraceEnabled();
-        if (isTraceEnabled) {
-            log.trace("result nested attr count for depth {} : {}", depth, result.size());
-        }
-
-        if (rolesearchEnabled) {
-            String escapedDn = roleDn.toString();
-
-            if (isDebugEnabled){
-                log.debug("DBGTRACE (10): escapedDn {}", escapedDn);
-            }
-
-
-            for (Map.Entry<String, Settings> roleSearchBaseSettingsEntry : Utils
-                    .getOrderedBaseSettings(roleSearchBaseSettingsSet)) {
-                Settings roleSearchSettings = roleSearchBaseSettingsEntry.getValue();
-
-                SearchFilter f = new SearchFilter();
-                f.setFilter(roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH));
-                f.setParameter(LDAPAuthenticationBackend.ZERO_PLACEHOLDER, escapedDn);
-                f.setParameter(ONE_PLACEHOLDER, escapedDn);
-
-                List<LdapEntry> foundEntries = LdapHelper.search(ldapConnection,
-                        roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
-                        f,
-                        SearchScope.SUBTREE);
-
-                if (isTraceEnabled) {
-                    log.trace("Results for LDAP group search for {} in base {}:\n{}", escapedDn, roleSearchBaseSettingsEntry.getKey(), foundEntries);
-                }
-
-                if (foundEntries != null) {
-                    for (final LdapEntry entry : foundEntries) {
-                        try {
-                            final LdapName dn = new LdapName(entry.getDn());
-                            result.add(dn);
-                            resultRoleSearchBaseKeys.put(dn, roleSearchBaseSettingsEntry);
-                        } catch (final InvalidNameException e) {
-                            throw new LdapException(e);
-                        }
-                    }
-                }
-            }
-        }
-
-        int maxDepth = ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT;
-        try {
-            maxDepth = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH,
-                    ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT);
-        } catch (Exception e) {
-            log.error(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH + " is not parseable: " + e, e);
-        }
-
-        if (depth < maxDepth) {
-            for (final LdapName nm : new HashSet<LdapName>(result)) {
-                Set<Map.Entry<String, Settings>> nameRoleSearchBaseKeys = resultRoleSearchBaseKeys.get(nm);
-
-                if (nameRoleSearchBaseKeys == null) {
-                    log.error(
-                            "Could not find roleSearchBaseKeys for " + nm + "; existing: " + resultRoleSearchBaseKeys);
-                    continue;
-                }
+    @Override
+    public String getType() {
+        return "ldap";
+    }
 
-                final Set<LdapName> in = resolveNestedRoles(nm, ldapConnection, userRoleName, depth, rolesearchEnabled,
-                        nameRoleSearchBaseKeys);
-                result.addAll(in);
-            }
+    @Override
+    public void invalidateCache() {
+        if (nestedRoleResolver != null) {
+            nestedRoleResolver.invalidateAll();
         }
+    }
 
-        return result;
+    @Override
+    public LDAPConnectionPoolStats getConnectionPoolStats() {
+        return connectionPool != null ? poolStats : null;
     }
 
     @Override
-    public String getType() {
-        return "ldap";
+    public void destroy() {
+        if (this.connectionPool != null) {
+            this.connectionPool.close();
+            this.connectionPool = null;
+        }
     }
 
     private boolean isValidDn(final String dn) {
@@ -1096,7 +1099,8 @@ public class LDAPAuthorizationBackend implements AuthorizationBackend {
         }
 
         try {
-            final LdapEntry roleEntry = LdapHelper.lookup(ldapConnection, ldapName.toString());
+            final LdapEntry roleEntry = nestedRoleResolver != null ? nestedRoleResolver.lookup(ldapConnection, ldapName.toString())
+                    : LdapHelper.lookup(ldapConnection, ldapName.toString());
 
             if(roleEntry != null) {
                 final LdapAttribute roleAttribute = roleEntry.getAttribute(role);
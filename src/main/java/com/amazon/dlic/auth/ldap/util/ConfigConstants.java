@@ -34,6 +34,12 @@ public final class ConfigConstants {
     public static final String LDAP_AUTHZ_NESTEDROLEFILTER = "nested_role_filter";
     public static final String LDAP_AUTHZ_MAX_NESTED_DEPTH = "max_nested_depth";
     public static final int LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT = 30;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL = "nested_role_cache.ttl_seconds";
+    public static final int LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_DEFAULT = 300;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE = "nested_role_cache.max_size";
+    public static final int LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE_DEFAULT = 10000;
+    public static final String LDAP_AUTHZ_NESTED_ROLE_BATCH_SIZE = "nested_role_batch_size";
+    public static final int LDAP_AUTHZ_NESTED_ROLE_BATCH_SIZE_DEFAULT = 50;
 
     public static final String LDAP_HOSTS = "hosts";
     public static final String LDAP_BIND_DN = "bind_dn";
@@ -0,0 +1,387 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.naming.InvalidNameException;
+import javax.naming.ldap.LdapName;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.HashMultimap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ldaptive.Connection;
+import org.ldaptive.LdapAttribute;
+import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
+import org.ldaptive.SearchFilter;
+import org.ldaptive.SearchScope;
+
+import org.opensearch.common.Strings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Resolves nested LDAP roles level by level instead of depth first.
+ *
+ * Every group is expanded at most once per search base and lookup. Group entries and the
+ * parents found by the role searches are kept in a TTL bounded cache which is shared by all
+ * users authorized through the same backend. If the role search filter is of the simple form
+ * {@code (attr={0})} the parents of all groups of one level are fetched with a single
+ * {@code (|(attr=dn1)(attr=dn2)...)} search and attributed to their children by the returned
+ * {@code attr} values.
+ */
+public class NestedRoleResolver {
+
+    private static final Logger log = LogManager.getLogger(NestedRoleResolver.class);
+    private static final Pattern SIMPLE_MEMBER_FILTER = Pattern.compile("^\\(\\s*([A-Za-z0-9;.\\-]+)\\s*=\\s*\\{[01]\\}\\s*\\)$");
+    private static final String DEFAULT_ROLEBASE = "";
+    private static final String DEFAULT_ROLESEARCH = "(member={0})";
+
+    private final WildcardMatcher nestedRoleMatcher;
+    private final List<Map.Entry<String, Settings>> roleBaseSettings;
+    private final int maxDepth;
+    private final int batchSize;
+    private final Cache<String, Optional<LdapEntry>> entryCache;
+    private final Cache<String, Set<LdapName>> parentSearchCache;
+
+    public NestedRoleResolver(final Settings settings, final WildcardMatcher nestedRoleMatcher,
+                              final List<Map.Entry<String, Settings>> roleBaseSettings) {
+        this.nestedRoleMatcher = nestedRoleMatcher;
+        this.roleBaseSettings = roleBaseSettings;
+
+        int maxDepth = ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT;
+        try {
+            maxDepth = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH,
+                    ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH_DEFAULT);
+        } catch (Exception e) {
+            log.error(ConfigConstants.LDAP_AUTHZ_MAX_NESTED_DEPTH + " is not parseable: ", e);
+        }
+        this.maxDepth = maxDepth;
+        this.batchSize = Math.max(1, settings.getAsInt(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_BATCH_SIZE,
+                ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_BATCH_SIZE_DEFAULT));
+
+        final int ttlInSec = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL,
+                ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL_DEFAULT);
+        final int maxSize = settings.getAsInt(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE,
+                ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_MAX_SIZE_DEFAULT);
+
+        if (ttlInSec > 0 && maxSize > 0) {
+            this.entryCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInSec, TimeUnit.SECONDS)
+                    .maximumSize(maxSize).concurrencyLevel(4).build();
+            this.parentSearchCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInSec, TimeUnit.SECONDS)
+                    .maximumSize(maxSize).concurrencyLevel(4).build();
+        } else {
+            this.entryCache = null;
+            this.parentSearchCache = null;
+        }
+    }
+
+    /**
+     * @param roleSearchBaseKeys the roles of the user mapped to the role search bases they were found in
+     * @return all nested roles of the given roles, not including the given roles themselves
+     */
+    public Set<LdapName> resolveNestedRoles(final Connection connection,
+                                            final HashMultimap<LdapName, Map.Entry<String, Settings>> roleSearchBaseKeys,
+                                            final String userRoleName, final boolean rolesearchEnabled) throws LdapException {
+
+        final boolean isTraceEnabled = log.isTraceEnabled();
+        final Set<LdapName> result = new HashSet<>(20);
+        final Set<LdapName> attributesResolved = new HashSet<>();
+        final HashMultimap<LdapName, Map.Entry<String, Settings>> basesResolved = HashMultimap.create();
+        HashMultimap<LdapName, Map.Entry<String, Settings>> level = roleSearchBaseKeys;
+
+        for (int depth = 1; depth <= maxDepth && !level.isEmpty(); depth++) {
+            final HashMultimap<LdapName, Map.Entry<String, Settings>> nextLevel = HashMultimap.create();
+            final Map<Map.Entry<String, Settings>, List<LdapName>> toSearch = new HashMap<>();
+
+            for (final LdapName roleDn : level.keySet()) {
+                if (nestedRoleMatcher.test(roleDn.toString())) {
+                    if (isTraceEnabled) {
+                        log.trace("Filter nested role {}", roleDn);
+                    }
+                    continue;
+                }
+
+                if (attributesResolved.add(roleDn)) {
+                    for (final LdapName parent : getParentsFromAttribute(connection, roleDn, userRoleName)) {
+                        result.add(parent);
+                        nextLevel.putAll(parent, this.roleBaseSettings);
+                    }
+                }
+
+                if (rolesearchEnabled) {
+                    for (final Map.Entry<String, Settings> roleSearchBaseSettingsEntry : level.get(roleDn)) {
+                        if (basesResolved.put(roleDn, roleSearchBaseSettingsEntry)) {
+                            toSearch.computeIfAbsent(roleSearchBaseSettingsEntry, k -> new ArrayList<>()).add(roleDn);
+                        }
+                    }
+                }
+            }
+
+            for (final Map.Entry<String, Settings> roleSearchBaseSettingsEntry : Utils.getOrderedBaseSettings(toSearch.keySet())) {
+                final Map<LdapName, Set<LdapName>> parents = getParentsFromSearch(connection, roleSearchBaseSettingsEntry,
+                        toSearch.get(roleSearchBaseSettingsEntry));
+
+                for (final Set<LdapName> parentsOfRole : parents.values()) {
+                    for (final LdapName parent : parentsOfRole) {
+                        result.add(parent);
+                        nextLevel.put(parent, roleSearchBaseSettingsEntry);
+                    }
+                }
+            }
+
+            if (isTraceEnabled) {
+                log.trace("result nested count for depth {} : {}", depth, result.size());
+            }
+
+            level = nextLevel;
+        }
+
+        return result;
+    }
+
+    /**
+     * Looks up the entry for the given DN, consulting the cache first.
+     */
+    public LdapEntry lookup(final Connection connection, final String dn) throws LdapException {
+        if (entryCache == null) {
+            return LdapHelper.lookup(connection, dn);
+        }
+
+        Optional<LdapEntry> entry = entryCache.getIfPresent(dn);
+
+        if (entry == null) {
+            entry = Optional.ofNullable(LdapHelper.lookup(connection, dn));
+            entryCache.put(dn, entry);
+        }
+
+        return entry.orElse(null);
+    }
+
+    public void invalidateAll() {
+        if (entryCache != null) {
+            entryCache.invalidateAll();
+            parentSearchCache.invalidateAll();
+        }
+    }
+
+    private Set<LdapName> getParentsFromAttribute(final Connection connection, final LdapName roleDn,
+                                                  final String userRoleName) throws LdapException {
+        final LdapEntry roleEntry = lookup(connection, roleDn.toString());
+
+        if (roleEntry == null || roleEntry.getAttribute(userRoleName) == null) {
+            return Collections.emptySet();
+        }
+
+        final Collection<String> userRoles = roleEntry.getAttribute(userRoleName).getStringValues();
+        final Set<LdapName> result = new HashSet<>(userRoles.size());
+
+        for (final String possibleRoleDN : userRoles) {
+            final LdapName ldapName = toLdapName(possibleRoleDN);
+
+            if (ldapName != null) {
+                result.add(ldapName);
+            } else if (log.isDebugEnabled()) {
+                log.debug("Cannot add {} as a role because its not a valid dn", possibleRoleDN);
+            }
+        }
+
+        return result;
+    }
+
+    private Map<LdapName, Set<LdapName>> getParentsFromSearch(final Connection connection,
+                                                              final Map.Entry<String, Settings> roleSearchBaseSettingsEntry,
+                                                              final List<LdapName> roleDns) throws LdapException {
+        final Map<LdapName, Set<LdapName>> result = new HashMap<>(roleDns.size());
+        final List<LdapName> uncached = new ArrayList<>(roleDns.size());
+
+        for (final LdapName roleDn : roleDns) {
+            final Set<LdapName> cached = parentSearchCache == null ? null
+                    : parentSearchCache.getIfPresent(cacheKey(roleSearchBaseSettingsEntry, roleDn));
+
+            if (cached != null) {
+                result.put(roleDn, cached);
+            } else {
+                uncached.add(roleDn);
+            }
+        }
+
+        if (uncached.isEmpty()) {
+            return result;
+        }
+
+        final Settings roleSearchSettings = roleSearchBaseSettingsEntry.getValue();
+        final String roleSearch = roleSearchSettings.get(ConfigConstants.LDAP_AUTHCZ_SEARCH, DEFAULT_ROLESEARCH);
+        final Matcher simpleFilter = SIMPLE_MEMBER_FILTER.matcher(roleSearch);
+        final String memberAttribute = simpleFilter.matches() ? simpleFilter.group(1) : null;
+
+        for (int i = 0; i < uncached.size(); i += batchSize) {
+            final List<LdapName> batch = uncached.subList(i, Math.min(i + batchSize, uncached.size()));
+            Map<LdapName, Set<LdapName>> found = null;
+
+            if (memberAttribute != null && batch.size() > 1) {
+                found = searchBatch(connection, roleSearchBaseSettingsEntry, memberAttribute, batch);
+            }
+
+            if (found == null) {
+                found = new HashMap<>(batch.size());
+                for (final LdapName roleDn : batch) {
+                    found.put(roleDn, searchSingle(connection, roleSearchBaseSettingsEntry, roleSearch, roleDn));
+                }
+            }
+
+            for (final Map.Entry<LdapName, Set<LdapName>> parents : found.entrySet()) {
+                final Set<LdapName> parentsOfRole = Collections.unmodifiableSet(parents.getValue());
+                if (parentSearchCache != null) {
+                    parentSearchCache.put(cacheKey(roleSearchBaseSettingsEntry, parents.getKey()), parentsOfRole);
+                }
+                result.put(parents.getKey(), parentsOfRole);
+            }
+        }
+
+        return result;
+    }
+
+    private Set<LdapName> searchSingle(final Connection connection, final Map.Entry<String, Settings> roleSearchBaseSettingsEntry,
+                                       final String roleSearch, final LdapName roleDn) throws LdapException {
+        final String escapedDn = roleDn.toString();
+        final SearchFilter f = new SearchFilter();
+        f.setFilter(roleSearch);
+        f.setParameter(0, escapedDn);
+        f.setParameter(1, escapedDn);
+
+        final List<LdapEntry> foundEntries = LdapHelper.search(connection,
+                roleSearchBaseSettingsEntry.getValue().get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
+                f,
+                SearchScope.SUBTREE);
+
+        if (log.isTraceEnabled()) {
+            log.trace("Results for LDAP group search for {} in base {}:\n{}", escapedDn, roleSearchBaseSettingsEntry.getKey(), foundEntries);
+        }
+
+        if (foundEntries == null || foundEntries.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        final Set<LdapName> result = new HashSet<>(foundEntries.size());
+
+        for (final LdapEntry entry : foundEntries) {
+            try {
+                result.add(new LdapName(entry.getDn()));
+            } catch (final InvalidNameException e) {
+                throw new LdapException(e);
+            }
+        }
+
+        return Collections.unmodifiableSet(result);
+    }
+
+    /**
+     * Searches the parents of all given roles with one OR-ed filter.
+     * @return the parents per role or null if a returned entry could not be attributed to any of the roles
+     */
+    private Map<LdapName, Set<LdapName>> searchBatch(final Connection connection, final Map.Entry<String, Settings> roleSearchBaseSettingsEntry,
+                                                     final String memberAttribute, final List<LdapName> roleDns) throws LdapException {
+        final StringBuilder filter = new StringBuilder("(|");
+        final SearchFilter f = new SearchFilter();
+
+        for (int i = 0; i < roleDns.size(); i++) {
+            filter.append('(').append(memberAttribute).append("={").append(i).append("})");
+            f.setParameter(i, roleDns.get(i).toString());
+        }
+
+        f.setFilter(filter.append(')').toString());
+
+        final List<LdapEntry> foundEntries = LdapHelper.search(connection,
+                roleSearchBaseSettingsEntry.getValue().get(ConfigConstants.LDAP_AUTHCZ_BASE, DEFAULT_ROLEBASE),
+                f,
+                SearchScope.SUBTREE);
+
+        if (log.isTraceEnabled()) {
+            log.trace("Results for batched LDAP group search for {} roles in base {}:\n{}", roleDns.size(),
+                    roleSearchBaseSettingsEntry.getKey(), foundEntries);
+        }
+
+        final Map<LdapName, Set<LdapName>> result = new HashMap<>(roleDns.size());
+
+        for (final LdapName roleDn : roleDns) {
+            result.put(roleDn, new HashSet<>());
+        }
+
+        if (foundEntries == null) {
+            return result;
+        }
+
+        for (final LdapEntry entry : foundEntries) {
+            final LdapAttribute members = entry.getAttribute(memberAttribute);
+
+            if (members == null) {
+                return null;
+            }
+
+            final LdapName parent;
+            try {
+                parent = new LdapName(entry.getDn());
+            } catch (final InvalidNameException e) {
+                throw new LdapException(e);
+            }
+
+            boolean attributed = false;
+
+            for (final String member : members.getStringValues()) {
+                final LdapName memberDn = toLdapName(member);
+                final Set<LdapName> parents = memberDn == null ? null : result.get(memberDn);
+
+                if (parents != null) {
+                    parents.add(parent);
+                    attributed = true;
+                }
+            }
+
+            if (!attributed) {
+                return null;
+            }
+        }
+
+        return result;
+    }
+
+    private static String cacheKey(final Map.Entry<String, Settings> roleSearchBaseSettingsEntry, final LdapName roleDn) {
+        return roleSearchBaseSettingsEntry.getKey() + "\n" + roleDn;
+    }
+
+    private static LdapName toLdapName(final String dn) {
+        if (Strings.isNullOrEmpty(dn)) {
+            return null;
+        }
+
+        try {
+            return new LdapName(dn);
+        } catch (final Exception e) {
+            return null;
+        }
+    }
+}
@@ -42,17 +42,19 @@ import org.opensearch.SpecialPermission;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auth.AuthenticationBackend;
 import org.opensearch.security.auth.Destroyable;
+import org.opensearch.security.stats.ConnectionPoolStats;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
 
-public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destroyable {
+public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destroyable, ConnectionPoolStats.Provider {
 
     protected static final Logger log = LogManager.getLogger(LDAPAuthenticationBackend2.class);
 
     private final Settings settings;
 
     private ConnectionPool connectionPool;
+    private final LDAPConnectionPoolStats poolStats;
     private ConnectionFactory connectionFactory;
     private ConnectionFactory authConnectionFactory;
     private LDAPUserSearcher userSearcher;
@@ -66,6 +68,7 @@ public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destro
                 configPath);
 
         this.connectionPool = ldapConnectionFactoryFactory.createConnectionPool();
+        this.poolStats = ldapConnectionFactoryFactory.getPoolStats();
         this.connectionFactory = ldapConnectionFactoryFactory.createConnectionFactory(this.connectionPool);
 
         if (this.connectionPool != null) {
@@ -181,6 +184,11 @@ public class LDAPAuthenticationBackend2 implements AuthenticationBackend, Destro
         return "ldap";
     }
 
+    @Override
+    public LDAPConnectionPoolStats getConnectionPoolStats() {
+        return connectionPool != null ? poolStats : null;
+    }
+
     @SuppressWarnings("removal")
     @Override
     public boolean exists(final User user) {
@@ -38,12 +38,10 @@ import org.ldaptive.SearchFilter;
 import org.ldaptive.SearchRequest;
 import org.ldaptive.SearchScope;
 import org.ldaptive.pool.AbstractConnectionPool;
-import org.ldaptive.pool.BlockingConnectionPool;
 import org.ldaptive.pool.CompareValidator;
 import org.ldaptive.pool.ConnectionPool;
 import org.ldaptive.pool.IdlePruneStrategy;
 import org.ldaptive.pool.PoolConfig;
-import org.ldaptive.pool.PooledConnectionFactory;
 import org.ldaptive.pool.SearchValidator;
 import org.ldaptive.pool.SoftLimitConnectionPool;
 import org.ldaptive.pool.Validator;
@@ -68,6 +66,7 @@ public class LDAPConnectionFactoryFactory {
 
     private final Settings settings;
     private final SettingsBasedSSLConfigurator.SSLConfig sslConfig;
+    private final LDAPConnectionPoolStats poolStats = new LDAPConnectionPoolStats();
 
     public LDAPConnectionFactoryFactory(Settings settings, Path configPath) throws SSLConfigException {
         this.settings = settings;
@@ -76,21 +75,19 @@ public class LDAPConnectionFactoryFactory {
 
     public ConnectionFactory createConnectionFactory(ConnectionPool connectionPool) {
         if (connectionPool != null) {
-            return new PooledConnectionFactory(connectionPool);
+            return poolStats.createPooledConnectionFactory(connectionPool);
         } else {
             return createBasicConnectionFactory();
         }
     }
 
-    @SuppressWarnings("unchecked")
     public DefaultConnectionFactory createBasicConnectionFactory() {
-        DefaultConnectionFactory result = new DefaultConnectionFactory(getConnectionConfig());
-
-        result.setProvider(new PrivilegedProvider((Provider<JndiProviderConfig>) result.getProvider()));
+        return createBasicConnectionFactory(new DefaultConnectionFactory(getConnectionConfig()));
+    }
 
-        JndiProviderConfig jndiProviderConfig = (JndiProviderConfig) result.getProvider().getProviderConfig();
+    private DefaultConnectionFactory createBasicConnectionFactory(DefaultConnectionFactory result) {
 
-        jndiProviderConfig.setClassLoader(MakeJava9Happy.getClassLoader());
+        configurePrivilegedProvider(result);
 
         if (this.sslConfig != null) {
             configureSSLinConnectionFactory(result);
@@ -105,30 +102,59 @@ public class LDAPConnectionFactoryFactory {
             return null;
         }
 
+        return createConnectionPool(this.settings,
+                createBasicConnectionFactory(poolStats.createConnectionFactory(getConnectionConfig())), poolStats);
+    }
+
+    /**
+     * Lets the given factory perform all LDAP operations in a privileged block, using a class loader
+     * which is able to load the ThreadLocalTLSSocketFactory.
+     */
+    @SuppressWarnings("unchecked")
+    public static DefaultConnectionFactory configurePrivilegedProvider(DefaultConnectionFactory connectionFactory) {
+        connectionFactory.setProvider(new PrivilegedProvider((Provider<JndiProviderConfig>) connectionFactory.getProvider()));
+
+        JndiProviderConfig jndiProviderConfig = (JndiProviderConfig) connectionFactory.getProvider().getProviderConfig();
+
+        jndiProviderConfig.setClassLoader(MakeJava9Happy.getClassLoader());
+
+        return connectionFactory;
+    }
+
+    public LDAPConnectionPoolStats getPoolStats() {
+        return poolStats;
+    }
+
+    /**
+     * Creates and initializes a connection pool which obtains its connections from the given factory.
+     * The pool is configured by the pool.*, validation.* and pruning.* settings, its waits are recorded in the given stats.
+     */
+    public static ConnectionPool createConnectionPool(Settings settings, DefaultConnectionFactory basicConnectionFactory,
+                                                      LDAPConnectionPoolStats poolStats) {
         PoolConfig poolConfig = new PoolConfig();
 
-        poolConfig.setMinPoolSize(this.settings.getAsInt(ConfigConstants.LDAP_POOL_MIN_SIZE, 3));
-        poolConfig.setMaxPoolSize(this.settings.getAsInt(ConfigConstants.LDAP_POOL_MAX_SIZE, 10));
+        poolConfig.setMinPoolSize(settings.getAsInt(ConfigConstants.LDAP_POOL_MIN_SIZE, 3));
+        poolConfig.setMaxPoolSize(settings.getAsInt(ConfigConstants.LDAP_POOL_MAX_SIZE, 10));
 
-        if (this.settings.getAsBoolean("validation.enabled", false)) {
-            poolConfig.setValidateOnCheckIn(this.settings.getAsBoolean("validation.on_checkin", false));
-            poolConfig.setValidateOnCheckOut(this.settings.getAsBoolean("validation.on_checkout", false));
-            poolConfig.setValidatePeriodically(this.settings.getAsBoolean("validation.periodically", true));
-            poolConfig.setValidatePeriod(Duration.ofMinutes(this.settings.getAsLong("validation.period", 30l)));
-            poolConfig.setValidateTimeout(Duration.ofSeconds(this.settings.getAsLong("validation.timeout", 5l)));
+        if (settings.getAsBoolean("validation.enabled", false)) {
+            poolConfig.setValidateOnCheckIn(settings.getAsBoolean("validation.on_checkin", false));
+            poolConfig.setValidateOnCheckOut(settings.getAsBoolean("validation.on_checkout", false));
+            poolConfig.setValidatePeriodically(settings.getAsBoolean("validation.periodically", true));
+            poolConfig.setValidatePeriod(Duration.ofMinutes(settings.getAsLong("validation.period", 30l)));
+            poolConfig.setValidateTimeout(Duration.ofSeconds(settings.getAsLong("validation.timeout", 5l)));
         }
 
         AbstractConnectionPool result;
 
-        if ("blocking".equals(this.settings.get(ConfigConstants.LDAP_POOL_TYPE))) {
-            result = new BlockingConnectionPool(poolConfig, createBasicConnectionFactory());
+        if ("blocking".equals(settings.get(ConfigConstants.LDAP_POOL_TYPE))) {
+            result = poolStats.createBlockingConnectionPool(poolConfig, basicConnectionFactory);
         } else {
-            result = new SoftLimitConnectionPool(poolConfig, createBasicConnectionFactory());
+            result = new SoftLimitConnectionPool(poolConfig, basicConnectionFactory);
         }
 
-        result.setValidator(getConnectionValidator());
-        result.setPruneStrategy(new IdlePruneStrategy(Duration.ofMinutes(this.settings.getAsLong("pruning.period", 5l)),
-                Duration.ofMinutes(this.settings.getAsLong("pruning.idleTime", 10l))));
+        result.setValidator(getConnectionValidator(settings));
+        result.setPruneStrategy(new IdlePruneStrategy(Duration.ofMinutes(settings.getAsLong("pruning.period", 5l)),
+                Duration.ofMinutes(settings.getAsLong("pruning.idleTime", 10l))));
 
         result.initialize();
 
@@ -211,23 +237,23 @@ public class LDAPConnectionFactoryFactory {
         }
     }
 
-    private Validator<Connection> getConnectionValidator() {
-        if (!this.settings.getAsBoolean("validation.enabled", false)) {
+    private static Validator<Connection> getConnectionValidator(Settings settings) {
+        if (!settings.getAsBoolean("validation.enabled", false)) {
             return null;
         }
 
-        String validationStrategy = this.settings.get("validation.strategy", "search");
+        String validationStrategy = settings.get("validation.strategy", "search");
         Validator<Connection> result = null;
 
         if ("compare".equalsIgnoreCase(validationStrategy)) {
-            result = new CompareValidator(new CompareRequest(this.settings.get("validation.compare.dn", ""),
-                    new LdapAttribute(this.settings.get("validation.compare.attribute", "objectClass"),
-                            this.settings.get("validation.compare.value", "top"))));
+            result = new CompareValidator(new CompareRequest(settings.get("validation.compare.dn", ""),
+                    new LdapAttribute(settings.get("validation.compare.attribute", "objectClass"),
+                            settings.get("validation.compare.value", "top"))));
         } else {
             SearchRequest searchRequest = new SearchRequest();
-            searchRequest.setBaseDn(this.settings.get("validation.search.base_dn", ""));
+            searchRequest.setBaseDn(settings.get("validation.search.base_dn", ""));
             searchRequest.setSearchFilter(
-                    new SearchFilter(this.settings.get("validation.search.filter", "(objectClass=*)")));
+                    new SearchFilter(settings.get("validation.search.filter", "(objectClass=*)")));
             searchRequest.setReturnAttributes(ReturnAttributes.NONE.value());
             searchRequest.setSearchScope(SearchScope.OBJECT);
             searchRequest.setSizeLimit(1);
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package com.amazon.dlic.auth.ldap2;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.ldaptive.Connection;
+import org.ldaptive.ConnectionConfig;
+import org.ldaptive.ConnectionFactory;
+import org.ldaptive.DefaultConnectionFactory;
+import org.ldaptive.LdapException;
+import org.ldaptive.pool.BlockingConnectionPool;
+import org.ldaptive.pool.ConnectionPool;
+import org.ldaptive.pool.PoolConfig;
+import org.ldaptive.pool.PoolException;
+import org.ldaptive.pool.PooledConnectionProxy;
+
+import org.opensearch.security.stats.ConnectionPoolStats;
+
+/**
+ * Counts checkouts, waits and connection creations of an LDAP connection pool.
+ *
+ * A checkout counts as a wait if it blocked until another connection was checked in, which only happens with
+ * the blocking pool type. The default soft limit pool creates additional connections instead of waiting.
+ */
+public class LDAPConnectionPoolStats implements ConnectionPoolStats {
+
+    private final LongAdder checkouts = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder checkoutTimeNanos = new LongAdder();
+    private final LongAdder creations = new LongAdder();
+    private volatile ConnectionPool connectionPool;
+
+    /**
+     * @return a connection factory which counts every connection it creates for the pool
+     */
+    public DefaultConnectionFactory createConnectionFactory(final ConnectionConfig connectionConfig) {
+        return new DefaultConnectionFactory(connectionConfig) {
+            @Override
+            public Connection getConnection() {
+                creations.increment();
+                return super.getConnection();
+            }
+        };
+    }
+
+    /**
+     * @return a blocking pool which counts the checkouts which have to wait for a connection
+     */
+    public BlockingConnectionPool createBlockingConnectionPool(final PoolConfig poolConfig, final DefaultConnectionFactory connectionFactory) {
+        return new BlockingConnectionPool(poolConfig, connectionFactory) {
+            @Override
+            protected PooledConnectionProxy blockAvailableConnection() throws PoolException {
+                waits.increment();
+                return super.blockAvailableConnection();
+            }
+        };
+    }
+
+    /**
+     * @return a connection factory which checks out connections from the given pool and records the checkouts
+     */
+    public ConnectionFactory createPooledConnectionFactory(final ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+
+        return new ConnectionFactory() {
+            @Override
+            public Connection getConnection() throws LdapException {
+                final long start = System.nanoTime();
+
+                try {
+                    return connectionPool.getConnection();
+                } finally {
+                    checkouts.increment();
+                    checkoutTimeNanos.add(System.nanoTime() - start);
+                }
+            }
+        };
+    }
+
+    public long getCheckouts() {
+        return checkouts.sum();
+    }
+
+    public long getWaits() {
+        return waits.sum();
+    }
+
+    public long getCreations() {
+        return creations.sum();
+    }
+
+    @Override
+    public Map<String, Object> toMap() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        final ConnectionPool pool = this.connectionPool;
+        final long checkouts = getCheckouts();
+
+        result.put("checkouts", checkouts);
+        result.put("waits", getWaits());
+        result.put("creations", getCreations());
+        result.put("avg_checkout_time_micros", checkouts == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(checkoutTimeNanos.sum() / checkouts));
+
+        if (pool != null) {
+            result.put("active", pool.activeCount());
+            result.put("available", pool.availableCount());
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "LDAPConnectionPoolStats " + toMap();
+    }
+}
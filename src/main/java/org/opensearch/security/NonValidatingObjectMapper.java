@@ -76,6 +76,37 @@ public class NonValidatingObjectMapper {
         }
     }
 
+    /**
+     * Binds the document read by the parser, which is created with {@link #createParser(byte[])} and not closed
+     */
+    @SuppressWarnings("removal")
+    public static <T> T readValue(JsonParser parser, JavaType jt) throws IOException {
+
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            return AccessController.doPrivileged(new PrivilegedExceptionAction<T>() {
+                @Override
+                public T run() throws Exception {
+                    return nonValidatingObjectMapper.readValue(parser, jt);
+                }
+            });
+        } catch (final PrivilegedActionException e) {
+            throw (IOException) e.getCause();
+        }
+    }
+
+    /**
+     * @return a parser with the parser features of this mapper, e.g. duplicate detection
+     */
+    public static JsonParser createParser(byte[] json) throws IOException {
+        return nonValidatingObjectMapper.getFactory().createParser(json);
+    }
+
     public static TypeFactory getTypeFactory() {
         return nonValidatingObjectMapper.getTypeFactory();
     }
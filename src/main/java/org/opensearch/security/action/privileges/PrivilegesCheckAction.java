@@ -0,0 +1,28 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.privileges;
+
+import org.opensearch.action.ActionType;
+
+/**
+ * Checks a batch of privileges of the current user without executing any of the actions.
+ * Checking the own privileges does not require any privilege.
+ */
+public class PrivilegesCheckAction extends ActionType<PrivilegesCheckResponse> {
+
+    public static final PrivilegesCheckAction INSTANCE = new PrivilegesCheckAction();
+    public static final String NAME = "cluster:admin/opendistro_security/privileges/check";
+
+    protected PrivilegesCheckAction() {
+        super(NAME, PrivilegesCheckResponse::new);
+    }
+}
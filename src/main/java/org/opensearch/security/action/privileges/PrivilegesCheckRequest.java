@@ -0,0 +1,189 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.privileges;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.io.stream.Writeable;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.security.privileges.PrivilegesEvaluator;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+public class PrivilegesCheckRequest extends ActionRequest {
+
+    private final List<Privilege> privileges;
+    private final List<String> tenants;
+    private final boolean dlsFls;
+
+    public PrivilegesCheckRequest(final List<Privilege> privileges, final List<String> tenants, final boolean dlsFls) {
+        this.privileges = Collections.unmodifiableList(new ArrayList<>(privileges));
+        this.tenants = Collections.unmodifiableList(new ArrayList<>(tenants));
+        this.dlsFls = dlsFls;
+    }
+
+    public PrivilegesCheckRequest(final StreamInput in) throws IOException {
+        super(in);
+        privileges = in.readList(Privilege::new);
+        tenants = in.readStringList();
+        dlsFls = in.readBoolean();
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        super.writeTo(out);
+        out.writeList(privileges);
+        out.writeStringCollection(tenants);
+        out.writeBoolean(dlsFls);
+    }
+
+    /**
+     * Parses a body like {@code {"privileges": [{"action": "indices:data/read/search", "index": "logs-*"}], "tenants": ["analysts"]}}
+     */
+    @SuppressWarnings("unchecked")
+    public static PrivilegesCheckRequest fromXContent(final XContentParser parser, final boolean dlsFls) throws IOException {
+        final Map<String, Object> body = parser.map();
+        final List<Privilege> privileges = new ArrayList<>();
+        final List<String> tenants = new ArrayList<>();
+
+        for (final Map.Entry<String, Object> entry : body.entrySet()) {
+            switch (entry.getKey()) {
+                case "privileges":
+                    for (final Object privilege : asList(entry)) {
+                        if (!(privilege instanceof Map)) {
+                            throw new IllegalArgumentException("privileges must be objects with an action and an optional index");
+                        }
+                        final Map<String, Object> map = (Map<String, Object>) privilege;
+                        privileges.add(new Privilege(asString(map.get("action")), asString(map.get("index"))));
+                    }
+                    break;
+                case "tenants":
+                    for (final Object tenant : asList(entry)) {
+                        tenants.add(asString(tenant));
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown field " + entry.getKey());
+            }
+        }
+
+        return new PrivilegesCheckRequest(privileges, tenants, dlsFls);
+    }
+
+    private static List<?> asList(final Map.Entry<String, Object> entry) {
+        if (!(entry.getValue() instanceof List)) {
+            throw new IllegalArgumentException(entry.getKey() + " must be an array");
+        }
+        return (List<?>) entry.getValue();
+    }
+
+    private static String asString(final Object value) {
+        if (value != null && !(value instanceof String)) {
+            throw new IllegalArgumentException("Expected a string but got " + value);
+        }
+        return (String) value;
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException validationException = null;
+
+        if (privileges.isEmpty() && tenants.isEmpty()) {
+            validationException = addValidationError("no privileges or tenants to check", validationException);
+        }
+
+        for (final Privilege privilege : privileges) {
+            if (privilege.getAction() == null || privilege.getAction().isEmpty()) {
+                validationException = addValidationError("action is missing", validationException);
+            } else if (privilege.getIndex() == null && !PrivilegesEvaluator.isClusterPerm(privilege.getAction())) {
+                validationException = addValidationError("index is missing for " + privilege.getAction(), validationException);
+            }
+        }
+
+        return validationException;
+    }
+
+    public List<Privilege> getPrivileges() {
+        return privileges;
+    }
+
+    public List<String> getTenants() {
+        return tenants;
+    }
+
+    public boolean isDlsFls() {
+        return dlsFls;
+    }
+
+    public static class Privilege implements Writeable {
+        private final String action;
+        private final String index;
+
+        public Privilege(final String action, final String index) {
+            this.action = action;
+            this.index = index;
+        }
+
+        public Privilege(final StreamInput in) throws IOException {
+            action = in.readString();
+            index = in.readOptionalString();
+        }
+
+        @Override
+        public void writeTo(final StreamOutput out) throws IOException {
+            out.writeString(action);
+            out.writeOptionalString(index);
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        /**
+         * @return the index pattern, or null for cluster actions
+         */
+        public String getIndex() {
+            return index;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Privilege)) {
+                return false;
+            }
+            final Privilege other = (Privilege) o;
+            return Objects.equals(action, other.action) && Objects.equals(index, other.index);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(action, index);
+        }
+
+        @Override
+        public String toString() {
+            return index == null ? action : action + " on " + index;
+        }
+    }
+}
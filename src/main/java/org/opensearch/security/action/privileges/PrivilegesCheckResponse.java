@@ -0,0 +1,126 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.privileges;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.opensearch.action.ActionResponse;
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+public class PrivilegesCheckResponse extends ActionResponse implements ToXContentObject {
+
+    public static final String READ_WRITE = "read_write";
+    public static final String READ = "read";
+    public static final String NONE = "none";
+
+    private final String userName;
+    private final List<PrivilegesCheckRequest.Privilege> privileges;
+    private final List<Boolean> allowed;
+    private final Map<String, String> tenants;
+    private final Map<String, Map<String, List<String>>> dlsFls;
+
+    /**
+     * @param allowed the result for each of the privileges, in the same order
+     * @param tenants the access level for each requested tenant
+     * @param dlsFls the DLS queries, FLS fields and masked fields by restricted index, null if not requested
+     */
+    public PrivilegesCheckResponse(final String userName, final List<PrivilegesCheckRequest.Privilege> privileges, final List<Boolean> allowed,
+                                   final Map<String, String> tenants, final Map<String, Map<String, List<String>>> dlsFls) {
+        this.userName = userName;
+        this.privileges = privileges;
+        this.allowed = allowed;
+        this.tenants = tenants;
+        this.dlsFls = dlsFls;
+    }
+
+    public PrivilegesCheckResponse(final StreamInput in) throws IOException {
+        super(in);
+        userName = in.readOptionalString();
+        privileges = in.readList(PrivilegesCheckRequest.Privilege::new);
+        allowed = in.readList(StreamInput::readBoolean);
+        tenants = in.readMap(StreamInput::readString, StreamInput::readString);
+        dlsFls = in.readBoolean()
+                ? in.readMap(StreamInput::readString, i -> i.readMap(StreamInput::readString, StreamInput::readStringList))
+                : null;
+    }
+
+    @Override
+    public void writeTo(final StreamOutput out) throws IOException {
+        out.writeOptionalString(userName);
+        out.writeList(privileges);
+        out.writeCollection(allowed, StreamOutput::writeBoolean);
+        out.writeMap(tenants, StreamOutput::writeString, StreamOutput::writeString);
+        out.writeBoolean(dlsFls != null);
+        if (dlsFls != null) {
+            out.writeMap(dlsFls, StreamOutput::writeString, (o, v) -> o.writeMap(v, StreamOutput::writeString, StreamOutput::writeStringCollection));
+        }
+    }
+
+    public String getUserName() {
+        return userName;
+    }
+
+    public List<PrivilegesCheckRequest.Privilege> getPrivileges() {
+        return privileges;
+    }
+
+    public List<Boolean> getAllowed() {
+        return allowed;
+    }
+
+    public Map<String, String> getTenants() {
+        return tenants;
+    }
+
+    public Map<String, Map<String, List<String>>> getDlsFls() {
+        return dlsFls;
+    }
+
+    @Override
+    public XContentBuilder toXContent(final XContentBuilder builder, final Params params) throws IOException {
+        builder.startObject();
+        builder.field("user_name", userName);
+
+        builder.startArray("privileges");
+        for (int i = 0; i < privileges.size(); i++) {
+            final PrivilegesCheckRequest.Privilege privilege = privileges.get(i);
+            builder.startObject();
+            builder.field("action", privilege.getAction());
+            if (privilege.getIndex() != null) {
+                builder.field("index", privilege.getIndex());
+            }
+            builder.field("allowed", allowed.get(i));
+            builder.endObject();
+        }
+        builder.endArray();
+
+        builder.field("tenants", tenants);
+
+        if (dlsFls != null) {
+            builder.field("dls_fls", dlsFls);
+        }
+
+        builder.endObject();
+        return builder;
+    }
+
+    @Override
+    public String toString() {
+        return Strings.toString(this, true, true);
+    }
+}
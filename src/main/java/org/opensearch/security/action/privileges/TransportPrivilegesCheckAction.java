@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.privileges;
+
+import org.opensearch.OpenSearchSecurityException;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.transport.TransportAddress;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.privileges.PrivilegesEvaluator;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.user.User;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+public class TransportPrivilegesCheckAction extends HandledTransportAction<PrivilegesCheckRequest, PrivilegesCheckResponse> {
+
+    private final PrivilegesEvaluator evaluator;
+    private final ThreadPool threadPool;
+
+    @Inject
+    public TransportPrivilegesCheckAction(final ThreadPool threadPool, final TransportService transportService,
+                                          final ActionFilters actionFilters, final PrivilegesEvaluator evaluator) {
+        super(PrivilegesCheckAction.NAME, transportService, actionFilters, PrivilegesCheckRequest::new);
+        this.evaluator = evaluator;
+        this.threadPool = threadPool;
+    }
+
+    @Override
+    protected void doExecute(final Task task, final PrivilegesCheckRequest request, final ActionListener<PrivilegesCheckResponse> listener) {
+        final User user = threadPool.getThreadContext().getTransient(ConfigConstants.OPENDISTRO_SECURITY_USER);
+
+        if (user == null) {
+            listener.onFailure(new OpenSearchSecurityException("No user to check privileges for", RestStatus.UNAUTHORIZED));
+            return;
+        }
+
+        final TransportAddress caller = threadPool.getThreadContext().getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
+
+        try {
+            listener.onResponse(evaluator.checkPrivileges(user, caller, request));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import org.opensearch.action.ActionType;
+
+public class SecurityStatsAction extends ActionType<SecurityStatsResponse> {
+
+    public static final SecurityStatsAction INSTANCE = new SecurityStatsAction();
+    public static final String NAME = "cluster:admin/opendistro_security/stats";
+
+    protected SecurityStatsAction() {
+        super(NAME, SecurityStatsResponse::new);
+    }
+}
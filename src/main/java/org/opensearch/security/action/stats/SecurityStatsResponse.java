@@ -0,0 +1,63 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.stats;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.opensearch.action.FailedNodeException;
+import org.opensearch.action.support.nodes.BaseNodesResponse;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.common.xcontent.ToXContentObject;
+import org.opensearch.common.xcontent.XContentBuilder;
+
+public class SecurityStatsResponse extends BaseNodesResponse<SecurityStatsNodeResponse> implements ToXContentObject {
+
+    public SecurityStatsResponse(StreamInput in) throws IOException {
+        super(in);
+    }
+
+    public SecurityStatsResponse(final ClusterName clusterName, List<SecurityStatsNodeResponse> nodes, List<FailedNodeException> failures) {
+        super(clusterName, nodes, failures);
+    }
+
+    @Override
+    public List<SecurityStatsNodeResponse> readNodesFrom(final StreamInput in) throws IOException {
+        return in.readList(SecurityStatsNodeResponse::new);
+    }
+
+    @Override
+    public void writeNodesTo(final StreamOutput out, List<SecurityStatsNodeResponse> nodes) throws IOException {
+        out.writeList(nodes);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        builder.startObject("_nodes");
+        builder.field("total", getNodes().size() + failures().size());
+        builder.field("successful", getNodes().size());
+        builder.field("failed", failures().size());
+        builder.endObject();
+        builder.field("cluster_name", getClusterName().value());
+        builder.startObject("nodes");
+        for (final SecurityStatsNodeResponse node : getNodes()) {
+            builder.field(node.getNode().getId());
+            node.toXContent(builder, params);
+        }
+        builder.endObject();
+        builder.endObject();
+        return builder;
+    }
+}
@@ -15,7 +15,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 import org.greenrobot.eventbus.Subscribe;
 
@@ -23,6 +25,7 @@ import org.opensearch.SpecialPermission;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.env.Environment;
 import org.opensearch.index.engine.Engine.Delete;
@@ -34,6 +37,7 @@ import org.opensearch.index.shard.ShardId;
 import org.opensearch.rest.RestRequest;
 import org.opensearch.security.auditlog.config.AuditConfig;
 import org.opensearch.security.auditlog.routing.AuditMessageRouter;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.tasks.Task;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportRequest;
@@ -45,6 +49,7 @@ public final class AuditLogImpl extends AbstractAuditLog {
 	private final boolean messageRouterEnabled;
 	private volatile boolean enabled;
 	private final Thread shutdownHook;
+	private final SecurityStats securityStats;
 
 	public AuditLogImpl(final Settings settings,
 			final Path configPath,
@@ -55,7 +60,6 @@ public final class AuditLogImpl extends AbstractAuditLog {
 		this(settings, configPath, clientProvider, threadPool, resolver, clusterService, null);
 	}
 
-    @SuppressWarnings("removal")
 	public AuditLogImpl(final Settings settings,
 						final Path configPath,
 						final Client clientProvider,
@@ -63,9 +67,22 @@ public final class AuditLogImpl extends AbstractAuditLog {
 						final IndexNameExpressionResolver resolver,
 						final ClusterService clusterService,
 						final Environment environment) {
+		this(settings, configPath, clientProvider, threadPool, resolver, clusterService, environment, SecurityStats.NONE);
+	}
+
+    @SuppressWarnings("removal")
+	public AuditLogImpl(final Settings settings,
+						final Path configPath,
+						final Client clientProvider,
+						final ThreadPool threadPool,
+						final IndexNameExpressionResolver resolver,
+						final ClusterService clusterService,
+						final Environment environment,
+						final SecurityStats securityStats) {
 		super(settings, threadPool, resolver, clusterService, environment);
 		this.settings = settings;
-		this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath);
+		this.securityStats = securityStats;
+		this.messageRouter = new AuditMessageRouter(settings, clientProvider, threadPool, configPath, securityStats);
 		this.messageRouterEnabled = this.messageRouter.isEnabled();
 
 		log.info("Message routing enabled: {}", this.messageRouterEnabled);
@@ -122,10 +139,26 @@ public final class AuditLogImpl extends AbstractAuditLog {
 	@Override
 	protected void save(final AuditMessage msg) {
 		if (enabled) {
-			messageRouter.route(msg);
+			try (Releasable timer = securityStats.time(SecurityStats.Phase.AUDIT_ROUTE)) {
+				messageRouter.route(msg);
+			}
 		}
 	}
 
+	/**
+	 * @return number of audit messages waiting to be stored asynchronously
+	 */
+	public int getQueueSize() {
+		return messageRouterEnabled ? messageRouter.getQueueSize() : 0;
+	}
+
+	/**
+	 * @return size, lag and counters of the audit journals, empty if no sink is journaled
+	 */
+	public Map<String, LongSupplier> getJournalGauges() {
+		return messageRouterEnabled ? messageRouter.getJournalGauges() : Collections.emptyMap();
+	}
+
 	@Override
 	public void logFailedLogin(String effectiveUser, boolean securityAdmin, String initiatingUser, RestRequest request) {
 		if (enabled) {
@@ -22,11 +22,13 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import com.google.common.annotations.VisibleForTesting;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.http.client.utils.URIBuilder;
+import org.apache.lucene.util.BytesRef;
 import org.joda.time.DateTime;
 import org.joda.time.DateTimeZone;
 import org.joda.time.format.DateTimeFormat;
@@ -35,6 +37,7 @@ import org.joda.time.format.DateTimeFormatter;
 import org.opensearch.ExceptionsHelper;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.transport.TransportAddress;
@@ -123,74 +126,106 @@ public final class AuditMessage {
     private static final DateTimeFormatter DEFAULT_FORMAT = DateTimeFormat.forPattern("yyyy-MM-dd'T'HH:mm:ss.SSSZZ");
     private final Map<String, Object> auditInfo = new HashMap<String, Object>(50);
     private final AuditCategory msgCategory;
+    private boolean resolved = true;
+    private volatile String json;
+    private volatile BytesReference jsonBytes;
 
     public AuditMessage(final AuditCategory msgCategory, final ClusterService clusterService, final Origin origin, final Origin layer) {
         this.msgCategory = Objects.requireNonNull(msgCategory);
         final String currentTime = currentTime();
-        auditInfo.put(FORMAT_VERSION, 4);
-        auditInfo.put(CATEGORY, Objects.requireNonNull(msgCategory));
-        auditInfo.put(UTC_TIMESTAMP, currentTime);
-        auditInfo.put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
-        auditInfo.put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
-        auditInfo.put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
-        auditInfo.put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
-        auditInfo.put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
+        put(FORMAT_VERSION, 4);
+        put(CATEGORY, Objects.requireNonNull(msgCategory));
+        put(UTC_TIMESTAMP, currentTime);
+        put(NODE_HOST_ADDRESS, Objects.requireNonNull(clusterService).localNode().getHostAddress());
+        put(NODE_ID, Objects.requireNonNull(clusterService).localNode().getId());
+        put(NODE_HOST_NAME, Objects.requireNonNull(clusterService).localNode().getHostName());
+        put(NODE_NAME, Objects.requireNonNull(clusterService).localNode().getName());
+        put(CLUSTER_NAME, Objects.requireNonNull(clusterService).getClusterName().value());
 
         if(origin != null) {
-            auditInfo.put(ORIGIN, origin);
+            put(ORIGIN, origin);
         }
 
         if(layer != null) {
-            auditInfo.put(REQUEST_LAYER, layer);
+            put(REQUEST_LAYER, layer);
         }
     }
 
+    private AuditMessage(final AuditCategory msgCategory, final Map<String, Object> fields, final BytesReference jsonBytes) {
+        this.msgCategory = msgCategory;
+        this.auditInfo.putAll(fields);
+        this.jsonBytes = jsonBytes;
+        this.json = jsonBytes.utf8ToString();
+    }
+
+    /**
+     * Restores a message from its json encoding, e.g. when replaying the audit journal.
+     * The original encoding is kept, so sinks store exactly the same document.
+     */
+    public static AuditMessage fromJsonBytes(final BytesReference jsonBytes) {
+        final Map<String, Object> fields = XContentHelper.convertToMap(jsonBytes, false, XContentType.JSON).v2();
+        final AuditCategory category = AuditCategory.valueOf(String.valueOf(fields.get(CATEGORY)));
+        fields.put(CATEGORY, category);
+
+        if (fields.get(ORIGIN) != null) {
+            fields.put(ORIGIN, Origin.valueOf(String.valueOf(fields.get(ORIGIN))));
+        }
+        if (fields.get(REQUEST_LAYER) != null) {
+            fields.put(REQUEST_LAYER, Origin.valueOf(String.valueOf(fields.get(REQUEST_LAYER))));
+        }
+        if (fields.get(REST_REQUEST_METHOD) != null) {
+            fields.put(REST_REQUEST_METHOD, RestRequest.Method.valueOf(String.valueOf(fields.get(REST_REQUEST_METHOD))));
+        }
+
+        return new AuditMessage(category, fields, jsonBytes);
+    }
+
     public void addRemoteAddress(TransportAddress remoteAddress) {
         if (remoteAddress != null && remoteAddress.getAddress() != null) {
-            auditInfo.put(REMOTE_ADDRESS, remoteAddress.getAddress());
+            put(REMOTE_ADDRESS, remoteAddress.getAddress());
         }
     }
 
     public void addIsAdminDn(boolean isAdminDn) {
-        auditInfo.put(IS_ADMIN_DN, isAdminDn);
+        put(IS_ADMIN_DN, isAdminDn);
     }
 
     public void addException(Throwable t) {
         if (t != null) {
-            auditInfo.put(EXCEPTION, ExceptionsHelper.stackTrace(t));
+            put(EXCEPTION, ExceptionsHelper.stackTrace(t));
         }
     }
 
     public void addPrivilege(String priv) {
         if (priv != null) {
-            auditInfo.put(PRIVILEGE, priv);
+            put(PRIVILEGE, priv);
         }
     }
 
     public void addInitiatingUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_INITIATING_USER, user);
+            put(REQUEST_INITIATING_USER, user);
         }
     }
 
     public void addEffectiveUser(String user) {
         if (user != null) {
-            auditInfo.put(REQUEST_EFFECTIVE_USER, user);
+            put(REQUEST_EFFECTIVE_USER, user);
         }
     }
 
     public void addPath(String path) {
         if (path != null) {
-            auditInfo.put(REST_REQUEST_PATH, path);
+            put(REST_REQUEST_PATH, path);
         }
     }
 
     public void addComplianceWriteDiffSource(String diff) {
         if (diff != null && !diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_CONTENT, diff);
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, false);
+            put(COMPLIANCE_DIFF_CONTENT, diff);
+            put(COMPLIANCE_DIFF_IS_NOOP, false);
         } else if (diff != null && diff.isEmpty()) {
-            auditInfo.put(COMPLIANCE_DIFF_IS_NOOP, true);
+            put(COMPLIANCE_DIFF_IS_NOOP, true);
         }
     }
 
@@ -207,23 +242,30 @@ public final class AuditMessage {
 
     public void addTupleToRequestBody(Tuple<XContentType, BytesReference> xContentTuple) {
         if (xContentTuple != null) {
-            try {
-                auditInfo.put(REQUEST_BODY, XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()));
-            } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json because of "+e.toString());
-            }
+            final XContentType xContentType = xContentTuple.v1();
+            final BytesReference bytes = immutableCopy(xContentTuple.v2());
+            putDeferred(REQUEST_BODY, () -> {
+                try {
+                    return XContentHelper.convertToJson(bytes, false, xContentType);
+                } catch (Exception e) {
+                    return "ERROR: Unable to convert to json because of "+e.toString();
+                }
+            });
         }
     }
 
+    /**
+     * @param map converted to json when the message is encoded, must not be modified afterwards
+     */
     public void addMapToRequestBody(Map<String, ?> map) {
         if(map != null) {
-            auditInfo.put(REQUEST_BODY, Utils.convertStructuredMapToJson(map));
+            putDeferred(REQUEST_BODY, () -> Utils.convertStructuredMapToJson(map));
         }
     }
 
     public void addUnescapedJsonToRequestBody(String source) {
         if (source != null) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(REQUEST_BODY, source);
         }
     }
 
@@ -237,41 +279,45 @@ public final class AuditMessage {
     void addSecurityConfigContentToRequestBody(final String source, final String id) {
         if (source != null) {
             final String redactedContent = redactSecurityConfigContent(source, id);
-            auditInfo.put(REQUEST_BODY, redactedContent);
+            put(REQUEST_BODY, redactedContent);
         }
     }
 
     void addSecurityConfigTupleToRequestBody(final Tuple<XContentType, BytesReference> xContentTuple, final String id) {
         if (xContentTuple != null) {
-            try {
-                addSecurityConfigContentToRequestBody(XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1()), id);
-            } catch (Exception e) {
-                auditInfo.put(REQUEST_BODY, "ERROR: Unable to convert to json");
-            }
+            final XContentType xContentType = xContentTuple.v1();
+            final BytesReference bytes = immutableCopy(xContentTuple.v2());
+            putDeferred(REQUEST_BODY, () -> {
+                try {
+                    return redactSecurityConfigContent(XContentHelper.convertToJson(bytes, false, xContentType), id);
+                } catch (Exception e) {
+                    return "ERROR: Unable to convert to json";
+                }
+            });
         }
     }
 
     void addSecurityConfigMapToRequestBody(final Map<String, ?> map, final String id) {
         if (map != null) {
-            addSecurityConfigContentToRequestBody(Utils.convertStructuredMapToJson(map), id);
+            putDeferred(REQUEST_BODY, () -> redactSecurityConfigContent(Utils.convertStructuredMapToJson(map), id));
         }
     }
 
     public void addRequestType(String requestType) {
         if (requestType != null) {
-            auditInfo.put(TRANSPORT_REQUEST_TYPE, requestType);
+            put(TRANSPORT_REQUEST_TYPE, requestType);
         }
     }
 
     public void addAction(String action) {
         if (action != null) {
-            auditInfo.put(TRANSPORT_ACTION, action);
+            put(TRANSPORT_ACTION, action);
         }
     }
 
     public void addId(String id) {
         if (id != null) {
-            auditInfo.put(ID, id);
+            put(ID, id);
         }
     }
 
@@ -307,48 +353,48 @@ public final class AuditMessage {
                     //ignore non readable files
                 }
             }
-            auditInfo.put(COMPLIANCE_FILE_INFOS, infos);
+            put(COMPLIANCE_FILE_INFOS, infos);
         }
     }
 
     /*public void addSource(Map<String, String> source) {
         if (source != null && !source.isEmpty()) {
-            auditInfo.put(REQUEST_BODY, source);
+            put(REQUEST_BODY, source);
         }
     }*/
 
     public void addIndices(String[] indices) {
         if (indices != null && indices.length > 0) {
-            auditInfo.put(INDICES, indices);
+            put(INDICES, indices);
         }
 
     }
 
     public void addResolvedIndices(String[] resolvedIndices) {
         if (resolvedIndices != null && resolvedIndices.length > 0) {
-            auditInfo.put(RESOLVED_INDICES, resolvedIndices);
+            put(RESOLVED_INDICES, resolvedIndices);
         }
     }
 
     public void addTaskId(long id) {
-         auditInfo.put(TASK_ID, auditInfo.get(NODE_ID)+":"+id);
+         put(TASK_ID, auditInfo.get(NODE_ID)+":"+id);
     }
 
     public void addShardId(ShardId id) {
         if(id != null) {
-            auditInfo.put(SHARD_ID, id.getId());
+            put(SHARD_ID, id.getId());
         }
    }
 
     public void addTaskParentId(String id) {
         if(id != null) {
-            auditInfo.put(TASK_PARENT_ID, id);
+            put(TASK_PARENT_ID, id);
         }
     }
 
     public void addRestParams(Map<String,String> params) {
         if(params != null && !params.isEmpty()) {
-            auditInfo.put(REST_REQUEST_PARAMS, new HashMap<>(params));
+            put(REST_REQUEST_PARAMS, new HashMap<>(params));
         }
     }
 
@@ -358,13 +404,13 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(REST_REQUEST_HEADERS, headersClone);
+            put(REST_REQUEST_HEADERS, headersClone);
         }
     }
 
     void addRestMethod(final RestRequest.Method method) {
         if (method != null) {
-            auditInfo.put(REST_REQUEST_METHOD, method);
+            put(REST_REQUEST_METHOD, method);
         }
     }
 
@@ -376,19 +422,21 @@ public final class AuditMessage {
             addRestParams(request.params());
             addRestMethod(request.method());
             if (filter.shouldLogRequestBody() && request.hasContentOrSourceParam()) {
-                try {
-                    final Tuple<XContentType, BytesReference> xContentTuple = request.contentOrSourceParam();
-                    final String requestBody =  XContentHelper.convertToJson(xContentTuple.v2(), false, xContentTuple.v1());
-                    if (path != null && requestBody != null
-                            && SENSITIVE_PATHS.matcher(path).matches()
-                            && requestBody.contains(SENSITIVE_KEY)) {
-                        auditInfo.put(REQUEST_BODY, SENSITIVE_REPLACEMENT_VALUE);
-                    } else {
-                        auditInfo.put(REQUEST_BODY, requestBody);
+                final Tuple<XContentType, BytesReference> xContentTuple = request.contentOrSourceParam();
+                final XContentType xContentType = xContentTuple.v1();
+                final BytesReference bytes = immutableCopy(xContentTuple.v2());
+                final boolean sensitivePath = path != null && SENSITIVE_PATHS.matcher(path).matches();
+                putDeferred(REQUEST_BODY, () -> {
+                    try {
+                        final String requestBody = XContentHelper.convertToJson(bytes, false, xContentType);
+                        if (sensitivePath && requestBody != null && requestBody.contains(SENSITIVE_KEY)) {
+                            return SENSITIVE_REPLACEMENT_VALUE;
+                        }
+                        return requestBody;
+                    } catch (IOException e) {
+                        return "ERROR: Unable to generate request body";
                     }
-                } catch (IOException e) {
-                    auditInfo.put(REQUEST_BODY, "ERROR: Unable to generate request body");
-                }
+                });
             }
         }
     }
@@ -399,22 +447,25 @@ public final class AuditMessage {
             if (excludeSensitiveHeaders) {
                 headersClone.keySet().removeIf(AUTHORIZATION_HEADER);
             }
-            auditInfo.put(TRANSPORT_REQUEST_HEADERS, headersClone);
+            put(TRANSPORT_REQUEST_HEADERS, headersClone);
         }
     }
 
     public void addComplianceOperation(Operation op) {
         if(op != null) {
-            auditInfo.put(COMPLIANCE_OPERATION, op);
+            put(COMPLIANCE_OPERATION, op);
         }
     }
 
     public void addComplianceDocVersion(long version) {
-        auditInfo.put(COMPLIANCE_DOC_VERSION, version);
+        put(COMPLIANCE_DOC_VERSION, version);
     }
 
     public Map<String, Object> getAsMap() {
-      return new HashMap<>(this.auditInfo);
+        resolveDeferred();
+        synchronized (auditInfo) {
+            return new HashMap<>(this.auditInfo);
+        }
     }
 
     public String getInitiatingUser() {
@@ -449,13 +500,35 @@ public final class AuditMessage {
         return (String) this.auditInfo.get(EXCEPTION);
     }
 
+	/**
+	 * Encodes the message to json once, every sink receiving this message shares the result
+	 */
 	@Override
 	public String toString() {
-		try {
-			return Strings.toString(JsonXContent.contentBuilder().map(getAsMap()));
-		} catch (final IOException e) {
-		    throw ExceptionsHelper.convertToOpenSearchException(e);
+		String json = this.json;
+		if (json == null) {
+			synchronized (auditInfo) {
+				json = this.json;
+				if (json == null) {
+					try {
+						json = Strings.toString(JsonXContent.contentBuilder().map(getAsMap()));
+					} catch (final IOException e) {
+					    throw ExceptionsHelper.convertToOpenSearchException(e);
+					}
+					this.json = json;
+				}
+			}
 		}
+		return json;
+	}
+
+	public BytesReference toJsonBytes() {
+		BytesReference jsonBytes = this.jsonBytes;
+		if (jsonBytes == null) {
+			jsonBytes = new BytesArray(toString());
+			this.jsonBytes = jsonBytes;
+		}
+		return jsonBytes;
 	}
 
     public String toPrettyString() {
@@ -495,6 +568,65 @@ public final class AuditMessage {
 		}
 	}
 
+    private void put(final String key, final Object value) {
+        synchronized (auditInfo) {
+            auditInfo.put(key, value);
+            json = null;
+            jsonBytes = null;
+        }
+    }
+
+    /**
+     * Stores a value whose computation is deferred until the message is encoded,
+     * which usually happens on the audit thread pool instead of the request thread
+     */
+    private void putDeferred(final String key, final Supplier<Object> value) {
+        synchronized (auditInfo) {
+            auditInfo.put(key, new DeferredValue(value));
+            resolved = false;
+            json = null;
+            jsonBytes = null;
+        }
+    }
+
+    private void resolveDeferred() {
+        synchronized (auditInfo) {
+            if (resolved) {
+                return;
+            }
+
+            for (final Entry<String, Object> entry : auditInfo.entrySet()) {
+                if (entry.getValue() instanceof DeferredValue) {
+                    try {
+                        entry.setValue(((DeferredValue) entry.getValue()).value.get());
+                    } catch (Exception e) {
+                        entry.setValue("ERROR: Unable to convert to json because of " + e.toString());
+                    }
+                }
+            }
+
+            resolved = true;
+        }
+    }
+
+    /**
+     * Request bodies may be backed by pooled or shared network buffers which are reused once the request completes
+     */
+    private static BytesReference immutableCopy(final BytesReference bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return new BytesArray(BytesRef.deepCopyOf(bytes.toBytesRef()));
+    }
+
+    private static final class DeferredValue {
+        private final Supplier<Object> value;
+
+        private DeferredValue(final Supplier<Object> value) {
+            this.value = value;
+        }
+    }
+
     private String currentTime() {
         DateTime dt = new DateTime(DateTimeZone.UTC);
         return DEFAULT_FORMAT.print(dt);
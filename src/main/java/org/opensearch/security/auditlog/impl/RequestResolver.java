@@ -263,7 +263,7 @@ public final class RequestResolver {
             final SearchRequest sr = (SearchRequest) request;
             final String[] indices = arrayOrEmpty(sr.indices());
 
-            Map<String, Object> sourceAsMap = sr.source() == null? null:Utils.convertJsonToxToStructuredMap(sr.source());
+            Map<String, Object> sourceAsMap = sr.source() == null || !logRequestBody ? null : Utils.convertJsonToxToStructuredMap(sr.source());
             addIndicesSourceSafe(msg, indices, resolver, cs, XContentType.JSON, sourceAsMap, settings, resolveIndices, logRequestBody, false, securityIndex);
         } else if (request instanceof ClusterUpdateSettingsRequest) {
             if(logRequestBody) {
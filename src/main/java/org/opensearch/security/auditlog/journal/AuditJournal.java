@@ -0,0 +1,496 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Append only, checksummed journal of audit records split into segment files.
+ *
+ * Records are addressed by their byte offset in the journal, every segment file is named after the offset of its first record.
+ * A record is stored as its length, the CRC32C of its data and the data itself. On open, a torn record at the end of the
+ * last segment is truncated. The offset up to which records have been delivered is persisted separately with
+ * {@link #commit(long)}, which also deletes fully committed segments, including the active one once all of its records were
+ * delivered. Appends fail once the segments on disk exceed the configured maximum size.
+ *
+ * A single thread is expected to read and commit, any number of threads may append.
+ */
+public final class AuditJournal implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(AuditJournal.class);
+
+    static final String SEGMENT_SUFFIX = ".segment";
+    static final String COMMIT_FILE = "committed.offset";
+    private static final String LOCK_FILE = "journal.lock";
+    private static final int HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final long maxSize;
+    private final boolean fsync;
+
+    private final FileChannel lockChannel;
+    private final FileLock lock;
+
+    // guarded by this
+    private final NavigableMap<Long, Path> segments = new TreeMap<>();
+    private FileChannel writer;
+    private long writerBase;
+    private long endOffset;
+
+    private volatile long committedOffset;
+
+    private final LongAdder appended = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder corrupted = new LongAdder();
+
+    /**
+     * @throws IOException if the directory can not be created or is locked by another node
+     */
+    public AuditJournal(final Path directory, final long segmentSize, final long maxSize, final boolean fsync) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+        this.fsync = fsync;
+
+        Files.createDirectories(directory);
+        this.lockChannel = FileChannel.open(directory.resolve(LOCK_FILE), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // held by another node in this jvm
+            lock = null;
+        }
+        this.lock = lock;
+
+        if (lock == null) {
+            lockChannel.close();
+            throw new IOException("Audit journal " + directory + " is used by another node");
+        }
+
+        try {
+            open();
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private synchronized void open() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (final Path file : files) {
+                final String fileName = file.getFileName().toString();
+                try {
+                    segments.put(Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length())), file);
+                } catch (NumberFormatException e) {
+                    log.warn("Ignoring unexpected file {} in audit journal", file);
+                }
+            }
+        }
+
+        final long committed = readCommittedOffset();
+
+        if (segments.isEmpty()) {
+            writerBase = committed;
+            writer = openSegment(writerBase);
+            endOffset = writerBase;
+        } else {
+            writerBase = segments.lastKey();
+            writer = FileChannel.open(segments.lastEntry().getValue(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            final long validLength = recoverLength(writer);
+
+            if (validLength < writer.size()) {
+                log.warn("Truncating {} bytes of an incomplete record at the end of audit journal segment {}",
+                        writer.size() - validLength, segments.lastEntry().getValue());
+                writer.truncate(validLength);
+            }
+
+            writer.position(validLength);
+            endOffset = writerBase + validLength;
+        }
+
+        committedOffset = Math.max(segments.firstKey(), Math.min(committed, endOffset));
+    }
+
+    /**
+     * @return the length of the valid records at the start of the segment
+     */
+    private static long recoverLength(final FileChannel channel) throws IOException {
+        final long size = channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        long position = 0;
+
+        while (position + HEADER_BYTES <= size) {
+            header.clear();
+            readFully(channel, header, position);
+            header.flip();
+            final int length = header.getInt();
+            final int checksum = header.getInt();
+
+            if (length < 0 || position + HEADER_BYTES + length > size) {
+                break;
+            }
+
+            final ByteBuffer data = ByteBuffer.allocate(length);
+            readFully(channel, data, position + HEADER_BYTES);
+
+            if (checksum(data.array()) != checksum) {
+                break;
+            }
+
+            position += HEADER_BYTES + length;
+        }
+
+        return position;
+    }
+
+    /**
+     * @return false if the journal is full and the record was not appended
+     */
+    public synchronized boolean append(final byte[] data) throws IOException {
+        if (writer == null) {
+            throw new IOException("Audit journal " + directory + " is closed");
+        }
+
+        final int recordSize = HEADER_BYTES + data.length;
+
+        if (getSizeBytes() + recordSize > maxSize) {
+            dropped.increment();
+            return false;
+        }
+
+        if (endOffset > writerBase && endOffset - writerBase + recordSize > segmentSize) {
+            roll();
+        }
+
+        final ByteBuffer record = ByteBuffer.allocate(recordSize);
+        record.putInt(data.length);
+        record.putInt(checksum(data));
+        record.put(data);
+        record.flip();
+
+        while (record.hasRemaining()) {
+            writer.write(record);
+        }
+
+        if (fsync) {
+            writer.force(false);
+        }
+
+        endOffset += recordSize;
+        appended.increment();
+        notifyAll();
+        return true;
+    }
+
+    private void roll() throws IOException {
+        writer.force(false);
+        writer.close();
+        writerBase = endOffset;
+        writer = openSegment(writerBase);
+    }
+
+    private FileChannel openSegment(final long base) throws IOException {
+        final Path file = directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX));
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        segments.put(base, file);
+        return channel;
+    }
+
+    /**
+     * Reads up to maxRecords records starting at the given offset. Corrupted records are skipped up to the next segment.
+     */
+    public Batch read(final long fromOffset, final int maxRecords) throws IOException {
+        final NavigableMap<Long, Path> segments;
+        final long end;
+
+        synchronized (this) {
+            segments = new TreeMap<>(this.segments);
+            end = endOffset;
+        }
+
+        final List<Record> records = new ArrayList<>(Math.min(maxRecords, 128));
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        long offset = fromOffset;
+
+        while (records.size() < maxRecords && offset < end) {
+            final Map.Entry<Long, Path> segment = segments.floorEntry(offset);
+
+            if (segment == null) {
+                // segment is gone, continue with the oldest one
+                offset = segments.firstKey();
+                continue;
+            }
+
+            final Long next = segments.higherKey(segment.getKey());
+            final long segmentEnd = next == null ? end : next;
+            boolean corrupt = false;
+
+            try (FileChannel channel = FileChannel.open(segment.getValue(), StandardOpenOption.READ)) {
+                final long limit = Math.min(channel.size(), segmentEnd - segment.getKey());
+                long position = offset - segment.getKey();
+
+                while (records.size() < maxRecords && position < limit) {
+                    if (position + HEADER_BYTES > limit) {
+                        corrupt = true;
+                        break;
+                    }
+
+                    header.clear();
+                    readFully(channel, header, position);
+                    header.flip();
+                    final int length = header.getInt();
+                    final int checksum = header.getInt();
+
+                    if (length < 0 || position + HEADER_BYTES + length > limit) {
+                        corrupt = true;
+                        break;
+                    }
+
+                    final ByteBuffer data = ByteBuffer.allocate(length);
+                    readFully(channel, data, position + HEADER_BYTES);
+
+                    if (checksum(data.array()) != checksum) {
+                        corrupt = true;
+                        break;
+                    }
+
+                    position += HEADER_BYTES + length;
+                    records.add(new Record(data.array(), segment.getKey() + position));
+                }
+
+                offset = segment.getKey() + position;
+
+                if (records.size() >= maxRecords) {
+                    break;
+                }
+            }
+
+            if (corrupt) {
+                corrupted.increment();
+                log.error("Skipping corrupted records in audit journal segment {} from offset {} to {}", segment.getValue(), offset, segmentEnd);
+                offset = segmentEnd;
+            }
+
+            if (next == null) {
+                break;
+            }
+
+            offset = next;
+        }
+
+        return new Batch(records, Math.min(Math.max(offset, fromOffset), end));
+    }
+
+    /**
+     * Waits until a record beyond the given offset was appended or the timeout elapsed
+     */
+    public synchronized void awaitAppend(final long offset, final long timeoutMs) throws InterruptedException {
+        if (endOffset <= offset && writer != null) {
+            wait(timeoutMs);
+        }
+    }
+
+    /**
+     * Persists the offset up to which records were delivered and deletes the segments before it
+     */
+    public synchronized void commit(final long offset) throws IOException {
+        if (offset <= committedOffset) {
+            return;
+        }
+
+        final Path tmp = directory.resolve(COMMIT_FILE + ".tmp");
+        final ByteBuffer buffer = ByteBuffer.allocate(12);
+        buffer.putLong(offset);
+        buffer.putInt(checksum(ByteBuffer.allocate(8).putLong(0, offset).array()));
+        buffer.flip();
+
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+
+        Files.move(tmp, directory.resolve(COMMIT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        committedOffset = offset;
+
+        if (offset >= endOffset && endOffset > writerBase && writer != null) {
+            // the active segment is fully delivered, start a new one so that it can be deleted; otherwise a segment size
+            // which is not below the maximum size would keep the journal full forever
+            roll();
+        }
+
+        // every segment but the active one ends where the next one starts
+        while (segments.size() > 1 && segments.higherKey(segments.firstKey()) <= offset) {
+            Files.deleteIfExists(segments.pollFirstEntry().getValue());
+        }
+    }
+
+    private long readCommittedOffset() {
+        final Path file = directory.resolve(COMMIT_FILE);
+        final long fallback = segments.isEmpty() ? 0 : segments.firstKey();
+
+        if (!Files.exists(file)) {
+            return fallback;
+        }
+
+        try {
+            final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            final long offset = buffer.getLong();
+
+            if (checksum(ByteBuffer.allocate(8).putLong(0, offset).array()) == buffer.getInt()) {
+                return offset;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.debug("Cannot read committed offset of audit journal {}", directory, e);
+        }
+
+        log.error("Committed offset of audit journal {} is corrupted, replaying all records", directory);
+        return fallback;
+    }
+
+    public long getCommittedOffset() {
+        return committedOffset;
+    }
+
+    public synchronized long getEndOffset() {
+        return endOffset;
+    }
+
+    /**
+     * @return bytes of all segments on disk, including delivered records of segments not yet deleted
+     */
+    public synchronized long getSizeBytes() {
+        return segments.isEmpty() ? 0 : endOffset - segments.firstKey();
+    }
+
+    /**
+     * @return bytes of records not yet delivered
+     */
+    public long getLagBytes() {
+        return getEndOffset() - committedOffset;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    public long getAppendedCount() {
+        return appended.sum();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    public long getCorruptedCount() {
+        return corrupted.sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (writer != null) {
+                writer.force(false);
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            notifyAll();
+            if (lock != null && lock.isValid()) {
+                lock.release();
+            }
+            lockChannel.close();
+        }
+    }
+
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of audit journal segment");
+            }
+            position += read;
+        }
+    }
+
+    private static int checksum(final byte[] data) {
+        final CRC32C crc = new CRC32C();
+        crc.update(data, 0, data.length);
+        return (int) crc.getValue();
+    }
+
+    public static final class Record {
+        private final byte[] data;
+        private final long nextOffset;
+
+        Record(final byte[] data, final long nextOffset) {
+            this.data = data;
+            this.nextOffset = nextOffset;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        /**
+         * @return the offset to commit once this record was delivered
+         */
+        public long getNextOffset() {
+            return nextOffset;
+        }
+    }
+
+    public static final class Batch {
+        private final List<Record> records;
+        private final long nextOffset;
+
+        Batch(final List<Record> records, final long nextOffset) {
+            this.records = Collections.unmodifiableList(records);
+            this.nextOffset = nextOffset;
+        }
+
+        public List<Record> getRecords() {
+            return records;
+        }
+
+        /**
+         * @return the offset after the last record read or the corrupted records skipped
+         */
+        public long getNextOffset() {
+            return nextOffset;
+        }
+    }
+}
@@ -11,7 +11,6 @@
 
 package org.opensearch.security.auditlog.routing;
 
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -19,17 +18,25 @@ import java.util.concurrent.TimeUnit;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
+import org.opensearch.security.stats.SecurityStats;
 
 public class AsyncStoragePool {
 	private static final Logger log = LogManager.getLogger(AsyncStoragePool.class);
-	private final ExecutorService pool;
+	private final ThreadPoolExecutor pool;
 	private final ThreadPoolConfig threadPoolConfig;
+	private final SecurityStats securityStats;
 
 	public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig) {
+		this(threadPoolConfig, SecurityStats.NONE);
+	}
+
+	public AsyncStoragePool(final ThreadPoolConfig threadPoolConfig, final SecurityStats securityStats) {
 		this.threadPoolConfig = threadPoolConfig;
+		this.securityStats = securityStats;
 		this.pool = createExecutor(threadPoolConfig);
 	}
 
@@ -37,10 +44,19 @@ public class AsyncStoragePool {
 		return this.threadPoolConfig;
 	}
 
+	/**
+	 * @return number of audit messages waiting for a storage thread
+	 */
+	public int getQueueSize() {
+		return pool.getQueue().size();
+	}
+
 	public void submit(AuditMessage message, AuditLogSink sink) {
 		try {
 			pool.submit(() -> {
-				sink.store(message);
+				try (Releasable timer = securityStats.time(SecurityStats.Phase.AUDIT_STORE)) {
+					sink.store(message);
+				}
 				if (log.isTraceEnabled()) {
 					log.trace("stored on delegate {} asynchronously", sink.getClass().getSimpleName());
 				}
@@ -16,6 +16,7 @@ import java.util.EnumSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.LongSupplier;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
@@ -23,6 +24,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.security.auditlog.config.ThreadPoolConfig;
 import org.opensearch.security.auditlog.impl.AuditCategory;
@@ -30,6 +32,7 @@ import org.opensearch.security.auditlog.impl.AuditMessage;
 import org.opensearch.security.auditlog.sink.AuditLogSink;
 import org.opensearch.security.auditlog.sink.SinkProvider;
 import org.opensearch.security.dlic.rest.support.Utils;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.threadpool.ThreadPool;
 
@@ -42,18 +45,30 @@ public class AuditMessageRouter {
     volatile Map<AuditCategory, List<AuditLogSink>> categorySinks;
     final SinkProvider sinkProvider;
     final AsyncStoragePool storagePool;
+    private final SecurityStats securityStats;
 
     public AuditMessageRouter(final Settings settings, final Client clientProvider, ThreadPool threadPool, final Path configPath) {
+        this(settings, clientProvider, threadPool, configPath, SecurityStats.NONE);
+    }
+
+    public AuditMessageRouter(final Settings settings, final Client clientProvider, ThreadPool threadPool, final Path configPath,
+                              final SecurityStats securityStats) {
         this(
             new SinkProvider(settings, clientProvider, threadPool, configPath),
-            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings))
+            new AsyncStoragePool(ThreadPoolConfig.getConfig(settings), securityStats),
+            securityStats
         );
     }
 
     @VisibleForTesting
     public AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool) {
+        this(sinkProvider, storagePool, SecurityStats.NONE);
+    }
+
+    private AuditMessageRouter(SinkProvider sinkProvider, AsyncStoragePool storagePool, SecurityStats securityStats) {
         this.sinkProvider = sinkProvider;
         this.storagePool = storagePool;
+        this.securityStats = securityStats;
 
         // get the default sink
         this.defaultSink = sinkProvider.getDefaultSink();
@@ -66,6 +81,14 @@ public class AuditMessageRouter {
         return defaultSink != null;
     }
 
+    public int getQueueSize() {
+        return storagePool.getQueueSize();
+    }
+
+    public Map<String, LongSupplier> getJournalGauges() {
+        return sinkProvider.getJournalGauges();
+    }
+
     public final void route(final AuditMessage msg) {
         if (!isEnabled()) {
             // should not happen since we check in AuditLogImpl, so this is just a safeguard
@@ -171,7 +194,9 @@ public class AuditMessageRouter {
     private final void store(AuditLogSink sink, AuditMessage msg) {
         final boolean isTraceEnabled = log.isTraceEnabled();
         if (sink.isHandlingBackpressure()) {
-            sink.store(msg);
+            try (Releasable timer = securityStats.time(SecurityStats.Phase.AUDIT_STORE)) {
+                sink.store(msg);
+            }
             if (isTraceEnabled) {
                 log.trace("stored on sink {} synchronously", sink.getClass().getSimpleName());
             }
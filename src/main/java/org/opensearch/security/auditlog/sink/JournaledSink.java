@@ -0,0 +1,200 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.journal.AuditJournal;
+
+/**
+ * Writes every message to a local {@link AuditJournal} before it is delivered to the wrapped sink.
+ *
+ * A background thread replays the journal in order and commits the offset of every delivered message.
+ * While the wrapped sink is unavailable delivery is retried with exponential backoff, so an outage delays
+ * messages instead of losing them. Messages still in the journal on shutdown are delivered after the next start.
+ * Delivery is at least once, a message delivered right before a crash may be delivered again.
+ *
+ * Only once the journal is full messages are handed to the fallback sink.
+ *
+ * A message counts as delivered once {@link AuditLogSink#doStore(AuditMessage)} of the wrapped sink returned true, so only
+ * sinks which deliver on the calling thread are journaled. Sinks which buffer messages themselves, like kafka and the
+ * batched webhook formats, are not, see {@link AuditLogSink#isHandlingBackpressure()}.
+ */
+public class JournaledSink extends AuditLogSink {
+
+    private static final int REPLAY_BATCH_SIZE = 100;
+    private static final long MIN_BACKOFF_MS = 100;
+    private static final long MAX_BACKOFF_MS = 30_000;
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    private final AuditLogSink delegate;
+    private final AuditJournal journal;
+    private final Thread replayer;
+    private final Object backoffMonitor = new Object();
+    private volatile boolean closed;
+
+    public JournaledSink(final String name, final Settings settings, final AuditLogSink delegate, final AuditJournal journal) {
+        super(name, settings, null, delegate.getFallbackSink());
+        this.delegate = delegate;
+        this.journal = journal;
+        this.replayer = new Thread(this::replay, "opensearch[security][audit-journal-" + getName() + "]");
+        this.replayer.setDaemon(true);
+        this.replayer.start();
+    }
+
+    public AuditLogSink getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    protected boolean doStore(final AuditMessage msg) {
+        try {
+            if (journal.append(BytesReference.toBytes(msg.toJsonBytes()))) {
+                return true;
+            }
+            log.error("Audit journal of sink {} is full with {} bytes not yet delivered", getName(), journal.getLagBytes());
+        } catch (IOException e) {
+            log.error("Cannot append audit message to journal of sink {}", getName(), e);
+        }
+        return false;
+    }
+
+    private void replay() {
+        long backoffMs = MIN_BACKOFF_MS;
+
+        while (!closed) {
+            try {
+                final long committed = journal.getCommittedOffset();
+                final AuditJournal.Batch batch = journal.read(committed, REPLAY_BATCH_SIZE);
+
+                if (batch.getRecords().isEmpty()) {
+                    // only corrupted records were skipped
+                    journal.commit(batch.getNextOffset());
+                    journal.awaitAppend(batch.getNextOffset(), 1000);
+                    continue;
+                }
+
+                long delivered = committed;
+
+                for (final AuditJournal.Record record : batch.getRecords()) {
+                    final AuditMessage msg = decode(record);
+
+                    while (msg != null && !delegate.doStore(msg)) {
+                        // keep what was delivered so far, the sink may stay unavailable for a long time
+                        journal.commit(delivered);
+
+                        if (!backoff(backoffMs)) {
+                            return;
+                        }
+                        backoffMs = Math.min(MAX_BACKOFF_MS, backoffMs * 2);
+                    }
+
+                    backoffMs = MIN_BACKOFF_MS;
+                    delivered = record.getNextOffset();
+                }
+
+                journal.commit(Math.max(delivered, batch.getNextOffset()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Cannot replay audit journal of sink {}", getName(), e);
+                if (!backoff(backoffMs)) {
+                    return;
+                }
+                backoffMs = Math.min(MAX_BACKOFF_MS, backoffMs * 2);
+            }
+        }
+    }
+
+    private AuditMessage decode(final AuditJournal.Record record) {
+        try {
+            return AuditMessage.fromJsonBytes(new BytesArray(record.getData()));
+        } catch (Exception e) {
+            log.error("Skipping audit journal record of sink {} which can not be decoded", getName(), e);
+            return null;
+        }
+    }
+
+    /**
+     * @return false if the sink was closed while waiting
+     */
+    private boolean backoff(final long delayMs) {
+        synchronized (backoffMonitor) {
+            if (!closed) {
+                try {
+                    backoffMonitor.wait(delayMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return !closed;
+    }
+
+    /**
+     * @return size, lag and counters of the journal, named by metric
+     */
+    public Map<String, LongSupplier> getJournalGauges() {
+        final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+        gauges.put("size_bytes", journal::getSizeBytes);
+        gauges.put("lag_bytes", journal::getLagBytes);
+        gauges.put("segments", journal::getSegmentCount);
+        gauges.put("appended", journal::getAppendedCount);
+        gauges.put("dropped", journal::getDroppedCount);
+        gauges.put("corrupted", journal::getCorruptedCount);
+        return gauges;
+    }
+
+    AuditJournal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        synchronized (backoffMonitor) {
+            backoffMonitor.notifyAll();
+        }
+
+        try {
+            // not interrupted, which would close the journal files under the replayer
+            replayer.join(CLOSE_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (replayer.isAlive()) {
+            log.warn("Audit journal replay of sink {} did not stop within {} ms", getName(), CLOSE_TIMEOUT_MS);
+        }
+
+        try {
+            journal.close();
+        } finally {
+            delegate.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JournaledSink: " + delegate;
+    }
+}
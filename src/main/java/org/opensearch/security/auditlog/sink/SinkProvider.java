@@ -13,14 +13,25 @@ package org.opensearch.security.auditlog.sink;
 
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.LongSupplier;
+
+import com.google.common.collect.ImmutableSet;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.client.Client;
+import org.opensearch.common.io.PathUtils;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.ByteSizeUnit;
+import org.opensearch.common.unit.ByteSizeValue;
+import org.opensearch.env.Environment;
+import org.opensearch.security.auditlog.journal.AuditJournal;
 import org.opensearch.security.dlic.rest.support.Utils;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.threadpool.ThreadPool;
@@ -30,6 +41,8 @@ public class SinkProvider {
 	protected final Logger log = LogManager.getLogger(this.getClass());
 	private static final String FALLBACKSINK_NAME = "fallback";
 	private static final String DEFAULTSINK_NAME = "default";
+	// sinks delivering to a remote system which may become unavailable, unless they buffer messages themselves like kafka, see journaled()
+	private static final Set<String> JOURNALED_TYPES = ImmutableSet.of("internal_opensearch", "external_opensearch", "webhook");
 	private final Client clientProvider;
 	private final ThreadPool threadPool;
 	private final Path configPath;
@@ -101,6 +114,19 @@ public class SinkProvider {
 		return defaultSink;
 	}
 
+	/**
+	 * @return the gauges of all journaled sinks, named audit_journal.&lt;sink&gt;.&lt;metric&gt;
+	 */
+	public Map<String, LongSupplier> getJournalGauges() {
+		final Map<String, LongSupplier> gauges = new LinkedHashMap<>();
+		for (final Entry<String, AuditLogSink> sink : allSinks.entrySet()) {
+			if (sink.getValue() instanceof JournaledSink) {
+				((JournaledSink) sink.getValue()).getJournalGauges().forEach((metric, gauge) -> gauges.put("audit_journal." + sink.getKey() + "." + metric, gauge));
+			}
+		}
+		return gauges;
+	}
+
 	public void close() {
 		for (AuditLogSink sink : allSinks.values()) {
 			close(sink);
@@ -167,7 +193,47 @@ public class SinkProvider {
 				}
 			}
 		}
+
+		if (sink != null && !FALLBACKSINK_NAME.equals(name) && JOURNALED_TYPES.contains(type.toLowerCase())
+				&& settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_JOURNAL_ENABLED, false)) {
+			sink = journaled(name, sink);
+		}
 		return sink;
 	}
 
+	private AuditLogSink journaled(final String name, final AuditLogSink sink) {
+		if (sink.isHandlingBackpressure()) {
+			// such sinks, e.g. batched webhook formats, return from store before the message was delivered,
+			// so the journal would commit messages which may still be lost
+			log.warn("Endpoint '{}' buffers messages itself and can not be journaled, messages are delivered directly", name);
+			return sink;
+		}
+
+		final Path directory = getJournalDirectory(name);
+		try {
+			final AuditJournal journal = new AuditJournal(directory,
+					settings.getAsBytesSize(ConfigConstants.SECURITY_AUDIT_JOURNAL_SEGMENT_SIZE, new ByteSizeValue(64, ByteSizeUnit.MB)).getBytes(),
+					settings.getAsBytesSize(ConfigConstants.SECURITY_AUDIT_JOURNAL_MAX_SIZE, new ByteSizeValue(1, ByteSizeUnit.GB)).getBytes(),
+					settings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_JOURNAL_FSYNC, false));
+			log.info("Audit journal for endpoint '{}' in {}", name, directory);
+			return new JournaledSink(name, settings, sink, journal);
+		} catch (Exception e) {
+			log.error("Audit journal for endpoint '{}' in {} not available, messages are delivered directly", name, directory, e);
+			return sink;
+		}
+	}
+
+	private Path getJournalDirectory(final String name) {
+		final String path = settings.get(ConfigConstants.SECURITY_AUDIT_JOURNAL_PATH);
+		if (path != null) {
+			return PathUtils.get(path).resolve(name.toLowerCase());
+		}
+
+		final List<String> dataPaths = settings.getAsList(Environment.PATH_DATA_SETTING.getKey());
+		final Path dataPath = dataPaths.isEmpty()
+				? PathUtils.get(settings.get(Environment.PATH_HOME_SETTING.getKey(), ".")).resolve("data")
+				: PathUtils.get(dataPaths.get(0));
+		return dataPath.resolve("security_audit_journal").resolve(name.toLowerCase());
+	}
+
 }
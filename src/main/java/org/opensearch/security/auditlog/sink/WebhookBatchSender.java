@@ -0,0 +1,329 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.common.util.concurrent.Uninterruptibles;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.concurrent.FutureCallback;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.util.EntityUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.sink.WebhookSink.WebhookFormat;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Collects audit messages into NDJSON or JSON array batches and posts them over a pooled, keep-alive async http client.
+ *
+ * Audit threads only enqueue into a bounded buffer, a full buffer hands the message to the fallback sink.
+ * Batches are cut and dispatched in submission order by a single thread, at most {@code max_in_flight} of them are
+ * sent or awaiting a retry at any time. A failed batch is retried with exponential backoff without blocking any thread
+ * and handed to the fallback sink once the retries are exhausted. With {@code max_in_flight} of 1 the endpoint receives
+ * all messages strictly in order.
+ */
+final class WebhookBatchSender implements Closeable {
+
+    private static final Logger log = LogManager.getLogger(WebhookBatchSender.class);
+    private static final long CLOSE_TIMEOUT_MS = 10_000;
+
+    private final String url;
+    private final WebhookFormat format;
+    private final Function<AuditMessage, String> formatter;
+    private final Consumer<AuditMessage> fallback;
+    private final CloseableHttpAsyncClient httpClient;
+
+    private final int batchSize;
+    private final int maxInFlight;
+    private final boolean gzip;
+    private final int retryCount;
+    private final long retryInitialDelayMs;
+    private final long retryMaxDelayMs;
+
+    private final BlockingQueue<AuditMessage> pending;
+    private final Semaphore inFlight;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean();
+    // batches waiting for their next attempt, whoever removes a batch from here sends it or hands it to the fallback sink
+    private final Set<List<AuditMessage>> awaitingRetry = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private volatile boolean closed;
+
+    WebhookBatchSender(final String name, final Settings sinkSettings, final String url, final WebhookFormat format,
+                       final Function<AuditMessage, String> formatter, final CloseableHttpAsyncClient httpClient,
+                       final Consumer<AuditMessage> fallback) {
+        this.url = url;
+        this.format = format;
+        this.formatter = formatter;
+        this.fallback = fallback;
+        this.httpClient = httpClient;
+
+        this.batchSize = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 100));
+        this.maxInFlight = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 4));
+        this.gzip = sinkSettings.getAsBoolean(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_GZIP, false);
+        this.retryCount = Math.max(0, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_COUNT, 3));
+        this.retryInitialDelayMs = Math.max(1, sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS, 500L));
+        this.retryMaxDelayMs = Math.max(retryInitialDelayMs, sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_MAX_DELAY_MS, 30_000L));
+        final int maxPending = Math.max(batchSize, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_PENDING, 10_000));
+        final long flushIntervalMs = Math.max(1, sinkSettings.getAsLong(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS, 1000L));
+
+        this.pending = new ArrayBlockingQueue<>(maxPending);
+        this.inFlight = new Semaphore(maxInFlight);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            final Thread thread = new Thread(r, "opensearch[security][audit-webhook-" + name + "]");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(() -> dispatch(true), flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Never blocks
+     *
+     * @return false if the sender is closed or the buffer is full
+     */
+    boolean offer(final AuditMessage msg) {
+        if (closed || !pending.offer(msg)) {
+            return false;
+        }
+        if (pending.size() >= batchSize) {
+            scheduleDispatch();
+        }
+        return true;
+    }
+
+    int getPendingCount() {
+        return pending.size();
+    }
+
+    private void scheduleDispatch() {
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    dispatchScheduled.set(false);
+                    dispatch(false);
+                });
+            } catch (RejectedExecutionException e) {
+                dispatchScheduled.set(false);
+            }
+        }
+    }
+
+    /**
+     * Only called on the scheduler thread, so batches are cut in submission order
+     */
+    private void dispatch(final boolean flushPartial) {
+        while (pending.size() >= batchSize || (flushPartial && !pending.isEmpty())) {
+            if (!inFlight.tryAcquire()) {
+                // the next completed batch dispatches again
+                return;
+            }
+
+            final List<AuditMessage> batch = new ArrayList<>(batchSize);
+            pending.drainTo(batch, batchSize);
+
+            if (batch.isEmpty()) {
+                inFlight.release();
+                return;
+            }
+
+            final byte[] body;
+            try {
+                body = encode(batch);
+            } catch (Exception e) {
+                log.error("Cannot encode {} audit messages for webhook URL '{}'", batch.size(), url, e);
+                inFlight.release();
+                batch.forEach(fallback);
+                continue;
+            }
+
+            send(batch, body, 0);
+        }
+    }
+
+    byte[] encode(final List<AuditMessage> batch) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(batch.size() * 512);
+
+        try (OutputStream out = gzip ? new GZIPOutputStream(bytes) : bytes) {
+            if (format == WebhookFormat.JSON_ARRAY) {
+                out.write('[');
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                if (i > 0 && format == WebhookFormat.JSON_ARRAY) {
+                    out.write(',');
+                }
+                out.write(formatter.apply(batch.get(i)).getBytes(StandardCharsets.UTF_8));
+                if (format == WebhookFormat.NDJSON) {
+                    out.write('\n');
+                }
+            }
+            if (format == WebhookFormat.JSON_ARRAY) {
+                out.write(']');
+            }
+        }
+
+        return bytes.toByteArray();
+    }
+
+    @SuppressWarnings("removal")
+    private void send(final List<AuditMessage> batch, final byte[] body, final int attempt) {
+        final ByteArrayEntity entity = new ByteArrayEntity(body, format.getContentType());
+        if (gzip) {
+            entity.setContentEncoding("gzip");
+        }
+
+        final HttpPost request = new HttpPost(url);
+        request.setEntity(entity);
+
+        final FutureCallback<HttpResponse> callback = new FutureCallback<HttpResponse>() {
+
+            @Override
+            public void completed(final HttpResponse response) {
+                EntityUtils.consumeQuietly(response.getEntity());
+                final int status = response.getStatusLine().getStatusCode();
+
+                if (status >= 200 && status < 300) {
+                    inFlight.release();
+                    scheduleDispatch();
+                } else {
+                    retryOrFallback(batch, body, attempt, "server returned status " + status, null);
+                }
+            }
+
+            @Override
+            public void failed(final Exception e) {
+                retryOrFallback(batch, body, attempt, e.getMessage(), e);
+            }
+
+            @Override
+            public void cancelled() {
+                retryOrFallback(batch, body, attempt, "request was cancelled", null);
+            }
+        };
+
+        try {
+            AccessController.doPrivileged((PrivilegedAction<Future<HttpResponse>>) () -> httpClient.execute(request, callback));
+        } catch (Exception e) {
+            retryOrFallback(batch, body, attempt, e.getMessage(), e);
+        }
+    }
+
+    private void retryOrFallback(final List<AuditMessage> batch, final byte[] body, final int attempt, final String reason, final Exception e) {
+        if (attempt < retryCount && !closed) {
+            final long delayMs = backoffDelayMs(attempt);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Retry attempt {}/{} for {} audit messages to webhook URL '{}' in {} ms due to '{}'",
+                        attempt + 1, retryCount, batch.size(), url, delayMs, reason);
+            }
+
+            awaitingRetry.add(batch);
+            try {
+                // the batch keeps its in flight permit while waiting, which preserves the ordering with a single permit
+                scheduler.schedule(() -> {
+                    if (awaitingRetry.remove(batch)) {
+                        send(batch, body, attempt + 1);
+                    }
+                }, delayMs, TimeUnit.MILLISECONDS);
+                return;
+            } catch (RejectedExecutionException ignored) {
+                // closed concurrently, store on the fallback sink below unless close() already did
+                if (!awaitingRetry.remove(batch)) {
+                    return;
+                }
+            }
+        }
+
+        log.error("Cannot POST {} audit messages to webhook URL '{}' after {} attempts due to '{}'", batch.size(), url, attempt + 1, reason, e);
+        inFlight.release();
+        batch.forEach(fallback);
+        scheduleDispatch();
+    }
+
+    /**
+     * Exponential backoff capped at the configured maximum, randomized by up to half to spread out retries of many nodes
+     */
+    long backoffDelayMs(final int attempt) {
+        final long delay = Math.min(retryMaxDelayMs, retryInitialDelayMs << Math.min(attempt, 30));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    /**
+     * Flushes the buffered messages, waiting up to ten seconds for outstanding batches.
+     * Messages which could not be sent in time and batches still waiting for a retry are stored on the fallback sink.
+     */
+    @Override
+    public void close() throws IOException {
+        closed = true;
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MS);
+        // batches waiting for a retry are not sent again once closed, so they are not waited for
+        while ((!pending.isEmpty() || inFlight.availablePermits() + awaitingRetry.size() < maxInFlight) && System.nanoTime() < deadline) {
+            try {
+                scheduler.execute(() -> dispatch(true));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+            Uninterruptibles.sleepUninterruptibly(50, TimeUnit.MILLISECONDS);
+        }
+
+        // drops the scheduled retries, their batches are still in awaitingRetry
+        scheduler.shutdownNow();
+
+        final List<AuditMessage> remaining = new ArrayList<>();
+        final List<List<AuditMessage>> retries;
+        synchronized (awaitingRetry) {
+            retries = new ArrayList<>(awaitingRetry);
+            awaitingRetry.clear();
+        }
+        for (final List<AuditMessage> batch : retries) {
+            inFlight.release();
+            remaining.addAll(batch);
+        }
+        pending.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            log.warn("Storing {} audit messages not sent to webhook URL '{}' on the fallback sink", remaining.size(), url);
+            remaining.forEach(fallback);
+        }
+
+        httpClient.close();
+    }
+}
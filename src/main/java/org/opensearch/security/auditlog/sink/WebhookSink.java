@@ -33,6 +33,9 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
 import org.apache.http.ssl.SSLContextBuilder;
 import org.apache.http.ssl.TrustStrategy;
 
@@ -48,6 +51,9 @@ public class WebhookSink extends AuditLogSink {
 	/* HttpClient is thread safe */
 	private final CloseableHttpClient httpClient;
 
+	/* only used with a batched format */
+	private WebhookBatchSender batchSender;
+
 	String webhookUrl = null;
 	WebhookFormat webhookFormat = null;
 	final boolean verifySSL;
@@ -95,6 +101,26 @@ public class WebhookSink extends AuditLogSink {
 				webhookFormat = WebhookFormat.TEXT;
 			}
 		}
+
+		if (this.webhookUrl != null && webhookFormat.isBatched()) {
+			final int maxInFlight = Math.max(1, sinkSettings.getAsInt(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 4));
+			final CloseableHttpAsyncClient asyncHttpClient = getAsyncHttpClient(maxInFlight);
+
+			if (asyncHttpClient == null) {
+				log.error("Could not create async HttpClient, webhook audit log will not work");
+			} else {
+				batchSender = new WebhookBatchSender(name, sinkSettings, this.webhookUrl, webhookFormat, this::formatJson, asyncHttpClient,
+						msg -> fallbackSink.store(msg));
+			}
+		}
+	}
+
+	/**
+	 * Batched formats only enqueue the message, so it is stored on the calling thread
+	 */
+	@Override
+	public boolean isHandlingBackpressure() {
+		return batchSender != null;
 	}
 
 	@Override
@@ -108,6 +134,14 @@ public class WebhookSink extends AuditLogSink {
 			log.debug("Message is null");
 			return true;
 		}
+		if (batchSender != null) {
+			if (!batchSender.offer(msg)) {
+				// do not retry on the calling thread, the buffer only drains as fast as the endpoint accepts
+				log.warn("Webhook audit buffer is full, storing message on fallback sink");
+				fallbackSink.store(msg);
+			}
+			return true;
+		}
 
 		return AccessController.doPrivileged(new PrivilegedAction<Boolean>() {
 
@@ -142,6 +176,9 @@ public class WebhookSink extends AuditLogSink {
 
     @Override
     public void close() throws IOException {
+        if(batchSender != null) {
+            batchSender.close();
+        }
         if(httpClient != null) {
         	httpClient.close();
         }
@@ -333,22 +370,26 @@ public class WebhookSink extends AuditLogSink {
 		});
 	}
 
-	CloseableHttpClient getHttpClient()  {
-
+	private static RequestConfig getRequestConfig() {
         // TODO: set a timeout until we have a proper way to deal with back pressure
         int timeout = 5;
 
-        RequestConfig config = RequestConfig.custom()
+        return RequestConfig.custom()
           .setConnectTimeout(timeout * 1000)
           .setConnectionRequestTimeout(timeout * 1000)
           .setSocketTimeout(timeout * 1000).build();
+	}
+
+	private static final TrustStrategy trustAllStrategy = new TrustStrategy() {
+        @Override
+        public boolean isTrusted(X509Certificate[] chain, String authType) {
+            return true;
+        }
+    };
+
+	CloseableHttpClient getHttpClient()  {
 
-        final TrustStrategy trustAllStrategy = new TrustStrategy() {
-            @Override
-            public boolean isTrusted(X509Certificate[] chain, String authType) {
-                return true;
-            }
-        };
+        RequestConfig config = getRequestConfig();
 
 	    try {
 
@@ -387,19 +428,68 @@ public class WebhookSink extends AuditLogSink {
 	    }
 	}
 
+	/**
+	 * Pooled client keeping up to maxConnections connections alive, one per in flight batch
+	 */
+    @SuppressWarnings("removal")
+	CloseableHttpAsyncClient getAsyncHttpClient(final int maxConnections) {
+
+	    final HttpAsyncClientBuilder builder = HttpAsyncClients.custom()
+	            .setDefaultRequestConfig(getRequestConfig())
+	            .setMaxConnTotal(maxConnections)
+	            .setMaxConnPerRoute(maxConnections);
+
+	    try {
+
+	        if(!verifySSL) {
+	            builder.setSSLContext(new SSLContextBuilder().loadTrustMaterial(trustAllStrategy).build())
+	                    .setSSLHostnameVerifier(NoopHostnameVerifier.INSTANCE);
+	        } else if(effectiveTruststore != null) {
+	            builder.setSSLContext(new SSLContextBuilder().loadTrustMaterial(effectiveTruststore, null).build())
+	                    .setSSLHostnameVerifier(new DefaultHostnameVerifier());
+	        }
+
+	        final CloseableHttpAsyncClient client = AccessController.doPrivileged((PrivilegedAction<CloseableHttpAsyncClient>) builder::build);
+	        AccessController.doPrivileged((PrivilegedAction<Void>) () -> {
+	            client.start();
+	            return null;
+	        });
+	        return client;
+
+	    } catch(Exception ex) {
+	    	log.error("Could not create async HTTPClient due to {}, audit log not available.", ex.getMessage(), ex);
+	    	return null;
+	    }
+	}
+
 	public static enum WebhookFormat {
 		URL_PARAMETER_GET(HttpMethod.GET, ContentType.TEXT_PLAIN),
 		URL_PARAMETER_POST(HttpMethod.POST, ContentType.TEXT_PLAIN),
 		TEXT(HttpMethod.POST, ContentType.TEXT_PLAIN),
 		JSON(HttpMethod.POST, ContentType.APPLICATION_JSON),
-		SLACK(HttpMethod.POST, ContentType.APPLICATION_JSON);
+		SLACK(HttpMethod.POST, ContentType.APPLICATION_JSON),
+		NDJSON(HttpMethod.POST, ContentType.create("application/x-ndjson", StandardCharsets.UTF_8), true),
+		JSON_ARRAY(HttpMethod.POST, ContentType.APPLICATION_JSON, true);
 
 		private HttpMethod method;
 		private ContentType contentType;
+		private boolean batched;
 
 		private WebhookFormat(HttpMethod method, ContentType contentType) {
+			this(method, contentType, false);
+		}
+
+		private WebhookFormat(HttpMethod method, ContentType contentType, boolean batched) {
 			this.method = method;
 			this.contentType = contentType;
+			this.batched = batched;
+		}
+
+		/**
+		 * Batched formats send many messages per request, see {@link WebhookBatchSender}
+		 */
+		boolean isBatched() {
+			return batched;
 		}
 
 		HttpMethod getMethod() {
@@ -67,4 +67,11 @@ public interface AuthorizationBackend {
      */
     void fillRoles(User user, AuthCredentials credentials) throws OpenSearchSecurityException;
 
+    /**
+     * Drops the roles this backend cached itself. Called whenever the user and role caches of OpenSearch Security
+     * are flushed, so that backends with own caches do not serve stale roles afterwards.
+     */
+    default void invalidateCache() {
+    }
+
 }
@@ -32,9 +32,12 @@ import java.net.InetSocketAddress;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -63,6 +66,8 @@ import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.securityconf.DynamicConfigModel;
 import org.opensearch.security.ssl.util.Utils;
+import org.opensearch.security.stats.ConnectionPoolStats;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
@@ -84,6 +89,7 @@ public class BackendRegistry {
     private final AdminDNs adminDns;
     private final XFFResolver xffResolver;
     private volatile boolean anonymousAuthEnabled = false;
+    private volatile Map<String, ConnectionPoolStats.Provider> connectionPools = Collections.emptyMap();
     private final Settings opensearchSettings;
     //private final InternalAuthenticationBackend iab;
     private final AuditLog auditLog;
@@ -95,7 +101,7 @@ public class BackendRegistry {
     private Cache<User, Set<String>> restRoleCache; //
 
     private void createCaches() {
-        userCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
+        userCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES).recordStats()
                 .removalListener(new RemovalListener<AuthCredentials, User>() {
                     @Override
                     public void onRemoval(RemovalNotification<AuthCredentials, User> notification) {
@@ -103,7 +109,7 @@ public class BackendRegistry {
                     }
                 }).build();
 
-        restImpersonationCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
+        restImpersonationCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES).recordStats()
                 .removalListener(new RemovalListener<String, User>() {
                     @Override
                     public void onRemoval(RemovalNotification<String, User> notification) {
@@ -111,7 +117,7 @@ public class BackendRegistry {
                     }
                 }).build();
 
-        restRoleCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES)
+        restRoleCache = CacheBuilder.newBuilder().expireAfterWrite(ttlInMin, TimeUnit.MINUTES).recordStats()
                 .removalListener(new RemovalListener<User, Set<String>>() {
                     @Override
                     public void onRemoval(RemovalNotification<User, Set<String>> notification) {
@@ -147,6 +153,35 @@ public class BackendRegistry {
         userCache.invalidateAll();
         restImpersonationCache.invalidateAll();
         restRoleCache.invalidateAll();
+
+        final Set<AuthorizationBackend> authorizers = restAuthorizers;
+        if (authorizers != null) {
+            for (final AuthorizationBackend authorizer : authorizers) {
+                authorizer.invalidateCache();
+            }
+        }
+    }
+
+    public Map<String, Object> getCacheStats() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("users", SecurityStats.cacheStats(userCache));
+        result.put("impersonation", SecurityStats.cacheStats(restImpersonationCache));
+        result.put("backend_roles", SecurityStats.cacheStats(restRoleCache));
+        return result;
+    }
+
+    /**
+     * @return the statistics of the connection pools of the current authentication and authorization backends
+     */
+    public Map<String, Object> getConnectionPoolStats() {
+        final Map<String, Object> result = new TreeMap<>();
+        for (final Map.Entry<String, ConnectionPoolStats.Provider> pool : connectionPools.entrySet()) {
+            final ConnectionPoolStats stats = pool.getValue().getConnectionPoolStats();
+            if (stats != null) {
+                result.put(pool.getKey(), stats.toMap());
+            }
+        }
+        return result;
     }
 
     @Subscribe
@@ -163,6 +198,7 @@ public class BackendRegistry {
         authBackendFailureListeners = dcm.getAuthBackendFailureListeners();
         ipClientBlockRegistries = dcm.getIpClientBlockRegistries();
         authBackendClientBlockRegistries = dcm.getAuthBackendClientBlockRegistries();
+        connectionPools = dcm.getConnectionPools();
 
         //OpenSearch Security no default authc
         initialized = !restAuthDomains.isEmpty() || anonymousAuthEnabled  || injectedUserEnabled;
@@ -37,11 +37,14 @@ import java.util.function.Function;
 import javax.naming.InvalidNameException;
 import javax.naming.ldap.LdapName;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
@@ -55,6 +58,8 @@ public class AdminDNs {
     private final Map<String, WildcardMatcher> allowedRestImpersonations;
     private boolean injectUserEnabled;
     private boolean injectAdminUserEnabled;
+    // admin dns are static node settings, so parsed lookups never have to be invalidated
+    private final Cache<String, Boolean> adminDnLookupCache = CacheBuilder.newBuilder().maximumSize(1000).recordStats().build();
 
     public AdminDNs(final Settings settings) {
 
@@ -133,12 +138,27 @@ public class AdminDNs {
     public boolean isAdminDN(String dn) {
         
         if(dn == null) return false;
-                
+
+        final Boolean cached = adminDnLookupCache.getIfPresent(dn);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean isAdmin;
+
         try {
-            return isAdminDN(new LdapName(dn));
+            isAdmin = isAdminDN(new LdapName(dn));
         } catch (InvalidNameException e) {
-           return false;
+            isAdmin = false;
         }
+
+        adminDnLookupCache.put(dn, isAdmin);
+        return isAdmin;
+    }
+
+    public Map<String, Object> getCacheStats() {
+        return SecurityStats.cacheStats(adminDnLookupCache);
     }
 
     private boolean isAdminDN(LdapName dn) {
@@ -37,9 +37,11 @@ import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.node.DiscoveryNodes;
 import org.opensearch.index.Index;
+import org.opensearch.security.resolver.IndexAliasLookup;
 
 public class ClusterInfoHolder implements ClusterStateListener {
 
@@ -49,6 +51,7 @@ public class ClusterInfoHolder implements ClusterStateListener {
     private volatile DiscoveryNodes nodes = null;
     private volatile Boolean isLocalNodeElectedClusterManager = null;
     private volatile boolean initialized;
+    private volatile IndexAliasLookup indexAliasLookup;
     
     @Override
     public void clusterChanged(ClusterChangedEvent event) {
@@ -78,6 +81,25 @@ public class ClusterInfoHolder implements ClusterStateListener {
         }
         
         isLocalNodeElectedClusterManager = event.localNodeMaster()?Boolean.TRUE:Boolean.FALSE;
+
+        if(indexAliasLookup == null || event.metadataChanged()) {
+            indexAliasLookup = IndexAliasLookup.build(event.state().metadata());
+        }
+    }
+
+    /**
+     * @return the alias lookup of the given metadata, normally the one built when the cluster state was applied
+     */
+    public IndexAliasLookup getIndexAliasLookup(final Metadata metadata) {
+        IndexAliasLookup lookup = indexAliasLookup;
+
+        if (lookup == null || !lookup.isFor(metadata)) {
+            // the cluster state is read before the listener has been notified, or by a node without listener
+            lookup = IndexAliasLookup.build(metadata);
+            indexAliasLookup = lookup;
+        }
+
+        return lookup;
     }
 
     public Boolean getHas6xNodes() {
@@ -0,0 +1,207 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.core.JsonParser;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.support.ConfigEntries;
+import org.opensearch.security.support.SecurityUtils;
+
+/**
+ * Loads configuration types stored in the per-entry layout (see {@link ConfigEntries}).
+ * <p>
+ * The last loaded state of every type is kept, so that as long as the generation does not change
+ * only the entries changed since the last loaded version are read and parsed. Entries are applied in the order of their
+ * version, so a later version of a name or its tombstone replaces an earlier one which was not removed yet.
+ */
+class ConfigurationEntriesLoader {
+
+    private static final int PAGE_SIZE = 5000;
+    private static final TimeValue SCROLL_KEEP_ALIVE = TimeValue.timeValueMinutes(1);
+
+    protected final Logger log = LogManager.getLogger(this.getClass());
+    private final Client client;
+    private final String securityIndex;
+    private final Settings settings;
+    private final Map<CType, Loaded> loaded = new ConcurrentHashMap<>();
+
+    ConfigurationEntriesLoader(final Client client, final String securityIndex, final Settings settings) {
+        this.client = client;
+        this.securityIndex = securityIndex;
+        this.settings = settings;
+    }
+
+    /**
+     * Forgets the state of a type, e.g. because it was written in the blob layout again.
+     */
+    void invalidate(final CType type) {
+        loaded.remove(type);
+    }
+
+    /**
+     * The configuration passed to the listener is shared with later incremental loads and must not be modified.
+     */
+    void load(final CType type, final ConfigEntries.Manifest manifest, final long seqNo, final long primaryTerm,
+              final ActionListener<SecurityDynamicConfiguration<?>> listener) {
+        final Loaded previous = loaded.get(type);
+        final boolean incremental = previous != null && previous.generation.equals(manifest.getGeneration())
+                && previous.version <= manifest.getVersion();
+        final long afterVersion = incremental ? previous.version : 0;
+        final SecurityDynamicConfiguration<?> config;
+
+        try {
+            config = create(type, manifest.getConfigVersion(), seqNo, primaryTerm);
+            if (incremental) {
+                config.add(previous.config);
+            }
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Load {} {} after version {}", type.toLCString(), manifest, afterVersion);
+        }
+
+        if (afterVersion == manifest.getVersion()) {
+            complete(type, manifest, config, 0, listener);
+            return;
+        }
+
+        final SearchRequest searchRequest = new SearchRequest(securityIndex)
+                .source(new SearchSourceBuilder()
+                        .query(ConfigEntries.entriesQuery(type, manifest.getGeneration(), afterVersion, manifest.getVersion()))
+                        .sort(ConfigEntries.VERSION_FIELD, SortOrder.ASC)
+                        .size(PAGE_SIZE))
+                .scroll(SCROLL_KEEP_ALIVE);
+
+        client.search(searchRequest, new ActionListener<SearchResponse>() {
+            private int changed;
+
+            @Override
+            public void onResponse(final SearchResponse response) {
+                final SearchHit[] hits = response.getHits().getHits();
+
+                try {
+                    for (final SearchHit hit : hits) {
+                        apply(config, ConfigEntries.readEntry(hit.getSourceRef()));
+                    }
+                } catch (Exception e) {
+                    clearScroll(response.getScrollId());
+                    listener.onFailure(e);
+                    return;
+                }
+
+                changed += hits.length;
+
+                if (hits.length < PAGE_SIZE) {
+                    clearScroll(response.getScrollId());
+                    complete(type, manifest, config, changed, listener);
+                } else {
+                    client.searchScroll(new SearchScrollRequest(response.getScrollId()).scroll(SCROLL_KEEP_ALIVE), this);
+                }
+            }
+
+            @Override
+            public void onFailure(final Exception e) {
+                listener.onFailure(e);
+            }
+        });
+    }
+
+    private void apply(final SecurityDynamicConfiguration<?> config, final ConfigEntries.Entry entry) throws IOException {
+        if (entry.isDeleted()) {
+            config.remove(entry.getName());
+        } else {
+            try (JsonParser parser = SecurityUtils.replaceEnvVars(DefaultObjectMapper.createParser(entry.getValue()), settings)) {
+                config.putCObject(entry.getName(), DefaultObjectMapper.readValue(parser, DefaultObjectMapper.getTypeFactory().constructType(config.getImplementingClass())));
+            }
+        }
+    }
+
+    private void complete(final CType type, final ConfigEntries.Manifest manifest, final SecurityDynamicConfiguration<?> config,
+                          final int changed, final ActionListener<SecurityDynamicConfiguration<?>> listener) {
+        if (config.getCEntries().size() != manifest.getEntries()) {
+            listener.onFailure(new IOException("Expected " + manifest.getEntries() + " entries for " + type.toLCString() + " but got "
+                    + config.getCEntries().size() + ", an upload might still be in progress"));
+            return;
+        }
+
+        try {
+            SecurityDynamicConfiguration.validate(config, manifest.getConfigVersion(), type);
+        } catch (IOException e) {
+            listener.onFailure(e);
+            return;
+        }
+
+        loaded.compute(type, (t, current) -> current == null || !current.generation.equals(manifest.getGeneration())
+                || current.version <= manifest.getVersion() ? new Loaded(manifest.getGeneration(), manifest.getVersion(), config) : current);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Loaded {} with version {}, {} entries changed", type.toLCString(), manifest.getVersion(), changed);
+        }
+
+        listener.onResponse(config);
+    }
+
+    private void clearScroll(final String scrollId) {
+        if (scrollId == null) {
+            return;
+        }
+
+        final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+        clearScrollRequest.addScrollId(scrollId);
+        client.clearScroll(clearScrollRequest, ActionListener.wrap(r -> {}, e -> log.debug("Unable to clear scroll", e)));
+    }
+
+    private static SecurityDynamicConfiguration<?> create(final CType type, final int configVersion, final long seqNo,
+                                                          final long primaryTerm) throws IOException {
+        if (!ConfigEntries.supports(type) || configVersion < 2) {
+            throw new IOException("The per-entry layout is not supported for " + type.toLCString() + " with config version " + configVersion);
+        }
+
+        final String meta = "{\"_meta\":{\"type\":\"" + type.toLCString() + "\",\"config_version\":" + configVersion + "}}";
+        return SecurityDynamicConfiguration.fromJson(meta, type, configVersion, seqNo, primaryTerm);
+    }
+
+    private static class Loaded {
+        private final String generation;
+        private final long version;
+        private final SecurityDynamicConfiguration<?> config;
+
+        private Loaded(final String generation, final long version, final SecurityDynamicConfiguration<?> config) {
+            this.generation = generation;
+            this.version = version;
+            this.config = config;
+        }
+    }
+}
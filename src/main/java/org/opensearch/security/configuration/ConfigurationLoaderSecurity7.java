@@ -35,6 +35,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -59,6 +61,7 @@ import org.opensearch.security.auditlog.config.AuditConfig;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.ConfigEntries;
 import org.opensearch.security.support.ConfigHelper;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.threadpool.ThreadPool;
@@ -73,6 +76,7 @@ public class ConfigurationLoaderSecurity7 {
     private final ClusterService cs;
     private final Settings settings;
     private final AtomicBoolean isAuditConfigDocPresentInIndex = new AtomicBoolean();
+    private final ConfigurationEntriesLoader entriesLoader;
 
     ConfigurationLoaderSecurity7(final Client client, ThreadPool threadPool, final Settings settings, ClusterService cs) {
         super();
@@ -80,6 +84,7 @@ public class ConfigurationLoaderSecurity7 {
         this.settings = settings;
         this.securityIndex = settings.get(ConfigConstants.SECURITY_CONFIG_INDEX_NAME, ConfigConstants.OPENDISTRO_SECURITY_DEFAULT_CONFIG_INDEX);
         this.cs = cs;
+        this.entriesLoader = new ConfigurationEntriesLoader(client, securityIndex, settings);
         log.debug("Index is: {}", securityIndex);
     }
 
@@ -215,6 +220,19 @@ public class ConfigurationLoaderSecurity7 {
                         if(singleGetResponse.isExists() && !singleGetResponse.isSourceEmpty()) {
                             //success
                             try {
+                                final CType cType = CType.fromString(singleGetResponse.getId());
+                                final ConfigEntries.Manifest manifest = ConfigEntries.readManifest(singleGetResponse.getSourceAsBytesRef());
+
+                                if (manifest != null) {
+                                    entriesLoader.load(cType, manifest, singleGetResponse.getSeqNo(), singleGetResponse.getPrimaryTerm(),
+                                            ActionListener.wrap(dConf -> callback.success(dConf.deepClone()), e -> {
+                                                log.error(e.toString());
+                                                callback.failure(e);
+                                            }));
+                                    continue;
+                                }
+
+                                entriesLoader.invalidate(cType);
                                 final SecurityDynamicConfiguration<?> dConf = toConfig(singleGetResponse, acceptInvalid);
                                 if(dConf != null) {
                                     callback.success(dConf.deepClone());
@@ -271,16 +289,9 @@ public class ConfigurationLoaderSecurity7 {
 
             parser.nextToken();
 
-            final String jsonAsString = SecurityUtils.replaceEnvVars(new String(parser.binaryValue()), settings);
-            final JsonNode jsonNode = DefaultObjectMapper.readTree(jsonAsString);
-            int configVersion = 1;
-
-
-
-            if(jsonNode.get("_meta") != null) {
-                assert jsonNode.get("_meta").get("type").asText().equals(id);
-                configVersion = jsonNode.get("_meta").get("config_version").asInt();
-            }
+            // bound straight from the decoded bytes, environment variables are replaced token by token while binding
+            final byte[] json = parser.binaryValue();
+            final int configVersion = readConfigVersion(json, id);
 
             if(log.isDebugEnabled()) {
                 log.debug("Load "+id+" with version "+configVersion);
@@ -288,15 +299,15 @@ public class ConfigurationLoaderSecurity7 {
 
             if (CType.ACTIONGROUPS.toLCString().equals(id)) {
                 try {
-                    return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
+                    return SecurityDynamicConfiguration.fromJson(json, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid, this::replaceEnvVars);
                 } catch (Exception e) {
                     if(log.isDebugEnabled()) {
                         log.debug("Unable to load "+id+" with version "+configVersion+" - Try loading legacy format ...");
                     }
-                    return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), 0, seqNo, primaryTerm, acceptInvalid);
+                    return SecurityDynamicConfiguration.fromJson(json, CType.fromString(id), 0, seqNo, primaryTerm, acceptInvalid, this::replaceEnvVars);
                 }
             }
-            return SecurityDynamicConfiguration.fromJson(jsonAsString, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid);
+            return SecurityDynamicConfiguration.fromJson(json, CType.fromString(id), configVersion, seqNo, primaryTerm, acceptInvalid, this::replaceEnvVars);
 
         } finally {
             if(parser != null) {
@@ -308,4 +319,31 @@ public class ConfigurationLoaderSecurity7 {
             }
         }
     }
+
+    private JsonParser replaceEnvVars(final JsonParser parser) {
+        return SecurityUtils.replaceEnvVars(parser, settings);
+    }
+
+    /**
+     * Reads the config version from {@code _meta} without binding the rest of the document. {@code _meta} is
+     * usually the first key, so the remaining entries are not even tokenized.
+     */
+    private static int readConfigVersion(final byte[] json, final String id) throws IOException {
+        try (JsonParser parser = DefaultObjectMapper.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return 1;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                parser.nextToken();
+                if ("_meta".equals(name)) {
+                    final JsonNode meta = parser.readValueAsTree();
+                    assert meta.get("type").asText().equals(id);
+                    return meta.get("config_version").asInt();
+                }
+                parser.skipChildren();
+            }
+            return 1;
+        }
+    }
 }
@@ -32,11 +32,13 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
@@ -81,6 +83,7 @@ public class ConfigurationRepository {
     private final String securityIndex;
     private final Client client;
     private final Cache<CType, SecurityDynamicConfiguration<?>> configCache;
+    private final Map<CType, ConfigurationSnapshot> snapshots = new ConcurrentHashMap<>();
     private final List<ConfigurationChangeListener> configurationChangedListener;
     private final ConfigurationLoaderSecurity7 cl;
     private final Settings settings;
@@ -294,6 +297,50 @@ public class ConfigurationRepository {
         return SecurityDynamicConfiguration.empty();
     }
 
+    /**
+     * Returns the configuration as currently loaded on this node, including the static entries,
+     * without reading the index. The returned instance is shared between callers and must not be
+     * modified, use {@link SecurityDynamicConfiguration#deepClone()} to get a modifiable copy.
+     * Falls back to the index if the configuration was not loaded yet.
+     *
+     * @param configurationType
+     * @param logComplianceEvent
+     * @return the shared configuration snapshot
+     */
+    public SecurityDynamicConfiguration<?> getConfigurationSnapshot(CType configurationType, boolean logComplianceEvent) {
+        final SecurityDynamicConfiguration<?> conf = configCache.getIfPresent(configurationType);
+
+        if (conf == null) {
+            final SecurityDynamicConfiguration<?> loaded = getConfigurationsFromIndex(Collections.singleton(configurationType), logComplianceEvent)
+                    .get(configurationType);
+            return DynamicConfigFactory.addStatics(loaded.deepClone());
+        }
+
+        ConfigurationSnapshot snapshot = snapshots.get(configurationType);
+
+        // the snapshot is bound to the cached instance it was derived from, so a reload makes it stale without explicit invalidation
+        if (snapshot == null || snapshot.source != conf) {
+            snapshot = new ConfigurationSnapshot(conf, DynamicConfigFactory.addStatics(conf.deepClone()));
+            snapshots.put(configurationType, snapshot);
+        }
+
+        if (logComplianceEvent) {
+            logComplianceRead(configurationType, conf);
+        }
+
+        return snapshot.configuration;
+    }
+
+    private static final class ConfigurationSnapshot {
+        private final SecurityDynamicConfiguration<?> source;
+        private final SecurityDynamicConfiguration<?> configuration;
+
+        private ConfigurationSnapshot(SecurityDynamicConfiguration<?> source, SecurityDynamicConfiguration<?> configuration) {
+            this.source = source;
+            this.configuration = configuration;
+        }
+    }
+
     private final Lock LOCK = new ReentrantLock();
 
     public void reloadConfiguration(Collection<CType> configTypes) throws ConfigUpdateAlreadyInProgressException {
@@ -316,6 +363,13 @@ public class ConfigurationRepository {
 
     private void reloadConfiguration0(Collection<CType> configTypes, boolean acceptInvalid) {
         final Map<CType, SecurityDynamicConfiguration<?>> loaded = getConfigurationsFromIndex(configTypes, false, acceptInvalid);
+        updateConfiguration(loaded);
+    }
+
+    /**
+     * Replaces the cached configurations, which also makes their snapshots stale, and notifies the listeners
+     */
+    void updateConfiguration(Map<CType, SecurityDynamicConfiguration<?>> loaded) {
         configCache.putAll(loaded);
         notifyAboutChanges(loaded);
     }
@@ -376,16 +430,22 @@ public class ConfigurationRepository {
             throw new OpenSearchException(e);
         }
 
-        if (logComplianceEvent && auditLog.getComplianceConfig().isEnabled()) {
+        if (logComplianceEvent) {
             CType configurationType = configTypes.iterator().next();
-            Map<String, String> fields = new HashMap<String, String>();
-            fields.put(configurationType.toLCString(), Strings.toString(retVal.get(configurationType)));
-            auditLog.logDocumentRead(this.securityIndex, configurationType.toLCString(), null, fields);
+            logComplianceRead(configurationType, retVal.get(configurationType));
         }
 
         return retVal;
     }
 
+    private void logComplianceRead(CType configurationType, SecurityDynamicConfiguration<?> configuration) {
+        if (auditLog.getComplianceConfig().isEnabled()) {
+            Map<String, String> fields = new HashMap<String, String>();
+            fields.put(configurationType.toLCString(), Strings.toString(configuration));
+            auditLog.logDocumentRead(this.securityIndex, configurationType.toLCString(), null, fields);
+        }
+    }
+
     private Map<CType, SecurityDynamicConfiguration<?>> validate(Map<CType, SecurityDynamicConfiguration<?>> conf, int expectedSize) throws InvalidConfigException {
 
         if(conf == null || conf.size() != expectedSize) {
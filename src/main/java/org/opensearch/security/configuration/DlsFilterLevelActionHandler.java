@@ -15,12 +15,20 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableSet;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -29,7 +37,6 @@ import org.opensearch.action.ActionListener;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.admin.cluster.shards.ClusterSearchShardsRequest;
 import org.opensearch.action.get.GetRequest;
-import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.get.MultiGetItemResponse;
 import org.opensearch.action.get.MultiGetRequest;
 import org.opensearch.action.get.MultiGetResponse;
@@ -37,30 +44,27 @@ import org.opensearch.action.search.MultiSearchRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchScrollAction;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.GroupedActionListener;
 import org.opensearch.client.Client;
-import org.opensearch.cluster.metadata.IndexMetadata;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.Strings;
+import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
-import org.opensearch.index.IndexService;
-import org.opensearch.index.get.GetResult;
-import org.opensearch.index.mapper.MapperService;
 import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.index.query.TermsQueryBuilder;
-import org.opensearch.index.seqno.SequenceNumbers;
-import org.opensearch.indices.IndicesService;
 import org.opensearch.script.mustache.MultiSearchTemplateAction;
 import org.opensearch.script.mustache.SearchTemplateAction;
-import org.opensearch.search.SearchHit;
-import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.security.privileges.DocumentAllowList;
 import org.opensearch.security.queries.QueryBuilderTraverser;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.stats.SecurityStats;
+import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.ReflectiveAttributeAccessors;
 import org.opensearch.security.support.SecurityUtils;
@@ -72,8 +76,8 @@ public class DlsFilterLevelActionHandler {
             .protectedObjectAttr("localClusterAlias", String.class);
 
     public static boolean handle(String action, ActionRequest request, ActionListener<?> listener, EvaluatedDlsFlsConfig evaluatedDlsFlsConfig,
-                                 Resolved resolved, Client nodeClient, ClusterService clusterService, IndicesService indicesService,
-                                 IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext) {
+                                 Resolved resolved, Client nodeClient, ClusterService clusterService, IndexNameExpressionResolver resolver,
+                                 DlsQueryParser dlsQueryParser, TermsLookupCache termsLookupCache, ThreadContext threadContext) {
 
         if (threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_FILTER_LEVEL_DLS_DONE) != null) {
             return true;
@@ -98,10 +102,14 @@ public class DlsFilterLevelActionHandler {
             return true;
         }
 
-        return new DlsFilterLevelActionHandler(action, request, listener, evaluatedDlsFlsConfig, resolved, nodeClient, clusterService, indicesService,
-                resolver, dlsQueryParser, threadContext).handle();
+        return new DlsFilterLevelActionHandler(action, request, listener, evaluatedDlsFlsConfig, resolved, nodeClient, clusterService,
+                resolver, dlsQueryParser, termsLookupCache, threadContext).handle();
     }
 
+    // The DLS queries are resolved per user, so the queries and not the roles are part of the key
+    private static final Cache<QueryExtensionKey, QueryExtension> queryExtensionCache = CacheBuilder.newBuilder().maximumSize(1000)
+            .expireAfterWrite(4, TimeUnit.HOURS).recordStats().build();
+
     private final String action;
     private final ActionRequest request;
     private final ActionListener<?> listener;
@@ -110,16 +118,17 @@ public class DlsFilterLevelActionHandler {
     private final boolean requiresIndexScoping;
     private final Client nodeClient;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final ClusterService clusterService;
-    private final IndicesService indicesService;
     private final ThreadContext threadContext;
     private final IndexNameExpressionResolver resolver;
     private BoolQueryBuilder filterLevelQueryBuilder;
     private DocumentAllowList documentWhitelist;
 
     DlsFilterLevelActionHandler(String action, ActionRequest request, ActionListener<?> listener, EvaluatedDlsFlsConfig evaluatedDlsFlsConfig,
-                                Resolved resolved, Client nodeClient, ClusterService clusterService, IndicesService indicesService,
-                                IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, ThreadContext threadContext) {
+                                Resolved resolved, Client nodeClient, ClusterService clusterService,
+                                IndexNameExpressionResolver resolver, DlsQueryParser dlsQueryParser, TermsLookupCache termsLookupCache,
+                                ThreadContext threadContext) {
         this.action = action;
         this.request = request;
         this.listener = listener;
@@ -127,8 +136,8 @@ public class DlsFilterLevelActionHandler {
         this.resolved = resolved;
         this.nodeClient = nodeClient;
         this.clusterService = clusterService;
-        this.indicesService = indicesService;
         this.dlsQueryParser = dlsQueryParser;
+        this.termsLookupCache = termsLookupCache;
         this.threadContext = threadContext;
         this.resolver = resolver;
 
@@ -142,7 +151,9 @@ public class DlsFilterLevelActionHandler {
             threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_FILTER_LEVEL_DLS_DONE, request.toString());
 
             try {
-                if (!createQueryExtension()) {
+                String localClusterAlias = request instanceof SearchRequest ? LOCAL_CLUSTER_ALIAS_GETTER.apply((SearchRequest) request) : null;
+
+                if (!createQueryExtension(localClusterAlias)) {
                     return true;
                 }
 
@@ -160,40 +171,47 @@ public class DlsFilterLevelActionHandler {
                 return true;
             }
 
-            if (request instanceof SearchRequest) {
-                return handle((SearchRequest) request, ctx);
-            } else if (request instanceof GetRequest) {
-                return handle((GetRequest) request, ctx);
-            } else if (request instanceof MultiGetRequest) {
-                return handle((MultiGetRequest) request, ctx);
-            } else if (request instanceof ClusterSearchShardsRequest) {
-                return handle((ClusterSearchShardsRequest) request, ctx);
-            } else {
-                log.error("Unsupported request type for filter level DLS: " + request);
-                listener.onFailure(new OpenSearchSecurityException(
-                        "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()));
-                return false;
+            if (request instanceof GetRequest || request instanceof MultiGetRequest) {
+                return handleGet(ctx);
             }
-        }
-    }
 
-    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
-        if (documentWhitelist != null) {
-            documentWhitelist.applyTo(threadContext);
-        }
+            if (documentWhitelist != null) {
+                documentWhitelist.applyTo(threadContext);
+            }
 
-        String localClusterAlias = LOCAL_CLUSTER_ALIAS_GETTER.apply(searchRequest);
+            if (termsLookupCache != null && documentWhitelist != null && !documentWhitelist.isEmpty() && request instanceof SearchRequest) {
+                // The lookup documents are fetched here, using the document allow list, and the terms are sent inline.
+                // Otherwise every search would fetch the lookup documents again while rewriting the query.
+                termsLookupCache.resolve(filterLevelQueryBuilder, nodeClient,
+                        ContextPreservingActionListener.wrapPreservingContext(ActionListener.wrap((resolvedQuery) -> {
+                            filterLevelQueryBuilder = QueryBuilders.boolQuery().must(resolvedQuery);
+                            handle(ctx);
+                        }, (e) -> {
+                            log.error("Unable to resolve terms lookup queries for filter level DLS", e);
+                            listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
+                        }), threadContext));
 
-        if (localClusterAlias != null) {
-            try {
-                createQueryExtension(localClusterAlias);
-            } catch (Exception e) {
-                log.error("Unable to handle filter level DLS", e);
-                listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
                 return false;
             }
+
+            return handle(ctx);
+        }
+    }
+
+    private boolean handle(StoredContext ctx) {
+        if (request instanceof SearchRequest) {
+            return handle((SearchRequest) request, ctx);
+        } else if (request instanceof ClusterSearchShardsRequest) {
+            return handle((ClusterSearchShardsRequest) request, ctx);
+        } else {
+            log.error("Unsupported request type for filter level DLS: " + request);
+            listener.onFailure(new OpenSearchSecurityException(
+                    "Unsupported request type for filter level DLS: " + action + "; " + request.getClass().getName()));
+            return false;
         }
+    }
 
+    private boolean handle(SearchRequest searchRequest, StoredContext ctx) {
         if (searchRequest.source().query() != null) {
             filterLevelQueryBuilder.must(searchRequest.source().query());
         }
@@ -224,98 +242,102 @@ public class DlsFilterLevelActionHandler {
         return false;
     }
 
-    private boolean handle(GetRequest getRequest, StoredContext ctx) {
-        if (documentWhitelist != null) {
-            documentWhitelist.applyTo(threadContext);
+    private boolean handle(ClusterSearchShardsRequest request, StoredContext ctx) {
+        listener.onFailure(new OpenSearchSecurityException(
+                "Filter-level DLS via cross cluster search is not available for scrolling and minimize_roundtrips=true"));
+        return false;
+    }
+
+    /**
+     * Get and multi get requests are executed unchanged, only with the DLS queries of the requested indices attached.
+     * The reader of each shard applies the queries to the fetched documents, which keeps routing, stored fields and
+     * source filtering and evaluates the DLS queries once per segment instead of running a search for the requested ids.
+     * Like any request subject to DLS or FLS, they are not executed in realtime, see {@link DlsFlsValveImpl}.
+     * Terms lookups can not be evaluated on the shards, so they are resolved here beforehand.
+     */
+    private boolean handleGet(StoredContext ctx) {
+        Map<String, Set<String>> dlsQueries = evaluatedDlsFlsConfig.getDlsQueriesByIndex();
+        Set<String> patterns = new HashSet<>();
+
+        for (String index : resolved.getAllIndicesResolved(clusterService, resolver)) {
+            String dlsEval = SecurityUtils.evalMap(dlsQueries, index);
+
+            if (dlsEval != null && dlsQueries.get(dlsEval) != null) {
+                patterns.add(dlsEval);
+            }
         }
 
-        SearchRequest searchRequest = new SearchRequest(getRequest.indices());
-        BoolQueryBuilder query = QueryBuilders.boolQuery().must(QueryBuilders.idsQuery().addIds(getRequest.id())).must(filterLevelQueryBuilder);
-        searchRequest.source(SearchSourceBuilder.searchSource().query(query));
+        List<String> termsLookupQueries = patterns.stream().flatMap((pattern) -> dlsQueries.get(pattern).stream()).distinct()
+                .filter(dlsQueryParser::containsTermLookupQuery).collect(Collectors.toList());
 
-        nodeClient.search(searchRequest, new ActionListener<SearchResponse>() {
-            @Override
-            public void onResponse(SearchResponse response) {
-                try {
+        // The request itself is executed without the document allow list, which is only required for the terms lookups
+        ActionListener<Map<String, String>> onResolved = new ContextPreservingActionListener<>(threadContext.newRestorableContext(false),
+                ActionListener.wrap((resolvedQueries) -> {
+                    HashMap<String, Set<String>> shardLevelQueries = new HashMap<>();
 
-                    ctx.restore();
+                    for (String pattern : patterns) {
+                        HashSet<String> queries = new HashSet<>();
 
-                    long hits = response.getHits().getTotalHits().value;
+                        for (String query : dlsQueries.get(pattern)) {
+                            queries.add(resolvedQueries.getOrDefault(query, query));
+                        }
 
-                    @SuppressWarnings("unchecked")
-                    ActionListener<GetResponse> getListener = (ActionListener<GetResponse>) listener;
-                    if (hits == 1) {
-                        getListener.onResponse(new GetResponse(searchHitToGetResult(response.getHits().getAt(0))));
-                    } else if (hits == 0) {
-                        getListener.onResponse(new GetResponse(new GetResult(searchRequest.indices()[0], getRequest.id(),
-                                SequenceNumbers.UNASSIGNED_SEQ_NO, SequenceNumbers.UNASSIGNED_PRIMARY_TERM, -1, false, null, null, null)));
-                    } else {
-                        log.error("Unexpected hit count " + hits + " in " + response);
-                        listener.onFailure(new OpenSearchSecurityException("Internal error when performing DLS"));
+                        shardLevelQueries.put(pattern, queries);
                     }
 
-                } catch (Exception e) {
-                    listener.onFailure(e);
-                }
-            }
-
-            @Override
-            public void onFailure(Exception e) {
-                listener.onFailure(e);
-            }
-        });
-
-        return false;
+                    threadContext.putHeader(ConfigConstants.OPENDISTRO_SECURITY_DLS_QUERY_HEADER, Base64Helper.serializeObject(shardLevelQueries));
 
-    }
+                    if (request instanceof GetRequest) {
+                        nodeClient.get((GetRequest) request, restoringListener(ctx, Function.identity()));
+                    } else {
+                        nodeClient.multiGet((MultiGetRequest) request, restoringListener(ctx, DlsFilterLevelActionHandler::existingDocuments));
+                    }
+                }, (e) -> {
+                    log.error("Unable to handle filter level DLS", e);
+                    listener.onFailure(new OpenSearchSecurityException("Unable to handle filter level DLS", e));
+                }));
 
-    private boolean handle(MultiGetRequest multiGetRequest, StoredContext ctx) {
-        if (documentWhitelist != null) {
-            documentWhitelist.applyTo(threadContext);
+        if (termsLookupQueries.isEmpty() || termsLookupCache == null) {
+            onResolved.onResponse(Collections.emptyMap());
+            return false;
         }
 
-        Map<String, Set<String>> idsGroupedByIndex = multiGetRequest.getItems().stream()
-                .collect(Collectors.groupingBy((item) -> item.index(), Collectors.mapping((item) -> item.id(), Collectors.toSet())));
-        Set<String> indices = idsGroupedByIndex.keySet();
-        SearchRequest searchRequest = new SearchRequest(indices.toArray(new String[indices.size()]));
+        documentWhitelist.applyTo(threadContext);
 
-        BoolQueryBuilder query;
+        GroupedActionListener<Tuple<String, QueryBuilder>> resolvedListener = new GroupedActionListener<>(ActionListener.wrap((results) -> {
+            Map<String, String> resolvedQueries = new HashMap<>();
 
-        if (indices.size() == 1) {
-            Set<String> ids = idsGroupedByIndex.get(indices.iterator().next());
-            query = QueryBuilders.boolQuery().must(QueryBuilders.idsQuery().addIds(ids.toArray(new String[ids.size()])))
-                    .must(filterLevelQueryBuilder);
-        } else {
-            BoolQueryBuilder mgetQuery = QueryBuilders.boolQuery().minimumShouldMatch(1);
+            for (Tuple<String, QueryBuilder> result : results) {
+                resolvedQueries.put(result.v1(), Strings.toString(result.v2()));
+            }
 
-            for (Map.Entry<String, Set<String>> entry : idsGroupedByIndex.entrySet()) {
-                BoolQueryBuilder indexQuery = QueryBuilders.boolQuery().must(QueryBuilders.termQuery("_index", entry.getKey()))
-                        .must(QueryBuilders.idsQuery().addIds(entry.getValue().toArray(new String[entry.getValue().size()])));
+            onResolved.onResponse(resolvedQueries);
+        }, onResolved::onFailure), termsLookupQueries.size());
 
-                mgetQuery.should(indexQuery);
+        for (String query : termsLookupQueries) {
+            try {
+                termsLookupCache.resolve(dlsQueryParser.parse(query), nodeClient,
+                        ActionListener.wrap((resolvedQuery) -> resolvedListener.onResponse(new Tuple<>(query, resolvedQuery)),
+                                resolvedListener::onFailure));
+            } catch (Exception e) {
+                resolvedListener.onFailure(e);
             }
-
-            query = QueryBuilders.boolQuery().must(mgetQuery).must(filterLevelQueryBuilder);
         }
 
-        searchRequest.source(SearchSourceBuilder.searchSource().query(query));
+        return false;
+    }
 
-        nodeClient.search(searchRequest, new ActionListener<SearchResponse>() {
+    private <Response> ActionListener<Response> restoringListener(StoredContext ctx, Function<Response, Response> responseMapper) {
+        return new ActionListener<Response>() {
             @Override
-            public void onResponse(SearchResponse response) {
+            public void onResponse(Response response) {
                 try {
-
                     ctx.restore();
 
-                    List<MultiGetItemResponse> itemResponses = new ArrayList<>(response.getHits().getHits().length);
-
-                    for (SearchHit hit : response.getHits().getHits()) {
-                        itemResponses.add(new MultiGetItemResponse(new GetResponse(searchHitToGetResult(hit)), null));
-                    }
-
                     @SuppressWarnings("unchecked")
-                    ActionListener<MultiGetResponse> multiGetListener = (ActionListener<MultiGetResponse>) listener;
-                    multiGetListener.onResponse(new MultiGetResponse(itemResponses.toArray(new MultiGetItemResponse[itemResponses.size()])));
+                    ActionListener<Response> typedListener = (ActionListener<Response>) listener;
+
+                    typedListener.onResponse(responseMapper.apply(response));
                 } catch (Exception e) {
                     listener.onFailure(e);
                 }
@@ -325,123 +347,102 @@ public class DlsFilterLevelActionHandler {
             public void onFailure(Exception e) {
                 listener.onFailure(e);
             }
-        });
-
-        return false;
-
+        };
     }
 
-    private boolean handle(ClusterSearchShardsRequest request, StoredContext ctx) {
-        listener.onFailure(new OpenSearchSecurityException(
-                "Filter-level DLS via cross cluster search is not available for scrolling and minimize_roundtrips=true"));
-        return false;
-    }
+    /**
+     * Like the search based implementation before, a filter level multi get only lists the visible documents.
+     * Failed items are kept, an error must not look like a document which does not exist.
+     */
+    private static MultiGetResponse existingDocuments(MultiGetResponse response) {
+        List<MultiGetItemResponse> itemResponses = new ArrayList<>(response.getResponses().length);
 
-    private GetResult searchHitToGetResult(SearchHit hit) {
-
-        if (log.isDebugEnabled()) {
-            log.debug("Converting to GetResult:\n" + hit);
+        for (MultiGetItemResponse itemResponse : response.getResponses()) {
+            if (itemResponse.isFailed() || itemResponse.getResponse().isExists()) {
+                itemResponses.add(itemResponse);
+            }
         }
 
-        Map<String, DocumentField> fields = hit.getFields();
-        Map<String, DocumentField> documentFields;
-        Map<String, DocumentField> metadataFields;
-
-        if (fields.isEmpty()) {
-            documentFields = Collections.emptyMap();
-            metadataFields = Collections.emptyMap();
-        } else {
-            IndexMetadata indexMetadata = clusterService.state().getMetadata().indices().get(hit.getIndex());
-            IndexService indexService = indexMetadata != null ? indicesService.indexService(indexMetadata.getIndex()) : null;
-
-            if (indexService != null) {
-                documentFields = new HashMap<>(fields.size());
-                metadataFields = new HashMap<>();
-                MapperService mapperService = indexService.mapperService();
-
-                for (Map.Entry<String, DocumentField> entry : fields.entrySet()) {
-                    if (mapperService.isMetadataField(entry.getKey())) {
-                        metadataFields.put(entry.getKey(), entry.getValue());
-                    } else {
-                        documentFields.put(entry.getKey(), entry.getValue());
-                    }
-                }
+        return new MultiGetResponse(itemResponses.toArray(new MultiGetItemResponse[itemResponses.size()]));
+    }
 
-                if (log.isDebugEnabled()) {
-                    log.debug("Partitioned fields: " + metadataFields + "; " + documentFields);
-                }
+    private boolean createQueryExtension(String localClusterAlias) throws IOException {
+        Set<String> indices = ImmutableSet.copyOf(resolved.getAllIndicesResolved(clusterService, resolver));
+        QueryExtensionKey key = new QueryExtensionKey(evaluatedDlsFlsConfig.getDlsQueriesByIndex(), indices, localClusterAlias,
+                requiresIndexScoping);
 
-            } else {
-                if (log.isWarnEnabled()) {
-                    log.warn("Could not find IndexService for " + hit.getIndex() + "; assuming all fields as document fields."
-                            + "This should not happen, however this should also not pose a big problem as ES mixes the fields again anyway.\n"
-                            + "IndexMetadata: " + indexMetadata);
-                }
+        QueryExtension queryExtension;
 
-                documentFields = fields;
-                metadataFields = Collections.emptyMap();
+        try {
+            queryExtension = queryExtensionCache.get(key, () -> buildQueryExtension(key));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
             }
+            throw new RuntimeException("Error while creating filter level DLS query for " + indices, e.getCause());
         }
 
-        return new GetResult(hit.getIndex(), hit.getId(), hit.getSeqNo(), hit.getPrimaryTerm(), hit.getVersion(), true, hit.getSourceRef(),
-                documentFields, metadataFields);
-    }
-
-    private boolean createQueryExtension() throws IOException {
-        return createQueryExtension(null);
+        if (queryExtension.queryCount == 0) {
+            // Return false to indicate that no query manipulation is necessary
+            return false;
+        } else {
+            this.filterLevelQueryBuilder = queryExtension.toQueryBuilder();
+            this.documentWhitelist = queryExtension.documentWhitelist;
+            return true;
+        }
     }
 
-    private boolean createQueryExtension(String localClusterAlias) throws IOException {
-        Map<String, Set<String>> filterLevelQueries = evaluatedDlsFlsConfig.getDlsQueriesByIndex();
-
-        BoolQueryBuilder dlsQueryBuilder = QueryBuilders.boolQuery().minimumShouldMatch(1);
-        DocumentAllowList documentWhitelist = new DocumentAllowList();
-
-        int queryCount = 0;
+    private QueryExtension buildQueryExtension(QueryExtensionKey key) throws IOException {
+        Map<String, Set<String>> filterLevelQueries = key.dlsQueriesByIndex;
 
-        Set<String> indices = resolved.getAllIndicesResolved(clusterService, resolver);
+        // Indices sharing the same DLS queries, like daily indices, are grouped so that each query is only added once
+        Map<Set<String>, List<String>> indicesByDlsQueries = new LinkedHashMap<>();
+        List<String> unrestrictedIndices = new ArrayList<>();
 
-        for (String index : indices) {
+        for (String index : key.indices) {
             String dlsEval = SecurityUtils.evalMap(filterLevelQueries, index);
 
             String prefixedIndex;
 
-            if (localClusterAlias != null) {
-                prefixedIndex = localClusterAlias + ":" + index;
+            if (key.localClusterAlias != null) {
+                prefixedIndex = key.localClusterAlias + ":" + index;
             } else {
                 prefixedIndex = index;
             }
 
-            if (dlsEval == null) {
-                if (requiresIndexScoping) {
-                    // This index has no DLS configured, thus it is unrestricted.
-                    // To allow the index in a complex query, we need to add the query below to let the index pass.
-                    dlsQueryBuilder.should(QueryBuilders.termQuery("_index", prefixedIndex));
-                }
-                continue;
-            }
-
-            Set<String> unparsedDlsQueries = filterLevelQueries.get(dlsEval);
+            Set<String> unparsedDlsQueries = dlsEval != null ? filterLevelQueries.get(dlsEval) : null;
 
             if (unparsedDlsQueries == null || unparsedDlsQueries.isEmpty()) {
-                if (requiresIndexScoping) {
-                    // This index has no DLS configured, thus it is unrestricted.
-                    // To allow the index in a complex query, we need to add the query below to let the index pass.
-                    dlsQueryBuilder.should(QueryBuilders.termQuery("_index", prefixedIndex));
-                }
-                continue;
+                unrestrictedIndices.add(prefixedIndex);
+            } else {
+                indicesByDlsQueries.computeIfAbsent(unparsedDlsQueries, (k) -> new ArrayList<>()).add(prefixedIndex);
             }
+        }
 
-            for (String unparsedDlsQuery : unparsedDlsQueries) {
+        List<QueryBuilder> clauses = new ArrayList<>();
+        DocumentAllowList documentWhitelist = new DocumentAllowList();
+
+        int queryCount = 0;
+
+        if (key.requiresIndexScoping && !unrestrictedIndices.isEmpty()) {
+            // These indices have no DLS configured, thus they are unrestricted.
+            // To allow the indices in a complex query, we need to add the query below to let them pass.
+            clauses.add(indexQuery(unrestrictedIndices));
+        }
+
+        for (Map.Entry<Set<String>, List<String>> entry : indicesByDlsQueries.entrySet()) {
+            QueryBuilder indexQuery = key.requiresIndexScoping ? indexQuery(entry.getValue()) : null;
+
+            for (String unparsedDlsQuery : entry.getKey()) {
                 queryCount++;
 
                 QueryBuilder parsedDlsQuery = dlsQueryParser.parse(unparsedDlsQuery);
 
-                if (!requiresIndexScoping) {
-                    dlsQueryBuilder.should(parsedDlsQuery);
+                if (!key.requiresIndexScoping) {
+                    clauses.add(parsedDlsQuery);
                 } else {
-                    // The original request referred to several indices. That's why we have to scope each query to the index it is meant for
-                    dlsQueryBuilder.should(QueryBuilders.boolQuery().must(QueryBuilders.termQuery("_index", prefixedIndex)).must(parsedDlsQuery));
+                    // The original request referred to several indices. That's why we have to scope each query to the indices it is meant for
+                    clauses.add(QueryBuilders.boolQuery().must(indexQuery).must(parsedDlsQuery));
                 }
 
                 Set<QueryBuilder> queryBuilders = QueryBuilderTraverser.findAll(parsedDlsQuery,
@@ -453,16 +454,82 @@ public class DlsFilterLevelActionHandler {
                     documentWhitelist.add(termsQueryBuilder.termsLookup().index(), termsQueryBuilder.termsLookup().id());
                 }
             }
-
         }
 
-        if (queryCount == 0) {
-            // Return false to indicate that no query manipulation is necessary
-            return false;
+        return new QueryExtension(clauses, documentWhitelist, queryCount);
+    }
+
+    private static QueryBuilder indexQuery(List<String> indices) {
+        if (indices.size() == 1) {
+            return QueryBuilders.termQuery("_index", indices.get(0));
         } else {
-            this.filterLevelQueryBuilder = dlsQueryBuilder;
+            return QueryBuilders.termsQuery("_index", indices);
+        }
+    }
+
+    public static Map<String, Object> getQueryExtensionCacheStats() {
+        return SecurityStats.cacheStats(queryExtensionCache);
+    }
+
+    /**
+     * The DLS clauses for a set of indices. The clauses are shared between requests and never modified,
+     * every request gets its own bool query holding them.
+     */
+    private static final class QueryExtension {
+        private final List<QueryBuilder> clauses;
+        private final DocumentAllowList documentWhitelist;
+        private final int queryCount;
+
+        private QueryExtension(List<QueryBuilder> clauses, DocumentAllowList documentWhitelist, int queryCount) {
+            this.clauses = Collections.unmodifiableList(clauses);
             this.documentWhitelist = documentWhitelist;
-            return true;
+            this.queryCount = queryCount;
+        }
+
+        private BoolQueryBuilder toQueryBuilder() {
+            BoolQueryBuilder dlsQueryBuilder = QueryBuilders.boolQuery().minimumShouldMatch(1);
+
+            for (QueryBuilder clause : clauses) {
+                dlsQueryBuilder.should(clause);
+            }
+
+            return dlsQueryBuilder;
+        }
+    }
+
+    private static final class QueryExtensionKey {
+        private final Map<String, Set<String>> dlsQueriesByIndex;
+        private final Set<String> indices;
+        private final String localClusterAlias;
+        private final boolean requiresIndexScoping;
+        private final int hashCode;
+
+        private QueryExtensionKey(Map<String, Set<String>> dlsQueriesByIndex, Set<String> indices, String localClusterAlias,
+                boolean requiresIndexScoping) {
+            this.dlsQueriesByIndex = dlsQueriesByIndex;
+            this.indices = indices;
+            this.localClusterAlias = localClusterAlias;
+            this.requiresIndexScoping = requiresIndexScoping;
+            this.hashCode = Objects.hash(dlsQueriesByIndex, indices, localClusterAlias, requiresIndexScoping);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof QueryExtensionKey)) {
+                return false;
+            }
+            QueryExtensionKey other = (QueryExtensionKey) o;
+            return hashCode == other.hashCode && requiresIndexScoping == other.requiresIndexScoping
+                    && Objects.equals(localClusterAlias, other.localClusterAlias) && indices.equals(other.indices)
+                    && dlsQueriesByIndex.equals(other.dlsQueriesByIndex);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
         }
     }
 
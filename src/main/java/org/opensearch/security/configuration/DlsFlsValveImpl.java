@@ -70,7 +70,6 @@ import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.search.internal.SearchContext;
 import org.opensearch.search.query.QuerySearchResult;
-import org.opensearch.security.OpenSearchSecurityPlugin;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
 import org.opensearch.security.support.Base64Helper;
@@ -89,10 +88,11 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
     private final ThreadContext threadContext;
     private final Mode mode;
     private final DlsQueryParser dlsQueryParser;
+    private final TermsLookupCache termsLookupCache;
     private final IndexNameExpressionResolver resolver;
 
     public DlsFlsValveImpl(Settings settings, Client nodeClient, ClusterService clusterService, IndexNameExpressionResolver resolver,
-    		NamedXContentRegistry namedXContentRegistry, ThreadContext threadContext) {
+    		NamedXContentRegistry namedXContentRegistry, TermsLookupCache termsLookupCache, ThreadContext threadContext) {
         super();
         this.nodeClient = nodeClient;
         this.clusterService = clusterService;
@@ -100,6 +100,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
         this.threadContext = threadContext;
         this.mode = Mode.get(settings);
         this.dlsQueryParser = new DlsQueryParser(namedXContentRegistry);
+        this.termsLookupCache = termsLookupCache;
     }
 
     /**
@@ -290,7 +291,7 @@ public class DlsFlsValveImpl implements DlsFlsRequestValve {
 
         if (doFilterLevelDls && filteredDlsFlsConfig.hasDls()) {
             return DlsFilterLevelActionHandler.handle(action, request, listener, evaluatedDlsFlsConfig, resolved, nodeClient, clusterService,
-            		OpenSearchSecurityPlugin.GuiceHolder.getIndicesService(), resolver, dlsQueryParser, threadContext);
+            		resolver, dlsQueryParser, termsLookupCache, threadContext);
         } else {
             return true;
         }
@@ -13,6 +13,7 @@ package org.opensearch.security.configuration;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.LogManager;
@@ -66,9 +67,11 @@ public class PrivilegesInterceptorImpl extends PrivilegesInterceptor {
         super(resolver, clusterService, client, threadPool);
     }
 
-    private boolean isTenantAllowed(final ActionRequest request, final String action, final User user, final Map<String, Boolean> tenants,
+    private boolean isTenantAllowed(final ActionRequest request, final String action, final User user, final Supplier<Map<String, Boolean>> tenantsSupplier,
                                     final String requestedTenant) {
 
+        final Map<String, Boolean> tenants = tenantsSupplier.get();
+
         if (!tenants.keySet().contains(requestedTenant)) {
             log.warn("Tenant {} is not allowed for user {}", requestedTenant, user.getName());
             return false;
@@ -95,7 +98,7 @@ public class PrivilegesInterceptorImpl extends PrivilegesInterceptor {
      */
     @Override
     public ReplaceResult replaceDashboardsIndex(final ActionRequest request, final String action, final User user, final DynamicConfigModel config,
-                                                final Resolved requestedResolved, final Map<String, Boolean> tenants) {
+                                                final Resolved requestedResolved, final Supplier<Map<String, Boolean>> tenants) {
 
         final boolean enabled = config.isDashboardsMultitenancyEnabled();//config.dynamic.kibana.multitenancy_enabled;
 
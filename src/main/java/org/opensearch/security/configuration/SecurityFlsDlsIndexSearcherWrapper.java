@@ -42,7 +42,7 @@ public class SecurityFlsDlsIndexSearcherWrapper extends SecurityIndexSearcherWra
     //  We may consider using MapperService.isMetadataField() instead of relying on the static set or
     //  (if it is too costly or does not meet requirements) use IndicesModule.getBuiltInMetadataFields()
     //  for OpenSearch version specific Set of meta fields
-    private static final Set<String> metaFields = Sets.newHashSet("_source", "_version", "_field_names",
+    static final Set<String> metaFields = Sets.newHashSet("_source", "_version", "_field_names",
             "_seq_no", "_primary_term", "_id", IgnoredFieldMapper.NAME, "_index", "_routing", "_size", "_timestamp", "_ttl", "_type");
     private final ClusterService clusterService;
     private final IndexService indexService;
@@ -0,0 +1,301 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.base.Strings;
+import com.google.common.collect.Sets;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.util.automaton.ByteRunAutomaton;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.Index;
+import org.opensearch.index.cache.query.QueryCache;
+import org.opensearch.index.mapper.FieldNamesFieldMapper;
+import org.opensearch.indices.IndicesQueryCache;
+import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.HeaderHelper;
+import org.opensearch.security.support.SecurityUtils;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Index query cache which lets queries on indices with FLS or field masking use the node query cache,
+ * as long as they only read fields which are neither hidden nor masked for the current user.
+ *
+ * The node cache is shared by all users, so a query on a hidden or masked field must not be cached:
+ * its result differs between users. This includes exists queries, which can read the names of hidden fields from
+ * {@code _field_names}. Queries on other fields match the same documents for everyone.
+ * The restrictions of a user are resolved once per FLS and masking header and index, not for every weight.
+ */
+public class SecurityFlsQueryCache implements QueryCache {
+
+    private static final Cache<RestrictionKey, Restriction> restrictions = CacheBuilder.newBuilder().maximumSize(1000).build();
+
+    private final Index index;
+    private final IndicesQueryCache nodeCache;
+    private final ThreadContext threadContext;
+
+    public SecurityFlsQueryCache(final Index index, final IndicesQueryCache nodeCache, final ThreadContext threadContext) {
+        this.index = index;
+        this.nodeCache = nodeCache;
+        this.threadContext = threadContext;
+    }
+
+    @Override
+    public Index index() {
+        return index;
+    }
+
+    @Override
+    public void close() throws OpenSearchException {
+        clear("close");
+    }
+
+    @Override
+    public void clear(final String reason) {
+        nodeCache.clearIndex(index.getName());
+    }
+
+    @Override
+    public Weight doCache(final Weight weight, final QueryCachingPolicy policy) {
+        final Restriction restriction = getRestriction(threadContext, index.getName());
+
+        if (restriction == null || restriction.allowsCaching(weight.getQuery())) {
+            return nodeCache.doCache(weight, policy);
+        } else {
+            return weight;
+        }
+    }
+
+    /**
+     * @return null if neither FLS nor field masking applies to the index
+     */
+    static Restriction getRestriction(final ThreadContext threadContext, final String index) {
+        final String flsHeader = Strings.emptyToNull(HeaderHelper.getSafeFromHeader(threadContext,
+                ConfigConstants.OPENDISTRO_SECURITY_FLS_FIELDS_HEADER));
+        final String maskedFieldsHeader = Strings.emptyToNull(HeaderHelper.getSafeFromHeader(threadContext,
+                ConfigConstants.OPENDISTRO_SECURITY_MASKED_FIELD_HEADER));
+
+        if (flsHeader == null && maskedFieldsHeader == null) {
+            return null;
+        }
+
+        try {
+            final Restriction restriction = restrictions.get(new RestrictionKey(flsHeader, maskedFieldsHeader, index),
+                    () -> Restriction.create(flsHeader, maskedFieldsHeader, index));
+            return restriction == Restriction.NONE ? null : restriction;
+        } catch (ExecutionException e) {
+            throw new OpenSearchException("Cannot evaluate FLS and field masking for index " + index, e.getCause());
+        }
+    }
+
+    static final class Restriction {
+
+        private static final Restriction NONE = new Restriction(null, null, null);
+
+        private final WildcardMatcher includes;
+        private final WildcardMatcher excludes;
+        private final WildcardMatcher maskedFields;
+
+        private Restriction(final WildcardMatcher includes, final WildcardMatcher excludes, final WildcardMatcher maskedFields) {
+            this.includes = includes;
+            this.excludes = excludes;
+            this.maskedFields = maskedFields;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Restriction create(final String flsHeader, final String maskedFieldsHeader, final String index) {
+            final Map<String, Set<String>> flsFields = flsHeader != null ? (Map<String, Set<String>>) Base64Helper.deserializeObject(flsHeader) : null;
+            final Map<String, Set<String>> maskedFieldsMap = maskedFieldsHeader != null
+                    ? (Map<String, Set<String>>) Base64Helper.deserializeObject(maskedFieldsHeader) : null;
+
+            final String flsEval = SecurityUtils.evalMap(flsFields, index);
+            final String maskedEval = SecurityUtils.evalMap(maskedFieldsMap, index);
+
+            if (flsEval == null && maskedEval == null) {
+                return NONE;
+            }
+
+            WildcardMatcher includes = null;
+            WildcardMatcher excludes = null;
+
+            if (flsEval != null) {
+                // Same semantics as DlsFlsFilterLeafReader: if there are excludes, the includes are not considered
+                final Set<String> includesSet = new HashSet<>();
+                final Set<String> excludesSet = new HashSet<>();
+
+                for (final String incExc : Sets.union(SecurityFlsDlsIndexSearcherWrapper.metaFields, flsFields.get(flsEval))) {
+                    final char firstChar = incExc.charAt(0);
+
+                    if (firstChar == '!' || firstChar == '~') {
+                        excludesSet.add(incExc.substring(1));
+                    } else {
+                        includesSet.add(incExc);
+                    }
+                }
+
+                if (!excludesSet.isEmpty()) {
+                    excludes = WildcardMatcher.from(excludesSet);
+                } else {
+                    includes = WildcardMatcher.from(includesSet);
+                }
+            }
+
+            WildcardMatcher maskedFields = null;
+
+            if (maskedEval != null) {
+                final Set<String> names = new HashSet<>();
+
+                for (final String maskedField : maskedFieldsMap.get(maskedEval)) {
+                    // the salt is irrelevant for the name
+                    names.add(maskedField.split("::", 2)[0]);
+                }
+
+                maskedFields = WildcardMatcher.from(names);
+            }
+
+            return new Restriction(includes, excludes, maskedFields);
+        }
+
+        boolean allowsCaching(final Query query) {
+            final FieldCollector collector = new FieldCollector();
+            query.visit(collector);
+
+            if (collector.unknownLeaf) {
+                return false;
+            }
+
+            for (final String field : collector.fields) {
+                if (!isVisible(field) || isMasked(field)) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean isVisible(final String field) {
+            if (excludes != null) {
+                return !excludes.test(field);
+            } else if (includes != null) {
+                return includes.test(field);
+            } else {
+                return true;
+            }
+        }
+
+        boolean isMasked(final String field) {
+            if (maskedFields == null) {
+                return false;
+            }
+
+            return maskedFields.test(field) || (field.endsWith(".keyword") && maskedFields.test(field.substring(0, field.length() - 8)));
+        }
+    }
+
+    /**
+     * Collects the fields read by a query. Leaves which do not announce their field, apart from match all and
+     * match none, are flagged as unknown, as it is not known what they read.
+     *
+     * The terms of {@code _field_names} are field names themselves, e.g. an exists query on a field without doc values
+     * and norms, and the leaf reader filters them by FLS, so they are collected as the fields they name. Other
+     * queries on {@code _field_names} are flagged as unknown.
+     */
+    private static final class FieldCollector extends QueryVisitor {
+        private final Set<String> fields = new HashSet<>();
+        private String acceptedField;
+        private boolean unknownLeaf;
+
+        @Override
+        public boolean acceptField(final String field) {
+            fields.add(field);
+            acceptedField = field;
+            return true;
+        }
+
+        @Override
+        public void consumeTerms(final Query query, final Term... terms) {
+            for (final Term term : terms) {
+                if (FieldNamesFieldMapper.NAME.equals(term.field())) {
+                    fields.add(term.text());
+                } else {
+                    fields.add(term.field());
+                }
+            }
+            acceptedField = null;
+        }
+
+        @Override
+        public void consumeTermsMatching(final Query query, final String field, final Supplier<ByteRunAutomaton> automaton) {
+            if (FieldNamesFieldMapper.NAME.equals(field)) {
+                unknownLeaf = true;
+            }
+            fields.add(field);
+            acceptedField = null;
+        }
+
+        @Override
+        public void visitLeaf(final Query query) {
+            if (acceptedField == null ? !(query instanceof MatchAllDocsQuery) && !(query instanceof MatchNoDocsQuery)
+                    : FieldNamesFieldMapper.NAME.equals(acceptedField)) {
+                unknownLeaf = true;
+            }
+            acceptedField = null;
+        }
+    }
+
+    private static final class RestrictionKey {
+        private final String flsHeader;
+        private final String maskedFieldsHeader;
+        private final String index;
+
+        private RestrictionKey(final String flsHeader, final String maskedFieldsHeader, final String index) {
+            this.flsHeader = flsHeader;
+            this.maskedFieldsHeader = maskedFieldsHeader;
+            this.index = index;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RestrictionKey)) {
+                return false;
+            }
+            final RestrictionKey other = (RestrictionKey) o;
+            return index.equals(other.index) && Objects.equals(flsHeader, other.flsHeader)
+                    && Objects.equals(maskedFieldsHeader, other.maskedFieldsHeader);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(flsHeader, maskedFieldsHeader, index);
+        }
+    }
+}
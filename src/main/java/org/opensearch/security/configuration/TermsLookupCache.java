@@ -0,0 +1,222 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionResponse;
+import org.opensearch.action.ActionType;
+import org.opensearch.action.get.GetAction;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.client.FilterClient;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryRewriteContext;
+import org.opensearch.index.query.Rewriteable;
+import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.security.stats.SecurityStats;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Node level cache of the documents fetched by DLS queries using a terms lookup.
+ *
+ * Every use of a cached document is validated by a get request without source, which is answered from the
+ * version map of the lookup shard. Only if the sequence number or primary term of the document changed,
+ * the document source is fetched again. This way a changed lookup document is never missed, while the
+ * source, which might hold thousands of terms, is neither transferred nor parsed for every request.
+ * A cached document is only used if it still comes from the same index, as the requested index might be an alias.
+ * As deleted and recreated indices restart their sequence numbers, all entries are dropped once an index is deleted
+ * or an alias changed.
+ */
+public class TermsLookupCache implements ClusterStateListener {
+
+    private static final Logger log = LogManager.getLogger(TermsLookupCache.class);
+
+    private final Cache<Key, GetResponse> cache;
+    private final LongAdder staleCount = new LongAdder();
+    private final NamedXContentRegistry xContentRegistry;
+    private final NamedWriteableRegistry namedWriteableRegistry;
+
+    public TermsLookupCache(final Settings settings, final NamedXContentRegistry xContentRegistry,
+                            final NamedWriteableRegistry namedWriteableRegistry) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(Math.max(0, settings.getAsInt(ConfigConstants.SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE, 1000)))
+                .recordStats()
+                .build();
+        this.xContentRegistry = xContentRegistry;
+        this.namedWriteableRegistry = namedWriteableRegistry;
+    }
+
+    /**
+     * Replaces all terms lookup queries by terms queries with the looked up terms.
+     * The lookup documents are fetched with the given client in the current thread context.
+     */
+    public void resolve(final QueryBuilder query, final Client client, final ActionListener<QueryBuilder> listener) {
+        final QueryRewriteContext rewriteContext = new QueryRewriteContext(xContentRegistry, namedWriteableRegistry,
+                new CachingClient(client), System::currentTimeMillis);
+
+        Rewriteable.rewriteAndFetch(query, rewriteContext, listener);
+    }
+
+    void get(final GetRequest request, final Client client, final ActionListener<GetResponse> listener) {
+        final Key key = new Key(request.index(), request.id(), request.routing());
+        final GetResponse cached = cache.getIfPresent(key);
+
+        if (cached == null) {
+            fetch(key, request, client, listener);
+            return;
+        }
+
+        final GetRequest versionRequest = new GetRequest(request.index(), request.id())
+                .routing(request.routing())
+                .preference(request.preference())
+                .fetchSourceContext(FetchSourceContext.DO_NOT_FETCH_SOURCE);
+
+        client.get(versionRequest, ActionListener.wrap(current -> {
+            // the requested index might be an alias which now points to another index
+            if (current.isExists() && current.getIndex().equals(cached.getIndex())
+                    && current.getSeqNo() == cached.getSeqNo() && current.getPrimaryTerm() == cached.getPrimaryTerm()) {
+                listener.onResponse(cached);
+                return;
+            }
+
+            staleCount.increment();
+            cache.invalidate(key);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Terms lookup document {} changed, fetching it again", key);
+            }
+
+            if (current.isExists()) {
+                fetch(key, request, client, listener);
+            } else {
+                listener.onResponse(current);
+            }
+        }, listener::onFailure));
+    }
+
+    private void fetch(final Key key, final GetRequest request, final Client client, final ActionListener<GetResponse> listener) {
+        client.get(request, ActionListener.wrap(response -> {
+            if (response.isExists() && !response.isSourceEmpty()) {
+                // parses the source once, the parsed map is kept by the response
+                response.getSourceAsMap();
+                cache.put(key, response);
+            }
+            listener.onResponse(response);
+        }, listener::onFailure));
+    }
+
+    @Override
+    public void clusterChanged(final ClusterChangedEvent event) {
+        if (cache.size() != 0 && (!event.indicesDeleted().isEmpty() || aliasesChanged(event))) {
+            // keys might be aliases, so everything is dropped
+            cache.invalidateAll();
+        }
+    }
+
+    private static boolean aliasesChanged(final ClusterChangedEvent event) {
+        if (!event.metadataChanged()) {
+            return false;
+        }
+
+        final Metadata previous = event.previousState().metadata();
+
+        for (final IndexMetadata index : event.state().metadata()) {
+            final IndexMetadata previousIndex = previous.index(index.getIndex());
+
+            if (previousIndex != index && (previousIndex == null
+                    ? !index.getAliases().isEmpty() : !previousIndex.getAliases().equals(index.getAliases()))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public Map<String, Object> getCacheStats() {
+        final Map<String, Object> stats = SecurityStats.cacheStats(cache);
+        stats.put("stale", staleCount.sum());
+        return stats;
+    }
+
+    /**
+     * Answers the get requests issued by the rewrite of terms lookup queries from the cache
+     */
+    private final class CachingClient extends FilterClient {
+
+        CachingClient(final Client in) {
+            super(in);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <Request extends ActionRequest, Response extends ActionResponse> void doExecute(final ActionType<Response> action,
+                final Request request, final ActionListener<Response> listener) {
+            if (action == GetAction.INSTANCE) {
+                get((GetRequest) request, in(), (ActionListener<GetResponse>) listener);
+            } else {
+                super.doExecute(action, request, listener);
+            }
+        }
+    }
+
+    private static final class Key {
+        private final String index;
+        private final String id;
+        private final String routing;
+
+        private Key(final String index, final String id, final String routing) {
+            this.index = index;
+            this.id = id;
+            this.routing = routing;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) o;
+            return index.equals(other.index) && id.equals(other.id) && Objects.equals(routing, other.routing);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, id, routing);
+        }
+
+        @Override
+        public String toString() {
+            return index + "/" + id + (routing != null ? "?routing=" + routing : "");
+        }
+    }
+}
@@ -221,7 +221,7 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 
 		final String resourcename = request.param("name");
 
-		final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), true);
+		final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), true).deepClone();
 		filter(configuration);
 
 
@@ -243,6 +243,10 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 		return;
 	}
 
+	/**
+	 * Loads the configuration from the security index. Use this before modifying and saving a configuration,
+	 * the sequence number of the loaded configuration guards the write against concurrent updates.
+	 */
 	protected final SecurityDynamicConfiguration<?> load(final CType config, boolean logComplianceEvent) {
 		SecurityDynamicConfiguration<?> loaded = cl.getConfigurationsFromIndex(Collections.singleton(config), logComplianceEvent).get(config).deepClone();
 		return DynamicConfigFactory.addStatics(loaded);
@@ -253,6 +257,14 @@ public abstract class AbstractApiAction extends BaseRestHandler {
         return DynamicConfigFactory.addStatics(loaded);
     }
 
+	/**
+	 * Returns the configuration currently active on this node without reading the security index.
+	 * The returned instance is shared and must not be modified, use deepClone() to get a modifiable copy.
+	 */
+	protected final SecurityDynamicConfiguration<?> loadSnapshot(final CType config, boolean logComplianceEvent) {
+		return cl.getConfigurationSnapshot(config, logComplianceEvent);
+	}
+
 	protected boolean ensureIndexExists() {
 		if (!cs.state().metadata().hasConcreteIndex(this.opendistroIndex)) {
 			return false;
@@ -582,8 +594,8 @@ public abstract class AbstractApiAction extends BaseRestHandler {
 	 * @return True if role can be mapped
 	 */
 	protected boolean isValidRolesMapping(final RestChannel channel, final String role) {
-		final SecurityDynamicConfiguration<?> rolesConfiguration = load(CType.ROLES, false);
-		final SecurityDynamicConfiguration<?> rolesMappingConfiguration = load(CType.ROLESMAPPING, false);
+		final SecurityDynamicConfiguration<?> rolesConfiguration = loadSnapshot(CType.ROLES, false);
+		final SecurityDynamicConfiguration<?> rolesMappingConfiguration = loadSnapshot(CType.ROLESMAPPING, false);
 
 		if (!rolesConfiguration.exists(role)) {
 			notFound(channel, "Role '"+role+"' is not available for role-mapping.");
@@ -128,7 +128,7 @@ public class AccountApiAction extends AbstractApiAction {
             if (user != null) {
                 final TransportAddress remoteAddress = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
                 final Set<String> securityRoles = privilegesEvaluator.mapRoles(user, remoteAddress);
-                final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), false);
+                final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), false);
 
                 builder.field("user_name", user.getName())
                         .field("is_reserved", isReserved(configuration, user.getName()))
@@ -109,7 +109,7 @@ public class ActionGroupsApiAction extends PatchableResourceApiAction {
 		}
 
 		// Prevent the case where action group and role share a same name.
-		SecurityDynamicConfiguration<?> existingRolesConfig = load(CType.ROLES, false);
+		SecurityDynamicConfiguration<?> existingRolesConfig = loadSnapshot(CType.ROLES, false);
 		Set<String> existingRoles = existingRolesConfig.getCEntries().keySet();
 		if (existingRoles.contains(name)) {
 			badRequestResponse(channel, name + " is an existing role. A action group cannot be named with an existing role name.");
@@ -112,7 +112,7 @@ public class AllowlistApiAction extends PatchableResourceApiAction {
             throws IOException {
 
 
-        final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), true);
+        final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), true).deepClone();
         filter(configuration);
         successResponse(channel, configuration);
     }
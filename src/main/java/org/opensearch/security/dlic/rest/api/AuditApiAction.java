@@ -192,7 +192,7 @@ public class AuditApiAction extends PatchableResourceApiAction {
 
     @Override
     protected void handleGet(final RestChannel channel, RestRequest request, Client client, final JsonNode content) {
-        final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), true);
+        final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), true).deepClone();
         filter(configuration);
 
         final String resourcename = getResourceName();
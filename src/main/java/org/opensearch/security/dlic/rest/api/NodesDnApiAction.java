@@ -111,7 +111,7 @@ public class NodesDnApiAction extends PatchableResourceApiAction {
     protected void handleGet(final RestChannel channel, RestRequest request, Client client, final JsonNode content) throws IOException {
         final String resourcename = request.param("name");
 
-        final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), true);
+        final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), true).deepClone();
         filter(configuration);
 
         // no specific resource requested, return complete config
@@ -76,7 +76,7 @@ public class SecurityConfigAction extends PatchableResourceApiAction {
 
     @Override
     protected void handleGet(RestChannel channel, RestRequest request, Client client, final JsonNode content) throws IOException{
-        final SecurityDynamicConfiguration<?> configuration = load(getConfigName(), true);
+        final SecurityDynamicConfiguration<?> configuration = loadSnapshot(getConfigName(), true).deepClone();
 
         filter(configuration);
 
@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.dlic.rest.api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableList;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Strings;
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.rest.BytesRestResponse;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestController;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.RestRequest.Method;
+import org.opensearch.rest.RestStatus;
+import org.opensearch.security.action.stats.SecurityStatsAction;
+import org.opensearch.security.action.stats.SecurityStatsRequest;
+import org.opensearch.security.action.stats.SecurityStatsResponse;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.configuration.AdminDNs;
+import org.opensearch.security.configuration.ConfigurationRepository;
+import org.opensearch.security.dlic.rest.validation.AbstractConfigurationValidator;
+import org.opensearch.security.dlic.rest.validation.NoOpValidator;
+import org.opensearch.security.privileges.PrivilegesEvaluator;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.ssl.transport.PrincipalExtractor;
+import org.opensearch.threadpool.ThreadPool;
+
+import static org.opensearch.security.dlic.rest.support.Utils.addRoutesPrefix;
+
+/**
+ * Per node latency histograms of the security request phases, cache hit rates and audit queue depth.
+ * Optionally limited to a comma separated list of node ids.
+ */
+public class SecurityStatsApiAction extends AbstractApiAction {
+    private static final List<Route> routes = addRoutesPrefix(ImmutableList.of(
+            new Route(Method.GET, "/stats"),
+            new Route(Method.GET, "/stats/{nodeId}")
+    ));
+
+    public SecurityStatsApiAction(final Settings settings, final Path configPath, final RestController controller, final Client client,
+                                  final AdminDNs adminDNs, final ConfigurationRepository cl, final ClusterService cs,
+                                  final PrincipalExtractor principalExtractor, final PrivilegesEvaluator evaluator, ThreadPool threadPool, AuditLog auditLog) {
+        super(settings, configPath, controller, client, adminDNs, cl, cs, principalExtractor, evaluator, threadPool, auditLog);
+    }
+
+    @Override
+    public List<Route> routes() {
+        return routes;
+    }
+
+    @Override
+    protected Endpoint getEndpoint() {
+        return Endpoint.STATS;
+    }
+
+    @Override
+    protected void handleGet(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+        final String[] nodeIds = Strings.splitStringByCommaToArray(request.param("nodeId"));
+
+        client.execute(SecurityStatsAction.INSTANCE, new SecurityStatsRequest(nodeIds), new ActionListener<SecurityStatsResponse>() {
+
+            @Override
+            public void onResponse(SecurityStatsResponse response) {
+                channel.sendResponse(new BytesRestResponse(RestStatus.OK, convertToJson(channel, response)));
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                log.error("Cannot fetch security stats due to", e);
+                internalErrorResponse(channel, "Cannot fetch security stats due to " + e.getMessage() + ".");
+            }
+        });
+    }
+
+    @Override
+    protected void handleDelete(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+        notImplemented(channel, Method.DELETE);
+    }
+
+    @Override
+    protected void handlePut(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+        notImplemented(channel, Method.PUT);
+    }
+
+    @Override
+    protected void handlePost(final RestChannel channel, final RestRequest request, final Client client, final JsonNode content) throws IOException {
+        notImplemented(channel, Method.POST);
+    }
+
+    @Override
+    protected AbstractConfigurationValidator getValidator(RestRequest request, BytesReference ref, Object... param) {
+        return new NoOpValidator(request, ref, this.settings, param);
+    }
+
+    @Override
+    protected String getResourceName() {
+        // not needed
+        return null;
+    }
+
+    @Override
+    protected CType getConfigName() {
+        return null;
+    }
+
+    @Override
+    protected void consumeParameters(final RestRequest request) {
+        request.param("nodeId");
+    }
+}
@@ -38,6 +38,7 @@ import org.greenrobot.eventbus.Subscribe;
 
 import org.opensearch.OpenSearchException;
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.rest.BytesRestResponse;
@@ -58,6 +59,7 @@ import org.opensearch.security.ssl.transport.PrincipalExtractor;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.security.ssl.util.SSLRequestHelper;
 import org.opensearch.security.ssl.util.SSLRequestHelper.SSLInfo;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.HTTPHelper;
 import org.opensearch.security.user.User;
@@ -76,6 +78,7 @@ public class SecurityRestFilter {
     private final Settings settings;
     private final Path configPath;
     private final CompatConfig compatConfig;
+    private final SecurityStats securityStats;
 
     private WhitelistingSettings whitelistingSettings;
     private AllowlistingSettings allowlistingSettings;
@@ -89,7 +92,8 @@ public class SecurityRestFilter {
 
     public SecurityRestFilter(final BackendRegistry registry, final AuditLog auditLog,
                               final ThreadPool threadPool, final PrincipalExtractor principalExtractor,
-                              final Settings settings, final Path configPath, final CompatConfig compatConfig) {
+                              final Settings settings, final Path configPath, final CompatConfig compatConfig,
+                              final SecurityStats securityStats) {
         super();
         this.registry = registry;
         this.auditLog = auditLog;
@@ -98,6 +102,7 @@ public class SecurityRestFilter {
         this.settings = settings;
         this.configPath = configPath;
         this.compatConfig = compatConfig;
+        this.securityStats = securityStats;
         this.whitelistingSettings = new WhitelistingSettings();
         this.allowlistingSettings = new AllowlistingSettings();
     }
@@ -188,7 +193,11 @@ public class SecurityRestFilter {
         if(request.method() != Method.OPTIONS
                 && !(HEALTH_SUFFIX.equals(suffix))
                 && !(WHO_AM_I_SUFFIX.equals(suffix))) {
-            if (!registry.authenticate(request, channel, threadContext)) {
+            final boolean authenticated;
+            try (Releasable timer = securityStats.time(SecurityStats.Phase.AUTHENTICATE)) {
+                authenticated = registry.authenticate(request, channel, threadContext);
+            }
+            if (!authenticated) {
                 // another roundtrip
                 org.apache.logging.log4j.ThreadContext.remove("user");
                 return true;
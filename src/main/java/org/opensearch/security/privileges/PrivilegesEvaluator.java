@@ -31,12 +31,17 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
 import org.apache.logging.log4j.LogManager;
@@ -79,11 +84,15 @@ import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.Strings;
 import org.opensearch.common.collect.ImmutableOpenMap;
+import org.opensearch.common.lease.Releasable;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
 import org.opensearch.index.reindex.ReindexAction;
+import org.opensearch.security.action.privileges.PrivilegesCheckAction;
+import org.opensearch.security.action.privileges.PrivilegesCheckRequest;
+import org.opensearch.security.action.privileges.PrivilegesCheckResponse;
 import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.configuration.ConfigurationRepository;
@@ -91,8 +100,11 @@ import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.ConfigModel;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
 import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 import org.opensearch.tasks.Task;
@@ -105,6 +117,7 @@ public class PrivilegesEvaluator {
 
     private static final WildcardMatcher ACTION_MATCHER = WildcardMatcher.from("indices:data/read/*search*");
 
+    private static final String USER_TENANT = "__user__";
     private static final Pattern DNFOF_PATTERNS = Pattern.compile(
             "indices:(data/read/.*|(admin/(mappings/fields/get.*|shards/search_shards|resolve/index)))"
     );
@@ -134,11 +147,13 @@ public class PrivilegesEvaluator {
     private final boolean dfmEmptyOverwritesAll;
     private DynamicConfigModel dcm;
     private final NamedXContentRegistry namedXContentRegistry;
+    private final SecurityStats securityStats;
     
     public PrivilegesEvaluator(final ClusterService clusterService, final ThreadPool threadPool,
                                final ConfigurationRepository configurationRepository, final IndexNameExpressionResolver resolver,
                                AuditLog auditLog, final Settings settings, final PrivilegesInterceptor privilegesInterceptor, final ClusterInfoHolder clusterInfoHolder,
-                               final IndexResolverReplacer irr, boolean dlsFlsEnabled, NamedXContentRegistry namedXContentRegistry) {
+                               final IndexResolverReplacer irr, boolean dlsFlsEnabled, NamedXContentRegistry namedXContentRegistry,
+                               final SecurityStats securityStats) {
 
         super();
         this.clusterService = clusterService;
@@ -161,6 +176,7 @@ public class PrivilegesEvaluator {
         this.namedXContentRegistry = namedXContentRegistry;
         this.dlsFlsEnabled = dlsFlsEnabled;
         this.dfmEmptyOverwritesAll = settings.getAsBoolean(ConfigConstants.SECURITY_DFM_EMPTY_OVERRIDES_ALL, false);
+        this.securityStats = securityStats;
     }
 
     @Subscribe
@@ -217,7 +233,12 @@ public class PrivilegesEvaluator {
         final PrivilegesEvaluatorResponse presponse = new PrivilegesEvaluatorResponse();
 
         final TransportAddress caller = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_REMOTE_ADDRESS);
-        Set<String> mappedRoles = (injectedRoles == null) ? mapRoles(user, caller) : injectedRoles;
+        Set<String> mappedRoles = injectedRoles;
+        if (mappedRoles == null) {
+            try (Releasable timer = securityStats.time(SecurityStats.Phase.MAP_ROLES)) {
+                mappedRoles = mapRoles(user, caller);
+            }
+        }
         final String injectedRolesValidationString = threadContext.getTransient(ConfigConstants.OPENDISTRO_SECURITY_INJECTED_ROLES_VALIDATION);
         if(injectedRolesValidationString != null) {
             HashSet<String> injectedRolesValidationSet = new HashSet<>(Arrays.asList(injectedRolesValidationString.split(",")));
@@ -243,6 +264,12 @@ public class PrivilegesEvaluator {
             log.debug("Mapped roles: {}", mappedRoles.toString());
         }
 
+        if (PrivilegesCheckAction.NAME.equals(action0)) {
+            // users may always check their own privileges
+            presponse.allowed = true;
+            return presponse;
+        }
+
         if (request instanceof BulkRequest && (Strings.isNullOrEmpty(user.getRequestedTenant()))) {
             // Shortcut for bulk actions. The details are checked on the lower level of the BulkShardRequests (Action indices:data/write/bulk[s]).
             // This shortcut is only possible if the default tenant is selected, as we might need to rewrite the request for non-default tenants.
@@ -259,7 +286,10 @@ public class PrivilegesEvaluator {
             return presponse;
         }
 
-        final Resolved requestedResolved = irr.resolveRequest(request);
+        final Resolved requestedResolved;
+        try (Releasable timer = securityStats.time(SecurityStats.Phase.RESOLVE_INDICES)) {
+            requestedResolved = irr.resolveRequest(request);
+        }
         presponse.resolved = requestedResolved;
 
 
@@ -289,7 +319,9 @@ public class PrivilegesEvaluator {
             log.trace("dnfof enabled? {}", dnfofEnabled);
         }
 
-        presponse.evaluatedDlsFlsConfig = getSecurityRoles(mappedRoles).getDlsFls(user, dfmEmptyOverwritesAll, resolver, clusterService, namedXContentRegistry);
+        try (Releasable timer = securityStats.time(SecurityStats.Phase.DLS_FLS_EVALUATE)) {
+            presponse.evaluatedDlsFlsConfig = getSecurityRoles(mappedRoles).getDlsFls(user, dfmEmptyOverwritesAll, resolver, clusterService, namedXContentRegistry);
+        }
         
 
         if (isClusterPerm(action0)) {
@@ -309,7 +341,7 @@ public class PrivilegesEvaluator {
                     if(privilegesInterceptor.getClass() != PrivilegesInterceptor.class) {
 
                         final PrivilegesInterceptor.ReplaceResult replaceResult = privilegesInterceptor.replaceDashboardsIndex(request, action0, user, dcm, requestedResolved,
-                                mapTenants(user, mappedRoles));
+                                lazyTenants(user, mappedRoles));
 
                         if (isDebugEnabled) {
                             log.debug("Result from privileges interceptor for cluster perm: {}", replaceResult);
@@ -345,7 +377,7 @@ public class PrivilegesEvaluator {
                             return presponse;
                         }
 
-                        if(irr.replace(request, true, reduced.toArray(new String[0]))) {
+                        if(irr.replace(request, true, securityRoles.getPermittedIndexPatterns(user, new String[]{action0}), reduced.toArray(new String[0]))) {
                             presponse.missingPrivileges.clear();
                             presponse.allowed = true;
                             return presponse;
@@ -392,7 +424,7 @@ public class PrivilegesEvaluator {
 
         if(privilegesInterceptor.getClass() != PrivilegesInterceptor.class) {
 
-            final PrivilegesInterceptor.ReplaceResult replaceResult = privilegesInterceptor.replaceDashboardsIndex(request, action0, user, dcm, requestedResolved, mapTenants(user, mappedRoles));
+            final PrivilegesInterceptor.ReplaceResult replaceResult = privilegesInterceptor.replaceDashboardsIndex(request, action0, user, dcm, requestedResolved, lazyTenants(user, mappedRoles));
 
             if (isDebugEnabled) {
                 log.debug("Result from privileges interceptor: {}", replaceResult);
@@ -441,7 +473,7 @@ public class PrivilegesEvaluator {
             }
 
 
-            if(irr.replace(request, true, reduced.toArray(new String[0]))) {
+            if(irr.replace(request, true, securityRoles.getPermittedIndexPatterns(user, allIndexPermsRequiredA), reduced.toArray(new String[0]))) {
                 presponse.missingPrivileges.clear();
                 presponse.allowed = true;
                 return presponse;
@@ -484,11 +516,93 @@ public class PrivilegesEvaluator {
 
     }
 
+    /**
+     * Evaluates a batch of privileges with one role mapping for the user, without executing any of the actions.
+     * Cluster actions are checked against the cluster permissions, index actions against the permissions on
+     * the given index pattern. Checks which depend on the request itself, like the ones for snapshot restores
+     * or the security index, are not considered.
+     */
+    public PrivilegesCheckResponse checkPrivileges(final User user, final TransportAddress caller, final PrivilegesCheckRequest request) {
+
+        if (!isInitialized()) {
+            throw new OpenSearchSecurityException("OpenSearch Security is not initialized.");
+        }
+
+        final Set<String> mappedRoles = mapRoles(user, caller);
+        final SecurityRoles securityRoles = getSecurityRoles(mappedRoles);
+        final Map<String, Resolved> resolvedByPattern = new LinkedHashMap<>();
+        final List<Boolean> allowed = new ArrayList<>(request.getPrivileges().size());
+
+        for (final PrivilegesCheckRequest.Privilege privilege : request.getPrivileges()) {
+            final String action = privilege.getAction();
+
+            if (privilege.getIndex() == null || isClusterPerm(action)) {
+                allowed.add(securityRoles.impliesClusterPermissionPermission(action));
+            } else {
+                final Resolved resolved = resolvedByPattern.computeIfAbsent(privilege.getIndex(),
+                        pattern -> irr.resolveIndexPatterns(Strings.splitStringByCommaToArray(pattern)));
+                final String[] actions = new String[] { action };
+
+                allowed.add(dcm.isMultiRolespanEnabled()
+                        ? securityRoles.impliesTypePermGlobal(resolved, user, actions, resolver, clusterService)
+                        : securityRoles.get(resolved, user, actions, resolver, clusterService));
+            }
+        }
+
+        final Map<String, String> tenants = new LinkedHashMap<>();
+
+        if (!request.getTenants().isEmpty()) {
+            final Map<String, Boolean> permittedTenants = mapTenants(user, mappedRoles);
+
+            for (final String tenant : request.getTenants()) {
+                final Boolean readWrite = permittedTenants.get(USER_TENANT.equals(tenant) ? user.getName() : tenant);
+                tenants.put(tenant, readWrite == null ? PrivilegesCheckResponse.NONE
+                        : readWrite ? PrivilegesCheckResponse.READ_WRITE : PrivilegesCheckResponse.READ);
+            }
+        }
+
+        Map<String, Map<String, List<String>>> dlsFls = null;
+
+        if (request.isDlsFls()) {
+            final EvaluatedDlsFlsConfig config = securityRoles.getDlsFls(user, dfmEmptyOverwritesAll, resolver, clusterService, namedXContentRegistry);
+            dlsFls = new TreeMap<>();
+
+            for (final Resolved resolved : resolvedByPattern.values()) {
+                for (final String index : resolved.getAllIndicesResolved(clusterService, resolver)) {
+                    final Map<String, List<String>> restrictions = new TreeMap<>();
+                    addRestriction(restrictions, "dls", config.getDlsQueriesByIndex(), index);
+                    addRestriction(restrictions, "fls", config.getFlsByIndex(), index);
+                    addRestriction(restrictions, "masked_fields", config.getFieldMaskingByIndex(), index);
+
+                    if (!restrictions.isEmpty()) {
+                        dlsFls.put(index, restrictions);
+                    }
+                }
+            }
+        }
+
+        return new PrivilegesCheckResponse(user.getName(), request.getPrivileges(), allowed, tenants, dlsFls);
+    }
+
+    private static void addRestriction(final Map<String, List<String>> restrictions, final String type, final Map<String, Set<String>> byIndex,
+                                       final String index) {
+        final String key = SecurityUtils.evalMap(byIndex, index);
+
+        if (key != null) {
+            restrictions.put(type, new ArrayList<>(new TreeSet<>(byIndex.get(key))));
+        }
+    }
+
     public Set<String> mapRoles(final User user, final TransportAddress caller) {
         return this.configModel.mapSecurityRoles(user, caller);
     }
 
 
+    // the tenants are only mapped if the privileges interceptor needs them
+    private Supplier<Map<String, Boolean>> lazyTenants(final User user, final Set<String> roles) {
+        return Suppliers.memoize(() -> mapTenants(user, roles));
+    }
+
     public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
         return this.configModel.mapTenants(user, roles);
     }
@@ -27,6 +27,7 @@
 package org.opensearch.security.privileges;
 
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexRequestBuilder;
@@ -74,7 +75,7 @@ public class PrivilegesInterceptor {
     }
 
     public ReplaceResult replaceDashboardsIndex(final ActionRequest request, final String action, final User user, final DynamicConfigModel config,
-                                                final Resolved requestedResolved, final Map<String, Boolean> tenants) {
+                                                final Resolved requestedResolved, final Supplier<Map<String, Boolean>> tenants) {
         throw new RuntimeException("not implemented");
     }
     
@@ -27,6 +27,7 @@
 package org.opensearch.security.privileges;
 
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -35,13 +36,17 @@ import org.opensearch.action.ActionRequest;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.MatchNoneQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.query.WildcardQueryBuilder;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
+import org.opensearch.security.resolver.IndexResolverReplacer;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.SecurityRoles;
+import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
 public class TermsAggregationEvaluator {
@@ -86,7 +91,8 @@ public class TermsAggregationEvaluator {
                            if(allPermittedIndices == null || allPermittedIndices.isEmpty()) {
                                sr.source().query(NONE_QUERY);
                            } else {
-                               sr.source().query(new TermsQueryBuilder("_index", allPermittedIndices));
+                               sr.source().query(permittedIndicesQuery(allPermittedIndices,
+                                       securityRoles.getPermittedIndexPatterns(user, READ_ACTIONS)));
                            }                 
                            
                            presponse.allowed = true;
@@ -102,4 +108,31 @@ public class TermsAggregationEvaluator {
         
         return presponse;
     }
+
+    // matches indices covered by a permitted pattern by that pattern instead of listing each of them
+    private static QueryBuilder permittedIndicesQuery(final Set<String> allPermittedIndices, final Set<String> permittedPatterns) {
+        final Set<String> patterns = permittedPatterns.stream()
+                .filter(IndexResolverReplacer::isPlainWildcardExpression)
+                .collect(Collectors.toSet());
+
+        if (patterns.isEmpty()) {
+            return new TermsQueryBuilder("_index", allPermittedIndices);
+        }
+
+        final WildcardMatcher patternMatcher = WildcardMatcher.from(patterns);
+        final Set<String> remaining = allPermittedIndices.stream()
+                .filter(index -> !patternMatcher.test(index))
+                .collect(Collectors.toSet());
+
+        if (patterns.size() + (remaining.isEmpty() ? 0 : 1) > allPermittedIndices.size()) {
+            return new TermsQueryBuilder("_index", allPermittedIndices);
+        }
+
+        final BoolQueryBuilder query = new BoolQueryBuilder();
+        patterns.forEach(pattern -> query.should(new WildcardQueryBuilder("_index", pattern)));
+        if (!remaining.isEmpty()) {
+            query.should(new TermsQueryBuilder("_index", remaining));
+        }
+        return query;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.opensearch.cluster.metadata.IndexAbstraction;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.security.support.WildcardMatcher;
+
+/**
+ * Sorted view of the alias names of a cluster state's metadata, so that alias patterns can be resolved
+ * in time proportional to the number of matching aliases instead of the number of indices in the cluster.
+ *
+ * Patterns with a literal prefix (like {@code logs-*}) are resolved by a range scan over the sorted names,
+ * only patterns starting with a wildcard and regular expressions need to test every alias.
+ * A node holds the lookup of its current cluster state in {@link org.opensearch.security.configuration.ClusterInfoHolder}.
+ */
+public final class IndexAliasLookup {
+
+    private final Metadata metadata;
+    private final String[] sortedAliases;
+
+    private IndexAliasLookup(final Metadata metadata, final Collection<String> aliases) {
+        this.metadata = metadata;
+        this.sortedAliases = aliases.toArray(new String[0]);
+        Arrays.sort(this.sortedAliases);
+    }
+
+    /**
+     * @return a lookup of the aliases of the given metadata
+     */
+    public static IndexAliasLookup build(final Metadata metadata) {
+        final Set<String> aliases = new HashSet<>();
+
+        for (final Map.Entry<String, IndexAbstraction> entry : metadata.getIndicesLookup().entrySet()) {
+            if (entry.getValue().getType() == IndexAbstraction.Type.ALIAS) {
+                aliases.add(entry.getKey());
+            }
+        }
+
+        return new IndexAliasLookup(metadata, aliases);
+    }
+
+    /**
+     * @return true if this lookup was built for the given metadata instance
+     */
+    public boolean isFor(final Metadata metadata) {
+        return this.metadata == metadata;
+    }
+
+    static IndexAliasLookup of(final Collection<String> aliases) {
+        return new IndexAliasLookup(null, aliases);
+    }
+
+    /**
+     * @param patterns index patterns as understood by {@link WildcardMatcher}, matched case sensitive
+     * @return all aliases matching at least one of the patterns
+     */
+    public Set<String> getMatchingAliases(final Collection<String> patterns) {
+        final Set<String> result = new HashSet<>();
+
+        for (final String pattern : patterns) {
+            addMatchingAliases(pattern, result);
+        }
+
+        return result;
+    }
+
+    public int size() {
+        return sortedAliases.length;
+    }
+
+    private void addMatchingAliases(final String pattern, final Set<String> result) {
+        if (pattern.equals("*")) {
+            result.addAll(Arrays.asList(sortedAliases));
+            return;
+        }
+
+        final WildcardMatcher matcher = WildcardMatcher.from(pattern);
+
+        if (pattern.startsWith("/") && pattern.endsWith("/")) {
+            for (final String alias : sortedAliases) {
+                if (matcher.test(alias)) {
+                    result.add(alias);
+                }
+            }
+            return;
+        }
+
+        final String prefix = literalPrefix(pattern);
+
+        if (prefix.length() == pattern.length()) {
+            if (Arrays.binarySearch(sortedAliases, pattern) >= 0) {
+                result.add(pattern);
+            }
+            return;
+        }
+
+        int i = Arrays.binarySearch(sortedAliases, prefix);
+
+        if (i < 0) {
+            i = -i - 1;
+        }
+
+        for (; i < sortedAliases.length && sortedAliases[i].startsWith(prefix); i++) {
+            if (matcher.test(sortedAliases[i])) {
+                result.add(sortedAliases[i]);
+            }
+        }
+    }
+
+    private static String literalPrefix(final String pattern) {
+        for (int i = 0; i < pattern.length(); i++) {
+            final char c = pattern.charAt(i);
+
+            if (c == '*' || c == '?') {
+                return pattern.substring(0, i);
+            }
+        }
+
+        return pattern;
+    }
+}
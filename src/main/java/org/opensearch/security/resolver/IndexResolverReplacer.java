@@ -26,12 +26,14 @@
 
 package org.opensearch.security.resolver;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
@@ -39,12 +41,16 @@ import java.util.Set;
 import java.util.regex.PatternSyntaxException;
 import java.util.stream.Collectors;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
 import org.apache.commons.collections.keyvalue.MultiKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.greenrobot.eventbus.Subscribe;
 
+import org.opensearch.OpenSearchException;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.IndicesRequest;
@@ -79,7 +85,6 @@ import org.opensearch.action.termvectors.MultiTermVectorsRequest;
 import org.opensearch.action.termvectors.TermVectorsRequest;
 import org.opensearch.action.update.UpdateRequest;
 import org.opensearch.cluster.ClusterState;
-import org.opensearch.cluster.metadata.IndexAbstraction;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.index.Index;
@@ -88,6 +93,7 @@ import org.opensearch.index.reindex.ReindexRequest;
 import org.opensearch.security.OpenSearchSecurityPlugin;
 import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.SnapshotRestoreHelper;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.snapshots.SnapshotInfo;
@@ -95,8 +101,6 @@ import org.opensearch.snapshots.SnapshotUtils;
 import org.opensearch.transport.RemoteClusterService;
 import org.opensearch.transport.TransportRequest;
 
-import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
-
 public class IndexResolverReplacer {
 
     private static final Set<String> NULL_SET = new HashSet<>(Collections.singleton(null));
@@ -105,6 +109,11 @@ public class IndexResolverReplacer {
     private final ClusterService clusterService;
     private final ClusterInfoHolder clusterInfoHolder;
     private volatile boolean respectRequestIndicesOptions = false;
+    // keyed by requested expressions, indices options, cross cluster flag and metadata version
+    private final Cache<MultiKey, ResolvedPatterns> resolutionCache = CacheBuilder.newBuilder()
+            .maximumSize(1000)
+            .recordStats()
+            .build();
 
     public IndexResolverReplacer(IndexNameExpressionResolver resolver, ClusterService clusterService, ClusterInfoHolder clusterInfoHolder) {
         this.resolver = resolver;
@@ -151,6 +160,144 @@ public class IndexResolverReplacer {
         return false;
     }
 
+    private ResolvedPatterns resolvePatternsCached(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution, final String[] original) {
+        if (isDateMathExpression(original)) {
+            // date math depends on the current time and must be evaluated for every request
+            return resolvePatterns(indicesOptions, enableCrossClusterResolution, original);
+        }
+
+        // a copy, the requested expressions may still be modified by the request, e.g. when they are replaced
+        final MultiKey key = new MultiKey(new ArrayList<>(Arrays.asList(original)), indicesOptions, enableCrossClusterResolution,
+                clusterService.state().metadata().version());
+        ResolvedPatterns resolvedPatterns = resolutionCache.getIfPresent(key);
+
+        if (resolvedPatterns == null) {
+            resolvedPatterns = resolvePatterns(indicesOptions, enableCrossClusterResolution, original);
+            resolutionCache.put(key, resolvedPatterns);
+        }
+
+        return resolvedPatterns;
+    }
+
+    private ResolvedPatterns resolvePatterns(final IndicesOptions indicesOptions, final boolean enableCrossClusterResolution, final String[] original) {
+        final boolean isTraceEnabled = log.isTraceEnabled();
+        Set<String> remoteIndices;
+        final List<String> localRequestedPatterns = new ArrayList<>(Arrays.asList(original));
+
+        final RemoteClusterService remoteClusterService = OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService();
+
+        if(enableCrossClusterResolution && remoteClusterService.isCrossClusterSearchEnabled()) {
+            remoteIndices = new HashSet<>();
+            final Map<String, OriginalIndices> remoteClusterIndices = OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService()
+                    .groupIndices(indicesOptions, original, idx -> resolver.hasIndexAbstraction(idx, clusterService.state()));
+            final Set<String> remoteClusters = remoteClusterIndices.keySet().stream()
+                    .filter(k->!RemoteClusterService.LOCAL_CLUSTER_GROUP_KEY.equals(k)).collect(Collectors.toSet());
+            for(String remoteCluster : remoteClusters) {
+                for(String remoteIndex : remoteClusterIndices.get(remoteCluster).indices()) {
+                    remoteIndices.add(RemoteClusterService.buildRemoteIndexName(remoteCluster, remoteIndex));
+                }
+            }
+
+            final Iterator<String> iterator = localRequestedPatterns.iterator();
+            while (iterator.hasNext()) {
+                final String[] split = iterator.next().split(String.valueOf(RemoteClusterService.REMOTE_CLUSTER_INDEX_SEPARATOR), 2);
+                final WildcardMatcher matcher = WildcardMatcher.from(split[0]);
+                if (split.length > 1 && matcher.matchAny(remoteClusters)) {
+                    iterator.remove();
+                }
+            }
+
+            if (isTraceEnabled) {
+                log.trace("CCS is enabled, we found this local patterns " + localRequestedPatterns + " and this remote patterns: " + remoteIndices);
+            }
+
+        } else {
+            remoteIndices = Collections.emptySet();
+        }
+
+        final Collection<String> matchingAliases;
+        Collection<String> matchingAllIndices;
+        Collection<String> matchingDataStreams = null;
+
+        if (isLocalAll(original)) {
+            if (isTraceEnabled) {
+                log.trace(Arrays.toString(original) + " is an LOCAL ALL pattern");
+            }
+            matchingAliases = Resolved.All_SET;
+            matchingAllIndices = Resolved.All_SET;
+
+        } else if (!remoteIndices.isEmpty() && localRequestedPatterns.isEmpty()) {
+            if (isTraceEnabled) {
+                log.trace(Arrays.toString(original) + " is an LOCAL EMPTY request");
+            }
+            matchingAllIndices = Collections.emptySet();
+            matchingAliases = Collections.emptySet();
+        }
+
+        else {
+            final ClusterState state = clusterService.state();
+            final Set<String> dateResolvedLocalRequestedPatterns = localRequestedPatterns
+                            .stream()
+                            .map(resolver::resolveDateMathExpression)
+                            .collect(Collectors.toSet());
+            //fill matchingAliases
+            matchingAliases = clusterInfoHolder.getIndexAliasLookup(state.metadata()).getMatchingAliases(dateResolvedLocalRequestedPatterns);
+
+            final boolean isDebugEnabled = log.isDebugEnabled();
+            try {
+                matchingAllIndices = Arrays.asList(resolver.concreteIndexNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0])));
+                matchingDataStreams = resolver.dataStreamNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]));
+
+                if (isDebugEnabled) {
+                    log.debug("Resolved pattern {} to indices: {} and data-streams: {}",
+                            localRequestedPatterns, matchingAllIndices, matchingDataStreams);
+                }
+            } catch (IndexNotFoundException e1) {
+                if (isDebugEnabled) {
+                    log.debug("No such indices for pattern {}, use raw value", localRequestedPatterns);
+                }
+
+                matchingAllIndices = dateResolvedLocalRequestedPatterns;
+            }
+        }
+
+        if (matchingDataStreams == null || matchingDataStreams.size() == 0) {
+            matchingDataStreams = Arrays.asList(NOOP);
+        }
+
+        return new ResolvedPatterns(matchingAliases, matchingAllIndices, matchingDataStreams, remoteIndices);
+    }
+
+    private static boolean isDateMathExpression(final String[] original) {
+        for (final String expression : original) {
+            if (expression != null && expression.indexOf('<') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return hit and miss counts of the cache of resolved index patterns
+     */
+    public Map<String, Object> getResolutionCacheStats() {
+        return SecurityStats.cacheStats(resolutionCache);
+    }
+
+    private static final class ResolvedPatterns {
+        private final Collection<String> aliases;
+        private final Collection<String> allIndices;
+        private final Collection<String> dataStreams;
+        private final Collection<String> remoteIndices;
+
+        private ResolvedPatterns(Collection<String> aliases, Collection<String> allIndices, Collection<String> dataStreams, Collection<String> remoteIndices) {
+            this.aliases = ImmutableList.copyOf(aliases);
+            this.allIndices = ImmutableList.copyOf(allIndices);
+            this.dataStreams = ImmutableList.copyOf(dataStreams);
+            this.remoteIndices = ImmutableList.copyOf(remoteIndices);
+        }
+    }
+
     private class ResolvedIndicesProvider implements IndicesProvider {
         private final ImmutableSet.Builder<String> aliases;
         private final ImmutableSet.Builder<String> allIndices;
@@ -184,96 +331,11 @@ public class IndexResolverReplacer {
                 return;
             }
 
-            Set<String> remoteIndices;
-            final List<String> localRequestedPatterns = new ArrayList<>(Arrays.asList(original));
-
-            final RemoteClusterService remoteClusterService = OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService();
-
-            if(remoteClusterService.isCrossClusterSearchEnabled() && enableCrossClusterResolution) {
-                remoteIndices = new HashSet<>();
-                final Map<String, OriginalIndices> remoteClusterIndices = OpenSearchSecurityPlugin.GuiceHolder.getRemoteClusterService()
-                        .groupIndices(indicesOptions, original, idx -> resolver.hasIndexAbstraction(idx, clusterService.state()));
-                final Set<String> remoteClusters = remoteClusterIndices.keySet().stream()
-                        .filter(k->!RemoteClusterService.LOCAL_CLUSTER_GROUP_KEY.equals(k)).collect(Collectors.toSet());
-                for(String remoteCluster : remoteClusters) {
-                    for(String remoteIndex : remoteClusterIndices.get(remoteCluster).indices()) {
-                        remoteIndices.add(RemoteClusterService.buildRemoteIndexName(remoteCluster, remoteIndex));
-                    }
-                }
-
-                final Iterator<String> iterator = localRequestedPatterns.iterator();
-                while (iterator.hasNext()) {
-                    final String[] split = iterator.next().split(String.valueOf(RemoteClusterService.REMOTE_CLUSTER_INDEX_SEPARATOR), 2);
-                    final WildcardMatcher matcher = WildcardMatcher.from(split[0]);
-                    if (split.length > 1 && matcher.matchAny(remoteClusters)) {
-                        iterator.remove();
-                    }
-                }
-
-                if (isTraceEnabled) {
-                    log.trace("CCS is enabled, we found this local patterns " + localRequestedPatterns + " and this remote patterns: " + remoteIndices);
-                }
-
-            } else {
-                remoteIndices = Collections.emptySet();
-            }
-
-            final Collection<String> matchingAliases;
-            Collection<String> matchingAllIndices;
-            Collection<String> matchingDataStreams = null;
-
-            if (isLocalAll(original)) {
-                if (isTraceEnabled) {
-                    log.trace(Arrays.toString(original) + " is an LOCAL ALL pattern");
-                }
-                matchingAliases = Resolved.All_SET;
-                matchingAllIndices = Resolved.All_SET;
-
-            } else if (!remoteIndices.isEmpty() && localRequestedPatterns.isEmpty()) {
-                if (isTraceEnabled) {
-                    log.trace(Arrays.toString(original) + " is an LOCAL EMPTY request");
-                }
-                matchingAllIndices = Collections.emptySet();
-                matchingAliases = Collections.emptySet();
-            }
-
-            else {
-                final ClusterState state = clusterService.state();
-                final Set<String> dateResolvedLocalRequestedPatterns = localRequestedPatterns
-                                .stream()
-                                .map(resolver::resolveDateMathExpression)
-                                .collect(Collectors.toSet());
-                final WildcardMatcher dateResolvedMatcher = WildcardMatcher.from(dateResolvedLocalRequestedPatterns);
-                //fill matchingAliases
-                final Map<String, IndexAbstraction> lookup = state.metadata().getIndicesLookup();
-                matchingAliases = lookup.entrySet()
-                        .stream()
-                        .filter(e -> e.getValue().getType() == ALIAS)
-                        .map(Map.Entry::getKey)
-                        .filter(dateResolvedMatcher)
-                        .collect(Collectors.toSet());
-
-                final boolean isDebugEnabled = log.isDebugEnabled();
-                try {
-                    matchingAllIndices = Arrays.asList(resolver.concreteIndexNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0])));
-                    matchingDataStreams = resolver.dataStreamNames(state, indicesOptions, localRequestedPatterns.toArray(new String[0]));
-
-                    if (isDebugEnabled) {
-                        log.debug("Resolved pattern {} to indices: {} and data-streams: {}",
-                                localRequestedPatterns, matchingAllIndices, matchingDataStreams);
-                    }
-                } catch (IndexNotFoundException e1) {
-                    if (isDebugEnabled) {
-                        log.debug("No such indices for pattern {}, use raw value", localRequestedPatterns);
-                    }
-
-                    matchingAllIndices = dateResolvedLocalRequestedPatterns;
-                }
-            }
-
-            if (matchingDataStreams == null || matchingDataStreams.size() == 0) {
-                matchingDataStreams = Arrays.asList(NOOP);
-            }
+            final ResolvedPatterns resolvedPatterns = resolvePatternsCached(indicesOptions, enableCrossClusterResolution, original);
+            final Collection<String> matchingAliases = resolvedPatterns.aliases;
+            final Collection<String> matchingAllIndices = resolvedPatterns.allIndices;
+            final Collection<String> matchingDataStreams = resolvedPatterns.dataStreams;
+            final Collection<String> remoteIndices = resolvedPatterns.remoteIndices;
 
             if (isTraceEnabled) {
                 log.trace("Resolved patterns {} for {} ({}) to [aliases {}, allIndices {}, dataStreams {}, originalRequested{}, remote indices {}]",
@@ -326,18 +388,31 @@ public class IndexResolverReplacer {
 
     //dnfof
     public boolean replace(final TransportRequest request, boolean retainMode, String... replacements) {
+        return replace(request, retainMode, Collections.emptySet(), replacements);
+    }
+
+    /**
+     * Like {@link #replace(TransportRequest, boolean, String...)}, but replacements which are covered by one of the
+     * permitted index patterns are replaced by the pattern itself. A pattern is only used if it expands, with the
+     * indices options of the request, to a subset of the replacements, so the request still resolves to the same indices.
+     */
+    public boolean replace(final TransportRequest request, boolean retainMode, final Collection<String> permittedPatterns, String... replacements) {
         return getOrReplaceAllIndices(request, new IndicesProvider() {
 
             @Override
             public String[] provide(String[] original, Object request, boolean supportsReplace) {
                 if(supportsReplace) {
+                    String[] result = replacements;
                     if(retainMode && !isAllWithNoRemote(original)) {
                         final Resolved resolved = resolveRequest(request);
                         final List<String> retained = WildcardMatcher.from(resolved.getAllIndices()).getMatchAny(replacements, Collectors.toList());
                         retained.addAll(resolved.getRemoteIndices());
-                        return retained.toArray(new String[0]);
+                        result = retained.toArray(new String[0]);
                     }
-                    return replacements;
+                    if (!permittedPatterns.isEmpty() && request instanceof IndicesRequest) {
+                        result = compact(result, permittedPatterns, ((IndicesRequest) request).indicesOptions());
+                    }
+                    return result;
                 } else {
                     return NOOP;
                 }
@@ -345,6 +420,86 @@ public class IndexResolverReplacer {
         }, false);
     }
 
+    private String[] compact(final String[] indices, final Collection<String> patterns, final IndicesOptions indicesOptions) {
+        if (indices.length < 2) {
+            return indices;
+        }
+
+        final ClusterState state = clusterService.state();
+        final Set<String> all = new HashSet<>(Arrays.asList(indices));
+        final List<Map.Entry<String, Set<String>>> expansions = new ArrayList<>();
+
+        for (final String pattern : patterns) {
+            if (!isPlainWildcardExpression(pattern)) {
+                continue;
+            }
+
+            final Set<String> expanded;
+            try {
+                expanded = new HashSet<>(Arrays.asList(resolver.concreteIndexNames(state, indicesOptions, pattern)));
+            } catch (OpenSearchException e) {
+                continue;
+            }
+
+            if (!expanded.isEmpty() && all.containsAll(expanded)) {
+                expansions.add(new AbstractMap.SimpleImmutableEntry<>(pattern, expanded));
+            }
+        }
+
+        if (expansions.isEmpty()) {
+            return indices;
+        }
+
+        // greedy cover, broadest patterns first
+        expansions.sort((a, b) -> Integer.compare(b.getValue().size(), a.getValue().size()));
+
+        final Set<String> remaining = new LinkedHashSet<>(Arrays.asList(indices));
+        final List<String> compacted = new ArrayList<>();
+
+        for (final Map.Entry<String, Set<String>> expansion : expansions) {
+            if (remaining.removeAll(expansion.getValue())) {
+                compacted.add(expansion.getKey());
+            }
+        }
+
+        compacted.addAll(remaining);
+
+        if (compacted.size() >= indices.length) {
+            return indices;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compacted {} permitted indices to {}", indices.length, compacted);
+        }
+
+        return compacted.toArray(new String[0]);
+    }
+
+    /**
+     * @return true if the expression is a local index expression whose only wildcard is {@code *},
+     * which means it matches the same index names in a request as in the security configuration
+     */
+    public static boolean isPlainWildcardExpression(final String expression) {
+        if (expression == null || expression.isEmpty() || expression.indexOf('*') < 0) {
+            return false;
+        }
+
+        final char first = expression.charAt(0);
+
+        if (first == '-' || first == '+' || first == '/' || first == '<') {
+            return false;
+        }
+
+        for (int i = 0; i < expression.length(); i++) {
+            final char c = expression.charAt(i);
+            if (c == '?' || c == ',' || c == ':' || c == '$' || c == '{') {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
     public Resolved resolveRequest(final Object request) {
         if (log.isDebugEnabled()) {
             log.debug("Resolve aliases, indices and types from {}", request.getClass().getSimpleName());
@@ -357,6 +512,17 @@ public class IndexResolverReplacer {
         return resolvedIndicesProvider.resolved(indicesOptionsFrom(request));
     }
 
+    /**
+     * Resolves index expressions which are not part of a request, the same way as the indices of a request
+     */
+    public Resolved resolveIndexPatterns(final String... patterns) {
+        final ResolvedIndicesProvider resolvedIndicesProvider = new ResolvedIndicesProvider(patterns);
+
+        resolvedIndicesProvider.provide(patterns, patterns, false);
+
+        return resolvedIndicesProvider.resolved(indicesOptionsFrom(patterns));
+    }
+
     public final static class Resolved {
         private static final String ANY = "*";
         private static final ImmutableSet<String> All_SET = ImmutableSet.of(ANY);
@@ -0,0 +1,79 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.rest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.google.common.collect.ImmutableList;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.Strings;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+import org.opensearch.security.action.privileges.PrivilegesCheckAction;
+import org.opensearch.security.action.privileges.PrivilegesCheckRequest;
+
+import static org.opensearch.rest.RestRequest.Method.GET;
+import static org.opensearch.rest.RestRequest.Method.POST;
+import static org.opensearch.security.dlic.rest.support.Utils.addRoutesPrefix;
+
+/**
+ * Checks a batch of actions on index patterns and tenants for the current user, without executing them.
+ * The batch is given as request body or, without a body, as the parameters {@code actions}, {@code index} and {@code tenants}.
+ * With {@code dls_fls=true} the effective DLS queries, FLS fields and masked fields of the checked indices are returned too.
+ */
+public class SecurityPrivilegesCheckAction extends BaseRestHandler {
+
+    private static final List<Route> routes = addRoutesPrefix(ImmutableList.of(
+            new Route(GET, "/privileges/check"),
+            new Route(POST, "/privileges/check")
+    ), "/_plugins/_security");
+
+    @Override
+    public List<Route> routes() {
+        return routes;
+    }
+
+    @Override
+    protected RestChannelConsumer prepareRequest(final RestRequest request, final NodeClient client) throws IOException {
+        final boolean dlsFls = request.paramAsBoolean("dls_fls", false);
+        final PrivilegesCheckRequest checkRequest;
+
+        if (request.hasContentOrSourceParam()) {
+            try (XContentParser parser = request.contentOrSourceParamParser()) {
+                checkRequest = PrivilegesCheckRequest.fromXContent(parser, dlsFls);
+            }
+        } else {
+            // e.g. GET _plugins/_security/privileges/check?actions=indices:data/read/search&index=logs-*&tenants=analysts
+            final String index = request.param("index");
+            final List<PrivilegesCheckRequest.Privilege> privileges = new ArrayList<>();
+
+            for (final String action : request.paramAsStringArray("actions", Strings.EMPTY_ARRAY)) {
+                privileges.add(new PrivilegesCheckRequest.Privilege(action, index));
+            }
+
+            checkRequest = new PrivilegesCheckRequest(privileges, Arrays.asList(request.paramAsStringArray("tenants", Strings.EMPTY_ARRAY)), dlsFls);
+        }
+
+        return channel -> client.execute(PrivilegesCheckAction.INSTANCE, checkRequest, new RestToXContentListener<>(channel));
+    }
+
+    @Override
+    public String getName() {
+        return "Security Plugin Privileges Check";
+    }
+}
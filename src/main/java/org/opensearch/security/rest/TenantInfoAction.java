@@ -27,7 +27,6 @@
 package org.opensearch.security.rest;
 
 import java.io.IOException;
-import java.util.Collections;
 import java.util.List;
 import java.util.SortedMap;
 
@@ -51,7 +50,6 @@ import org.opensearch.rest.RestStatus;
 import org.opensearch.security.configuration.AdminDNs;
 import org.opensearch.security.configuration.ConfigurationRepository;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
-import org.opensearch.security.securityconf.DynamicConfigFactory;
 import org.opensearch.security.securityconf.RoleMappings;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
@@ -157,7 +155,7 @@ public class TenantInfoAction extends BaseRestHandler {
         }
 
         // If user check failed by name and admin, check if the users belong to dashboards role
-        final SecurityDynamicConfiguration<?> rolesMappingConfiguration = load(CType.ROLESMAPPING, true);
+        final SecurityDynamicConfiguration<?> rolesMappingConfiguration = configurationRepository.getConfigurationSnapshot(CType.ROLESMAPPING, true);
 
         // check if dashboardsOpenSearchRole is present in RolesMapping and if yes, check if user is a part of this role
         if (rolesMappingConfiguration != null) {
@@ -172,11 +170,6 @@ public class TenantInfoAction extends BaseRestHandler {
         return false;
     }
 
-    private final SecurityDynamicConfiguration<?> load(final CType config, boolean logComplianceEvent) {
-        SecurityDynamicConfiguration<?> loaded = configurationRepository.getConfigurationsFromIndex(Collections.singleton(config), logComplianceEvent).get(config).deepClone();
-        return DynamicConfigFactory.addStatics(loaded);
-    }
-
     private String tenantNameForIndex(String index) {
     	String[] indexParts;
     	if(index == null 
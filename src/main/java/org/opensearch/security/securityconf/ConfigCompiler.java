@@ -0,0 +1,154 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.security.stats.SecurityStats;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.threadpool.ExecutorBuilder;
+import org.opensearch.threadpool.FixedExecutorBuilder;
+
+/**
+ * Compiles the entries of a configuration, e.g. roles, in parallel on the {@value #THREAD_POOL_NAME} thread pool
+ * of the node. Its size defaults to the allocated processors, at most 10, and can be changed with
+ * {@code thread_pool.security_config_compilation.size}.
+ * <p>
+ * Waits for all entries up to {@link ConfigConstants#SECURITY_CONFIG_COMPILATION_TIMEOUT_SECONDS} and either returns
+ * all compiled entries or throws an {@link OpenSearchException} naming the entries which failed, so that a reload
+ * never yields a partial model.
+ */
+public final class ConfigCompiler {
+
+    public static final String THREAD_POOL_NAME = "security_config_compilation";
+    static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private static final Logger log = LogManager.getLogger(ConfigCompiler.class);
+    private static final long PROGRESS_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ExecutorService executorService;
+    private final long timeoutSeconds;
+    private final SecurityStats securityStats;
+
+    /**
+     * @param executorService the executor of the {@value #THREAD_POOL_NAME} thread pool
+     */
+    public ConfigCompiler(final ExecutorService executorService, final Settings settings, final SecurityStats securityStats) {
+        this.executorService = executorService;
+        this.timeoutSeconds = settings.getAsInt(ConfigConstants.SECURITY_CONFIG_COMPILATION_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS);
+        this.securityStats = securityStats;
+    }
+
+    /**
+     * @return the builder of the thread pool the entries are compiled on, its queue is unbounded
+     * because a reload submits all entries at once
+     */
+    public static ExecutorBuilder<?> executorBuilder(final Settings settings) {
+        return new FixedExecutorBuilder(settings, THREAD_POOL_NAME, Math.min(10, OpenSearchExecutors.allocatedProcessors(settings)), -1);
+    }
+
+    @FunctionalInterface
+    interface EntryCompiler<V, R> {
+        R compile(String name, V value) throws Exception;
+    }
+
+    /**
+     * @param what the kind of the entries, for logging and error messages
+     * @return the compiled entries by name in the order of {@code entries}, without entries whose value or result is null
+     * @throws OpenSearchException if an entry could not be compiled, the timeout elapsed or the thread was interrupted
+     */
+    <V, R> Map<String, R> compile(final String what, final Map<String, V> entries, final EntryCompiler<V, R> compiler) {
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+
+        final Map<String, Future<R>> futures = new LinkedHashMap<>(entries.size());
+        for (final Entry<String, V> entry : entries.entrySet()) {
+            if (entry.getValue() != null) {
+                futures.put(entry.getKey(), executorService.submit(() -> compiler.compile(entry.getKey(), entry.getValue())));
+            }
+        }
+
+        final Map<String, R> results = new LinkedHashMap<>(futures.size());
+        final SortedMap<String, Throwable> failures = new TreeMap<>();
+        long nextProgress = start + PROGRESS_INTERVAL_NANOS;
+
+        try {
+            for (final Entry<String, Future<R>> future : futures.entrySet()) {
+                while (true) {
+                    final long now = System.nanoTime();
+                    if (now - deadline >= 0) {
+                        throw new OpenSearchException("Compiling {} did not finish within {} seconds, {} of {} done",
+                                what, timeoutSeconds, done(futures), futures.size());
+                    }
+                    if (now - nextProgress >= 0) {
+                        log.info("Compiled {} of {} {} after {} ms", done(futures), futures.size(), what, TimeUnit.NANOSECONDS.toMillis(now - start));
+                        nextProgress = now + PROGRESS_INTERVAL_NANOS;
+                    }
+                    try {
+                        final R result = future.getValue().get(Math.min(deadline, nextProgress) - now, TimeUnit.NANOSECONDS);
+                        if (result != null) {
+                            results.put(future.getKey(), result);
+                        }
+                        break;
+                    } catch (TimeoutException e) {
+                        // check the deadline and report progress
+                    } catch (ExecutionException e) {
+                        failures.put(future.getKey(), e.getCause());
+                        break;
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OpenSearchException("Interrupted while compiling {}, {} of {} done", e, what, done(futures), futures.size());
+        } finally {
+            for (final Future<R> future : futures.values()) {
+                future.cancel(true);
+            }
+        }
+
+        final long tookNanos = System.nanoTime() - start;
+        final long tookMillis = TimeUnit.NANOSECONDS.toMillis(tookNanos);
+
+        if (!failures.isEmpty()) {
+            final Throwable first = failures.values().iterator().next();
+            final OpenSearchException e = new OpenSearchException("Unable to compile {} {}: {}", first, what, failures.keySet(), first.toString());
+            failures.values().stream().skip(1).forEach(e::addSuppressed);
+            log.error("Unable to compile {} of {} {} in {} ms: {}", failures.size(), futures.size(), what, tookMillis, failures.keySet(), e);
+            securityStats.recordConfigCompilation(what, futures.size(), tookNanos, true);
+            throw e;
+        }
+
+        securityStats.recordConfigCompilation(what, results.size(), tookNanos, false);
+        log.debug("Compiled {} {} in {} ms", results.size(), what, tookMillis);
+        return results;
+    }
+
+    private static int done(final Map<String, ? extends Future<?>> futures) {
+        return (int) futures.values().stream().filter(Future::isDone).count();
+    }
+}
@@ -54,6 +54,7 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v6.ActionGroupsV6;
@@ -64,8 +65,6 @@ import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
-import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
-
 
 public class ConfigModelV6 extends ConfigModel {
 
@@ -76,15 +75,18 @@ public class ConfigModelV6 extends ConfigModel {
     private TenantHolder tenantHolder;
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV6> roles;
+    private final ClusterInfoHolder clusterInfoHolder;
 
     public ConfigModelV6(
             SecurityDynamicConfiguration<RoleV6> roles,
             SecurityDynamicConfiguration<ActionGroupsV6> actiongroups,
             SecurityDynamicConfiguration<RoleMappingsV6> rolesmapping,
             DynamicConfigModel dcm,
-            Settings opensearchSettings) {
+            Settings opensearchSettings,
+            ClusterInfoHolder clusterInfoHolder) {
         
         this.roles = roles;
+        this.clusterInfoHolder = clusterInfoHolder;
         
         try {
             rolesMappingResolution = ConfigConstants.RolesMappingResolution.valueOf(
@@ -280,7 +282,7 @@ public class ConfigModelV6 extends ConfigModel {
         }
 
         try {
-            SecurityRoles _securityRoles = new SecurityRoles(futures.size());
+            SecurityRoles _securityRoles = new SecurityRoles(futures.size(), clusterInfoHolder);
             for (Future<SecurityRole> future : futures) {
                 _securityRoles.addSecurityRole(future.get());
             }
@@ -305,8 +307,11 @@ public class ConfigModelV6 extends ConfigModel {
 
         final Set<SecurityRole> roles;
 
-        private SecurityRoles(int roleCount) {
+        private final ClusterInfoHolder clusterInfoHolder;
+
+        private SecurityRoles(int roleCount, ClusterInfoHolder clusterInfoHolder) {
             roles = new HashSet<>(roleCount);
+            this.clusterInfoHolder = clusterInfoHolder;
         }
 
         private SecurityRoles addSecurityRole(SecurityRole securityRole) {
@@ -354,7 +359,7 @@ public class ConfigModelV6 extends ConfigModel {
         }
         
         public SecurityRoles filter(Set<String> keep) {
-            final SecurityRoles retVal = new SecurityRoles(roles.size());
+            final SecurityRoles retVal = new SecurityRoles(roles.size(), clusterInfoHolder);
             for (SecurityRole sr : roles) {
                 if (keep.contains(sr.getName())) {
                     retVal.addSecurityRole(sr);
@@ -382,7 +387,7 @@ public class ConfigModelV6 extends ConfigModel {
 
 
                     if ((dls != null && dls.length() > 0) || (fls != null && fls.size() > 0) || (maskedFields != null && maskedFields.size() > 0)) {
-                        concreteIndices = ip.getResolvedIndexPattern(user, resolver, cs);
+                        concreteIndices = ip.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder);
                     }
 
                     if (dls != null && dls.length() > 0) {
@@ -454,17 +459,36 @@ public class ConfigModelV6 extends ConfigModel {
         public Set<String> getAllPermittedIndicesForDashboards(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             Set<String> retVal = new HashSet<>();
             for (SecurityRole sr : roles) {
-                retVal.addAll(sr.getAllResolvedPermittedIndices(Resolved._LOCAL_ALL, user, actions, resolver, cs));
+                retVal.addAll(sr.getAllResolvedPermittedIndices(Resolved._LOCAL_ALL, user, actions, resolver, cs, clusterInfoHolder));
                 retVal.addAll(resolved.getRemoteIndices());
             }
             return Collections.unmodifiableSet(retVal);
         }
 
+        //dnfof + opensearchDashboards special only
+        public Set<String> getPermittedIndexPatterns(User user, String[] actions) {
+            Set<String> retVal = new HashSet<>();
+            for (SecurityRole sr : roles) {
+                for (IndexPattern ip : sr.getIpatterns()) {
+                    boolean patternMatch = false;
+                    for (TypePerm tp : ip.getTypePerms()) {
+                        if (tp.typeMatcher.matchAny(Resolved._LOCAL_ALL.getTypes())) {
+                            patternMatch = tp.getPerms().matchAll(actions);
+                        }
+                    }
+                    if (patternMatch) {
+                        retVal.add(ip.getUnresolvedIndexPattern(user));
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(retVal);
+        }
+
         //dnfof only
         public Set<String> reduce(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             Set<String> retVal = new HashSet<>();
             for (SecurityRole sr : roles) {
-                retVal.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs));
+                retVal.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs, clusterInfoHolder));
             }
             if (log.isDebugEnabled()) {
                 log.debug("Reduced requested resolved indices {} to permitted indices {}.", resolved, retVal.toString());
@@ -475,7 +499,7 @@ public class ConfigModelV6 extends ConfigModel {
         //return true on success
         public boolean get(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             for (SecurityRole sr : roles) {
-                if (ConfigModelV6.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs)) {
+                if (ConfigModelV6.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs, clusterInfoHolder)) {
                     return true;
                 }
             }
@@ -491,7 +515,7 @@ public class ConfigModelV6 extends ConfigModel {
                 ClusterService cs) {
             Set<IndexPattern> ipatterns = new HashSet<ConfigModelV6.IndexPattern>();
             roles.stream().forEach(p -> ipatterns.addAll(p.getIpatterns()));
-            return ConfigModelV6.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs);
+            return ConfigModelV6.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs, clusterInfoHolder);
         }
     }
 
@@ -514,7 +538,7 @@ public class ConfigModelV6 extends ConfigModel {
         //get indices which are permitted for the given types and actions
         //dnfof + opensearchDashboards special only
         private Set<String> getAllResolvedPermittedIndices(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver,
-                ClusterService cs) {
+                ClusterService cs, ClusterInfoHolder clusterInfoHolder) {
 
             final Set<String> retVal = new HashSet<>();
             for (IndexPattern p : ipatterns) {
@@ -528,7 +552,7 @@ public class ConfigModelV6 extends ConfigModel {
                 }
                 if (patternMatch) {
                     //resolved but can contain patterns for nonexistent indices
-                    final WildcardMatcher permitted = WildcardMatcher.from(p.getResolvedIndexPattern(user, resolver, cs)); //maybe they do not exist
+                    final WildcardMatcher permitted = WildcardMatcher.from(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder)); //maybe they do not exist
                     final Set<String> res = new HashSet<>();
                     if (!resolved.isLocalAll() && !resolved.getAllIndices().contains("*") && !resolved.getAllIndices().contains("_all")) {
                         //resolved but can contain patterns for nonexistent indices
@@ -737,16 +761,14 @@ public class ConfigModelV6 extends ConfigModel {
             return replaceProperties(indexPattern, user);
         }
 
-        private Set<String> getResolvedIndexPattern(User user, IndexNameExpressionResolver resolver, ClusterService cs) {
+        private Set<String> getResolvedIndexPattern(User user, IndexNameExpressionResolver resolver, ClusterService cs, ClusterInfoHolder clusterInfoHolder) {
             String unresolved = getUnresolvedIndexPattern(user);
             WildcardMatcher matcher = WildcardMatcher.from(unresolved);
             String[] resolved = null;
             if (!(matcher instanceof WildcardMatcher.Exact)) {
-                final String[] aliasesForPermittedPattern = cs.state().getMetadata().getIndicesLookup().entrySet().stream()
-                        .filter(e -> e.getValue().getType() == ALIAS)
-                        .filter(e -> matcher.test(e.getKey()))
-                        .map(e -> e.getKey())
-                        .toArray(String[]::new);
+                final String[] aliasesForPermittedPattern = clusterInfoHolder.getIndexAliasLookup(cs.state().getMetadata())
+                        .getMatchingAliases(Collections.singleton(unresolved))
+                        .toArray(new String[0]);
 
                 if (aliasesForPermittedPattern.length > 0) {
                     resolved = resolver.concreteIndexNames(cs.state(), IndicesOptions.lenientExpandOpen(), aliasesForPermittedPattern);
@@ -972,19 +994,19 @@ public class ConfigModelV6 extends ConfigModel {
     }
 
     private static boolean impliesTypePerm(Set<IndexPattern> ipatterns, Resolved resolved, User user, String[] requestedActions,
-                                           IndexNameExpressionResolver resolver, ClusterService cs) {
+                                           IndexNameExpressionResolver resolver, ClusterService cs, ClusterInfoHolder clusterInfoHolder) {
         IndexMatcherAndTypePermissions[] indexMatcherAndTypePermissions;
         if (resolved.isLocalAll()) {
             // Only let localAll pass if there is an explicit privilege for a * index pattern
             indexMatcherAndTypePermissions = ipatterns
                     .stream()
                     .filter(indexPattern -> "*".equals(indexPattern.getUnresolvedIndexPattern(user)))
-                    .map(p -> new IndexMatcherAndTypePermissions(p.getResolvedIndexPattern(user, resolver, cs), p.getTypePerms()))
+                    .map(p -> new IndexMatcherAndTypePermissions(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder), p.getTypePerms()))
                     .toArray(IndexMatcherAndTypePermissions[]::new);
         } else {
             indexMatcherAndTypePermissions = ipatterns
                     .stream()
-                    .map(p -> new IndexMatcherAndTypePermissions(p.getResolvedIndexPattern(user, resolver, cs), p.getTypePerms()))
+                    .map(p -> new IndexMatcherAndTypePermissions(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder), p.getTypePerms()))
                     .toArray(IndexMatcherAndTypePermissions[]::new);
         }
 
@@ -27,34 +27,28 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.Callable;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
-import java.util.concurrent.TimeUnit;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import com.google.common.base.Joiner;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.ListMultimap;
-import com.google.common.collect.MultimapBuilder.SetMultimapBuilder;
-import com.google.common.collect.SetMultimap;
+import org.apache.commons.collections.keyvalue.MultiKey;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import org.opensearch.ExceptionsHelper;
 import org.opensearch.action.support.IndicesOptions;
 import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
 import org.opensearch.cluster.service.ClusterService;
-import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.transport.TransportAddress;
 import org.opensearch.common.util.set.Sets;
 import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.security.configuration.ClusterInfoHolder;
 import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
 import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
 import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
@@ -66,8 +60,6 @@ import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.security.user.User;
 
-import static org.opensearch.cluster.metadata.IndexAbstraction.Type.ALIAS;
-
 public class ConfigModelV7 extends ConfigModel {
 
     protected final Logger log = LogManager.getLogger(this.getClass());
@@ -77,6 +69,7 @@ public class ConfigModelV7 extends ConfigModel {
     private TenantHolder tenantHolder;
     private RoleMappingHolder roleMappingHolder;
     private SecurityDynamicConfiguration<RoleV7> roles;
+    private final ClusterInfoHolder clusterInfoHolder;
     private SecurityDynamicConfiguration<TenantV7> tenants;
 
     public ConfigModelV7(
@@ -85,9 +78,12 @@ public class ConfigModelV7 extends ConfigModel {
             SecurityDynamicConfiguration<ActionGroupsV7> actiongroups,
             SecurityDynamicConfiguration<TenantV7> tenants,
             DynamicConfigModel dcm,
-            Settings opensearchSettings) {
+            Settings opensearchSettings,
+            ClusterInfoHolder clusterInfoHolder,
+            ConfigCompiler compiler) {
 
         this.roles = roles;
+        this.clusterInfoHolder = clusterInfoHolder;
         this.tenants = tenants;
         
         try {
@@ -100,8 +96,8 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         agr = reloadActionGroups(actiongroups);
-        securityRoles = reload(roles);
-        tenantHolder = new TenantHolder(roles, tenants);
+        securityRoles = reload(roles, compiler);
+        tenantHolder = new TenantHolder(roles, tenants, compiler);
         roleMappingHolder = new RoleMappingHolder(rolemappings, dcm.getHostsResolverMode());
     }
 
@@ -118,169 +114,163 @@ public class ConfigModelV7 extends ConfigModel {
     }
 
     private ActionGroupResolver reloadActionGroups(SecurityDynamicConfiguration<ActionGroupsV7> actionGroups) {
-        return new ActionGroupResolver() {
-            
-            private Set<String> getGroupMembers(final String groupname) {
 
-                if (actionGroups == null) {
-                    return Collections.emptySet();
+        // resolve every action group once up front instead of recursively for every role which refers to it
+        final Map<String, Set<String>> resolvedGroups = new HashMap<>();
+        final Map<String, RuntimeException> unresolvableGroups = new HashMap<>();
+        if (actionGroups != null) {
+            for (final String groupname : actionGroups.getCEntries().keySet()) {
+                try {
+                    resolve(actionGroups, groupname, resolvedGroups, new HashMap<>(), new int[] { Integer.MAX_VALUE });
+                } catch (RuntimeException e) {
+                    unresolvableGroups.put(groupname, e);
                 }
-
-                return Collections.unmodifiableSet(resolve(actionGroups, groupname));
             }
-            
-            private Set<String> resolve(final SecurityDynamicConfiguration<?> actionGroups, final String entry) {
+        }
 
-                
-                // SG5 format, plain array
-                //List<String> en = actionGroups.getAsList(DotPath.of(entry));
-                //if (en.isEmpty()) {
-                    // try SG6 format including readonly and permissions key
-                //  en = actionGroups.getAsList(DotPath.of(entry + "." + ConfigConstants.CONFIGKEY_ACTION_GROUPS_PERMISSIONS));
-                    //}
-                
-                if(!actionGroups.getCEntries().containsKey(entry)) {
-                    return Collections.emptySet();
-                }
-                
-                final Set<String> ret = new HashSet<String>();
-                
-                final Object actionGroupAsObject = actionGroups.getCEntries().get(entry);
-                
-                if(actionGroupAsObject != null && actionGroupAsObject instanceof List) {
-                    
-                    for (final String perm: ((List<String>) actionGroupAsObject)) {
-                        if (actionGroups.getCEntries().keySet().contains(perm)) {
-                            ret.addAll(resolve(actionGroups,perm));
-                        } else {
-                            ret.add(perm);
-                        }
-                    }
-                    
-                    
-                } else if(actionGroupAsObject != null &&  actionGroupAsObject instanceof ActionGroupsV7) {
-                    for (final String perm: ((ActionGroupsV7) actionGroupAsObject).getAllowed_actions()) {
-                        if (actionGroups.getCEntries().keySet().contains(perm)) {
-                            ret.addAll(resolve(actionGroups,perm));
-                        } else {
-                            ret.add(perm);
-                        }
-                    }
-                } else {
-                    throw new RuntimeException("Unable to handle "+actionGroupAsObject);
+        // roles tend to share the same permission lists, e.g. [ "indices_all" ], so those are expanded only once as well
+        final Map<List<String>, Set<String>> resolvedActionLists = new ConcurrentHashMap<>();
+
+        return new ActionGroupResolver() {
+
+            private Set<String> getGroupMembers(final String groupname) {
+                final RuntimeException e = unresolvableGroups.get(groupname);
+                if (e != null) {
+                    throw e;
                 }
-                
-                return Collections.unmodifiableSet(ret);
+                return resolvedGroups.getOrDefault(groupname, Collections.emptySet());
             }
-            
+
             @Override
             public Set<String> resolvedActions(final List<String> actions) {
-                final Set<String> resolvedActions = new HashSet<String>();
-                for (String string: actions) {
-                    final Set<String> groups = getGroupMembers(string);
-                    if (groups.isEmpty()) {
-                        resolvedActions.add(string);
-                    } else {
-                        resolvedActions.addAll(groups);
+                return resolvedActionLists.computeIfAbsent(actions, a -> {
+                    final Set<String> resolvedActions = new HashSet<String>();
+                    for (String string: a) {
+                        final Set<String> groups = getGroupMembers(string);
+                        if (groups.isEmpty()) {
+                            resolvedActions.add(string);
+                        } else {
+                            resolvedActions.addAll(groups);
+                        }
                     }
-                }
 
-                return Collections.unmodifiableSet(resolvedActions);
+                    return Collections.unmodifiableSet(resolvedActions);
+                });
             }
         };
     }
 
-    private SecurityRoles reload(SecurityDynamicConfiguration<RoleV7> settings) {
+    /**
+     * Resolves the action group {@code entry} depth first. {@code resolving} holds the groups on the current path with their depth.
+     * A reference back to one of them is cut and its depth is lowered into {@code cycleDepth}; a group is only memoized if no cycle
+     * was cut above it, because only then its result contains the actions of all groups it reaches.
+     */
+    private Set<String> resolve(final SecurityDynamicConfiguration<ActionGroupsV7> actionGroups, final String entry,
+            final Map<String, Set<String>> resolvedGroups, final Map<String, Integer> resolving, final int[] cycleDepth) {
+
+        final Set<String> resolved = resolvedGroups.get(entry);
+        if (resolved != null) {
+            return resolved;
+        }
 
-        final Set<Future<SecurityRole>> futures = new HashSet<>(5000);
-        final ExecutorService execs = Executors.newFixedThreadPool(10);
+        final Integer onPath = resolving.get(entry);
+        if (onPath != null) {
+            log.warn("Action group {} is part of a cycle, ignoring the reference to it", entry);
+            cycleDepth[0] = Math.min(cycleDepth[0], onPath);
+            return Collections.emptySet();
+        }
 
-        for(Entry<String, RoleV7> securityRole: settings.getCEntries().entrySet()) {
+        final Object actionGroupAsObject = actionGroups.getCEntries().get(entry);
+        final List<String> perms;
 
-            Future<SecurityRole> future = execs.submit(new Callable<SecurityRole>() {
+        if (actionGroupAsObject instanceof List) {
+            perms = (List<String>) actionGroupAsObject;
+        } else if (actionGroupAsObject instanceof ActionGroupsV7) {
+            perms = ((ActionGroupsV7) actionGroupAsObject).getAllowed_actions();
+        } else {
+            throw new RuntimeException("Unable to handle "+actionGroupAsObject);
+        }
 
-                @Override
-                public SecurityRole call() throws Exception {
-                    SecurityRole.Builder _securityRole = new SecurityRole.Builder(securityRole.getKey());
-                    
-                    if(securityRole.getValue() == null) {
-                        return null;
-                    }
+        final int depth = resolving.size();
+        resolving.put(entry, depth);
+        final int[] memberCycleDepth = { Integer.MAX_VALUE };
 
-                    final Set<String> permittedClusterActions = agr.resolvedActions(securityRole.getValue().getCluster_permissions());
-                    _securityRole.addClusterPerms(permittedClusterActions);
+        final Set<String> ret = new HashSet<String>();
+        for (final String perm: perms) {
+            if (actionGroups.getCEntries().containsKey(perm)) {
+                ret.addAll(resolve(actionGroups, perm, resolvedGroups, resolving, memberCycleDepth));
+            } else {
+                ret.add(perm);
+            }
+        }
 
-                        /*for(RoleV7.Tenant tenant: securityRole.getValue().getTenant_permissions()) {
+        resolving.remove(entry);
+        final Set<String> unmodifiable = Collections.unmodifiableSet(ret);
+        if (memberCycleDepth[0] < depth) {
+            // a cycle through a group above this one was cut, so this result lacks the actions of that group
+            cycleDepth[0] = Math.min(cycleDepth[0], memberCycleDepth[0]);
+        } else {
+            resolvedGroups.put(entry, unmodifiable);
+        }
+        return unmodifiable;
+    }
 
-                            //if(tenant.equals(user.getName())) {
-                            //    continue;
-                            //}
+    private SecurityRoles reload(SecurityDynamicConfiguration<RoleV7> settings, ConfigCompiler compiler) {
 
-                            if(isTenantsRw(tenant)) {
-                                _securityRole.addTenant(new Tenant(tenant.getKey(), true));
-                            } else {
-                                _securityRole.addTenant(new Tenant(tenant.getKey(), false));
-                            }
-                        }*/
+        final Map<String, SecurityRole> compiledRoles = compiler.compile("roles", settings.getCEntries(), (roleName, role) -> {
+            SecurityRole.Builder _securityRole = new SecurityRole.Builder(roleName);
 
-                        for (final Index permittedAliasesIndex : securityRole.getValue().getIndex_permissions()) {
+            final Set<String> permittedClusterActions = agr.resolvedActions(role.getCluster_permissions());
+            _securityRole.addClusterPerms(permittedClusterActions);
 
-                            final String dls = permittedAliasesIndex.getDls();
-                            final List<String> fls = permittedAliasesIndex.getFls();
-                            final List<String> maskedFields = permittedAliasesIndex.getMasked_fields();
+            /*for(RoleV7.Tenant tenant: securityRole.getValue().getTenant_permissions()) {
 
-                            for(String pat: permittedAliasesIndex.getIndex_patterns()) {
-                                IndexPattern _indexPattern = new IndexPattern(pat);
-                                _indexPattern.setDlsQuery(dls);
-                                _indexPattern.addFlsFields(fls);
-                                _indexPattern.addMaskedFields(maskedFields);
-                                _indexPattern.addPerm(agr.resolvedActions(permittedAliasesIndex.getAllowed_actions()));
-    
-                                /*for(Entry<String, List<String>> type: permittedAliasesIndex.getValue().getTypes(-).entrySet()) {
-                                    TypePerm typePerm = new TypePerm(type.getKey());
-                                    final List<String> perms = type.getValue();
-                                    typePerm.addPerms(agr.resolvedActions(perms));
-                                    _indexPattern.addTypePerms(typePerm);
-                                }*/
-    
-                                _securityRole.addIndexPattern(_indexPattern);
-                            
-                            }
+                //if(tenant.equals(user.getName())) {
+                //    continue;
+                //}
 
-                        }
-            
-                            
-                        return _securityRole.build();
+                if(isTenantsRw(tenant)) {
+                    _securityRole.addTenant(new Tenant(tenant.getKey(), true));
+                } else {
+                    _securityRole.addTenant(new Tenant(tenant.getKey(), false));
                 }
-            });
+            }*/
 
-            futures.add(future);
-        }
+            for (final Index permittedAliasesIndex : role.getIndex_permissions()) {
 
-        execs.shutdown();
-        try {
-            execs.awaitTermination(30, TimeUnit.SECONDS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Thread interrupted (1) while loading roles");
-            return null;
-        }
+                final String dls = permittedAliasesIndex.getDls();
+                final List<String> fls = permittedAliasesIndex.getFls();
+                final List<String> maskedFields = permittedAliasesIndex.getMasked_fields();
+
+                for(String pat: permittedAliasesIndex.getIndex_patterns()) {
+                    IndexPattern _indexPattern = new IndexPattern(pat);
+                    _indexPattern.setDlsQuery(dls);
+                    _indexPattern.addFlsFields(fls);
+                    _indexPattern.addMaskedFields(maskedFields);
+                    _indexPattern.addPerm(agr.resolvedActions(permittedAliasesIndex.getAllowed_actions()));
+
+                    /*for(Entry<String, List<String>> type: permittedAliasesIndex.getValue().getTypes(-).entrySet()) {
+                        TypePerm typePerm = new TypePerm(type.getKey());
+                        final List<String> perms = type.getValue();
+                        typePerm.addPerms(agr.resolvedActions(perms));
+                        _indexPattern.addTypePerms(typePerm);
+                    }*/
+
+                    _securityRole.addIndexPattern(_indexPattern);
+
+                }
 
-        try {
-            SecurityRoles _securityRoles = new SecurityRoles(futures.size());
-            for (Future<SecurityRole> future : futures) {
-                _securityRoles.addSecurityRole(future.get());
             }
 
-            return _securityRoles;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Thread interrupted (2) while loading roles");
-            return null;
-        } catch (ExecutionException e) {
-            log.error("Error while updating roles: {}", e.getCause(), e.getCause());
-            throw ExceptionsHelper.convertToOpenSearchException(e);
+            return _securityRole.build();
+        });
+
+        final SecurityRoles _securityRoles = new SecurityRoles(compiledRoles.size(), clusterInfoHolder);
+        for (SecurityRole securityRole : compiledRoles.values()) {
+            _securityRoles.addSecurityRole(securityRole);
         }
+
+        return _securityRoles;
     }
 
 
@@ -292,8 +282,11 @@ public class ConfigModelV7 extends ConfigModel {
 
         final Set<SecurityRole> roles;
 
-        private SecurityRoles(int roleCount) {
+        private final ClusterInfoHolder clusterInfoHolder;
+
+        private SecurityRoles(int roleCount, ClusterInfoHolder clusterInfoHolder) {
             roles = new HashSet<>(roleCount);
+            this.clusterInfoHolder = clusterInfoHolder;
         }
 
         private SecurityRoles addSecurityRole(SecurityRole securityRole) {
@@ -342,7 +335,7 @@ public class ConfigModelV7 extends ConfigModel {
         }
 
         public SecurityRoles filter(Set<String> keep) {
-            final SecurityRoles retVal = new SecurityRoles(roles.size());
+            final SecurityRoles retVal = new SecurityRoles(roles.size(), clusterInfoHolder);
             for (SecurityRole sr : roles) {
                 if (keep.contains(sr.getName())) {
                     retVal.addSecurityRole(sr);
@@ -380,7 +373,7 @@ public class ConfigModelV7 extends ConfigModel {
             for (SecurityRole role : roles) {
                 for (IndexPattern ip : role.getIpatterns()) {
 					Set<String> concreteIndices;
-					concreteIndices = ip.getResolvedIndexPattern(user, resolver, cs, false);
+					concreteIndices = ip.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder, false);
 					String dls = ip.getDlsQuery(user);
 
 					if (dls != null && dls.length() > 0) {
@@ -449,17 +442,30 @@ public class ConfigModelV7 extends ConfigModel {
         public Set<String> getAllPermittedIndicesForDashboards(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             Set<String> retVal = new HashSet<>();
             for (SecurityRole sr : roles) {
-                retVal.addAll(sr.getAllResolvedPermittedIndices(Resolved._LOCAL_ALL, user, actions, resolver, cs));
+                retVal.addAll(sr.getAllResolvedPermittedIndices(Resolved._LOCAL_ALL, user, actions, resolver, cs, clusterInfoHolder));
                 retVal.addAll(resolved.getRemoteIndices());
             }
             return Collections.unmodifiableSet(retVal);
         }
 
+        //dnfof + opensearchDashboards special only
+        public Set<String> getPermittedIndexPatterns(User user, String[] actions) {
+            Set<String> retVal = new HashSet<>();
+            for (SecurityRole sr : roles) {
+                for (IndexPattern ip : sr.getIpatterns()) {
+                    if (ip.getPerms().matchAll(actions)) {
+                        retVal.add(ip.getUnresolvedIndexPattern(user));
+                    }
+                }
+            }
+            return Collections.unmodifiableSet(retVal);
+        }
+
         //dnfof only
         public Set<String> reduce(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             Set<String> retVal = new HashSet<>();
             for (SecurityRole sr : roles) {
-                retVal.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs));
+                retVal.addAll(sr.getAllResolvedPermittedIndices(resolved, user, actions, resolver, cs, clusterInfoHolder));
             }
             if (log.isDebugEnabled()) {
                 log.debug("Reduced requested resolved indices {} to permitted indices {}.", resolved, retVal.toString());
@@ -470,7 +476,7 @@ public class ConfigModelV7 extends ConfigModel {
         //return true on success
         public boolean get(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs) {
             for (SecurityRole sr : roles) {
-                if (ConfigModelV7.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs)) {
+                if (ConfigModelV7.impliesTypePerm(sr.getIpatterns(), resolved, user, actions, resolver, cs, clusterInfoHolder)) {
                     return true;
                 }
             }
@@ -486,7 +492,7 @@ public class ConfigModelV7 extends ConfigModel {
                 ClusterService cs) {
             Set<IndexPattern> ipatterns = new HashSet<ConfigModelV7.IndexPattern>();
             roles.stream().forEach(p -> ipatterns.addAll(p.getIpatterns()));
-            return ConfigModelV7.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs);
+            return ConfigModelV7.impliesTypePerm(ipatterns, resolved, user, actions, resolver, cs, clusterInfoHolder);
         }
         
         private boolean containsDlsFlsConfig() {
@@ -546,7 +552,7 @@ public class ConfigModelV7 extends ConfigModel {
         //get indices which are permitted for the given types and actions
         //dnfof + opensearchDashboards special only
         private Set<String> getAllResolvedPermittedIndices(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver,
-                ClusterService cs) {
+                ClusterService cs, ClusterInfoHolder clusterInfoHolder) {
 
             final Set<String> retVal = new HashSet<>();
             for (IndexPattern p : ipatterns) {
@@ -561,7 +567,7 @@ public class ConfigModelV7 extends ConfigModel {
 //                }
                 if (patternMatch) {
                     //resolved but can contain patterns for nonexistent indices
-                    final WildcardMatcher permitted = WildcardMatcher.from(p.getResolvedIndexPattern(user, resolver, cs, true)); //maybe they do not exist
+                    final WildcardMatcher permitted = WildcardMatcher.from(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder, true)); //maybe they do not exist
                     final Set<String> res = new HashSet<>();
                     if (!resolved.isLocalAll() && !resolved.getAllIndices().contains("*") && !resolved.getAllIndices().contains("_all")) {
                         //resolved but can contain patterns for nonexistent indices
@@ -753,16 +759,15 @@ public class ConfigModelV7 extends ConfigModel {
             return replaceProperties(indexPattern, user);
         }
 
-        public Set<String> getResolvedIndexPattern(User user, IndexNameExpressionResolver resolver, ClusterService cs, boolean appendUnresolved) {
+        public Set<String> getResolvedIndexPattern(User user, IndexNameExpressionResolver resolver, ClusterService cs, ClusterInfoHolder clusterInfoHolder,
+                boolean appendUnresolved) {
             String unresolved = getUnresolvedIndexPattern(user);
             WildcardMatcher matcher = WildcardMatcher.from(unresolved);
             String[] resolved = null;
             if (!(matcher instanceof WildcardMatcher.Exact)) {
-                final String[] aliasesForPermittedPattern = cs.state().getMetadata().getIndicesLookup().entrySet().stream()
-                        .filter(e -> e.getValue().getType() == ALIAS)
-                        .filter(e -> matcher.test(e.getKey()))
-                        .map(e -> e.getKey())
-                        .toArray(String[]::new);
+                final String[] aliasesForPermittedPattern = clusterInfoHolder.getIndexAliasLookup(cs.state().getMetadata())
+                        .getMatchingAliases(Collections.singleton(unresolved))
+                        .toArray(new String[0]);
 
                 if (aliasesForPermittedPattern.length > 0) {
                     resolved = resolver.concreteIndexNames(cs.state(), IndicesOptions.lenientExpandOpen(), aliasesForPermittedPattern);
@@ -989,19 +994,19 @@ public class ConfigModelV7 extends ConfigModel {
     }
 
     private static boolean impliesTypePerm(Set<IndexPattern> ipatterns, Resolved resolved, User user, String[] requestedActions,
-                                           IndexNameExpressionResolver resolver, ClusterService cs) {
+                                           IndexNameExpressionResolver resolver, ClusterService cs, ClusterInfoHolder clusterInfoHolder) {
         Set<String> resolvedRequestedIndices = resolved.getAllIndices();
         IndexMatcherAndPermissions[] indexMatcherAndPermissions;
         if (resolved.isLocalAll()) {
             indexMatcherAndPermissions = ipatterns
                     .stream()
                     .filter(indexPattern -> "*".equals(indexPattern.getUnresolvedIndexPattern(user)))
-                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.perms))
+                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder, true), p.perms))
                     .toArray(IndexMatcherAndPermissions[]::new);
         } else {
             indexMatcherAndPermissions = ipatterns
                     .stream()
-                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, true), p.perms))
+                    .map(p -> new IndexMatcherAndPermissions(p.getResolvedIndexPattern(user, resolver, cs, clusterInfoHolder, true), p.perms))
                     .toArray(IndexMatcherAndPermissions[]::new);
         }
         return resolvedRequestedIndices
@@ -1017,111 +1022,109 @@ public class ConfigModelV7 extends ConfigModel {
     
     private class TenantHolder {
 
-        private SetMultimap<String, Tuple<String, Boolean>> tenantsMM = null;
+        private static final String WRITE_PERMISSION = "kibana:saved_objects/*/write";
 
-        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants) {
-            final Set<Future<Tuple<String, Set<Tuple<String, Boolean>>>>> futures = new HashSet<>(roles.getCEntries().size());
+        // tenants by role, with wildcard patterns resolved against the defined tenants; true for read/write
+        private Map<String, RoleTenants> tenantsByRole = null;
+        private final Cache<MultiKey, Map<String, Boolean>> mappedTenantsCache = CacheBuilder.newBuilder()
+                .maximumSize(1000)
+                .build();
 
-            final ExecutorService execs = Executors.newFixedThreadPool(10);
+        public TenantHolder(SecurityDynamicConfiguration<RoleV7> roles, SecurityDynamicConfiguration<TenantV7> definedTenants, ConfigCompiler compiler) {
+            final Map<String, RoleTenants> compiledTenants = compiler.compile("tenants", roles.getCEntries(), (roleName, role) -> {
+                final RoleTenants roleTenants = new RoleTenants();
+                final List<RoleV7.Tenant> tenants = role.getTenant_permissions();
+                if (tenants != null) {
 
-            for(Entry<String, RoleV7> securityRole: roles.getCEntries().entrySet()) {
+                    for (RoleV7.Tenant tenant : tenants) {
+                        final boolean rw = agr.resolvedActions(tenant.getAllowed_actions()).contains(WRITE_PERMISSION);
 
-                if(securityRole.getValue() == null) {
-                    continue;
-                }
-
-                Future<Tuple<String, Set<Tuple<String, Boolean>>>> future = execs.submit(new Callable<Tuple<String, Set<Tuple<String, Boolean>>>>() {
-                    @Override
-                    public Tuple<String, Set<Tuple<String, Boolean>>> call() throws Exception {
-                        final Set<Tuple<String, Boolean>> tuples = new HashSet<>();
-                        final List<RoleV7.Tenant> tenants = securityRole.getValue().getTenant_permissions();
-                        if (tenants != null) {
-                            
-                            for (RoleV7.Tenant tenant : tenants) {
-
-                                // find Wildcarded tenant patterns
-                                List<String> matchingTenants = WildcardMatcher.from(tenant.getTenant_patterns()).getMatchAny(definedTenants.getCEntries().keySet(), Collectors.toList()) ;
-                                for(String matchingTenant: matchingTenants ) {
-                                    tuples.add(new Tuple<String, Boolean>(matchingTenant, agr.resolvedActions(tenant.getAllowed_actions()).contains("kibana:saved_objects/*/write")));
-                                }
-                                // find parameter substitution specified tenant
-                                Pattern parameterPattern = Pattern.compile("^\\$\\{attr");
-                                List<String> matchingParameterTenantList = tenant.getTenant_patterns().stream().filter(parameterPattern.asPredicate()).collect(Collectors.toList());
-                                for(String matchingParameterTenant : matchingParameterTenantList ) {
-                                    tuples.add(new Tuple<String, Boolean>(matchingParameterTenant,agr.resolvedActions(tenant.getAllowed_actions()).contains("kibana:saved_objects/*/write"))) ;
-                                }
+                        // find Wildcarded tenant patterns
+                        List<String> matchingTenants = WildcardMatcher.from(tenant.getTenant_patterns()).getMatchAny(definedTenants.getCEntries().keySet(), Collectors.toList()) ;
+                        for(String matchingTenant: matchingTenants ) {
+                            RoleTenants.merge(roleTenants.tenants, matchingTenant, rw);
+                        }
+                        // find parameter substitution specified tenant, these are resolved per user
+                        for(String tenantPattern : tenant.getTenant_patterns()) {
+                            if (tenantPattern.startsWith("${attr")) {
+                                RoleTenants.merge(roleTenants.templatedTenants, tenantPattern, rw);
                             }
                         }
-
-                        return new Tuple<String, Set<Tuple<String, Boolean>>>(securityRole.getKey(), tuples);
                     }
-                });
+                }
 
-                futures.add(future);
+                return roleTenants.isEmpty() ? null : roleTenants;
+            });
 
-            }
+            tenantsByRole = new HashMap<>(compiledTenants);
+        }
 
-            execs.shutdown();
-            try {
-                execs.awaitTermination(30, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted (1) while loading roles");
-                return;
-            }
+        public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
 
-            try {
-                final SetMultimap<String, Tuple<String, Boolean>> tenantsMM_ = SetMultimapBuilder.hashKeys(futures.size()).hashSetValues(16).build();
+            if (user == null || tenantsByRole == null) {
+                return Collections.emptyMap();
+            }
 
-                for (Future<Tuple<String, Set<Tuple<String, Boolean>>>> future : futures) {
-                    Tuple<String, Set<Tuple<String, Boolean>>> result = future.get();
-                    tenantsMM_.putAll(result.v1(), result.v2());
+            boolean templated = false;
+            for (String role : roles) {
+                final RoleTenants roleTenants = tenantsByRole.get(role);
+                if (roleTenants != null && !roleTenants.templatedTenants.isEmpty()) {
+                    templated = true;
+                    break;
                 }
-
-                tenantsMM = tenantsMM_;
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.error("Thread interrupted (2) while loading roles");
-                return;
-            } catch (ExecutionException e) {
-                log.error("Error while updating roles: {}", e.getCause(), e.getCause());
-                throw ExceptionsHelper.convertToOpenSearchException(e);
             }
 
-        }
+            // the user attributes are only relevant if one of the roles has a templated tenant
+            final MultiKey key = templated
+                    ? new MultiKey(new Object[] { user.getName(), ImmutableSet.copyOf(roles), ImmutableSet.copyOf(user.getRoles()),
+                            ImmutableSet.copyOf(user.getSecurityRoles()), new HashMap<>(user.getCustomAttributesMap()) }, false)
+                    : new MultiKey(user.getName(), ImmutableSet.copyOf(roles));
 
-        public Map<String, Boolean> mapTenants(final User user, Set<String> roles) {
+            Map<String, Boolean> result = mappedTenantsCache.getIfPresent(key);
 
-            if (user == null || tenantsMM == null) {
-                return Collections.emptyMap();
+            if (result == null) {
+                result = computeTenants(user, roles);
+                mappedTenantsCache.put(key, result);
             }
 
+            return result;
+        }
+
+        private Map<String, Boolean> computeTenants(final User user, final Set<String> roles) {
             final Map<String, Boolean> result = new HashMap<>(roles.size());
             result.put(user.getName(), true);
 
-            tenantsMM.entries().stream().filter(e -> roles.contains(e.getKey())).filter(e -> !user.getName().equals(e.getValue().v1())).forEach(e -> {
+            for (String role : roles) {
+                final RoleTenants roleTenants = tenantsByRole.get(role);
 
-                // replaceProperties for tenant name because
-                // at this point e.getValue().v1() can be in this form : "${attr.[internal|jwt|proxy|ldap].*}"
-                // let's substitute it with the eventual value of the user's attribute
-                final String tenant = replaceProperties(e.getValue().v1(),user);
-                final boolean rw = e.getValue().v2();
+                if (roleTenants == null) {
+                    continue;
+                }
 
-                if (rw || !result.containsKey(tenant)) { //RW outperforms RO
+                for (Entry<String, Boolean> tenant : roleTenants.tenants.entrySet()) {
+                    if (!user.getName().equals(tenant.getKey())) {
+                        RoleTenants.merge(result, tenant.getKey(), tenant.getValue());
+                    }
+                }
 
-                    // We want to make sure that we add a tenant that exissts
+                for (Entry<String, Boolean> templatedTenant : roleTenants.templatedTenants.entrySet()) {
+                    // replaceProperties for tenant name because
+                    // at this point the tenant can be in this form : "${attr.[internal|jwt|proxy|ldap].*}"
+                    // let's substitute it with the eventual value of the user's attribute
+                    final String tenant = replaceProperties(templatedTenant.getKey(), user);
+
+                    // We want to make sure that we add a tenant that exists
                     // Indeed, because we don't have control over what will be
                     // passed on as values of users' attributes, we have to make
                     // sure that we don't allow them to select tenants that do not exist.
-                    if(ConfigModelV7.this.tenants.getCEntries().keySet().contains(tenant)) {
-                        result.put(tenant, rw);
+                    if (ConfigModelV7.this.tenants.getCEntries().keySet().contains(tenant)) {
+                        RoleTenants.merge(result, tenant, templatedTenant.getValue());
                     }
                 }
-            });
+            }
             
             if(!result.containsKey("global_tenant") && (
                     roles.contains("kibana_user")
-                    || roles.contains("kibana_user")
                     || roles.contains("all_access")
                     || roles.contains("ALL_ACCESS")
                     )) {
@@ -1132,6 +1135,22 @@ public class ConfigModelV7 extends ConfigModel {
         }
     }
 
+    private static class RoleTenants {
+        private final Map<String, Boolean> tenants = new HashMap<>();
+        private final Map<String, Boolean> templatedTenants = new HashMap<>();
+
+        private boolean isEmpty() {
+            return tenants.isEmpty() && templatedTenants.isEmpty();
+        }
+
+        // RW outperforms RO
+        private static void merge(final Map<String, Boolean> tenants, final String tenant, final boolean rw) {
+            if (rw || !tenants.containsKey(tenant)) {
+                tenants.put(tenant, rw);
+            }
+        }
+    }
+
     private class RoleMappingHolder {
 
         private ListMultimap<String, String> users;
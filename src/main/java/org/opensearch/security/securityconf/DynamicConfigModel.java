@@ -51,6 +51,7 @@ import org.opensearch.security.http.HTTPBasicAuthenticator;
 import org.opensearch.security.http.HTTPClientCertAuthenticator;
 import org.opensearch.security.http.HTTPProxyAuthenticator;
 import org.opensearch.security.http.proxy.HTTPExtendedProxyAuthenticator;
+import org.opensearch.security.stats.ConnectionPoolStats;
 
 public abstract class DynamicConfigModel {
     
@@ -78,6 +79,10 @@ public abstract class DynamicConfigModel {
     public abstract Multimap<String, AuthFailureListener> getAuthBackendFailureListeners();
     public abstract List<ClientBlockRegistry<InetAddress>> getIpClientBlockRegistries();
     public abstract Multimap<String, ClientBlockRegistry<String>> getAuthBackendClientBlockRegistries();
+    /**
+     * @return the backends which may pool their connections, by "authc." or "authz." and the name of their domain
+     */
+    public abstract Map<String, ConnectionPoolStats.Provider> getConnectionPools();
     
     protected final Map<String, String> authImplMap = new HashMap<>();
 
@@ -34,9 +34,11 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.SortedSet;
+import java.util.TreeMap;
 import java.util.TreeSet;
 
 import com.google.common.base.Strings;
@@ -59,6 +61,7 @@ import org.opensearch.security.securityconf.impl.v7.ConfigV7.Authc;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.AuthcDomain;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.Authz;
 import org.opensearch.security.securityconf.impl.v7.ConfigV7.AuthzDomain;
+import org.opensearch.security.stats.ConnectionPoolStats;
 import org.opensearch.security.support.ReflectionHelper;
 
 public class DynamicConfigModelV7 extends DynamicConfigModel {
@@ -71,6 +74,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
     private SortedSet<AuthDomain> transportAuthDomains;
     private Set<AuthorizationBackend> transportAuthorizers;
     private List<Destroyable> destroyableComponents;
+    private Map<String, ConnectionPoolStats.Provider> connectionPools;
     private final InternalAuthenticationBackend iab;
 
     private List<AuthFailureListener> ipAuthFailureListeners;
@@ -182,6 +186,11 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
     public Multimap<String, ClientBlockRegistry<String>> getAuthBackendClientBlockRegistries() {
         return Multimaps.unmodifiableMultimap(authBackendClientBlockRegistries);
     }
+
+    @Override
+    public Map<String, ConnectionPoolStats.Provider> getConnectionPools() {
+        return connectionPools;
+    }
     
     
     private void buildAAA() {
@@ -191,6 +200,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
         final SortedSet<AuthDomain> transportAuthDomains0 = new TreeSet<>();
         final Set<AuthorizationBackend> transportAuthorizers0 = new HashSet<>();
         final List<Destroyable> destroyableComponents0 = new LinkedList<>();
+        final Map<String, ConnectionPoolStats.Provider> connectionPools0 = new TreeMap<>();
         final List<AuthFailureListener> ipAuthFailureListeners0 = new ArrayList<>();
         final Multimap<String, AuthFailureListener> authBackendFailureListeners0 = ArrayListMultimap.create();
         final List<ClientBlockRegistry<InetAddress>> ipClientBlockRegistries0 = new ArrayList<>();
@@ -235,6 +245,10 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
                     if (authorizationBackend instanceof Destroyable) {
                         destroyableComponents0.add((Destroyable) authorizationBackend);
                     }
+
+                    if (authorizationBackend instanceof ConnectionPoolStats.Provider) {
+                        connectionPools0.put("authz." + ad.getKey(), (ConnectionPoolStats.Provider) authorizationBackend);
+                    }
                 } catch (final Exception e) {
                     log.error("Unable to initialize AuthorizationBackend {} due to {}", ad, e.toString(),e);
                 }
@@ -292,6 +306,10 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
                     if (authenticationBackend instanceof Destroyable) {
                         destroyableComponents0.add((Destroyable) authenticationBackend);
                     }
+
+                    if (authenticationBackend instanceof ConnectionPoolStats.Provider) {
+                        connectionPools0.put("authc." + ad.getKey(), (ConnectionPoolStats.Provider) authenticationBackend);
+                    }
                     
                 } catch (final Exception e) {
                     log.error("Unable to initialize auth domain {} due to {}", ad, e.toString(), e);
@@ -308,6 +326,7 @@ public class DynamicConfigModelV7 extends DynamicConfigModel {
         transportAuthorizers = Collections.unmodifiableSet(transportAuthorizers0);
         
         destroyableComponents = Collections.unmodifiableList(destroyableComponents0);
+        connectionPools = Collections.unmodifiableMap(connectionPools0);
         
         if(originalDestroyableComponents != null) {
             destroyDestroyables(originalDestroyableComponents);
@@ -49,6 +49,11 @@ public interface SecurityRoles {
 
     EvaluatedDlsFlsConfig getDlsFls(User user, boolean dfmEmptyOverwritesAll, IndexNameExpressionResolver resolver, ClusterService clusterService, NamedXContentRegistry namedXContentRegistry);
 
+    /**
+     * @return the index patterns, with user attributes replaced, on which all of the given actions are permitted
+     */
+    Set<String> getPermittedIndexPatterns(User user, String[] actions);
+
     Set<String> getAllPermittedIndicesForDashboards(Resolved resolved, User user, String[] actions, IndexNameExpressionResolver resolver, ClusterService cs);
 
     SecurityRoles filter(Set<String> roles);
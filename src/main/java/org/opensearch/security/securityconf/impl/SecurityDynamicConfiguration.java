@@ -32,10 +32,12 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.function.UnaryOperator;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
 import com.fasterxml.jackson.annotation.JsonAnySetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -95,6 +97,41 @@ public class SecurityDynamicConfiguration<T> implements ToXContent {
 
         return sdc;
     }
+
+    /**
+     * Like {@link #fromJson(String, CType, int, long, long, boolean)}, but binds the typed entries directly from the utf-8 encoded
+     * document. {@code parserDecorator} can wrap the parser, e.g. to replace environment variables while reading.
+     */
+    public static <T> SecurityDynamicConfiguration<T> fromJson(byte[] json, CType ctype, int version, long seqNo, long primaryTerm, boolean acceptInvalid,
+                                                               UnaryOperator<JsonParser> parserDecorator) throws IOException {
+        SecurityDynamicConfiguration<T> sdc = null;
+        if(ctype != null) {
+            final Class<?> implementationClass = ctype.getImplementationClass().get(version);
+            if(implementationClass == null) {
+                throw new IllegalArgumentException("No implementation class found for "+ctype+" and config version "+version);
+            }
+            if(acceptInvalid && version < 2) {
+                try (JsonParser parser = parserDecorator.apply(NonValidatingObjectMapper.createParser(json))) {
+                    sdc = NonValidatingObjectMapper.readValue(parser, NonValidatingObjectMapper.getTypeFactory().constructParametricType(SecurityDynamicConfiguration.class, implementationClass));
+                }
+            } else {
+                try (JsonParser parser = parserDecorator.apply(DefaultObjectMapper.createParser(json))) {
+                    sdc = DefaultObjectMapper.readValue(parser, DefaultObjectMapper.getTypeFactory().constructParametricType(SecurityDynamicConfiguration.class, implementationClass));
+                }
+            }
+            validate(sdc, version, ctype);
+
+        } else {
+            sdc = new SecurityDynamicConfiguration<T>();
+        }
+
+        sdc.ctype = ctype;
+        sdc.seqNo = seqNo;
+        sdc.primaryTerm = primaryTerm;
+        sdc.version = version;
+
+        return sdc;
+    }
     
     public static void validate(SecurityDynamicConfiguration sdc, int version, CType ctype) throws IOException {
         if(version < 2 && sdc.get_meta() != null) {
@@ -25,6 +25,7 @@ import java.nio.file.LinkOption;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.security.AccessController;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PrivilegedActionException;
@@ -33,6 +34,7 @@ import java.security.cert.CertificateParsingException;
 import java.security.cert.X509Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -77,6 +79,8 @@ import org.opensearch.security.ssl.util.CertFromTruststore;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.security.ssl.util.KeystoreProps;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
+import org.opensearch.security.ssl.util.SSLSessionStats;
+import org.opensearch.security.ssl.util.SSLSessionTicketKeys;
 import org.opensearch.transport.NettyAllocator;
 
 public class DefaultSecurityKeyStore implements SecurityKeyStore {
@@ -120,6 +124,11 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     private X509Certificate[] transportCerts;
     private X509Certificate[] httpCerts;
     private final Environment env;
+    private final SSLSessionTicketKeys httpSessionTicketKeys;
+    private final SSLSessionTicketKeys transportSessionTicketKeys;
+    private final SSLSessionStats httpSessionStats = new SSLSessionStats();
+    private final SSLSessionStats transportServerSessionStats = new SSLSessionStats();
+    private final SSLSessionStats transportClientSessionStats = new SSLSessionStats();
 
     public DefaultSecurityKeyStore(final Settings settings, final Path configPath) {
         super();
@@ -131,6 +140,8 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
             _env = null;
         }
         env = _env;
+        httpSessionTicketKeys = new SSLSessionTicketKeys(settings.getAsInt(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TICKET_KEY_ROTATION, 0));
+        transportSessionTicketKeys = new SSLSessionTicketKeys(settings.getAsInt(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TICKET_KEY_ROTATION, 0));
         httpSSLEnabled = settings.getAsBoolean(SSLConfigConstants.SECURITY_SSL_HTTP_ENABLED,
             SSLConfigConstants.SECURITY_SSL_HTTP_ENABLED_DEFAULT);
         transportSSLEnabled = settings.getAsBoolean(SSLConfigConstants.SECURITY_SSL_TRANSPORT_ENABLED,
@@ -357,7 +368,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 transportServerSslContext = buildSSLServerContext(
                     certFromKeystore.getServerKey(), certFromKeystore.getServerCert(),
                     certFromTruststore.getServerTrustedCerts(), getEnabledSSLCiphers(this.sslTransportServerProvider, false),
-                    this.sslTransportServerProvider, ClientAuth.REQUIRE);
+                    this.sslTransportServerProvider, ClientAuth.REQUIRE, false);
                 transportClientSslContext = buildSSLClientContext(
                     certFromKeystore.getClientKey(), certFromKeystore.getClientCert(),
                     certFromTruststore.getClientTrustedCerts(), getEnabledSSLCiphers(sslTransportClientProvider, false),
@@ -403,7 +414,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                         certFromFile.getServerPemKey(), certFromFile.getServerPemCert(), certFromFile.getServerTrustedCas(),
                         certFromFile.getServerPemKeyPassword(),
                         getEnabledSSLCiphers(this.sslTransportServerProvider, false),
-                        this.sslTransportServerProvider, ClientAuth.REQUIRE);
+                        this.sslTransportServerProvider, ClientAuth.REQUIRE, false);
                 transportClientSslContext = buildSSLClientContext(
                         certFromFile.getClientPemKey(), certFromFile.getClientPemCert(), certFromFile.getClientTrustedCas(),
                         certFromFile.getClientPemKeyPassword(),
@@ -495,7 +506,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                 httpSslContext = buildSSLServerContext(
                     certFromKeystore.getServerKey(), certFromKeystore.getServerCert(),
                     certFromTruststore.getServerTrustedCerts(),
-                    getEnabledSSLCiphers(this.sslHTTPProvider, true), sslHTTPProvider, httpClientAuthMode);
+                    getEnabledSSLCiphers(this.sslHTTPProvider, true), sslHTTPProvider, httpClientAuthMode, true);
                 setHttpSSLCerts(certFromKeystore.getCerts());
 
             } catch (final Exception e) {
@@ -525,7 +536,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                     certFromFile.getServerPemKey(), certFromFile.getServerPemCert(),
                     certFromFile.getServerTrustedCas(),
                     settings.get(SSLConfigConstants.SECURITY_SSL_HTTP_PEMKEY_PASSWORD),
-                    getEnabledSSLCiphers(this.sslHTTPProvider, true), sslHTTPProvider, httpClientAuthMode);
+                    getEnabledSSLCiphers(this.sslHTTPProvider, true), sslHTTPProvider, httpClientAuthMode, true);
                 setHttpSSLCerts(certFromFile.getCerts());
 
             } catch (final Exception e) {
@@ -653,6 +664,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     }
 
     public SSLEngine createHTTPSSLEngine() throws SSLException {
+        httpSessionTicketKeys.rotateIfNeeded();
         final SSLEngine engine = httpSslContext.newEngine(NettyAllocator.getAllocator());
         engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslHTTPProvider, true));
         return engine;
@@ -660,6 +672,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
     }
 
     public SSLEngine createServerTransportSSLEngine() throws SSLException {
+        transportSessionTicketKeys.rotateIfNeeded();
         final SSLEngine engine = transportServerSslContext.newEngine(NettyAllocator.getAllocator());
         engine.setEnabledProtocols(getEnabledSSLProtocols(this.sslTransportServerProvider, false));
         return engine;
@@ -698,6 +711,21 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         return sslTransportClientProvider == null ? null : sslTransportClientProvider.toString();
     }
 
+    @Override
+    public SSLSessionStats getHttpSessionStats() {
+        return httpSessionStats;
+    }
+
+    @Override
+    public SSLSessionStats getTransportServerSessionStats() {
+        return transportServerSessionStats;
+    }
+
+    @Override
+    public SSLSessionStats getTransportClientSessionStats() {
+        return transportClientSessionStats;
+    }
+
     @Override
     public X509Certificate[] getTransportCerts() { return transportCerts; }
 
@@ -877,34 +905,38 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
 
     private SslContext buildSSLServerContext(final PrivateKey _key, final X509Certificate[] _cert,
                                              final X509Certificate[] _trustedCerts, final Iterable<String> ciphers, final SslProvider sslProvider,
-                                             final ClientAuth authMode) throws SSLException {
+                                             final ClientAuth authMode, final boolean http) throws SSLException {
 
         final SslContextBuilder _sslContextBuilder = SslContextBuilder.forServer(_key, _cert).ciphers(ciphers)
             .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED)
             .clientAuth(Objects.requireNonNull(authMode)) // https://github.com/netty/netty/issues/4722
-            .sessionCacheSize(0).sessionTimeout(0).sslProvider(sslProvider);
+            .sessionCacheSize(getSessionCacheSize(http)).sessionTimeout(getSessionTimeout(http)).sslProvider(sslProvider);
 
         if (_trustedCerts != null && _trustedCerts.length > 0) {
             _sslContextBuilder.trustManager(_trustedCerts);
         }
 
-        return buildSSLContext0(_sslContextBuilder);
+        final SslContext sslContext = buildSSLContext0(_sslContextBuilder);
+        getSessionTicketKeys(http).apply(sslContext, trustFingerprint(_trustedCerts));
+        return sslContext;
     }
 
     private SslContext buildSSLServerContext(final File _key, final File _cert, final File _trustedCerts,
-                                             final String pwd, final Iterable<String> ciphers, final SslProvider sslProvider, final ClientAuth authMode)
-        throws SSLException {
+                                             final String pwd, final Iterable<String> ciphers, final SslProvider sslProvider, final ClientAuth authMode,
+                                             final boolean http) throws SSLException {
 
         final SslContextBuilder _sslContextBuilder = SslContextBuilder.forServer(_cert, _key, pwd).ciphers(ciphers)
             .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED)
             .clientAuth(Objects.requireNonNull(authMode)) // https://github.com/netty/netty/issues/4722
-            .sessionCacheSize(0).sessionTimeout(0).sslProvider(sslProvider);
+            .sessionCacheSize(getSessionCacheSize(http)).sessionTimeout(getSessionTimeout(http)).sslProvider(sslProvider);
 
         if (_trustedCerts != null) {
             _sslContextBuilder.trustManager(_trustedCerts);
         }
 
-        return buildSSLContext0(_sslContextBuilder);
+        final SslContext sslContext = buildSSLContext0(_sslContextBuilder);
+        getSessionTicketKeys(http).apply(sslContext, trustFingerprint(_trustedCerts));
+        return sslContext;
     }
 
     private SslContext buildSSLClientContext(final PrivateKey _key, final X509Certificate[] _cert,
@@ -912,7 +944,7 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
         throws SSLException {
 
         final SslContextBuilder _sslClientContextBuilder = SslContextBuilder.forClient().ciphers(ciphers)
-            .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED).sessionCacheSize(0).sessionTimeout(0)
+            .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED).sessionCacheSize(getSessionCacheSize(false)).sessionTimeout(getSessionTimeout(false))
             .sslProvider(sslProvider).trustManager(_trustedCerts).keyManager(_key, _cert);
 
         return buildSSLContext0(_sslClientContextBuilder);
@@ -923,13 +955,66 @@ public class DefaultSecurityKeyStore implements SecurityKeyStore {
                                              final String pwd, final Iterable<String> ciphers, final SslProvider sslProvider) throws SSLException {
 
         final SslContextBuilder _sslClientContextBuilder = SslContextBuilder.forClient().ciphers(ciphers)
-            .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED).sessionCacheSize(0).sessionTimeout(0)
+            .applicationProtocolConfig(ApplicationProtocolConfig.DISABLED).sessionCacheSize(getSessionCacheSize(false)).sessionTimeout(getSessionTimeout(false))
             .sslProvider(sslProvider).trustManager(_trustedCerts).keyManager(_cert, _key, pwd);
 
         return buildSSLContext0(_sslClientContextBuilder);
 
     }
 
+    /**
+     * @return the configured session cache size, 0 uses the default of the provider
+     */
+    private long getSessionCacheSize(final boolean http) {
+        return settings.getAsInt(http ? SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_CACHE_SIZE
+                : SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE, 0);
+    }
+
+    /**
+     * @return the configured session timeout in seconds, 0 uses the default of the provider
+     */
+    private long getSessionTimeout(final boolean http) {
+        return settings.getAsInt(http ? SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TIMEOUT
+                : SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT, 0);
+    }
+
+    private SSLSessionTicketKeys getSessionTicketKeys(final boolean http) {
+        return http ? httpSessionTicketKeys : transportSessionTicketKeys;
+    }
+
+    private static String trustFingerprint(final X509Certificate[] trustedCerts) throws SSLException {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (trustedCerts != null) {
+                for (final X509Certificate trustedCert : trustedCerts) {
+                    digest.update(trustedCert.getEncoded());
+                }
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (final Exception e) {
+            throw new SSLException("Unable to fingerprint trusted certificates", e);
+        }
+    }
+
+    @SuppressWarnings("removal")
+    private static String trustFingerprint(final File trustedCerts) throws SSLException {
+        final SecurityManager sm = System.getSecurityManager();
+
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            if (trustedCerts != null) {
+                digest.update(AccessController.doPrivileged((PrivilegedExceptionAction<byte[]>) () -> Files.readAllBytes(trustedCerts.toPath())));
+            }
+            return Base64.getEncoder().encodeToString(digest.digest());
+        } catch (final Exception e) {
+            throw new SSLException("Unable to fingerprint trusted certificates", e);
+        }
+    }
+
     @SuppressWarnings("removal")
     private SslContext buildSSLContext0(final SslContextBuilder sslContextBuilder) throws SSLException {
 
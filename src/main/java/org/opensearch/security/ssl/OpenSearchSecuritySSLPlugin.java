@@ -344,6 +344,12 @@ public class OpenSearchSecuritySSLPlugin extends Plugin implements SystemIndexPl
         settings.add(Setting.listSetting(SSLConfigConstants.SECURITY_SSL_HTTP_ENABLED_PROTOCOLS, Collections.emptyList(), Function.identity(), Property.NodeScope));//not filtered here
         settings.add(Setting.listSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_ENABLED_CIPHERS, Collections.emptyList(), Function.identity(), Property.NodeScope));//not filtered here
         settings.add(Setting.listSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_ENABLED_PROTOCOLS, Collections.emptyList(), Function.identity(), Property.NodeScope));//not filtered here
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_CACHE_SIZE, 0, 0, Property.NodeScope, Property.Filtered));
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TIMEOUT, 0, 0, Property.NodeScope, Property.Filtered));
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_HTTP_SESSION_TICKET_KEY_ROTATION, 0, 0, Property.NodeScope, Property.Filtered));
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE, 0, 0, Property.NodeScope, Property.Filtered));
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT, 0, 0, Property.NodeScope, Property.Filtered));
+        settings.add(Setting.intSetting(SSLConfigConstants.SECURITY_SSL_TRANSPORT_SESSION_TICKET_KEY_ROTATION, 0, 0, Property.NodeScope, Property.Filtered));
         settings.add(Setting.simpleString(SSLConfigConstants.SECURITY_SSL_CLIENT_EXTERNAL_CONTEXT_ID, Property.NodeScope, Property.Filtered));
         settings.add(Setting.simpleString(SSLConfigConstants.SECURITY_SSL_TRANSPORT_PRINCIPAL_EXTRACTOR_CLASS, Property.NodeScope, Property.Filtered));
 
@@ -22,6 +22,8 @@ import java.security.cert.X509Certificate;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 
+import org.opensearch.security.ssl.util.SSLSessionStats;
+
 public interface SecurityKeyStore {
 
     public SSLEngine createHTTPSSLEngine() throws SSLException;
@@ -35,6 +37,18 @@ public interface SecurityKeyStore {
     public String getTransportClientProviderName();
     public String getSubjectAlternativeNames(X509Certificate cert); 
 
+    public default SSLSessionStats getHttpSessionStats() {
+        return SSLSessionStats.NONE;
+    }
+
+    public default SSLSessionStats getTransportServerSessionStats() {
+        return SSLSessionStats.NONE;
+    }
+
+    public default SSLSessionStats getTransportClientSessionStats() {
+        return SSLSessionStats.NONE;
+    }
+
     public void initHttpSSLConfig();
     public void initTransportSSLConfig();
     public X509Certificate[] getTransportCerts();
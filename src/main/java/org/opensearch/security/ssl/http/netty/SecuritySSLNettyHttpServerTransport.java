@@ -81,6 +81,7 @@ public class SecuritySSLNettyHttpServerTransport extends Netty4HttpServerTranspo
         protected void initChannel(Channel ch) throws Exception {
             super.initChannel(ch);
             final SslHandler sslHandler = new SslHandler(SecuritySSLNettyHttpServerTransport.this.sks.createHTTPSSLEngine());
+            SecuritySSLNettyHttpServerTransport.this.sks.getHttpSessionStats().track(sslHandler);
             ch.pipeline().addFirst("ssl_http", sslHandler);
         }
     }
@@ -108,6 +108,9 @@ public class SecuritySSLInfoAction extends BaseRestHandler {
                     builder.field("ssl_provider_http", sks.getHTTPProviderName());
                     builder.field("ssl_provider_transport_server", sks.getTransportServerProviderName());
                     builder.field("ssl_provider_transport_client", sks.getTransportClientProviderName());
+                    builder.field("ssl_session_stats_http", sks.getHttpSessionStats().toMap());
+                    builder.field("ssl_session_stats_transport_server", sks.getTransportServerSessionStats().toMap());
+                    builder.field("ssl_session_stats_transport_client", sks.getTransportClientSessionStats().toMap());
                     builder.endObject();
 
                     response = new BytesRestResponse(RestStatus.OK, builder);
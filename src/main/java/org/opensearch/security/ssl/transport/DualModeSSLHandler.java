@@ -81,6 +81,7 @@ public class DualModeSSLHandler extends ByteToMessageDecoder {
             sslHandler = providedSSLHandler;
         } else {
             sslHandler = new SslHandler(securityKeyStore.createServerTransportSSLEngine());
+            securityKeyStore.getTransportServerSessionStats().track(sslHandler);
         }
         ChannelPipeline p = ctx.pipeline();
         p.addAfter("port_unification_handler", "ssl_server", sslHandler);
@@ -124,6 +124,7 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
                 ch.pipeline().addFirst("port_unification_handler", portUnificationHandler);
             } else {
                 final SslHandler sslHandler = new SslHandler(ossks.createServerTransportSSLEngine());
+                ossks.getTransportServerSessionStats().track(sslHandler);
                 ch.pipeline().addFirst("ssl_server", sslHandler);
             }
         }
@@ -195,6 +196,7 @@ public class SecuritySSLNettyTransport extends Netty4Transport {
                 throw ExceptionsHelper.convertToOpenSearchException(e);
             }
             final SslHandler sslHandler = new SslHandler(engine);
+            sks.getTransportClientSessionStats().track(sslHandler);
             ctx.pipeline().replace(this, "ssl_client", sslHandler);
             super.connect(ctx, remoteAddress, localAddress, promise);
         }
@@ -23,8 +23,10 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 
 import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSession;
 
 import io.netty.handler.ssl.SslHandler;
+import io.netty.util.Attribute;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -129,25 +131,28 @@ implements TransportRequestHandler<T> {
             }
 
 
-            final Certificate[] peerCerts = sslhandler.engine().getSession().getPeerCertificates();
-            final Certificate[] localCerts = sslhandler.engine().getSession().getLocalCertificates();
-            
-            if (peerCerts != null 
-                    && peerCerts.length > 0 
-                    && peerCerts[0] instanceof X509Certificate 
-                    && localCerts != null && localCerts.length > 0 
-                    && localCerts[0] instanceof X509Certificate) {
-                final X509Certificate[] x509PeerCerts = Arrays.copyOf(peerCerts, peerCerts.length, X509Certificate[].class);
-                final X509Certificate[] x509LocalCerts = Arrays.copyOf(localCerts, localCerts.length, X509Certificate[].class);
-                final String principal = principalExtractor==null?null:principalExtractor.extractPrincipal(x509PeerCerts[0], PrincipalExtractor.Type.TRANSPORT);
-                addAdditionalContextValues(action, request, x509LocalCerts, x509PeerCerts, principal);
+            final SSLSession session = sslhandler.engine().getSession();
+            final Attribute<TransportPeerIdentity> peerIdentityAttribute = nettyChannel.getNettyChannel().attr(TransportPeerIdentity.ATTRIBUTE_KEY);
+            TransportPeerIdentity peerIdentity = peerIdentityAttribute.get();
+
+            if (peerIdentity == null || !peerIdentity.isValidFor(session)) {
+                // the peer does not change for the life of the TLS session, so certificates and principal are only evaluated once
+                peerIdentity = createPeerIdentity(session);
+
+                if (peerIdentity != null) {
+                    peerIdentityAttribute.set(peerIdentity);
+                }
+            }
+
+            if (peerIdentity != null) {
+                addAdditionalContextValues(action, request, peerIdentity);
                 if(threadContext != null) {
                     //in the case of ssl plugin only: threadContext and principalExtractor are null
-                    threadContext.putTransient("_opendistro_security_ssl_transport_principal", principal);
-                    threadContext.putTransient("_opendistro_security_ssl_transport_peer_certificates", x509PeerCerts);
-                    threadContext.putTransient("_opendistro_security_ssl_transport_local_certificates", x509LocalCerts);
-                    threadContext.putTransient("_opendistro_security_ssl_transport_protocol", sslhandler.engine().getSession().getProtocol());
-                    threadContext.putTransient("_opendistro_security_ssl_transport_cipher", sslhandler.engine().getSession().getCipherSuite());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_principal", peerIdentity.getPrincipal());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_peer_certificates", peerIdentity.getPeerCertificates());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_local_certificates", peerIdentity.getLocalCertificates());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_protocol", peerIdentity.getProtocol());
+                    threadContext.putTransient("_opendistro_security_ssl_transport_cipher", peerIdentity.getCipherSuite());
                 }
                 messageReceivedDecorate(request, actualHandler, channel, task);
             } else {
@@ -171,6 +176,24 @@ implements TransportRequestHandler<T> {
         
     }
 
+    private TransportPeerIdentity createPeerIdentity(final SSLSession session) throws SSLPeerUnverifiedException {
+        final Certificate[] peerCerts = session.getPeerCertificates();
+        final Certificate[] localCerts = session.getLocalCertificates();
+
+        if (peerCerts != null
+                && peerCerts.length > 0
+                && peerCerts[0] instanceof X509Certificate
+                && localCerts != null && localCerts.length > 0
+                && localCerts[0] instanceof X509Certificate) {
+            final X509Certificate[] x509PeerCerts = Arrays.copyOf(peerCerts, peerCerts.length, X509Certificate[].class);
+            final X509Certificate[] x509LocalCerts = Arrays.copyOf(localCerts, localCerts.length, X509Certificate[].class);
+            final String principal = principalExtractor==null?null:principalExtractor.extractPrincipal(x509PeerCerts[0], PrincipalExtractor.Type.TRANSPORT);
+            return new TransportPeerIdentity(session, x509PeerCerts, x509LocalCerts, principal);
+        }
+
+        return null;
+    }
+
     protected TransportChannel getInnerChannel(TransportChannel transportChannel) throws Exception {
         try {
             Class wrappedChannelCls = transportChannel.getClass();
@@ -183,7 +206,7 @@ implements TransportRequestHandler<T> {
         }
     }
     
-    protected void addAdditionalContextValues(final String action, final TransportRequest request, final X509Certificate[] localCerts, final X509Certificate[] peerCerts, final String principal)
+    protected void addAdditionalContextValues(final String action, final TransportRequest request, final TransportPeerIdentity peerIdentity)
             throws Exception {
         // no-op
     }
@@ -0,0 +1,106 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl.transport;
+
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLSession;
+
+import io.netty.util.AttributeKey;
+
+/**
+ * The identity of the peer of a transport connection, computed once per TLS session
+ * and attached to the netty channel.
+ */
+public final class TransportPeerIdentity {
+
+    public static final AttributeKey<TransportPeerIdentity> ATTRIBUTE_KEY = AttributeKey.valueOf("opensearch_security_transport_peer_identity");
+
+    private final SSLSession session;
+    private final X509Certificate[] peerCertificates;
+    private final X509Certificate[] localCertificates;
+    private final String principal;
+    private final String protocol;
+    private final String cipherSuite;
+    private volatile InterClusterDecision interClusterDecision;
+
+    public TransportPeerIdentity(final SSLSession session, final X509Certificate[] peerCertificates,
+                                 final X509Certificate[] localCertificates, final String principal) {
+        this.session = session;
+        this.peerCertificates = peerCertificates;
+        this.localCertificates = localCertificates;
+        this.principal = principal;
+        this.protocol = session.getProtocol();
+        this.cipherSuite = session.getCipherSuite();
+    }
+
+    /**
+     * @return true if this identity was computed for the given session and can be reused
+     */
+    public boolean isValidFor(final SSLSession session) {
+        return this.session == session;
+    }
+
+    public X509Certificate[] getPeerCertificates() {
+        return peerCertificates;
+    }
+
+    public X509Certificate[] getLocalCertificates() {
+        return localCertificates;
+    }
+
+    public String getPrincipal() {
+        return principal;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getCipherSuite() {
+        return cipherSuite;
+    }
+
+    /**
+     * @param cacheKey the key the decision was stored with, see {@link #setInterClusterRequest(Object, boolean)}
+     * @return the cached inter cluster decision or null if there is none for the given key
+     */
+    public Boolean getInterClusterRequest(final Object cacheKey) {
+        final InterClusterDecision decision = this.interClusterDecision;
+
+        if (decision == null || cacheKey == null || decision.cacheKey != cacheKey) {
+            return null;
+        }
+
+        return decision.interClusterRequest;
+    }
+
+    /**
+     * Caches whether requests of this peer are inter cluster requests. The decision is only valid
+     * as long as the evaluator hands out the identical cache key.
+     */
+    public void setInterClusterRequest(final Object cacheKey, final boolean interClusterRequest) {
+        if (cacheKey != null) {
+            this.interClusterDecision = new InterClusterDecision(cacheKey, interClusterRequest);
+        }
+    }
+
+    private static final class InterClusterDecision {
+        private final Object cacheKey;
+        private final boolean interClusterRequest;
+
+        private InterClusterDecision(final Object cacheKey, final boolean interClusterRequest) {
+            this.cacheKey = cacheKey;
+            this.interClusterRequest = interClusterRequest;
+        }
+    }
+}
@@ -87,6 +87,12 @@ public final class SSLConfigConstants {
     public static final String SECURITY_SSL_TRANSPORT_ENABLED_PROTOCOLS = "plugins.security.ssl.transport.enabled_protocols";
     public static final String SECURITY_SSL_HTTP_ENABLED_CIPHERS = "plugins.security.ssl.http.enabled_ciphers";
     public static final String SECURITY_SSL_HTTP_ENABLED_PROTOCOLS = "plugins.security.ssl.http.enabled_protocols";
+    public static final String SECURITY_SSL_HTTP_SESSION_CACHE_SIZE = "plugins.security.ssl.http.session_cache_size";
+    public static final String SECURITY_SSL_HTTP_SESSION_TIMEOUT = "plugins.security.ssl.http.session_timeout_seconds";
+    public static final String SECURITY_SSL_HTTP_SESSION_TICKET_KEY_ROTATION = "plugins.security.ssl.http.session_ticket_key_rotation_seconds";
+    public static final String SECURITY_SSL_TRANSPORT_SESSION_CACHE_SIZE = "plugins.security.ssl.transport.session_cache_size";
+    public static final String SECURITY_SSL_TRANSPORT_SESSION_TIMEOUT = "plugins.security.ssl.transport.session_timeout_seconds";
+    public static final String SECURITY_SSL_TRANSPORT_SESSION_TICKET_KEY_ROTATION = "plugins.security.ssl.transport.session_ticket_key_rotation_seconds";
     public static final String SECURITY_SSL_CLIENT_EXTERNAL_CONTEXT_ID = "plugins.security.ssl.client.external_context_id";
     public static final String SECURITY_SSL_TRANSPORT_PRINCIPAL_EXTRACTOR_CLASS = "plugins.security.ssl.transport.principal_extractor_class";
 
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLSession;
+
+import io.netty.handler.ssl.SslHandler;
+
+/**
+ * Counts full, resumed and failed TLS handshakes of one SSL layer.
+ *
+ * A handshake counts as resumed if the negotiated session was created before the handshake started.
+ * This holds for TLS 1.2 session id and session ticket resumption with both the JDK and the OpenSSL provider,
+ * and for TLS 1.3 with the OpenSSL provider. It has limits:
+ * <ul>
+ * <li>Creation times only have millisecond precision, a session resumed within the millisecond it was created
+ * in counts as a full handshake.</li>
+ * <li>Depending on the JDK version, the JDK provider creates a new session object when it resumes a TLS 1.3 session
+ * from a pre-shared key, which then carries the time of the resumption. Such resumptions count as full handshakes,
+ * so with the JDK provider and TLS 1.3 the resumed count is a lower bound.</li>
+ * </ul>
+ * Comparing session ids is no alternative, TLS 1.3 does not resume by session id and only echoes the legacy id of the client.
+ */
+public class SSLSessionStats {
+
+    public static final SSLSessionStats NONE = new SSLSessionStats() {
+        @Override
+        public void track(final SslHandler sslHandler) {
+            // no-op
+        }
+    };
+
+    private final LongAdder fullHandshakes = new LongAdder();
+    private final LongAdder resumedHandshakes = new LongAdder();
+    private final LongAdder failedHandshakes = new LongAdder();
+
+    /**
+     * Records the outcome of the handshake of the given handler once it completes
+     */
+    public void track(final SslHandler sslHandler) {
+        final long handshakeStart = System.currentTimeMillis();
+
+        sslHandler.handshakeFuture().addListener(future -> {
+            if (!future.isSuccess()) {
+                failedHandshakes.increment();
+                return;
+            }
+
+            final SSLSession session = sslHandler.engine().getSession();
+
+            if (session != null && session.getCreationTime() < handshakeStart) {
+                resumedHandshakes.increment();
+            } else {
+                fullHandshakes.increment();
+            }
+        });
+    }
+
+    public long getFullHandshakes() {
+        return fullHandshakes.sum();
+    }
+
+    public long getResumedHandshakes() {
+        return resumedHandshakes.sum();
+    }
+
+    public long getFailedHandshakes() {
+        return failedHandshakes.sum();
+    }
+
+    public Map<String, Object> toMap() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("full_handshakes", getFullHandshakes());
+        result.put("resumed_handshakes", getResumedHandshakes());
+        result.put("failed_handshakes", getFailedHandshakes());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "SSLSessionStats " + toMap();
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl.util;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Session ticket keys of an OpenSSL server context which are rotated periodically and
+ * carried over to a rebuilt context, so that clients can resume their sessions after a certificate reload.
+ *
+ * The previous key is kept for decryption after each rotation. Keys are only carried over if the trusted
+ * certificates did not change, otherwise a resumed session would skip the validation against the new trust material.
+ * The JDK provider manages its ticket keys internally, for JDK contexts this class does nothing.
+ */
+public class SSLSessionTicketKeys {
+
+    private static final Logger log = LogManager.getLogger(SSLSessionTicketKeys.class);
+
+    private final long rotationIntervalNanos;
+    private final LongSupplier nanoTime;
+    private final SecureRandom random = new SecureRandom();
+    private OpenSslSessionTicketKey currentKey;
+    private OpenSslSessionTicketKey previousKey;
+    private String trustFingerprint;
+    private volatile OpenSslSessionContext sessionContext;
+    private volatile long nextRotation;
+
+    /**
+     * @param rotationIntervalSeconds rotation interval of the keys, 0 leaves the ticket keys to the provider
+     */
+    public SSLSessionTicketKeys(final int rotationIntervalSeconds) {
+        this(rotationIntervalSeconds, System::nanoTime);
+    }
+
+    SSLSessionTicketKeys(final int rotationIntervalSeconds, final LongSupplier nanoTime) {
+        this.rotationIntervalNanos = TimeUnit.SECONDS.toNanos(rotationIntervalSeconds);
+        this.nanoTime = nanoTime;
+    }
+
+    public boolean isEnabled() {
+        return rotationIntervalNanos > 0;
+    }
+
+    /**
+     * Installs the managed ticket keys on a newly built server context
+     *
+     * @param sslContext the new context
+     * @param trustFingerprint fingerprint of the trusted certificates of the new context
+     */
+    public synchronized void apply(final SslContext sslContext, final String trustFingerprint) {
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (!(sslContext.sessionContext() instanceof OpenSslSessionContext)) {
+            sessionContext = null;
+            return;
+        }
+
+        if (currentKey == null || !Objects.equals(this.trustFingerprint, trustFingerprint)) {
+            if (currentKey != null) {
+                log.info("Trusted certificates changed, session tickets issued before the reload will not be resumed");
+            }
+            currentKey = newKey();
+            previousKey = null;
+            nextRotation = nanoTime.getAsLong() + rotationIntervalNanos;
+        }
+
+        this.trustFingerprint = trustFingerprint;
+        this.sessionContext = (OpenSslSessionContext) sslContext.sessionContext();
+        installKeys();
+    }
+
+    /**
+     * Rotates the keys if the rotation interval elapsed. Cheap enough to be called for every new connection.
+     */
+    public void rotateIfNeeded() {
+        if (sessionContext == null || nanoTime.getAsLong() - nextRotation < 0) {
+            return;
+        }
+
+        synchronized (this) {
+            if (sessionContext != null && nanoTime.getAsLong() - nextRotation >= 0) {
+                previousKey = currentKey;
+                currentKey = newKey();
+                nextRotation = nanoTime.getAsLong() + rotationIntervalNanos;
+                installKeys();
+
+                if (log.isDebugEnabled()) {
+                    log.debug("Rotated session ticket keys");
+                }
+            }
+        }
+    }
+
+    private void installKeys() {
+        if (previousKey == null) {
+            sessionContext.setTicketKeys(currentKey);
+        } else {
+            // the first key is used to issue new tickets, the others are only used to decrypt
+            sessionContext.setTicketKeys(currentKey, previousKey);
+        }
+    }
+
+    private OpenSslSessionTicketKey newKey() {
+        final byte[] name = new byte[OpenSslSessionTicketKey.NAME_SIZE];
+        final byte[] hmacKey = new byte[OpenSslSessionTicketKey.HMAC_KEY_SIZE];
+        final byte[] aesKey = new byte[OpenSslSessionTicketKey.AES_KEY_SIZE];
+        random.nextBytes(name);
+        random.nextBytes(hmacKey);
+        random.nextBytes(aesKey);
+        return new OpenSslSessionTicketKey(name, hmacKey, aesKey);
+    }
+}
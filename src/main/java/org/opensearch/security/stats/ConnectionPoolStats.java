@@ -0,0 +1,33 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.stats;
+
+import java.util.Map;
+
+/**
+ * Statistics of a connection pool of an authentication or authorization backend, e.g. to an LDAP server
+ */
+public interface ConnectionPoolStats {
+
+    Map<String, Object> toMap();
+
+    /**
+     * Implemented by backends which may keep a connection pool, their statistics are part of the node stats
+     */
+    interface Provider {
+
+        /**
+         * @return the statistics of the connection pool, null if the backend does not pool its connections
+         */
+        ConnectionPoolStats getConnectionPoolStats();
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.stats;
+
+import java.lang.management.ManagementFactory;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.SpecialPermission;
+import org.opensearch.common.lease.Releasable;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
+
+/**
+ * Node level statistics of the security request path: a latency histogram per {@link Phase},
+ * optionally the bytes allocated by the calling thread per phase, plus registered cache statistics, connection pool statistics and gauges
+ * and the durations of the config compilations.
+ *
+ * Timing a phase costs two {@link System#nanoTime()} calls and a few striped counter increments.
+ * Allocation tracking needs per thread accounting of the JVM and is therefore opt-in.
+ */
+public class SecurityStats {
+
+    public enum Phase {
+        AUTHENTICATE("authenticate"),
+        MAP_ROLES("map_roles"),
+        RESOLVE_INDICES("resolve_indices"),
+        EVALUATE_PRIVILEGES("evaluate_privileges"),
+        DLS_FLS_EVALUATE("dls_fls_evaluate"),
+        DLS_FLS_VALVE("dls_fls_valve"),
+        TRANSPORT_HEADERS("transport_headers"),
+        /** Routing an audit message to its sinks, including the synchronous stores and the hand over to the storage pool */
+        AUDIT_ROUTE("audit_route"),
+        /** Storing an audit message on a sink, on the storage pool for sinks which do not handle backpressure themselves */
+        AUDIT_STORE("audit_store");
+
+        private final String name;
+
+        Phase(final String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    private static final Logger log = LogManager.getLogger(SecurityStats.class);
+    private static final Releasable NOOP_TIMER = () -> {};
+
+    public static final SecurityStats NONE = new SecurityStats(false, false);
+
+    private final boolean enabled;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+    private final LatencyHistogram[] latencies = new LatencyHistogram[Phase.values().length];
+    private final LatencyHistogram[] allocations = new LatencyHistogram[Phase.values().length];
+    private final Map<String, Supplier<Map<String, Object>>> caches = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private volatile Supplier<Map<String, Object>> connectionPools = Collections::emptyMap;
+    private final Map<String, CompilationStats> compilations = new ConcurrentHashMap<>();
+
+    public SecurityStats(final Settings settings) {
+        this(settings.getAsBoolean(ConfigConstants.SECURITY_STATS_ENABLED, true),
+                settings.getAsBoolean(ConfigConstants.SECURITY_STATS_TRACK_ALLOCATIONS, false));
+    }
+
+    SecurityStats(final boolean enabled, final boolean trackAllocations) {
+        this.enabled = enabled;
+        this.threadMXBean = enabled && trackAllocations ? allocationMXBean() : null;
+
+        for (final Phase phase : Phase.values()) {
+            latencies[phase.ordinal()] = new LatencyHistogram();
+            allocations[phase.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Starts timing a phase, the returned timer must be closed when the phase completes
+     */
+    public Releasable time(final Phase phase) {
+        if (!enabled) {
+            return NOOP_TIMER;
+        }
+
+        final long start = System.nanoTime();
+
+        if (threadMXBean == null) {
+            return () -> latencies[phase.ordinal()].record(System.nanoTime() - start);
+        }
+
+        final long threadId = Thread.currentThread().getId();
+        final long allocatedStart = threadMXBean.getThreadAllocatedBytes(threadId);
+
+        return () -> {
+            latencies[phase.ordinal()].record(System.nanoTime() - start);
+            allocations[phase.ordinal()].record(threadMXBean.getThreadAllocatedBytes(threadId) - allocatedStart);
+        };
+    }
+
+    /**
+     * Registers the statistics of a cache, like hits and misses, to be included in the node stats
+     */
+    public void registerCache(final String name, final Supplier<Map<String, Object>> stats) {
+        caches.put(name, stats);
+    }
+
+    /**
+     * Registers a current value, like a queue depth, to be included in the node stats
+     */
+    public void registerGauge(final String name, final LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+
+    /**
+     * Registers the statistics of the connection pools of the authentication and authorization backends,
+     * keyed by the name of the pool, to be included in the node stats
+     */
+    public void registerConnectionPools(final Supplier<Map<String, Object>> stats) {
+        connectionPools = stats;
+    }
+
+    /**
+     * Records the compilation of the entries of a configuration, like the roles, during a config reload
+     *
+     * @param what the kind of the entries
+     * @param entries the number of compiled entries, or of submitted entries if the compilation failed
+     */
+    public void recordConfigCompilation(final String what, final int entries, final long tookNanos, final boolean failed) {
+        if (enabled) {
+            compilations.computeIfAbsent(what, k -> new CompilationStats()).record(entries, tookNanos, failed);
+        }
+    }
+
+    /**
+     * @return size, hit, miss and eviction counts of a cache built with {@link com.google.common.cache.CacheBuilder#recordStats()}
+     */
+    public static Map<String, Object> cacheStats(final Cache<?, ?> cache) {
+        final CacheStats stats = cache.stats();
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", cache.size());
+        result.put("hits", stats.hitCount());
+        result.put("misses", stats.missCount());
+        result.put("hit_rate", stats.hitRate());
+        result.put("evictions", stats.evictionCount());
+        return result;
+    }
+
+    public LatencyHistogram getLatency(final Phase phase) {
+        return latencies[phase.ordinal()];
+    }
+
+    public Map<String, Object> toMap() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", enabled);
+
+        final Map<String, Object> phases = new LinkedHashMap<>();
+        for (final Phase phase : Phase.values()) {
+            final Map<String, Object> phaseStats = new LinkedHashMap<>();
+            phaseStats.put("latency_nanos", latencies[phase.ordinal()].toMap());
+            if (threadMXBean != null) {
+                phaseStats.put("allocated_bytes", allocations[phase.ordinal()].toMap());
+            }
+            phases.put(phase.getName(), phaseStats);
+        }
+        result.put("phases", phases);
+
+        final Map<String, Object> cacheStats = new TreeMap<>();
+        for (final Map.Entry<String, Supplier<Map<String, Object>>> cache : caches.entrySet()) {
+            cacheStats.put(cache.getKey(), cache.getValue().get());
+        }
+        result.put("caches", cacheStats);
+        result.put("connection_pools", connectionPools.get());
+
+        final Map<String, Object> gaugeValues = new TreeMap<>();
+        for (final Map.Entry<String, LongSupplier> gauge : gauges.entrySet()) {
+            gaugeValues.put(gauge.getKey(), gauge.getValue().getAsLong());
+        }
+        result.put("gauges", gaugeValues);
+
+        final Map<String, Object> compilationStats = new TreeMap<>();
+        for (final Map.Entry<String, CompilationStats> compilation : compilations.entrySet()) {
+            compilationStats.put(compilation.getKey(), compilation.getValue().toMap());
+        }
+        result.put("config_compilation", compilationStats);
+        return result;
+    }
+
+    private static final class CompilationStats {
+
+        private long count;
+        private long failures;
+        private long lastEntries;
+        private long lastTookNanos;
+        private long totalTookNanos;
+
+        synchronized void record(final int entries, final long tookNanos, final boolean failed) {
+            count++;
+            if (failed) {
+                failures++;
+            }
+            lastEntries = entries;
+            lastTookNanos = tookNanos;
+            totalTookNanos += tookNanos;
+        }
+
+        synchronized Map<String, Object> toMap() {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("failures", failures);
+            result.put("last_entries", lastEntries);
+            result.put("last_took_millis", TimeUnit.NANOSECONDS.toMillis(lastTookNanos));
+            result.put("total_took_millis", TimeUnit.NANOSECONDS.toMillis(totalTookNanos));
+            return result;
+        }
+    }
+
+    @SuppressWarnings("removal")
+    private static com.sun.management.ThreadMXBean allocationMXBean() {
+        final SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(new SpecialPermission());
+        }
+
+        final com.sun.management.ThreadMXBean threadMXBean = AccessController.doPrivileged((PrivilegedAction<com.sun.management.ThreadMXBean>) () -> {
+            final java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+            if (bean instanceof com.sun.management.ThreadMXBean
+                    && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()
+                    && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemoryEnabled()) {
+                return (com.sun.management.ThreadMXBean) bean;
+            }
+
+            return null;
+        });
+
+        if (threadMXBean == null) {
+            log.warn("{} is enabled but the JVM does not support per thread allocation accounting", ConfigConstants.SECURITY_STATS_TRACK_ALLOCATIONS);
+        }
+
+        return threadMXBean;
+    }
+}
@@ -145,6 +145,11 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_CONFIG_ENDPOINTS = "plugins.security.audit.endpoints";
     public static final String SECURITY_AUDIT_THREADPOOL_SIZE = "plugins.security.audit.threadpool.size";
     public static final String SECURITY_AUDIT_THREADPOOL_MAX_QUEUE_LEN = "plugins.security.audit.threadpool.max_queue_len";
+    public static final String SECURITY_AUDIT_JOURNAL_ENABLED = "plugins.security.audit.journal.enabled";
+    public static final String SECURITY_AUDIT_JOURNAL_PATH = "plugins.security.audit.journal.path";
+    public static final String SECURITY_AUDIT_JOURNAL_MAX_SIZE = "plugins.security.audit.journal.max_size";
+    public static final String SECURITY_AUDIT_JOURNAL_SEGMENT_SIZE = "plugins.security.audit.journal.segment_size";
+    public static final String SECURITY_AUDIT_JOURNAL_FSYNC = "plugins.security.audit.journal.fsync";
     public static final String OPENDISTRO_SECURITY_AUDIT_LOG_REQUEST_BODY = "opendistro_security.audit.log_request_body";
     public static final String OPENDISTRO_SECURITY_AUDIT_RESOLVE_INDICES = "opendistro_security.audit.resolve_indices";
     public static final String OPENDISTRO_SECURITY_AUDIT_ENABLE_REST = "opendistro_security.audit.enable_rest";
@@ -190,6 +195,14 @@ public class ConfigConstants {
     public static final String SECURITY_AUDIT_WEBHOOK_SSL_VERIFY = "webhook.ssl.verify";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_FILEPATH = "webhook.ssl.pemtrustedcas_filepath";
     public static final String SECURITY_AUDIT_WEBHOOK_PEMTRUSTEDCAS_CONTENT = "webhook.ssl.pemtrustedcas_content";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_SIZE = "webhook.batch.size";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS = "webhook.batch.flush_interval_ms";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT = "webhook.batch.max_in_flight";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_MAX_PENDING = "webhook.batch.max_pending";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_GZIP = "webhook.batch.gzip";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_COUNT = "webhook.batch.retry_count";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS = "webhook.batch.retry_initial_delay_ms";
+    public static final String SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_MAX_DELAY_MS = "webhook.batch.retry_max_delay_ms";
     
     // Log4j
     public static final String SECURITY_AUDIT_LOG4J_LOGGER_NAME = "log4j.logger_name";
@@ -215,6 +228,7 @@ public class ConfigConstants {
     public static final String SECURITY_BACKGROUND_INIT_IF_SECURITYINDEX_NOT_EXIST = "plugins.security.background_init_if_securityindex_not_exist";
 
     public static final String SECURITY_ROLES_MAPPING_RESOLUTION = "plugins.security.roles_mapping_resolution";
+    public static final String SECURITY_CONFIG_COMPILATION_TIMEOUT_SECONDS = "plugins.security.config_compilation.timeout_seconds";
 
     public static final String OPENDISTRO_SECURITY_COMPLIANCE_HISTORY_WRITE_METADATA_ONLY = "opendistro_security.compliance.history.write.metadata_only";
     public static final String OPENDISTRO_SECURITY_COMPLIANCE_HISTORY_READ_METADATA_ONLY = "opendistro_security.compliance.history.read.metadata_only";
@@ -236,6 +250,8 @@ public class ConfigConstants {
     public static final String SECURITY_SSL_CERT_RELOAD_ENABLED = "plugins.security.ssl_cert_reload_enabled";
     public static final String SECURITY_DISABLE_ENVVAR_REPLACEMENT = "plugins.security.disable_envvar_replacement";
     public static final String SECURITY_DFM_EMPTY_OVERRIDES_ALL = "plugins.security.dfm_empty_overrides_all";
+    public static final String SECURITY_STATS_ENABLED = "plugins.security.stats.enabled";
+    public static final String SECURITY_STATS_TRACK_ALLOCATIONS = "plugins.security.stats.track_allocations";
 
     public enum RolesMappingResolution {
         MAPPING_ONLY,
@@ -245,6 +261,7 @@ public class ConfigConstants {
 
     public static final String SECURITY_FILTER_SECURITYINDEX_FROM_ALL_REQUESTS = "plugins.security.filter_securityindex_from_all_requests";
     public static final String SECURITY_DLS_MODE = "plugins.security.dls.mode";
+    public static final String SECURITY_DLS_TERMS_LOOKUP_CACHE_MAX_SIZE = "plugins.security.dls.terms_lookup_cache.max_size";
     // REST API
     public static final String SECURITY_RESTAPI_ROLES_ENABLED = "plugins.security.restapi.roles_enabled";
     public static final String SECURITY_RESTAPI_ENDPOINTS_DISABLED = "plugins.security.restapi.endpoints_disabled";
@@ -0,0 +1,286 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Objects;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentBuilder;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.security.securityconf.impl.CType;
+
+import static org.opensearch.common.xcontent.DeprecationHandler.THROW_UNSUPPORTED_OPERATION;
+
+/**
+ * Per-entry storage layout of a configuration type in the security index.
+ * <p>
+ * Instead of one document holding the whole configuration as a blob, the document with the id of the type holds a
+ * manifest <code>{"manifest": {"generation": ..., "version": ..., "config_version": ..., "entries": ...}}</code>
+ * and every entry is stored in its own document with the id <code>&lt;type&gt;#&lt;generation&gt;#&lt;version&gt;#&lt;name&gt;</code>.
+ * Each entry carries the version in which it was last changed, so nodes which already loaded a generation
+ * only need to read the entries changed since then. Removed entries are kept as tombstones until the next generation is written.
+ * <p>
+ * A change never overwrites the documents of the version the manifest points to, so an upload only becomes visible once
+ * the manifest was written. Until superseded documents are removed, a name may have several documents of a generation,
+ * the one with the highest version not above the version of the manifest wins, see {@link #VERSION_FIELD}.
+ */
+public final class ConfigEntries {
+
+    public static final String MANIFEST = "manifest";
+    public static final String ENTRY = "entry";
+
+    public static final String TYPE = "type";
+    public static final String NAME = "name";
+    public static final String GENERATION = "generation";
+    public static final String VERSION = "version";
+    public static final String CONFIG_VERSION = "config_version";
+    public static final String ENTRIES = "entries";
+    public static final String DELETED = "deleted";
+    public static final String VALUE = "value";
+
+    /**
+     * Entries must be applied in the order of this field, so that later versions of a name replace earlier ones
+     */
+    public static final String VERSION_FIELD = ENTRY + "." + VERSION;
+
+    private static final char ID_SEPARATOR = '#';
+    private static final EnumSet<CType> SUPPORTED_TYPES = EnumSet.of(CType.INTERNALUSERS, CType.ACTIONGROUPS, CType.ROLES,
+            CType.ROLESMAPPING, CType.TENANTS);
+
+    private ConfigEntries() {
+    }
+
+    /**
+     * @return true for the types consisting of independent named entries, which can grow large
+     */
+    public static boolean supports(final CType type) {
+        return SUPPORTED_TYPES.contains(type);
+    }
+
+    public static String entryId(final CType type, final String generation, final long version, final String name) {
+        return type.toLCString() + ID_SEPARATOR + generation + ID_SEPARATOR + version + ID_SEPARATOR + name;
+    }
+
+    public static XContentBuilder manifestSource(final Manifest manifest) throws IOException {
+        return XContentFactory.jsonBuilder()
+                .startObject()
+                .startObject(MANIFEST)
+                .field(GENERATION, manifest.getGeneration())
+                .field(VERSION, manifest.getVersion())
+                .field(CONFIG_VERSION, manifest.getConfigVersion())
+                .field(ENTRIES, manifest.getEntries())
+                .endObject()
+                .endObject();
+    }
+
+    /**
+     * @param value the JSON of the entry, or null for a tombstone
+     */
+    public static XContentBuilder entrySource(final CType type, final String name, final String generation, final long version,
+                                              final byte[] value) throws IOException {
+        final XContentBuilder builder = XContentFactory.jsonBuilder()
+                .startObject()
+                .startObject(ENTRY)
+                .field(TYPE, type.toLCString())
+                .field(NAME, name)
+                .field(GENERATION, generation)
+                .field(VERSION, version)
+                .field(DELETED, value == null);
+        if (value != null) {
+            builder.field(VALUE, value);
+        }
+        return builder.endObject().endObject();
+    }
+
+    /**
+     * @return the manifest, or null if the document is stored in the blob layout
+     */
+    public static Manifest readManifest(final BytesReference source) throws IOException {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY, THROW_UNSUPPORTED_OPERATION, source, XContentType.JSON)) {
+            parser.nextToken();
+            if (parser.nextToken() != XContentParser.Token.FIELD_NAME || !MANIFEST.equals(parser.currentName())) {
+                return null;
+            }
+            parser.nextToken();
+            final Map<String, Object> manifest = parser.map();
+            return new Manifest((String) manifest.get(GENERATION), ((Number) manifest.get(VERSION)).longValue(),
+                    ((Number) manifest.get(CONFIG_VERSION)).intValue(), ((Number) manifest.get(ENTRIES)).intValue());
+        }
+    }
+
+    /**
+     * Reads an entry document token by token, so only the (small) value of the entry is materialized.
+     */
+    public static Entry readEntry(final BytesReference source) throws IOException {
+        try (XContentParser parser = XContentHelper.createParser(NamedXContentRegistry.EMPTY, THROW_UNSUPPORTED_OPERATION, source, XContentType.JSON)) {
+            parser.nextToken();
+            if (parser.nextToken() != XContentParser.Token.FIELD_NAME || !ENTRY.equals(parser.currentName())) {
+                throw new IOException("Not a configuration entry document");
+            }
+            parser.nextToken();
+
+            String name = null;
+            long version = -1;
+            boolean deleted = false;
+            byte[] value = null;
+
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                final String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case NAME:
+                        name = parser.text();
+                        break;
+                    case VERSION:
+                        version = parser.longValue();
+                        break;
+                    case DELETED:
+                        deleted = parser.booleanValue();
+                        break;
+                    case VALUE:
+                        value = parser.binaryValue();
+                        break;
+                    default:
+                        parser.skipChildren();
+                }
+            }
+
+            if (name == null || (!deleted && value == null)) {
+                throw new IOException("Incomplete configuration entry " + name);
+            }
+            return new Entry(name, version, deleted ? null : value);
+        }
+    }
+
+    /**
+     * Matches the entries of a generation changed after {@code afterVersion} up to and including {@code upToVersion}.
+     * Tombstones are matched as well, they may supersede an earlier version of a name which was not removed yet.
+     */
+    public static QueryBuilder entriesQuery(final CType type, final String generation, final long afterVersion, final long upToVersion) {
+        return generationQuery(type, generation)
+                .filter(QueryBuilders.rangeQuery(VERSION_FIELD).gt(afterVersion).lte(upToVersion));
+    }
+
+    /**
+     * Matches the entries of a generation written after {@code version} by an upload whose manifest was never written.
+     * They have to be removed before the next version is written, otherwise they would become visible with it.
+     */
+    public static QueryBuilder uncommittedEntriesQuery(final CType type, final String generation, final long version) {
+        return generationQuery(type, generation)
+                .filter(QueryBuilders.rangeQuery(VERSION_FIELD).gt(version));
+    }
+
+    /**
+     * Matches the documents of the given names which were replaced by the version {@code version} of a generation.
+     */
+    public static QueryBuilder supersededEntriesQuery(final CType type, final String generation, final Collection<String> names,
+                                                      final long version) {
+        return generationQuery(type, generation)
+                .filter(QueryBuilders.termsQuery(ENTRY + "." + NAME + ".keyword", names))
+                .filter(QueryBuilders.rangeQuery(VERSION_FIELD).lt(version));
+    }
+
+    private static BoolQueryBuilder generationQuery(final CType type, final String generation) {
+        return QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery(ENTRY + "." + TYPE + ".keyword", type.toLCString()))
+                .filter(QueryBuilders.termQuery(ENTRY + "." + GENERATION + ".keyword", generation));
+    }
+
+    /**
+     * Matches the entries of a type which do not belong to the given generation anymore.
+     */
+    public static QueryBuilder staleEntriesQuery(final CType type, final String generation) {
+        return QueryBuilders.boolQuery()
+                .filter(QueryBuilders.termQuery(ENTRY + "." + TYPE + ".keyword", type.toLCString()))
+                .mustNot(QueryBuilders.termQuery(ENTRY + "." + GENERATION + ".keyword", generation));
+    }
+
+    public static final class Manifest {
+        private final String generation;
+        private final long version;
+        private final int configVersion;
+        private final int entries;
+
+        public Manifest(final String generation, final long version, final int configVersion, final int entries) {
+            this.generation = Objects.requireNonNull(generation, "generation");
+            this.version = version;
+            this.configVersion = configVersion;
+            this.entries = entries;
+        }
+
+        public String getGeneration() {
+            return generation;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public int getConfigVersion() {
+            return configVersion;
+        }
+
+        /**
+         * @return the number of live entries, used to detect partially visible uploads
+         */
+        public int getEntries() {
+            return entries;
+        }
+
+        @Override
+        public String toString() {
+            return "Manifest [generation=" + generation + ", version=" + version + ", configVersion=" + configVersion + ", entries=" + entries + "]";
+        }
+    }
+
+    public static final class Entry {
+        private final String name;
+        private final long version;
+        private final byte[] value;
+
+        Entry(final String name, final long version, final byte[] value) {
+            this.name = name;
+            this.version = version;
+            this.value = value;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public boolean isDeleted() {
+            return value == null;
+        }
+
+        /**
+         * @return the JSON of the entry, null for tombstones
+         */
+        public byte[] getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+/**
+ * Replaces environment variables in field names and string values as they are read, see
+ * {@link SecurityUtils#replaceEnvVars(JsonParser, org.opensearch.common.settings.Settings)}.
+ * Tokens without a placeholder are passed through as they are.
+ */
+final class EnvVarReplacingJsonParser extends JsonParserDelegate {
+
+    EnvVarReplacingJsonParser(final JsonParser delegate) {
+        super(delegate);
+    }
+
+    @Override
+    public String currentName() throws IOException {
+        return replaced(delegate.currentName());
+    }
+
+    @Override
+    public String getCurrentName() throws IOException {
+        return currentName();
+    }
+
+    @Override
+    public String getText() throws IOException {
+        return isText(delegate.currentToken()) ? replaced(delegate.getText()) : delegate.getText();
+    }
+
+    @Override
+    public int getText(final Writer writer) throws IOException {
+        final String text = getText();
+        if (text == null) {
+            return 0;
+        }
+        writer.write(text);
+        return text.length();
+    }
+
+    @Override
+    public boolean hasTextCharacters() {
+        return !isText(delegate.currentToken()) && delegate.hasTextCharacters();
+    }
+
+    @Override
+    public char[] getTextCharacters() throws IOException {
+        return isText(delegate.currentToken()) ? getText().toCharArray() : delegate.getTextCharacters();
+    }
+
+    @Override
+    public int getTextLength() throws IOException {
+        return isText(delegate.currentToken()) ? getText().length() : delegate.getTextLength();
+    }
+
+    @Override
+    public int getTextOffset() throws IOException {
+        return isText(delegate.currentToken()) ? 0 : delegate.getTextOffset();
+    }
+
+    @Override
+    public String getValueAsString() throws IOException {
+        return isText(delegate.currentToken()) ? getText() : delegate.getValueAsString();
+    }
+
+    @Override
+    public String getValueAsString(final String defaultValue) throws IOException {
+        return isText(delegate.currentToken()) ? getText() : delegate.getValueAsString(defaultValue);
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        return nextToken() == JsonToken.VALUE_STRING ? getText() : null;
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return nextToken() == JsonToken.FIELD_NAME ? currentName() : null;
+    }
+
+    private static boolean isText(final JsonToken token) {
+        return token == JsonToken.VALUE_STRING || token == JsonToken.FIELD_NAME;
+    }
+
+    private static String replaced(final String text) {
+        return text == null || text.isEmpty() ? text : SecurityUtils.replaceEnvVars(text);
+    }
+}
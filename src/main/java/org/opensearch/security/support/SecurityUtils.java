@@ -37,6 +37,7 @@ import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import com.fasterxml.jackson.core.JsonParser;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -124,6 +125,28 @@ public final class SecurityUtils {
             return in;
         }
         
+        return replaceEnvVars(in);
+    }
+
+    /**
+     * Replaces environment variables in the field names and string values of a json document while it is read,
+     * so the document does not need to be copied into a string first.
+     * Unlike {@link #replaceEnvVars(String, Settings)} replacements are never interpreted as json.
+     */
+    public static JsonParser replaceEnvVars(JsonParser parser, Settings settings) {
+        if(settings == null || settings.getAsBoolean(ConfigConstants.SECURITY_DISABLE_ENVVAR_REPLACEMENT, false)) {
+            return parser;
+        }
+
+        return new EnvVarReplacingJsonParser(parser);
+    }
+
+    static String replaceEnvVars(String in) {
+        //all placeholders start with ${env
+        if(in.indexOf("${env") == -1) {
+            return in;
+        }
+
         return replaceEnvVarsBC(replaceEnvVarsNonBC(replaceEnvVarsBase64(in)));
     }
     
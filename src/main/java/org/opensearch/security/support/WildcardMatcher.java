@@ -26,9 +26,12 @@
 
 package org.opensearch.security.support;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
@@ -39,6 +42,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
 
 public abstract class WildcardMatcher implements Predicate<String> {
@@ -149,19 +154,56 @@ public abstract class WildcardMatcher implements Predicate<String> {
         }
     };
 
+    // Matchers are immutable, so they are shared instead of being compiled again on every call
+    private static final Cache<String, WildcardMatcher> CASE_SENSITIVE_MATCHERS = CacheBuilder.newBuilder().maximumSize(10_000).build();
+    private static final Cache<String, WildcardMatcher> CASE_INSENSITIVE_MATCHERS = CacheBuilder.newBuilder().maximumSize(10_000).build();
+
     public static WildcardMatcher from(String pattern, boolean caseSensitive) {
         if (pattern.equals("*")) {
             return ANY;
-        } else if (pattern.startsWith("/") && pattern.endsWith("/")) {
+        }
+
+        final Cache<String, WildcardMatcher> matchers = caseSensitive ? CASE_SENSITIVE_MATCHERS : CASE_INSENSITIVE_MATCHERS;
+        WildcardMatcher matcher = matchers.getIfPresent(pattern);
+
+        if (matcher == null) {
+            matcher = compile(pattern, caseSensitive);
+            matchers.put(pattern, matcher);
+        }
+
+        return matcher;
+    }
+
+    private static WildcardMatcher compile(String pattern, boolean caseSensitive) {
+        if (pattern.startsWith("/") && pattern.endsWith("/")) {
             return new RegexMatcher(pattern, caseSensitive);
         } else if (pattern.indexOf('?') >= 0 || pattern.indexOf('*') >= 0) {
-            return caseSensitive ?  new SimpleMatcher(pattern) : new CasefoldingMatcher(pattern,  SimpleMatcher::new);
+            return caseSensitive ? simple(pattern) : new CasefoldingMatcher(pattern, WildcardMatcher::simple);
         }
         else {
             return caseSensitive ? new Exact(pattern) : new CasefoldingMatcher(pattern, Exact::new);
         }
     }
 
+    // The common shapes prefix*, *suffix and *infix* do not need the general matching loop
+    private static WildcardMatcher simple(String pattern) {
+        if (pattern.indexOf('?') < 0) {
+            final int length = pattern.length();
+            final int firstStar = pattern.indexOf('*');
+            final int lastStar = pattern.lastIndexOf('*');
+
+            if (firstStar == length - 1) {
+                return new PrefixMatcher(pattern);
+            } else if (lastStar == 0) {
+                return new SuffixMatcher(pattern);
+            } else if (length >= 2 && firstStar == 0 && lastStar == length - 1 && pattern.indexOf('*', 1) == length - 1) {
+                return new ContainsMatcher(pattern);
+            }
+        }
+
+        return new SimpleMatcher(pattern);
+    }
+
     public static WildcardMatcher from(String pattern) {
         return from(pattern, true);
     }
@@ -399,9 +441,9 @@ public abstract class WildcardMatcher implements Predicate<String> {
     // Simple implementation of WildcardMatcher matcher with * and ? without
     // using exlicit stack or recursion (as long as we don't need sub-matches it does work)
     // allows us to save on resources and heap allocations unless Regex is required
-    private static final class SimpleMatcher extends WildcardMatcher {
+    private static class SimpleMatcher extends WildcardMatcher {
 
-        private final String pattern;
+        protected final String pattern;
 
         SimpleMatcher(String pattern) {
             this.pattern = pattern;
@@ -449,28 +491,108 @@ public abstract class WildcardMatcher implements Predicate<String> {
         public String toString(){ return pattern; }
     }
 
+    // prefix*
+    private static final class PrefixMatcher extends SimpleMatcher {
+
+        private final String prefix;
+
+        PrefixMatcher(String pattern) {
+            super(pattern);
+            this.prefix = pattern.substring(0, pattern.length() - 1);
+        }
+
+        @Override
+        public boolean test(String candidate) {
+            return candidate.startsWith(prefix);
+        }
+    }
+
+    // *suffix
+    private static final class SuffixMatcher extends SimpleMatcher {
+
+        private final String suffix;
+
+        SuffixMatcher(String pattern) {
+            super(pattern);
+            this.suffix = pattern.substring(1);
+        }
+
+        @Override
+        public boolean test(String candidate) {
+            return candidate.endsWith(suffix);
+        }
+    }
+
+    // *infix*
+    private static final class ContainsMatcher extends SimpleMatcher {
+
+        private final String infix;
+
+        ContainsMatcher(String pattern) {
+            super(pattern);
+            this.infix = pattern.substring(1, pattern.length() - 1);
+        }
+
+        @Override
+        public boolean test(String candidate) {
+            return candidate.contains(infix);
+        }
+    }
+
     // MatcherCombiner is a combination of a set of matchers
     // matches if any of the set do
     // Empty MultiMatcher always returns false
+    // Exact patterns are looked up in a hash map, only the others are tested one by one
     private static final class MatcherCombiner extends WildcardMatcher {
 
         private final Collection<WildcardMatcher> wildcardMatchers;
+        private final Map<String, WildcardMatcher> exactMatchers;
+        private final WildcardMatcher[] otherMatchers;
         private final int hashCode;
 
         MatcherCombiner(Collection<WildcardMatcher> wildcardMatchers) {
             Preconditions.checkArgument(wildcardMatchers.size() > 1);
             this.wildcardMatchers = wildcardMatchers;
             hashCode = wildcardMatchers.hashCode();
+
+            final Map<String, WildcardMatcher> exactMatchers = new HashMap<>();
+            final List<WildcardMatcher> otherMatchers = new ArrayList<>();
+            for (WildcardMatcher matcher : wildcardMatchers) {
+                if (matcher instanceof Exact) {
+                    exactMatchers.put(((Exact) matcher).pattern, matcher);
+                } else {
+                    otherMatchers.add(matcher);
+                }
+            }
+            this.exactMatchers = exactMatchers;
+            this.otherMatchers = otherMatchers.toArray(new WildcardMatcher[0]);
         }
 
         @Override
         public boolean test(String candidate) {
-            return wildcardMatchers.stream().anyMatch(m -> m.test(candidate));
+            if (exactMatchers.containsKey(candidate)) {
+                return true;
+            }
+            for (WildcardMatcher matcher : otherMatchers) {
+                if (matcher.test(candidate)) {
+                    return true;
+                }
+            }
+            return false;
         }
 
         @Override
         public Optional<WildcardMatcher> findFirst(final String candidate) {
-            return wildcardMatchers.stream().filter(m -> m.test(candidate)).findFirst();
+            final WildcardMatcher exact = exactMatchers.get(candidate);
+            if (exact != null) {
+                return Optional.of(exact);
+            }
+            for (WildcardMatcher matcher : otherMatchers) {
+                if (matcher.test(candidate)) {
+                    return Optional.of(matcher);
+                }
+            }
+            return Optional.empty();
         }
 
         @Override
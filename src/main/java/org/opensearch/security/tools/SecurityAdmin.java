@@ -31,6 +31,7 @@ import java.io.Console;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileReader;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.InputStream;
@@ -45,17 +46,24 @@ import java.security.PrivateKey;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLContext;
 
 import com.fasterxml.jackson.databind.InjectableValues;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.common.base.Charsets;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Iterators;
@@ -80,14 +88,25 @@ import org.opensearch.ExceptionsHelper;
 import org.opensearch.OpenSearchException;
 import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
+import org.opensearch.action.DocWriteRequest;
 import org.opensearch.action.admin.cluster.health.ClusterHealthRequest;
 import org.opensearch.action.admin.cluster.health.ClusterHealthResponse;
 import org.opensearch.action.admin.cluster.settings.ClusterUpdateSettingsRequest;
 import org.opensearch.action.admin.indices.delete.DeleteIndexRequest;
 import org.opensearch.action.admin.indices.settings.put.UpdateSettingsRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
 import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.ClearScrollRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.search.SearchScrollRequest;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.action.support.master.AcknowledgedResponse;
 import org.opensearch.client.Request;
@@ -103,6 +122,7 @@ import org.opensearch.client.indices.GetIndexResponse;
 import org.opensearch.client.transport.NoNodeAvailableException;
 import org.opensearch.cluster.health.ClusterHealthStatus;
 import org.opensearch.common.Strings;
+import org.opensearch.common.UUIDs;
 import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.common.collect.Tuple;
 import org.opensearch.common.settings.Settings;
@@ -114,7 +134,11 @@ import org.opensearch.common.xcontent.XContentParser;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.common.xcontent.json.JsonXContent;
 import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.rest.RestStatus;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.security.DefaultObjectMapper;
 import org.opensearch.security.NonValidatingObjectMapper;
 import org.opensearch.security.auditlog.config.AuditConfig;
@@ -133,6 +157,7 @@ import org.opensearch.security.securityconf.impl.v7.RoleV7;
 import org.opensearch.security.securityconf.impl.v7.TenantV7;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.support.ConfigEntries;
 import org.opensearch.security.support.ConfigHelper;
 import org.opensearch.security.support.PemKeyReader;
 import org.opensearch.security.support.SecurityJsonNode;
@@ -252,6 +277,10 @@ public class SecurityAdmin {
 
         options.addOption(Option.builder("mo").longOpt("migrate-offline").hasArg().argName("folder").desc("Migrate and use folder to store migrated files").build());
 
+        options.addOption(Option.builder("co").longOpt("changed-only").desc("Compare the config with the cluster, upload only changed config types in one bulk request and reload only those").build());
+
+        options.addOption(Option.builder("pe").longOpt("per-entry").desc("Store users, roles, role mappings, action groups and tenants with one document per entry and upload only changed entries (for very large configurations)").build());
+
         
         //when adding new options also adjust validate(CommandLine line)
         
@@ -296,6 +325,8 @@ public class SecurityAdmin {
         final boolean resolveEnvVars;
         Integer validateConfig = null;
         String migrateOffline = null;
+        boolean perEntry = false;
+        boolean changedOnly = false;
 
         InjectableValues.Std injectableValues = new InjectableValues.Std();
         injectableValues.addValue(Settings.class, Settings.builder().build());
@@ -392,6 +423,10 @@ public class SecurityAdmin {
             }
             
             migrateOffline = line.getOptionValue("mo");
+
+            perEntry = line.hasOption("pe");
+
+            changedOnly = line.hasOption("co");
             
         }
         catch( ParseException exp ) {
@@ -743,6 +778,16 @@ public class SecurityAdmin {
 				return backup(restHighLevelClient, index, new File(backup), legacy);
             }
 
+            if(perEntry && legacy) {
+                System.out.println("ERR: The per-entry layout requires a migrated cluster");
+                return -1;
+            }
+
+            if(changedOnly && legacy) {
+                System.out.println("ERR: Uploading only changed config types requires a migrated cluster");
+                return -1;
+            }
+
             if(migrate != null) {
                 if(!legacy) {
                     System.out.println("ERR: Seems cluster is already migrated");
@@ -771,7 +816,7 @@ public class SecurityAdmin {
                     return (-1);
                 }
 
-				boolean success = uploadFile(restHighLevelClient, file, index, type, legacy, resolveEnvVars);
+				boolean success = uploadFileOrEntries(restHighLevelClient, file, index, type, legacy, resolveEnvVars, perEntry);
 
                 if(!success) {
                     System.out.println("ERR: cannot upload configuration, see errors above");
@@ -785,7 +830,11 @@ public class SecurityAdmin {
                 return (success?0:-1);
             }
 
-            return upload(restHighLevelClient, index, cd, legacy, expectedNodeCount, resolveEnvVars);
+            if(changedOnly) {
+                return uploadChanged(restHighLevelClient, index, cd, expectedNodeCount, resolveEnvVars, perEntry);
+            }
+
+            return upload(restHighLevelClient, index, cd, legacy, expectedNodeCount, resolveEnvVars, perEntry);
         }
     }
 
@@ -873,6 +922,177 @@ public class SecurityAdmin {
         return false;
     }
 
+	private static boolean uploadFileOrEntries(final RestHighLevelClient restHighLevelClient, final String filepath, final String index, final String _id,
+			final boolean legacy, final boolean resolveEnvVars, final boolean perEntry) {
+		if (perEntry && !legacy && ConfigEntries.supports(CType.fromString(_id))) {
+			return uploadEntries(restHighLevelClient, filepath, index, CType.fromString(_id), resolveEnvVars);
+		}
+		return uploadFile(restHighLevelClient, filepath, index, _id, legacy, resolveEnvVars);
+	}
+
+	/**
+	 * Uploads a configuration in the per-entry layout (see {@link ConfigEntries}).
+	 * If the type is already stored in that layout, only changed entries are written (and tombstones for removed ones)
+	 * under the next version of the current generation. Otherwise, or if the current entries can not be read completely,
+	 * a new generation is written. The documents of the current version are never overwritten, so nodes keep loading it
+	 * until the manifest was written. Only then superseded documents, or those of earlier generations, are removed.
+	 */
+	private static boolean uploadEntries(final RestHighLevelClient restHighLevelClient, final String filepath, final String index, final CType cType,
+			final boolean resolveEnvVars) {
+		final String _id = cType.toLCString();
+
+		try {
+			ConfigHelper.fromYamlFile(filepath, cType, 2, 0, 0);
+		} catch (Exception e) {
+			System.out.println("ERR: Seems "+filepath+" is not in OpenSearch Security 7 format: "+e);
+			return false;
+		}
+
+		System.out.println("Will update '" + "/" + _id + "' with " + filepath + " (per-entry layout)");
+
+		try (Reader reader = new FileReader(filepath)) {
+			final String content = CharStreams.toString(reader);
+			final JsonNode config = DefaultObjectMapper.YAML_MAPPER.readTree(resolveEnvVars ? replaceEnvVars(content, Settings.EMPTY) : content);
+			final Map<String, JsonNode> entries = new HashMap<>();
+			config.fields().forEachRemaining(e -> {
+				if (!"_meta".equals(e.getKey())) {
+					entries.put(e.getKey(), e.getValue());
+				}
+			});
+
+			final GetResponse current = restHighLevelClient.get(new GetRequest(index).id(_id).refresh(true), RequestOptions.DEFAULT);
+			final ConfigEntries.Manifest currentManifest = current.isExists() && !current.isSourceEmpty()
+					? ConfigEntries.readManifest(current.getSourceAsBytesRef()) : null;
+
+			boolean newGeneration = currentManifest == null || currentManifest.getConfigVersion() != 2;
+			Map<String, JsonNode> currentEntries = Collections.emptyMap();
+
+			if (!newGeneration) {
+				try {
+					currentEntries = readEntries(restHighLevelClient, index, cType, currentManifest);
+				} catch (IOException e) {
+					System.out.println("   WARN: Unable to read the current entries of '" + _id + "', writing a new generation: " + e);
+					newGeneration = true;
+				}
+			}
+
+			if (!newGeneration) {
+				// left over by an upload whose manifest was never written, these would become visible with the next version
+				restHighLevelClient.deleteByQuery(new DeleteByQueryRequest(index)
+						.setQuery(ConfigEntries.uncommittedEntriesQuery(cType, currentManifest.getGeneration(), currentManifest.getVersion()))
+						.setRefresh(true), RequestOptions.DEFAULT);
+			}
+
+			final ConfigEntries.Manifest manifest = new ConfigEntries.Manifest(newGeneration ? UUIDs.randomBase64UUID() : currentManifest.getGeneration(),
+					newGeneration ? 1 : currentManifest.getVersion() + 1, 2, entries.size());
+			final List<String> written = new ArrayList<>();
+
+			final BulkRequest bulkRequest = new BulkRequest();
+			int changed = 0;
+			int removed = 0;
+
+			for (final Map.Entry<String, JsonNode> entry : entries.entrySet()) {
+				if (!entry.getValue().equals(currentEntries.get(entry.getKey()))) {
+					bulkRequest.add(new IndexRequest(index).id(ConfigEntries.entryId(cType, manifest.getGeneration(), manifest.getVersion(), entry.getKey()))
+							.source(ConfigEntries.entrySource(cType, entry.getKey(), manifest.getGeneration(), manifest.getVersion(),
+									DefaultObjectMapper.objectMapper.writeValueAsBytes(entry.getValue()))));
+					written.add(entry.getKey());
+					changed++;
+				}
+			}
+
+			for (final String name : currentEntries.keySet()) {
+				if (!entries.containsKey(name)) {
+					bulkRequest.add(new IndexRequest(index).id(ConfigEntries.entryId(cType, manifest.getGeneration(), manifest.getVersion(), name))
+							.source(ConfigEntries.entrySource(cType, name, manifest.getGeneration(), manifest.getVersion(), null)));
+					written.add(name);
+					removed++;
+				}
+			}
+
+			if (bulkRequest.numberOfActions() > 0) {
+				bulkRequest.setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+				final BulkResponse bulkResponse = restHighLevelClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+				if (bulkResponse.hasFailures()) {
+					System.out.println("   FAIL: Configuration for '" + _id + "' failed because of " + bulkResponse.buildFailureMessage());
+					return false;
+				}
+			} else if (!newGeneration) {
+				System.out.println("   SUCC: Configuration for '" + _id + "' is unchanged");
+				return true;
+			}
+
+			final IndexRequest manifestRequest = new IndexRequest(index).id(_id).setRefreshPolicy(RefreshPolicy.IMMEDIATE)
+					.source(ConfigEntries.manifestSource(manifest));
+			if (current.isExists()) {
+				manifestRequest.setIfSeqNo(current.getSeqNo()).setIfPrimaryTerm(current.getPrimaryTerm());
+			}
+			restHighLevelClient.index(manifestRequest, RequestOptions.DEFAULT);
+
+			try {
+				restHighLevelClient.deleteByQuery(new DeleteByQueryRequest(index).setQuery(newGeneration
+						? ConfigEntries.staleEntriesQuery(cType, manifest.getGeneration())
+						: ConfigEntries.supersededEntriesQuery(cType, manifest.getGeneration(), written, manifest.getVersion()))
+						.setRefresh(true), RequestOptions.DEFAULT);
+			} catch (Exception e) {
+				System.out.println("   WARN: Unable to remove superseded documents of '" + _id + "': " + e);
+			}
+
+			System.out.println("   SUCC: Configuration for '" + _id + "' created or updated (version " + manifest.getVersion() + ", " + changed
+					+ " entries written, " + removed + " removed)");
+			return true;
+		} catch (Exception e) {
+			System.out.println("   FAIL: Configuration for '" + _id + "' failed because of " + e.toString());
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads the live entries of a configuration stored in the per-entry layout, applying the documents in the order of their version.
+	 *
+	 * @throws IOException if the number of live entries does not match the manifest
+	 */
+	private static Map<String, JsonNode> readEntries(final RestHighLevelClient restHighLevelClient, final String index, final CType cType,
+			final ConfigEntries.Manifest manifest) throws IOException {
+		final Map<String, JsonNode> entries = new TreeMap<>();
+		final TimeValue keepAlive = TimeValue.timeValueMinutes(1);
+		SearchResponse response = restHighLevelClient.search(new SearchRequest(index).scroll(keepAlive).source(new SearchSourceBuilder()
+				.query(ConfigEntries.entriesQuery(cType, manifest.getGeneration(), 0, manifest.getVersion()))
+				.sort(ConfigEntries.VERSION_FIELD, SortOrder.ASC).size(1000)), RequestOptions.DEFAULT);
+
+		try {
+			while (response.getHits().getHits().length > 0) {
+				for (final SearchHit hit : response.getHits().getHits()) {
+					final ConfigEntries.Entry entry = ConfigEntries.readEntry(hit.getSourceRef());
+					if (entry.isDeleted()) {
+						entries.remove(entry.getName());
+					} else {
+						entries.put(entry.getName(), DefaultObjectMapper.objectMapper.readTree(entry.getValue()));
+					}
+				}
+				response = restHighLevelClient.scroll(new SearchScrollRequest(response.getScrollId()).scroll(keepAlive), RequestOptions.DEFAULT);
+			}
+		} finally {
+			final ClearScrollRequest clearScrollRequest = new ClearScrollRequest();
+			clearScrollRequest.addScrollId(response.getScrollId());
+			restHighLevelClient.clearScroll(clearScrollRequest, RequestOptions.DEFAULT);
+		}
+
+		if (entries.size() != manifest.getEntries()) {
+			throw new IOException("Expected " + manifest.getEntries() + " entries for " + cType.toLCString() + " but got " + entries.size());
+		}
+		return entries;
+	}
+
+	private static JsonNode entriesToNode(final RestHighLevelClient restHighLevelClient, final String index, final CType cType,
+			final ConfigEntries.Manifest manifest) throws IOException {
+		final ObjectNode node = DefaultObjectMapper.objectMapper.createObjectNode();
+		node.putObject("_meta").put("type", cType.toLCString()).put("config_version", manifest.getConfigVersion());
+		readEntries(restHighLevelClient, index, cType, manifest).forEach(node::set);
+		return node;
+	}
+
 	private static boolean retrieveFile(final RestHighLevelClient restHighLevelClient, final String filepath, final String index, final String _id, final boolean legacy) {
 		return retrieveFile(restHighLevelClient, filepath, index, _id, legacy, false);
 	}
@@ -900,7 +1120,10 @@ public class SecurityAdmin {
                     return false;
                 }
             } else {
-                yaml = convertToYaml(_id, response.getSourceAsBytesRef(), true);
+                final ConfigEntries.Manifest manifest = ConfigEntries.readManifest(response.getSourceAsBytesRef());
+                yaml = manifest == null
+                        ? convertToYaml(_id, response.getSourceAsBytesRef(), true)
+                        : DefaultObjectMapper.YAML_MAPPER.writeValueAsString(entriesToNode(restHighLevelClient, index, CType.fromString(_id), manifest));
 
                 if (null == yaml) {
                     System.out.println("ERR: YML conversion error for " + _id);
@@ -1200,17 +1423,17 @@ public class SecurityAdmin {
         return success?0:-1;
     }
 
-	private static int upload(RestHighLevelClient tc, String index, String cd, boolean legacy, int expectedNodeCount, boolean resolveEnvVars) throws IOException {
+	private static int upload(RestHighLevelClient tc, String index, String cd, boolean legacy, int expectedNodeCount, boolean resolveEnvVars, boolean perEntry) throws IOException {
         boolean success = uploadFile(tc, cd + "config.yml", index, "config", legacy, resolveEnvVars);
-        success = uploadFile(tc, cd+"roles.yml", index, "roles", legacy, resolveEnvVars) && success;
-        success = uploadFile(tc, cd+"roles_mapping.yml", index, "rolesmapping", legacy, resolveEnvVars) && success;
+        success = uploadFileOrEntries(tc, cd+"roles.yml", index, "roles", legacy, resolveEnvVars, perEntry) && success;
+        success = uploadFileOrEntries(tc, cd+"roles_mapping.yml", index, "rolesmapping", legacy, resolveEnvVars, perEntry) && success;
         
-        success = uploadFile(tc, cd+"internal_users.yml", index, "internalusers", legacy, resolveEnvVars) && success;
-        success = uploadFile(tc, cd+"action_groups.yml", index, "actiongroups", legacy, resolveEnvVars) && success;
+        success = uploadFileOrEntries(tc, cd+"internal_users.yml", index, "internalusers", legacy, resolveEnvVars, perEntry) && success;
+        success = uploadFileOrEntries(tc, cd+"action_groups.yml", index, "actiongroups", legacy, resolveEnvVars, perEntry) && success;
 
         
         if(!legacy) {
-            success = uploadFile(tc, cd+"tenants.yml", index, "tenants", legacy, resolveEnvVars) && success;
+            success = uploadFileOrEntries(tc, cd+"tenants.yml", index, "tenants", legacy, resolveEnvVars, perEntry) && success;
         }
 
         success = uploadFile(tc, cd+"nodes_dn.yml", index, "nodesdn", legacy, resolveEnvVars, true) && success;
@@ -1231,6 +1454,196 @@ public class SecurityAdmin {
         return (success?0:-1);
     }
 
+	/**
+	 * Fetches the current config with one multi-get, compares it with the local files and uploads only the changed
+	 * config types in one bulk request, guarded by the sequence numbers read before. Only the changed types are reloaded.
+	 */
+	private static int uploadChanged(RestHighLevelClient tc, String index, String cd, int expectedNodeCount, boolean resolveEnvVars, boolean perEntry) throws IOException {
+        final long start = System.currentTimeMillis();
+        final Map<String, String> files = new LinkedHashMap<>();
+        files.put("config", "config.yml");
+        files.put("roles", "roles.yml");
+        files.put("rolesmapping", "roles_mapping.yml");
+        files.put("internalusers", "internal_users.yml");
+        files.put("actiongroups", "action_groups.yml");
+        files.put("tenants", "tenants.yml");
+        files.put("nodesdn", "nodes_dn.yml");
+        files.put("whitelist", "whitelist.yml");
+        if (new File(cd + "audit.yml").exists()) {
+            files.put("audit", "audit.yml");
+        }
+
+        final Map<String, String> contents = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> file : files.entrySet()) {
+            final String filepath = cd + file.getValue();
+            final CType cType = CType.fromString(file.getKey());
+            final boolean populateEmptyIfMissing = cType == CType.NODESDN;
+
+            try {
+                if (!populateEmptyIfMissing || new File(filepath).exists()) {
+                    ConfigHelper.fromYamlFile(filepath, cType, 2, 0, 0);
+                }
+                try (Reader reader = ConfigHelper.createFileOrStringReader(cType, 2, filepath, populateEmptyIfMissing)) {
+                    final String content = CharStreams.toString(reader);
+                    contents.put(file.getKey(), resolveEnvVars ? replaceEnvVars(content, Settings.EMPTY) : content);
+                }
+            } catch (Exception e) {
+                System.out.println("ERR: Seems "+filepath+" is not in OpenSearch Security 7 format: "+e);
+                return -1;
+            }
+        }
+
+        final MultiGetRequest mget = new MultiGetRequest().refresh(true).realtime(true);
+        contents.keySet().forEach(id -> mget.add(index, id));
+        final MultiGetResponse current = tc.mget(mget, RequestOptions.DEFAULT);
+        final long fetched = System.currentTimeMillis();
+
+        final BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+        final List<String> changedTypes = new ArrayList<>();
+        boolean success = true;
+
+        for (final MultiGetItemResponse item : current.getResponses()) {
+            final String id = item.getId();
+            final CType cType = CType.fromString(id);
+
+            if (item.isFailed()) {
+                System.out.println("ERR: Unable to get '" + id + "' because of " + item.getFailure().getMessage());
+                return -1;
+            }
+
+            final GetResponse response = item.getResponse();
+            final String content = contents.get(id);
+            final JsonNode local = DefaultObjectMapper.YAML_MAPPER.readTree(content);
+            final boolean exists = response.isExists() && !response.isSourceEmpty();
+            final ConfigEntries.Manifest manifest = exists ? ConfigEntries.readManifest(response.getSourceAsBytesRef()) : null;
+            final JsonNode remote;
+
+            if (!exists) {
+                remote = null;
+            } else if (manifest != null) {
+                remote = entriesToNode(tc, index, cType, manifest);
+            } else {
+                remote = blobToNode(id, response.getSourceAsBytesRef());
+            }
+
+            final String diff = diff(remote, local);
+            System.out.println("   " + id + ": " + diff);
+
+            if (remote != null && remote.equals(local)) {
+                continue;
+            }
+
+            changedTypes.add(id);
+
+            if (perEntry && ConfigEntries.supports(cType)) {
+                success = uploadEntries(tc, cd + files.get(id), index, cType, resolveEnvVars) && success;
+                continue;
+            }
+
+            bulkRequest.add(changedConfigRequest(index, id, content, exists ? response : null));
+        }
+        final long compared = System.currentTimeMillis();
+
+        if (bulkRequest.numberOfActions() > 0) {
+            success = uploadChangedConfig(tc, bulkRequest) && success;
+        }
+        final long uploaded = System.currentTimeMillis();
+
+        if (!success) {
+            System.out.println("ERR: cannot upload configuration, see errors above");
+            return -1;
+        }
+
+        if (!changedTypes.isEmpty()) {
+            Response cur = tc.getLowLevelClient().performRequest(new Request("PUT", "/_plugins/_security/configupdate?config_types=" + Joiner.on(",").join(changedTypes)));
+            success = checkConfigUpdateResponse(cur, expectedNodeCount, changedTypes.size());
+        }
+        final long reloaded = System.currentTimeMillis();
+
+        System.out.println(changedTypes.size() + " of " + contents.size() + " config types changed " + changedTypes + " (fetch " + (fetched - start)
+                + " ms, compare " + (compared - fetched) + " ms, upload " + (uploaded - compared) + " ms, reload " + (reloaded - uploaded) + " ms)");
+        System.out.println("Done with "+(success?"success":"failures"));
+        return (success?0:-1);
+    }
+
+    /**
+     * @param current the document the changes were compared against, or null if there is none
+     * @return a request which only succeeds if the document was not changed since it was compared
+     */
+    static IndexRequest changedConfigRequest(final String index, final String id, final String content, final GetResponse current) throws IOException {
+        final IndexRequest indexRequest = new IndexRequest(index).id(id).source(id, readXContent(content, XContentType.YAML));
+        if (current != null) {
+            indexRequest.setIfSeqNo(current.getSeqNo()).setIfPrimaryTerm(current.getPrimaryTerm());
+        } else {
+            indexRequest.opType(DocWriteRequest.OpType.CREATE);
+        }
+        return indexRequest;
+    }
+
+    static boolean uploadChangedConfig(final RestHighLevelClient tc, final BulkRequest bulkRequest) throws IOException {
+        boolean success = true;
+        final BulkResponse bulkResponse = tc.bulk(bulkRequest, RequestOptions.DEFAULT);
+        for (final BulkItemResponse itemResponse : bulkResponse.getItems()) {
+            if (itemResponse.isFailed()) {
+                System.out.println("   FAIL: Configuration for '" + itemResponse.getId() + "' failed because of " + itemResponse.getFailureMessage()
+                        + (itemResponse.getFailure().getStatus() == RestStatus.CONFLICT ? " (changed concurrently, please retry)" : ""));
+                success = false;
+            } else {
+                System.out.println("   SUCC: Configuration for '" + itemResponse.getId() + "' created or updated");
+            }
+        }
+        return success;
+    }
+
+    /**
+     * @return a short summary of the entries added, changed and removed between two configs of the same type
+     */
+    static String diff(final JsonNode remote, final JsonNode local) {
+        if (remote == null) {
+            return "new, " + (local.size() - (local.has("_meta") ? 1 : 0)) + " entries";
+        }
+
+        if (remote.equals(local)) {
+            return "unchanged";
+        }
+
+        int added = 0;
+        int changed = 0;
+        int removed = 0;
+
+        for (final Iterator<Map.Entry<String, JsonNode>> it = local.fields(); it.hasNext();) {
+            final Map.Entry<String, JsonNode> entry = it.next();
+            final JsonNode other = remote.get(entry.getKey());
+            if (other == null) {
+                added++;
+            } else if (!other.equals(entry.getValue())) {
+                changed++;
+            }
+        }
+
+        for (final Iterator<String> it = remote.fieldNames(); it.hasNext();) {
+            if (!local.has(it.next())) {
+                removed++;
+            }
+        }
+
+        return added + " added, " + changed + " changed, " + removed + " removed";
+    }
+
+    private static JsonNode blobToNode(final String type, final BytesReference bytes) throws IOException {
+        try (XContentParser parser = JsonXContent.jsonXContent.createParser(NamedXContentRegistry.EMPTY, THROW_UNSUPPORTED_OPERATION, bytes.streamInput())) {
+            parser.nextToken();
+            parser.nextToken();
+
+            if (!type.equals(parser.currentName())) {
+                throw new IOException("Unexpected field " + parser.currentName() + " in the document of " + type);
+            }
+
+            parser.nextToken();
+            return DefaultObjectMapper.objectMapper.readTree(parser.binaryValue());
+        }
+    }
+
 	private static int migrate(RestHighLevelClient tc, String index, File backupDir, int expectedNodeCount, boolean resolveEnvVars) throws IOException {
 
         System.out.println("== Migration started ==");
@@ -1295,7 +1708,7 @@ public class SecurityAdmin {
         
         System.out.println("-> Upload new configuration into OpenSearch cluster");
 
-		int uploadResult = upload(tc, index, v7Dir.getAbsolutePath() + "/", false, expectedNodeCount, resolveEnvVars);
+		int uploadResult = upload(tc, index, v7Dir.getAbsolutePath() + "/", false, expectedNodeCount, resolveEnvVars, false);
 
         if(uploadResult == 0) {
             System.out.println("  done");
@@ -53,7 +53,8 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
     private final String certOid;
     private final WildcardMatcher staticNodesDnFromEsYml;
     private boolean dynamicNodesDnConfigEnabled;
-    private volatile Map<String, WildcardMatcher> dynamicNodesDn;
+    private volatile WildcardMatcher nodesDnToEvaluate;
+    private volatile Object sessionCacheKey = new Object();
 
     public DefaultInterClusterRequestEvaluator(final Settings settings) {
         this.certOid = settings.get(ConfigConstants.SECURITY_CERT_OID, "1.2.3.4.5.5");
@@ -62,7 +63,7 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
                 false
         );
         this.dynamicNodesDnConfigEnabled = settings.getAsBoolean(ConfigConstants.SECURITY_NODES_DN_DYNAMIC_CONFIG_ENABLED, false);
-        this.dynamicNodesDn = Collections.emptyMap();
+        this.nodesDnToEvaluate = staticNodesDnFromEsYml;
     }
 
     public void subscribeForChanges(DynamicConfigFactory dynamicConfigFactory) {
@@ -72,10 +73,12 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
     }
 
     private WildcardMatcher getNodesDnToEvaluate() {
-        if (dynamicNodesDnConfigEnabled) {
-            return staticNodesDnFromEsYml.concat(dynamicNodesDn.values());
-        }
-        return staticNodesDnFromEsYml;
+        return nodesDnToEvaluate;
+    }
+
+    @Override
+    public Object sessionCacheKey() {
+        return sessionCacheKey;
     }
 
     @Override
@@ -111,8 +114,6 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
         try {
             final Collection<List<?>> ianList = peerCerts[0].getSubjectAlternativeNames();
             if (ianList != null) {
-                final StringBuilder sb = new StringBuilder();
-
                 for (final List<?> ian : ianList) {
 
                     if (ian == null) {
@@ -131,7 +132,9 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
                             }
 
                             if (value instanceof String) {
-                                sb.append(id + "::" + value);
+                                if (((String) value).startsWith(this.certOid)) {
+                                    return true;
+                                }
                             } else if (value instanceof byte[]) {
                                 log.error("Unable to handle OID san {} with value {} of type byte[] (ASN.1 DER not supported here)", id,
                                         Arrays.toString((byte[]) value));
@@ -144,10 +147,6 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
                     }
                 }
 
-                if (sb.indexOf("8::" + this.certOid) >= 0) {
-                    return true;
-                }
-
             } else {
                 if (isTraceEnabled) {
                     log.trace("No subject alternative names (san) found");
@@ -164,6 +163,9 @@ public final class DefaultInterClusterRequestEvaluator implements InterClusterRe
 
     @Subscribe
     public void onNodesDnModelChanged(NodesDnModel nm) {
-        this.dynamicNodesDn = nm.getNodesDn();
+        final Map<String, WildcardMatcher> dynamicNodesDn = nm.getNodesDn();
+        this.nodesDnToEvaluate = dynamicNodesDnConfigEnabled ? staticNodesDnFromEsYml.concat(dynamicNodesDn.values()) : staticNodesDnFromEsYml;
+        // invalidates decisions cached per TLS session
+        this.sessionCacheKey = new Object();
     }
 }
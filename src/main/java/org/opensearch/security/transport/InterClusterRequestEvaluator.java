@@ -58,4 +58,15 @@ public interface InterClusterRequestEvaluator {
      */
     boolean isInterClusterRequest(final TransportRequest request, final X509Certificate[] localCerts, final X509Certificate[] peerCerts,
             final String principal);
+
+    /**
+     * The result of {@link #isInterClusterRequest} for a given TLS session may be cached
+     * as long as this method returns the identical object. Implementations whose decision
+     * depends on more than the certificates and the principal must return null.
+     *
+     * @return a token identifying the current evaluation rules or null if results must not be cached
+     */
+    default Object sessionCacheKey() {
+        return null;
+    }
 }
@@ -39,6 +39,7 @@ import org.opensearch.transport.TransportRequest;
  *
  */
 public final class OIDClusterRequestEvaluator implements InterClusterRequestEvaluator {
+    private static final Object SESSION_CACHE_KEY = new Object();
     private final String certOid;
 
     public OIDClusterRequestEvaluator(final Settings settings) {
@@ -58,4 +59,9 @@ public final class OIDClusterRequestEvaluator implements InterClusterRequestEval
         return false;
     }
 
+    @Override
+    public Object sessionCacheKey() {
+        // the decision only depends on the certificates
+        return SESSION_CACHE_KEY;
+    }
 }
@@ -27,7 +27,6 @@
 package org.opensearch.security.transport;
 
 import java.net.InetSocketAddress;
-import java.security.cert.X509Certificate;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -48,6 +47,7 @@ import org.opensearch.security.ssl.SslExceptionHandler;
 import org.opensearch.security.ssl.transport.PrincipalExtractor;
 import org.opensearch.security.ssl.transport.SSLConfig;
 import org.opensearch.security.ssl.transport.SecuritySSLRequestHandler;
+import org.opensearch.security.ssl.transport.TransportPeerIdentity;
 import org.opensearch.security.ssl.util.ExceptionUtils;
 import org.opensearch.security.support.Base64Helper;
 import org.opensearch.security.support.ConfigConstants;
@@ -303,10 +303,18 @@ public class SecurityRequestHandler<T extends TransportRequest> extends Security
     }
 
     @Override
-    protected void addAdditionalContextValues(final String action, final TransportRequest request, final X509Certificate[] localCerts, final X509Certificate[] peerCerts, final String principal)
+    protected void addAdditionalContextValues(final String action, final TransportRequest request, final TransportPeerIdentity peerIdentity)
             throws Exception {
 
-        boolean isInterClusterRequest = requestEvalProvider.isInterClusterRequest(request, localCerts, peerCerts, principal);
+        final Object cacheKey = requestEvalProvider.sessionCacheKey();
+        Boolean isInterClusterRequest = peerIdentity.getInterClusterRequest(cacheKey);
+
+        if (isInterClusterRequest == null) {
+            isInterClusterRequest = requestEvalProvider.isInterClusterRequest(request, peerIdentity.getLocalCertificates(),
+                    peerIdentity.getPeerCertificates(), peerIdentity.getPrincipal());
+            peerIdentity.setInterClusterRequest(cacheKey, isInterClusterRequest);
+        }
+
         final boolean isTraceEnabled = log.isTraceEnabled();
         if (isInterClusterRequest) {
             if(cs.getClusterName().value().equals(getThreadContext().getHeader("_opendistro_security_remotecn"))) {
@@ -326,6 +334,6 @@ public class SecurityRequestHandler<T extends TransportRequest> extends Security
             }
         }
 
-        super.addAdditionalContextValues(action, request, localCerts, peerCerts, principal);
+        super.addAdditionalContextValues(action, request, peerIdentity);
     }
 }
@@ -14,25 +14,39 @@ package com.amazon.dlic.auth.ldap;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.AfterClass;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
 import org.ldaptive.Connection;
+import org.ldaptive.ConnectionFactory;
 import org.ldaptive.LdapAttribute;
 import org.ldaptive.LdapEntry;
+import org.ldaptive.LdapException;
+import org.ldaptive.pool.ConnectionPool;
+import org.mockito.Mockito;
 
 import com.amazon.dlic.auth.ldap.backend.LDAPAuthenticationBackend;
 import com.amazon.dlic.auth.ldap.backend.LDAPAuthorizationBackend;
 import com.amazon.dlic.auth.ldap.srv.EmbeddedLDAPServer;
 import com.amazon.dlic.auth.ldap.util.ConfigConstants;
 import com.amazon.dlic.auth.ldap.util.LdapHelper;
+import com.amazon.dlic.auth.ldap2.LDAPConnectionFactoryFactory;
+import com.amazon.dlic.auth.ldap2.LDAPConnectionPoolStats;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auth.BackendRegistry;
+import org.opensearch.security.securityconf.DynamicConfigModel;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.test.helper.file.FileHelper;
 import org.opensearch.security.user.AuthCredentials;
 import org.opensearch.security.user.User;
@@ -368,6 +382,111 @@ public class LdapBackendTest {
         Assert.assertEquals(user.getName(), user.getUserEntry().getDn());
     }
 
+    @Test
+    public void testLdapAuthorizationPooled() throws Exception {
+
+        final Settings settings = Settings.builder()
+                .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+                .put(ConfigConstants.LDAP_AUTHC_USERSEARCH, "(uid={0})")
+                .put(ConfigConstants.LDAP_AUTHC_USERBASE, "ou=people,o=TEST")
+                .put(ConfigConstants.LDAP_AUTHZ_ROLEBASE, "ou=groups,o=TEST")
+                .put(ConfigConstants.LDAP_AUTHZ_ROLENAME, "cn")
+                .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH, "(uniqueMember={0})")
+                .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+                .put(ConfigConstants.LDAP_POOL_MIN_SIZE, 1)
+                .put(ConfigConstants.LDAP_POOL_MAX_SIZE, 2)
+                .build();
+
+        final LDAPAuthenticationBackend authenticationBackend = new LDAPAuthenticationBackend(settings, null);
+        final LDAPAuthorizationBackend authorizationBackend = new LDAPAuthorizationBackend(settings, null);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                final LdapUser user = (LdapUser) authenticationBackend.authenticate(new AuthCredentials("jacksonm", "secret"
+                        .getBytes(StandardCharsets.UTF_8)));
+
+                authorizationBackend.fillRoles(user, null);
+
+                Assert.assertEquals("cn=Michael Jackson,ou=people,o=TEST", user.getName());
+                Assert.assertEquals(2, user.getRoles().size());
+            }
+
+            Assert.assertEquals(3, authenticationBackend.getConnectionPoolStats().getCheckouts());
+            Assert.assertEquals(3, authorizationBackend.getConnectionPoolStats().getCheckouts());
+            Assert.assertTrue(authorizationBackend.getConnectionPoolStats().getCreations() <= 2);
+
+            final DynamicConfigModel dcm = Mockito.mock(DynamicConfigModel.class);
+            Mockito.when(dcm.getRestAuthDomains()).thenReturn(new TreeSet<>());
+            Mockito.when(dcm.getRestAuthorizers()).thenReturn(Collections.emptySet());
+            Mockito.when(dcm.getConnectionPools()).thenReturn(ImmutableMap.of("authc.ldap", authenticationBackend,
+                    "authz.ldap", authorizationBackend));
+
+            final BackendRegistry backendRegistry = new BackendRegistry(Settings.EMPTY, null, null, null, null);
+            backendRegistry.onDynamicConfigModelChanged(dcm);
+            final SecurityStats securityStats = new SecurityStats(Settings.EMPTY);
+            securityStats.registerConnectionPools(backendRegistry::getConnectionPoolStats);
+
+            @SuppressWarnings("unchecked")
+            final Map<String, Map<String, Object>> pools = (Map<String, Map<String, Object>>) securityStats.toMap().get("connection_pools");
+            Assert.assertEquals(pools.toString(), 2, pools.size());
+            Assert.assertEquals(3L, pools.get("authc.ldap").get("checkouts"));
+            Assert.assertEquals(3L, pools.get("authz.ldap").get("checkouts"));
+            // the soft limit pool never waits
+            Assert.assertEquals(0L, pools.get("authz.ldap").get("waits"));
+            Assert.assertTrue(pools.get("authz.ldap").containsKey("available"));
+        } finally {
+            authenticationBackend.destroy();
+            authorizationBackend.destroy();
+        }
+    }
+
+    @Test
+    public void testLdapBlockingPoolWaits() throws Exception {
+
+        final Settings settings = Settings.builder()
+                .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+                .put(ConfigConstants.LDAP_POOL_ENABLED, true)
+                .put(ConfigConstants.LDAP_POOL_TYPE, "blocking")
+                .put(ConfigConstants.LDAP_POOL_MIN_SIZE, 1)
+                .put(ConfigConstants.LDAP_POOL_MAX_SIZE, 1)
+                .build();
+
+        final LDAPConnectionFactoryFactory factoryFactory = new LDAPConnectionFactoryFactory(settings, null);
+        final ConnectionPool connectionPool = factoryFactory.createConnectionPool();
+        final ConnectionFactory connectionFactory = factoryFactory.createConnectionFactory(connectionPool);
+        final LDAPConnectionPoolStats poolStats = factoryFactory.getPoolStats();
+
+        try {
+            final Connection first = connectionFactory.getConnection();
+            Assert.assertEquals(0, poolStats.getWaits());
+
+            final CompletableFuture<Void> second = CompletableFuture.runAsync(() -> {
+                try {
+                    connectionFactory.getConnection().close();
+                } catch (LdapException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+
+            // the second checkout has to wait until the only connection of the pool is checked in
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (poolStats.getWaits() == 0 && System.nanoTime() < deadline) {
+                Thread.yield();
+            }
+            Assert.assertEquals(1, poolStats.getWaits());
+            Assert.assertFalse(second.isDone());
+
+            first.close();
+            second.get(10, TimeUnit.SECONDS);
+
+            Assert.assertEquals(2, poolStats.getCheckouts());
+            Assert.assertEquals(1, poolStats.getWaits());
+            Assert.assertEquals(1L, poolStats.toMap().get("waits"));
+        } finally {
+            connectionPool.close();
+        }
+    }
+
     @Test
     public void testLdapAuthenticationReferral() throws Exception {
 
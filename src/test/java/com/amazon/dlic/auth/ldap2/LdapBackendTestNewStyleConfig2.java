@@ -25,7 +25,12 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import org.junit.runners.Parameterized.Parameter;
 import org.junit.runners.Parameterized.Parameters;
+import org.ldaptive.AddOperation;
+import org.ldaptive.AddRequest;
 import org.ldaptive.Connection;
+import org.ldaptive.DefaultConnectionFactory;
+import org.ldaptive.DeleteOperation;
+import org.ldaptive.DeleteRequest;
 import org.ldaptive.LdapAttribute;
 import org.ldaptive.LdapEntry;
 
@@ -601,6 +606,86 @@ public class LdapBackendTestNewStyleConfig2 {
         Assert.assertEquals("rolemo4", new ArrayList<>(new TreeSet<>(user.getRoles())).get(7));
     }
 
+    @Test
+    public void testLdapAuthorizationNestedAttrCachedAndUnbatched() throws Exception {
+
+        final Settings.Builder settingsBuilder = createBaseSettings()
+                .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+                .put("users.u1.search", "(uid={0})").put("users.u1.base", "ou=people,o=TEST")
+                .put("roles.g1.base", "ou=groups,o=TEST").put(ConfigConstants.LDAP_AUTHZ_ROLENAME, "cn")
+                .put(ConfigConstants.LDAP_AUTHZ_RESOLVE_NESTED_ROLES, true).put("roles.g1.search", "(uniqueMember={0})")
+                .put(ConfigConstants.LDAP_AUTHZ_USERROLENAME, "description") // no memberOf OID
+                .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_ENABLED, true);
+
+        final LDAPAuthorizationBackend2 cachedBackend = new LDAPAuthorizationBackend2(settingsBuilder.build(), null);
+        final LDAPAuthorizationBackend2 unbatchedBackend = new LDAPAuthorizationBackend2(settingsBuilder
+                .put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_BATCH_SIZE, 1)
+                .put(ConfigConstants.LDAP_AUTHZ_NESTED_ROLE_CACHE_TTL, 0).build(), null);
+
+        try {
+            final User user = new User("spock");
+            cachedBackend.fillRoles(user, null);
+
+            final User cachedUser = new User("spock");
+            cachedBackend.fillRoles(cachedUser, null);
+
+            final User unbatchedUser = new User("spock");
+            unbatchedBackend.fillRoles(unbatchedUser, null);
+
+            Assert.assertEquals(8, user.getRoles().size());
+            Assert.assertEquals(user.getRoles(), cachedUser.getRoles());
+            Assert.assertEquals(user.getRoles(), unbatchedUser.getRoles());
+        } finally {
+            cachedBackend.destroy();
+            unbatchedBackend.destroy();
+        }
+    }
+
+    @Test
+    public void testLdapAuthorizationNestedRoleCacheInvalidation() throws Exception {
+
+        final Settings settings = createBaseSettings()
+                .putList(ConfigConstants.LDAP_HOSTS, "localhost:" + ldapPort)
+                .put("users.u1.search", "(uid={0})").put("users.u1.base", "ou=people,o=TEST")
+                .put("roles.g1.base", "ou=groups,o=TEST").put(ConfigConstants.LDAP_AUTHZ_ROLENAME, "cn")
+                .put(ConfigConstants.LDAP_AUTHZ_RESOLVE_NESTED_ROLES, true).put("roles.g1.search", "(uniqueMember={0})")
+                .put(ConfigConstants.LDAP_AUTHZ_USERROLENAME, "description") // no memberOf OID
+                .put(ConfigConstants.LDAP_AUTHZ_ROLESEARCH_ENABLED, true).build();
+
+        final String groupDn = "cn=cacheinvalidation" + (poolEnabled ? "pooled" : "") + ",ou=groups,o=TEST";
+        final LDAPAuthorizationBackend2 backend = new LDAPAuthorizationBackend2(settings, null);
+
+        try (Connection connection = DefaultConnectionFactory.getConnection("ldap://localhost:" + ldapPort)) {
+            connection.open();
+
+            final User user = new User("spock");
+            backend.fillRoles(user, null);
+            Assert.assertEquals(8, user.getRoles().size());
+
+            new AddOperation(connection).execute(new AddRequest(groupDn, new LdapAttribute("objectClass", "groupOfUniqueNames"),
+                    new LdapAttribute("cn", groupDn.substring(3, groupDn.indexOf(','))),
+                    new LdapAttribute("uniqueMember", "cn=rolemo4,ou=groups,o=TEST")));
+
+            try {
+                // the parents of rolemo4 are still cached
+                final User cachedUser = new User("spock");
+                backend.fillRoles(cachedUser, null);
+                Assert.assertEquals(user.getRoles(), cachedUser.getRoles());
+
+                backend.invalidateCache();
+
+                final User reloadedUser = new User("spock");
+                backend.fillRoles(reloadedUser, null);
+                Assert.assertEquals(9, reloadedUser.getRoles().size());
+                Assert.assertTrue(reloadedUser.getRoles().containsAll(user.getRoles()));
+            } finally {
+                new DeleteOperation(connection).execute(new DeleteRequest(groupDn));
+            }
+        } finally {
+            backend.destroy();
+        }
+    }
+
     @Test
     public void testLdapAuthorizationNestedAttrFilter() throws Exception {
 
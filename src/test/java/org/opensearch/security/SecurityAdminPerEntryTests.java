@@ -0,0 +1,236 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.action.configupdate.ConfigUpdateAction;
+import org.opensearch.security.action.configupdate.ConfigUpdateRequest;
+import org.opensearch.security.action.configupdate.ConfigUpdateResponse;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.support.ConfigEntries;
+import org.opensearch.security.test.DynamicSecurityConfig;
+import org.opensearch.security.test.SingleClusterTest;
+import org.opensearch.security.test.helper.file.FileHelper;
+import org.opensearch.security.test.helper.rest.RestHelper;
+import org.opensearch.security.tools.SecurityAdmin;
+
+public class SecurityAdminPerEntryTests extends SingleClusterTest {
+
+    private static final String SECURITY_INDEX = ".opendistro_security";
+    // password is: nagilum
+    private static final String HASH = "$2a$12$n5nubfWATfQjSYHiWtUyeOxMIxFInUHOAx8VMmGmxFNPGpaBmeB.m";
+
+    @Rule
+    public final TemporaryFolder configFolder = new TemporaryFolder();
+
+    private RestHelper rh;
+
+    @Before
+    public void setupCluster() throws Exception {
+        final Settings settings = Settings.builder()
+                .put("plugins.security.ssl.http.enabled",true)
+                .put("plugins.security.ssl.http.keystore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("node-0-keystore.jks"))
+                .put("plugins.security.ssl.http.truststore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("truststore.jks"))
+                .build();
+        setup(Settings.EMPTY, new DynamicSecurityConfig(), settings, true);
+        rh = restHelper();
+    }
+
+    @Test
+    public void testIncrementalUploadsAndTombstones() throws Exception {
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_1", "pe_user_2"));
+
+        final ConfigEntries.Manifest first = manifest();
+        Assert.assertNotNull(first);
+        Assert.assertEquals(1, first.getVersion());
+        Assert.assertEquals(3, first.getEntries());
+        assertAuthenticates("pe_user_1", "pe_user_2");
+
+        // pe_user_1 is removed and pe_user_3 added, the node loads only the entries of version 2
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_2", "pe_user_3"));
+
+        final ConfigEntries.Manifest second = manifest();
+        Assert.assertEquals(first.getGeneration(), second.getGeneration());
+        Assert.assertEquals(2, second.getVersion());
+        Assert.assertEquals(3, second.getEntries());
+        assertAuthenticates("pe_user_2", "pe_user_3");
+        assertDoesNotAuthenticate("pe_user_1");
+
+        Assert.assertTrue(entry(second.getGeneration(), 2, "pe_user_1").isExists());
+        Assert.assertTrue(ConfigEntries.readEntry(entry(second.getGeneration(), 2, "pe_user_1").getSourceAsBytesRef()).isDeleted());
+        Assert.assertFalse("superseded documents are removed", entry(first.getGeneration(), 1, "pe_user_1").isExists());
+        Assert.assertTrue("unchanged entries are not written again", entry(first.getGeneration(), 1, "pe_user_2").isExists());
+        Assert.assertFalse(entry(second.getGeneration(), 2, "pe_user_2").isExists());
+
+        // nothing changed, so neither entries nor the manifest are written
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_2", "pe_user_3"));
+        Assert.assertEquals(2, manifest().getVersion());
+
+        // a user which was removed before can be added again
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_1", "pe_user_3"));
+        Assert.assertEquals(3, manifest().getVersion());
+        assertAuthenticates("pe_user_1", "pe_user_3");
+        assertDoesNotAuthenticate("pe_user_2");
+    }
+
+    @Test
+    public void testEntryCountMismatchKeepsLoadedConfiguration() throws Exception {
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_1"));
+        final ConfigEntries.Manifest manifest = manifest();
+
+        try (Client tc = getClient()) {
+            // looks like an upload whose entries are not all visible yet
+            tc.index(new IndexRequest(SECURITY_INDEX).id("internalusers").setRefreshPolicy(RefreshPolicy.IMMEDIATE)
+                    .source(ConfigEntries.manifestSource(new ConfigEntries.Manifest(manifest.getGeneration(), manifest.getVersion(),
+                            manifest.getConfigVersion(), manifest.getEntries() + 1)))).actionGet();
+
+            ConfigUpdateResponse cur = tc.execute(ConfigUpdateAction.INSTANCE, new ConfigUpdateRequest(new String[] { "internalusers" })).actionGet();
+            Assert.assertTrue(cur.hasFailures());
+            assertAuthenticates("nagilum", "pe_user_1");
+
+            tc.index(new IndexRequest(SECURITY_INDEX).id("internalusers").setRefreshPolicy(RefreshPolicy.IMMEDIATE)
+                    .source(ConfigEntries.manifestSource(manifest))).actionGet();
+
+            cur = tc.execute(ConfigUpdateAction.INSTANCE, new ConfigUpdateRequest(new String[] { "internalusers" })).actionGet();
+            Assert.assertFalse(cur.failures().toString(), cur.hasFailures());
+        }
+
+        // an upload does not build on entries which do not match their manifest either
+        try (Client tc = getClient()) {
+            tc.index(new IndexRequest(SECURITY_INDEX).id("internalusers").setRefreshPolicy(RefreshPolicy.IMMEDIATE)
+                    .source(ConfigEntries.manifestSource(new ConfigEntries.Manifest(manifest.getGeneration(), manifest.getVersion(),
+                            manifest.getConfigVersion(), manifest.getEntries() + 1)))).actionGet();
+        }
+
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_2"));
+        final ConfigEntries.Manifest migrated = manifest();
+        Assert.assertNotEquals(manifest.getGeneration(), migrated.getGeneration());
+        Assert.assertEquals(1, migrated.getVersion());
+        assertAuthenticates("nagilum", "pe_user_2");
+        assertDoesNotAuthenticate("pe_user_1");
+    }
+
+    @Test
+    public void testSwitchBetweenBlobAndPerEntryLayout() throws Exception {
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_1"));
+        final ConfigEntries.Manifest first = manifest();
+        Assert.assertNotNull(first);
+        assertAuthenticates("pe_user_1");
+
+        // back to the blob layout, the entries are not read anymore
+        Assert.assertEquals(0, uploadInternalUsers(false, "nagilum", "pe_user_2"));
+        Assert.assertNull(manifest());
+        assertAuthenticates("pe_user_2");
+        assertDoesNotAuthenticate("pe_user_1");
+        Assert.assertEquals(2, countEntries(ConfigEntries.staleEntriesQuery(CType.INTERNALUSERS, "none")));
+
+        // migrating to the per-entry layout again writes a new generation and removes the stale one
+        Assert.assertEquals(0, uploadInternalUsers(true, "nagilum", "pe_user_3"));
+        final ConfigEntries.Manifest migrated = manifest();
+        Assert.assertNotEquals(first.getGeneration(), migrated.getGeneration());
+        Assert.assertEquals(1, migrated.getVersion());
+        Assert.assertEquals(2, migrated.getEntries());
+        Assert.assertEquals(0, countEntries(ConfigEntries.staleEntriesQuery(CType.INTERNALUSERS, migrated.getGeneration())));
+        Assert.assertEquals(2, countEntries(ConfigEntries.entriesQuery(CType.INTERNALUSERS, migrated.getGeneration(), 0, 1)));
+
+        // the node must not build on the state it loaded for the first generation
+        assertAuthenticates("nagilum", "pe_user_3");
+        assertDoesNotAuthenticate("pe_user_1", "pe_user_2");
+    }
+
+    private int uploadInternalUsers(final boolean perEntry, final String... users) throws Exception {
+        final StringBuilder yml = new StringBuilder("_meta:\n  type: \"internalusers\"\n  config_version: 2\n");
+        for (final String user : users) {
+            yml.append(user).append(":\n  hash: \"").append(HASH).append("\"\n  backend_roles: []\n");
+        }
+        final File file = configFolder.newFile();
+        Files.write(file.toPath(), yml.toString().getBytes(StandardCharsets.UTF_8));
+
+        final String prefix = getResourceFolder()==null?"":getResourceFolder()+"/";
+
+        final List<String> argsAsList = new ArrayList<>();
+        argsAsList.add("-ts");
+        argsAsList.add(FileHelper.getAbsoluteFilePathFromClassPath(prefix+"truststore.jks").toFile().getAbsolutePath());
+        argsAsList.add("-ks");
+        argsAsList.add(FileHelper.getAbsoluteFilePathFromClassPath(prefix+"kirk-keystore.jks").toFile().getAbsolutePath());
+        argsAsList.add("-p");
+        argsAsList.add(String.valueOf(clusterInfo.httpPort));
+        argsAsList.add("-cn");
+        argsAsList.add(clusterInfo.clustername);
+        argsAsList.add("-f");
+        argsAsList.add(file.getAbsolutePath());
+        argsAsList.add("-t");
+        argsAsList.add("internalusers");
+        argsAsList.add("-nhnv");
+        if (perEntry) {
+            argsAsList.add("-pe");
+        }
+
+        return SecurityAdmin.execute(argsAsList.toArray(new String[0]));
+    }
+
+    private ConfigEntries.Manifest manifest() throws Exception {
+        try (Client tc = getClient()) {
+            final GetResponse response = tc.get(new GetRequest(SECURITY_INDEX, "internalusers").realtime(true)).actionGet();
+            Assert.assertTrue(response.isExists());
+            return ConfigEntries.readManifest(response.getSourceAsBytesRef());
+        }
+    }
+
+    private GetResponse entry(final String generation, final long version, final String name) {
+        try (Client tc = getClient()) {
+            return tc.get(new GetRequest(SECURITY_INDEX, ConfigEntries.entryId(CType.INTERNALUSERS, generation, version, name))).actionGet();
+        }
+    }
+
+    private long countEntries(final QueryBuilder query) {
+        try (Client tc = getClient()) {
+            return tc.search(new SearchRequest(SECURITY_INDEX).source(new SearchSourceBuilder().query(query).size(0)))
+                    .actionGet().getHits().getTotalHits().value;
+        }
+    }
+
+    private void assertAuthenticates(final String... users) throws Exception {
+        for (final String user : users) {
+            Assert.assertEquals(user, HttpStatus.SC_OK,
+                    rh.executeGetRequest("_plugins/_security/authinfo", encodeBasicHeader(user, "nagilum")).getStatusCode());
+        }
+    }
+
+    private void assertDoesNotAuthenticate(final String... users) throws Exception {
+        for (final String user : users) {
+            Assert.assertEquals(user, HttpStatus.SC_UNAUTHORIZED,
+                    rh.executeGetRequest("_plugins/_security/authinfo", encodeBasicHeader(user, "nagilum")).getStatusCode());
+        }
+    }
+}
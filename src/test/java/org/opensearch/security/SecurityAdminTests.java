@@ -18,15 +18,25 @@
 package org.opensearch.security;
 
 import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.http.HttpStatus;
 import org.junit.Assert;
 import org.junit.Test;
 
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
 import org.opensearch.security.ssl.util.SSLConfigConstants;
+import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.test.DynamicSecurityConfig;
 import org.opensearch.security.test.SingleClusterTest;
 import org.opensearch.security.test.helper.file.FileHelper;
@@ -503,4 +513,58 @@ public class SecurityAdminTests extends SingleClusterTest {
         returnCode  = SecurityAdmin.execute(argsAsList.toArray(new String[0]));
         Assert.assertNotEquals(0, returnCode);
     }
+
+    @Test
+    public void testSecurityAdminChangedOnly() throws Exception {
+        final Settings settings = Settings.builder()
+                .put("plugins.security.ssl.http.enabled",true)
+                .put("plugins.security.ssl.http.keystore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("node-0-keystore.jks"))
+                .put("plugins.security.ssl.http.truststore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("truststore.jks"))
+                .build();
+        setup(Settings.EMPTY, null, settings, false);
+
+        final String prefix = getResourceFolder()==null?"":getResourceFolder()+"/";
+
+        List<String> argsAsList = new ArrayList<>();
+        argsAsList.add("-ts");
+        argsAsList.add(FileHelper.getAbsoluteFilePathFromClassPath(prefix+"truststore.jks").toFile().getAbsolutePath());
+        argsAsList.add("-ks");
+        argsAsList.add(FileHelper.getAbsoluteFilePathFromClassPath(prefix+"kirk-keystore.jks").toFile().getAbsolutePath());
+        argsAsList.add("-p");
+        argsAsList.add(String.valueOf(clusterInfo.httpPort));
+        argsAsList.add("-cn");
+        argsAsList.add(clusterInfo.clustername);
+        argsAsList.add("-cd");
+        argsAsList.add(new File("src/test/resources/").getAbsolutePath());
+        argsAsList.add("-nhnv");
+        argsAsList.add("-co");
+
+        // uploads the config types which differ from the initial configuration
+        int returnCode  = SecurityAdmin.execute(argsAsList.toArray(new String[0]));
+        Assert.assertEquals(0, returnCode);
+
+        try (RestHighLevelClient restHighLevelClient = getRestClient(clusterInfo, "kirk-keystore.jks", "truststore.jks")) {
+            final Map<String, Long> seqNos = configSeqNos(restHighLevelClient);
+            Assert.assertFalse(seqNos.isEmpty());
+
+            // nothing changed, so nothing is uploaded or reloaded
+            returnCode  = SecurityAdmin.execute(argsAsList.toArray(new String[0]));
+            Assert.assertEquals(0, returnCode);
+            Assert.assertEquals(seqNos, configSeqNos(restHighLevelClient));
+        }
+
+        RestHelper rh = restHelper();
+
+        Assert.assertEquals(HttpStatus.SC_OK, (rh.executeGetRequest("_plugins/_security/health?pretty")).getStatusCode());
+    }
+
+    private static Map<String, Long> configSeqNos(final RestHighLevelClient restHighLevelClient) throws IOException {
+        final SearchResponse response = restHighLevelClient.search(new SearchRequest(ConfigConstants.OPENDISTRO_SECURITY_DEFAULT_CONFIG_INDEX)
+                .source(new SearchSourceBuilder().size(100).seqNoAndPrimaryTerm(true)), RequestOptions.DEFAULT);
+        final Map<String, Long> seqNos = new HashMap<>();
+        for (final SearchHit hit : response.getHits()) {
+            seqNos.put(hit.getId(), hit.getSeqNo());
+        }
+        return seqNos;
+    }
 }
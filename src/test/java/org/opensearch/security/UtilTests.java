@@ -26,12 +26,19 @@
 
 package org.opensearch.security;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonParser;
 import org.bouncycastle.crypto.generators.OpenBSDBCrypt;
 import org.junit.Test;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.SecurityUtils;
 import org.opensearch.security.support.WildcardMatcher;
@@ -106,6 +113,48 @@ public class UtilTests {
         assertTrue(!WildcardMatcher.from("ABC").test( "abc"));
     }
 
+    @Test
+    public void testWildcardMatcherShapes() {
+        assertTrue(wc("logs-*").test("logs-2022"));
+        assertTrue(wc("logs-*").test("logs-"));
+        assertFalse(wc("logs-*").test("log"));
+        assertTrue(wc("*-2022").test("logs-2022"));
+        assertFalse(wc("*-2022").test("logs-2021"));
+        assertTrue(wc("*kibana*").test(".kibana_1"));
+        assertTrue(wc("*kibana*").test("kibana"));
+        assertFalse(wc("*kibana*").test("kibna"));
+        assertTrue(wc("**").test(""));
+        assertTrue(wc("a**").test("a"));
+        assertTrue(wc("*a*b").test("xaxb"));
+        assertFalse(wc("*a*b").test("xaxbx"));
+        assertTrue(iwc("LOGS-*").test("logs-2022"));
+        assertTrue(iwc("*Kibana*").test(".KIBANA"));
+    }
+
+    @Test
+    public void testWildcardMatcherIsShared() {
+        assertTrue(wc("logs-*") == wc("logs-*"));
+        assertTrue(iwc("logs-*") == iwc("logs-*"));
+        assertFalse(wc("LOGS-*") == iwc("LOGS-*"));
+        assertFalse(wc("LOGS-*").test("logs-1"));
+        assertTrue(iwc("LOGS-*").test("logs-1"));
+    }
+
+    @Test
+    public void testWildcardMatcherCombinedExactPatterns() {
+        WildcardMatcher matcher = WildcardMatcher.from("index_a", "index_b", "logs-*", "*-audit");
+
+        assertTrue(matcher.test("index_a"));
+        assertTrue(matcher.test("index_b"));
+        assertTrue(matcher.test("logs-1"));
+        assertTrue(matcher.test("x-audit"));
+        assertFalse(matcher.test("index_c"));
+        assertEquals("index_b", matcher.findFirst("index_b").get().toString());
+        assertEquals("logs-*", matcher.findFirst("logs-1").get().toString());
+        assertFalse(matcher.findFirst("index_c").isPresent());
+        assertEquals(matcher, WildcardMatcher.from("index_a", "index_b", "logs-*", "*-audit"));
+    }
+
     @Test
     public void testMapFromArray() {
         Map<Object, Object> map = SecurityUtils.mapFromArray((Object)null);
@@ -191,4 +240,40 @@ public class UtilTests {
             assertEquals("abv${env."+k+":-k182765ggh}xyz", SecurityUtils.replaceEnvVars("abv${env."+k+":-k182765ggh}xyz",settings));
         }
     }
+
+    @Test
+    public void testEnvReplaceWhileParsing() throws Exception {
+        final byte[] json = ("{\"${env.MYENV:-key}\":\"abv${env.MYENV:-tTt}xyz\",\"list\":[\"${env.MYENV:-a}\",\"b\"],"
+                + "\"escaped\":\"${env.MYENV:-x}\\\"\",\"n\":1}").getBytes(StandardCharsets.UTF_8);
+
+        Map<String, Object> map = parseMap(json, Settings.EMPTY);
+        assertEquals("abvtTtxyz", map.get("key"));
+        assertEquals(Arrays.asList("a", "b"), map.get("list"));
+        assertEquals("x\"", map.get("escaped"));
+        assertEquals(1, map.get("n"));
+
+        map = parseMap(json, Settings.builder().put(ConfigConstants.SECURITY_DISABLE_ENVVAR_REPLACEMENT, true).build());
+        assertEquals("abv${env.MYENV:-tTt}xyz", map.get("${env.MYENV:-key}"));
+        assertEquals(Arrays.asList("${env.MYENV:-a}", "b"), map.get("list"));
+    }
+
+    @Test
+    public void testEnvReplaceWhileBinding() throws Exception {
+        final byte[] json = ("{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2},"
+                + "\"ag\":{\"allowed_actions\":[\"${env.MYENV:-kibana_all_read}\"],\"description\":\"${env.MYENV:-desc}\"}}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        final SecurityDynamicConfiguration<ActionGroupsV7> config = SecurityDynamicConfiguration.fromJson(json, CType.ACTIONGROUPS, 2, 1, 1, false,
+                parser -> SecurityUtils.replaceEnvVars(parser, Settings.EMPTY));
+        assertEquals(Arrays.asList("kibana_all_read"), config.getCEntry("ag").getAllowed_actions());
+        assertEquals("desc", config.getCEntry("ag").getDescription());
+        assertEquals(CType.ACTIONGROUPS, config.getCType());
+        assertEquals(1, config.getSeqNo());
+    }
+
+    private static Map<String, Object> parseMap(byte[] json, Settings settings) throws Exception {
+        try (JsonParser parser = SecurityUtils.replaceEnvVars(DefaultObjectMapper.createParser(json), settings)) {
+            return DefaultObjectMapper.readValue(parser, DefaultObjectMapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class));
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.action.privileges;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.Strings;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.common.xcontent.XContentParser;
+import org.opensearch.common.xcontent.XContentType;
+
+public class PrivilegesCheckRequestTest {
+
+    @Test
+    public void testParse() throws IOException {
+        final PrivilegesCheckRequest request = parse("{\"privileges\":[{\"action\":\"indices:data/read/search\",\"index\":\"logs-*\"},"
+                + "{\"action\":\"cluster:monitor/health\"}],\"tenants\":[\"analysts\"]}");
+
+        Assert.assertEquals(Arrays.asList(new PrivilegesCheckRequest.Privilege("indices:data/read/search", "logs-*"),
+                new PrivilegesCheckRequest.Privilege("cluster:monitor/health", null)), request.getPrivileges());
+        Assert.assertEquals(Collections.singletonList("analysts"), request.getTenants());
+        Assert.assertNull(request.validate());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParseUnknownField() throws IOException {
+        parse("{\"actions\":[]}");
+    }
+
+    @Test
+    public void testValidate() throws IOException {
+        Assert.assertNotNull(parse("{}").validate());
+        Assert.assertNotNull(parse("{\"privileges\":[{\"action\":\"indices:data/read/search\"}]}").validate());
+        Assert.assertNotNull(parse("{\"privileges\":[{\"index\":\"logs\"}]}").validate());
+    }
+
+    @Test
+    public void testSerialization() throws IOException {
+        final PrivilegesCheckRequest request = new PrivilegesCheckRequest(
+                Collections.singletonList(new PrivilegesCheckRequest.Privilege("indices:data/read/get", "logs")),
+                Collections.singletonList("global_tenant"), true);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            request.writeTo(out);
+            final PrivilegesCheckRequest read = new PrivilegesCheckRequest(out.bytes().streamInput());
+
+            Assert.assertEquals(request.getPrivileges(), read.getPrivileges());
+            Assert.assertEquals(request.getTenants(), read.getTenants());
+            Assert.assertTrue(read.isDlsFls());
+        }
+    }
+
+    @Test
+    public void testResponseSerialization() throws IOException {
+        final List<PrivilegesCheckRequest.Privilege> privileges = Collections.singletonList(
+                new PrivilegesCheckRequest.Privilege("indices:data/read/search", "logs"));
+        final Map<String, Map<String, List<String>>> dlsFls = ImmutableMap.of("logs",
+                ImmutableMap.of("fls", Collections.singletonList("~secret")));
+        final PrivilegesCheckResponse response = new PrivilegesCheckResponse("user", privileges, Collections.singletonList(true),
+                ImmutableMap.of("analysts", PrivilegesCheckResponse.READ), dlsFls);
+
+        try (BytesStreamOutput out = new BytesStreamOutput()) {
+            response.writeTo(out);
+            final PrivilegesCheckResponse read = new PrivilegesCheckResponse(out.bytes().streamInput());
+
+            Assert.assertEquals(Strings.toString(response), Strings.toString(read));
+            Assert.assertEquals(dlsFls, read.getDlsFls());
+        }
+    }
+
+    private static PrivilegesCheckRequest parse(final String json) throws IOException {
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, json)) {
+            return PrivilegesCheckRequest.fromXContent(parser, false);
+        }
+    }
+}
@@ -31,7 +31,9 @@ import org.opensearch.security.auditlog.AuditLog;
 import org.opensearch.security.securityconf.impl.CType;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -136,4 +138,25 @@ public class AuditMessageTest {
         message.addSecurityConfigTupleToRequestBody(new Tuple<>(XContentType.JSON, ref), internalUsersDocId);
         assertEquals("Hash in tuple is __HASH__", message.getAsMap().get(AuditMessage.REQUEST_BODY));
     }
+
+    @Test
+    public void testRequestBodyIsCapturedAndConvertedLazily() {
+        final ByteBuffer buffer = ByteBuffer.wrap("{\"a\":\"b\"}".getBytes());
+        message.addTupleToRequestBody(new Tuple<>(XContentType.JSON, BytesReference.fromByteBuffers(new ByteBuffer[]{ buffer })));
+
+        // the request buffer may be released and reused once the request completes
+        buffer.put(0, (byte) 'x');
+        assertEquals("{\"a\":\"b\"}", message.getAsMap().get(AuditMessage.REQUEST_BODY));
+    }
+
+    @Test
+    public void testJsonIsEncodedOnce() {
+        final String json = message.toJson();
+        assertSame(json, message.toJson());
+        assertSame(message.toJsonBytes(), message.toJsonBytes());
+
+        message.addUnescapedJsonToRequestBody("body");
+        assertNotSame(json, message.toJson());
+        assertEquals(message.toJson(), message.toJsonBytes().utf8ToString());
+    }
 }
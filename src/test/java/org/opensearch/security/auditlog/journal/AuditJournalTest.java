@@ -0,0 +1,196 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class AuditJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecordsAreReadInOrderAcrossSegments() throws Exception {
+        try (AuditJournal journal = new AuditJournal(folder.getRoot().toPath(), 100, 10_000, false)) {
+            append(journal, 0, 30);
+            Assert.assertTrue(journal.getSegmentCount() > 1);
+            Assert.assertEquals(30, journal.getAppendedCount());
+            Assert.assertEquals(sequence(0, 30), readAll(journal, journal.getCommittedOffset()));
+        }
+    }
+
+    @Test
+    public void testCommitDeletesDeliveredSegmentsAndSurvivesReopen() throws Exception {
+        final Path directory = folder.getRoot().toPath();
+
+        try (AuditJournal journal = new AuditJournal(directory, 100, 10_000, false)) {
+            append(journal, 0, 30);
+            final int segments = journal.getSegmentCount();
+            final AuditJournal.Batch batch = journal.read(journal.getCommittedOffset(), 20);
+            journal.commit(batch.getNextOffset());
+
+            Assert.assertTrue(journal.getSegmentCount() < segments);
+            Assert.assertEquals(journal.getEndOffset() - batch.getNextOffset(), journal.getLagBytes());
+        }
+
+        try (AuditJournal journal = new AuditJournal(directory, 100, 10_000, false)) {
+            Assert.assertEquals(sequence(20, 30), readAll(journal, journal.getCommittedOffset()));
+            append(journal, 30, 35);
+            Assert.assertEquals(sequence(20, 35), readAll(journal, journal.getCommittedOffset()));
+        }
+    }
+
+    @Test
+    public void testTornRecordIsTruncatedOnOpen() throws Exception {
+        final Path directory = folder.getRoot().toPath();
+
+        try (AuditJournal journal = new AuditJournal(directory, 1000, 10_000, false)) {
+            append(journal, 0, 5);
+        }
+
+        try (FileChannel channel = FileChannel.open(segments(directory).get(0), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 0, 0, 0, 50, 1, 2 }));
+        }
+
+        try (AuditJournal journal = new AuditJournal(directory, 1000, 10_000, false)) {
+            append(journal, 5, 8);
+            Assert.assertEquals(sequence(0, 8), readAll(journal, journal.getCommittedOffset()));
+        }
+    }
+
+    @Test
+    public void testCorruptedSegmentIsSkipped() throws Exception {
+        final Path directory = folder.getRoot().toPath();
+
+        try (AuditJournal journal = new AuditJournal(directory, 100, 10_000, false)) {
+            append(journal, 0, 30);
+        }
+
+        final List<Path> segments = segments(directory);
+        try (FileChannel channel = FileChannel.open(segments.get(1), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] { 'Z' }), 9);
+        }
+
+        try (AuditJournal journal = new AuditJournal(directory, 100, 10_000, false)) {
+            final List<String> records = readAll(journal, journal.getCommittedOffset());
+            Assert.assertEquals(1, journal.getCorruptedCount());
+            Assert.assertEquals("0", records.get(0));
+            Assert.assertEquals("29", records.get(records.size() - 1));
+            Assert.assertTrue(records.size() < 30);
+        }
+    }
+
+    @Test
+    public void testAppendFailsWhenFull() throws Exception {
+        try (AuditJournal journal = new AuditJournal(folder.getRoot().toPath(), 100, 200, false)) {
+            int appended = 0;
+            while (journal.append(record(appended))) {
+                appended++;
+            }
+
+            Assert.assertTrue(journal.getSizeBytes() <= 200);
+            Assert.assertEquals(1, journal.getDroppedCount());
+
+            // delivering frees the committed segments
+            journal.commit(journal.read(journal.getCommittedOffset(), appended).getNextOffset());
+            Assert.assertTrue(journal.append(record(appended)));
+        }
+    }
+
+    @Test
+    public void testSegmentNotSmallerThanMaxSizeIsDeletedOnceDelivered() throws Exception {
+        final Path directory = folder.getRoot().toPath();
+
+        try (AuditJournal journal = new AuditJournal(directory, 1000, 200, false)) {
+            for (int round = 0; round < 3; round++) {
+                int appended = 0;
+                while (journal.append(record(appended))) {
+                    appended++;
+                }
+
+                Assert.assertTrue(appended > 0);
+                Assert.assertEquals(1, journal.getSegmentCount());
+
+                // the only segment is the active one, delivering all of it must free the journal
+                final AuditJournal.Batch batch = journal.read(journal.getCommittedOffset(), appended);
+                Assert.assertEquals(appended, batch.getRecords().size());
+                journal.commit(batch.getNextOffset());
+
+                Assert.assertEquals(0, journal.getSizeBytes());
+                Assert.assertEquals(1, journal.getSegmentCount());
+            }
+        }
+
+        try (AuditJournal journal = new AuditJournal(directory, 1000, 200, false)) {
+            Assert.assertEquals(0, journal.getLagBytes());
+            Assert.assertTrue(journal.append(record(0)));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testDirectoryIsLocked() throws Exception {
+        try (AuditJournal journal = new AuditJournal(folder.getRoot().toPath(), 100, 200, false)) {
+            new AuditJournal(folder.getRoot().toPath(), 100, 200, false).close();
+        }
+    }
+
+    private static void append(final AuditJournal journal, final int from, final int to) throws IOException {
+        for (int i = from; i < to; i++) {
+            Assert.assertTrue(journal.append(record(i)));
+        }
+    }
+
+    private static byte[] record(final int i) {
+        return String.valueOf(i).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readAll(final AuditJournal journal, long offset) throws IOException {
+        final List<String> records = new ArrayList<>();
+        while (offset < journal.getEndOffset()) {
+            final AuditJournal.Batch batch = journal.read(offset, 7);
+            for (final AuditJournal.Record record : batch.getRecords()) {
+                records.add(new String(record.getData(), StandardCharsets.UTF_8));
+            }
+            offset = batch.getNextOffset();
+        }
+        return records;
+    }
+
+    private static List<String> sequence(final int from, final int to) {
+        final List<String> records = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            records.add(String.valueOf(i));
+        }
+        return records;
+    }
+
+    private static List<Path> segments(final Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(AuditJournal.SEGMENT_SUFFIX)).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditCategory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.auditlog.journal.AuditJournal;
+
+public class JournaledSinkTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testOutageDelaysDeliveryInOrder() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final SwitchableSink delegate = new SwitchableSink(fallback);
+        delegate.available = false;
+
+        final JournaledSink sink = new JournaledSink("test", Settings.EMPTY, delegate, journal(folder.getRoot().toPath()));
+        try {
+            for (int i = 0; i < 20; i++) {
+                sink.store(message(i));
+            }
+
+            Assert.assertTrue(delegate.stored.isEmpty());
+            Assert.assertTrue(fallback.messages.isEmpty());
+            Assert.assertTrue(sink.getJournal().getLagBytes() > 0);
+
+            delegate.available = true;
+            awaitUntil(() -> delegate.stored.size() == 20);
+            awaitUntil(() -> sink.getJournal().getLagBytes() == 0);
+
+            Assert.assertEquals(sequence(20), delegate.bodies());
+            Assert.assertEquals(AuditCategory.FAILED_LOGIN, delegate.stored.get(0).getCategory());
+            Assert.assertEquals(AuditLog.Origin.TRANSPORT, delegate.stored.get(0).getOrigin());
+            Assert.assertTrue(fallback.messages.isEmpty());
+        } finally {
+            sink.close();
+        }
+    }
+
+    @Test
+    public void testUndeliveredMessagesAreReplayedAfterRestart() throws Exception {
+        final Path directory = folder.getRoot().toPath();
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+
+        final SwitchableSink unavailable = new SwitchableSink(fallback);
+        unavailable.available = false;
+        final JournaledSink sink = new JournaledSink("test", Settings.EMPTY, unavailable, journal(directory));
+        for (int i = 0; i < 10; i++) {
+            sink.store(message(i));
+        }
+        sink.close();
+
+        final SwitchableSink available = new SwitchableSink(fallback);
+        final JournaledSink restarted = new JournaledSink("test", Settings.EMPTY, available, journal(directory));
+        try {
+            awaitUntil(() -> available.stored.size() == 10);
+            Assert.assertEquals(sequence(10), available.bodies());
+            Assert.assertTrue(unavailable.stored.isEmpty());
+        } finally {
+            restarted.close();
+        }
+    }
+
+    @Test
+    public void testFullJournalUsesFallback() throws Exception {
+        final LoggingSink fallback = new LoggingSink("fallback", Settings.EMPTY, null, null);
+        final SwitchableSink delegate = new SwitchableSink(fallback);
+        delegate.available = false;
+
+        final JournaledSink sink = new JournaledSink("test", Settings.EMPTY, delegate,
+                new AuditJournal(folder.getRoot().toPath(), 1024, message(0).toJsonBytes().length() * 3L, false));
+        try {
+            for (int i = 0; i < 5; i++) {
+                sink.store(message(i));
+            }
+
+            Assert.assertFalse(fallback.messages.isEmpty());
+            Assert.assertTrue(sink.getJournalGauges().get("dropped").getAsLong() > 0);
+        } finally {
+            sink.close();
+        }
+    }
+
+    private static AuditJournal journal(final Path directory) throws Exception {
+        return new AuditJournal(directory, 4096, 10 * 1024 * 1024, false);
+    }
+
+    private static AuditMessage message(final int i) {
+        final AuditMessage msg = MockAuditMessageFactory.validAuditMessage();
+        msg.addUnescapedJsonToRequestBody(String.valueOf(i));
+        return msg;
+    }
+
+    private static List<String> sequence(final int count) {
+        final List<String> bodies = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            bodies.add(String.valueOf(i));
+        }
+        return bodies;
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Condition not met within 30 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static class SwitchableSink extends AuditLogSink {
+
+        final List<AuditMessage> stored = Collections.synchronizedList(new ArrayList<>());
+        volatile boolean available = true;
+
+        SwitchableSink(final AuditLogSink fallback) {
+            super("switchable", Settings.EMPTY, null, fallback);
+        }
+
+        @Override
+        protected boolean doStore(final AuditMessage msg) {
+            if (!available) {
+                return false;
+            }
+            stored.add(msg);
+            return true;
+        }
+
+        List<String> bodies() {
+            final List<String> bodies = new ArrayList<>();
+            synchronized (stored) {
+                for (final AuditMessage msg : stored) {
+                    bodies.add(String.valueOf(msg.getAsMap().get(AuditMessage.REQUEST_BODY)));
+                }
+            }
+            return bodies;
+        }
+    }
+}
@@ -13,13 +13,19 @@ package org.opensearch.security.auditlog.sink;
 
 import org.apache.logging.log4j.Level;
 import org.junit.Assert;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import org.opensearch.common.settings.Settings;
+import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.test.helper.file.FileHelper;
 
 public class SinkProviderTest {
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Test
 	public void testConfiguration() throws Exception {
 
@@ -97,5 +103,30 @@ public class SinkProviderTest {
 		Assert.assertEquals("auditevents", sink.type);
 	}
 
+	@Test
+	public void testOnlySinksDeliveringOnTheCallingThreadAreJournaled() throws Exception {
+		Settings settings = Settings.builder()
+				.put(ConfigConstants.SECURITY_AUDIT_JOURNAL_ENABLED, true)
+				.put(ConfigConstants.SECURITY_AUDIT_JOURNAL_PATH, folder.getRoot().getAbsolutePath())
+				.put(ConfigConstants.SECURITY_AUDIT_TYPE_DEFAULT, "webhook")
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT + "." + ConfigConstants.SECURITY_AUDIT_WEBHOOK_URL, "http://localhost:9200/audit")
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT + "." + ConfigConstants.SECURITY_AUDIT_WEBHOOK_FORMAT, "json")
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_ENDPOINTS + ".batched.type", "webhook")
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_ENDPOINTS + ".batched.config." + ConfigConstants.SECURITY_AUDIT_WEBHOOK_URL, "http://localhost:9200/audit")
+				.put(ConfigConstants.SECURITY_AUDIT_CONFIG_ENDPOINTS + ".batched.config." + ConfigConstants.SECURITY_AUDIT_WEBHOOK_FORMAT, "ndjson")
+				.build();
+		SinkProvider provider = new SinkProvider(settings, null, null, null);
+		try {
+			// a message is delivered once the request returned
+			Assert.assertEquals(JournaledSink.class, provider.getDefaultSink().getClass());
+			Assert.assertEquals(WebhookSink.class, ((JournaledSink) provider.getDefaultSink()).getDelegate().getClass());
+
+			// a message is only enqueued, committing it to the journal could lose it
+			Assert.assertEquals(WebhookSink.class, provider.getSink("batched").getClass());
+		} finally {
+			provider.close();
+		}
+	}
+
 
 }
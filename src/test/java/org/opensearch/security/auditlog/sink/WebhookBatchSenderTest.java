@@ -0,0 +1,357 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.auditlog.sink;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.Header;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.impl.bootstrap.HttpServer;
+import org.apache.http.impl.bootstrap.ServerBootstrap;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestHandler;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.auditlog.helper.LoggingSink;
+import org.opensearch.security.auditlog.helper.MockAuditMessageFactory;
+import org.opensearch.security.auditlog.impl.AuditMessage;
+import org.opensearch.security.support.ConfigConstants;
+
+public class WebhookBatchSenderTest {
+
+    private static final String PREFIX = ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT + ".";
+
+    private HttpServer server;
+    private WebhookSink sink;
+
+    @After
+    public void tearDown() throws Exception {
+        if (sink != null) {
+            sink.close();
+        }
+        if (server != null) {
+            server.shutdown(3L, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testNdjsonBatchesAreDeliveredInOrder() throws Exception {
+        final RecordingHandler handler = startServer(0);
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 50)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS, 60_000)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        Assert.assertTrue(sink.isHandlingBackpressure());
+
+        final long start = System.nanoTime();
+        for (int i = 0; i < 5000; i++) {
+            sink.store(message(i));
+        }
+
+        awaitUntil(() -> handler.messageCount() == 5000);
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // full batches only, one request per 50 messages
+        Assert.assertEquals(100, handler.requests.size());
+        for (final String body : handler.requests) {
+            Assert.assertEquals(50, body.split("\n").length);
+            Assert.assertTrue(body.endsWith("\n"));
+        }
+        Assert.assertEquals(sequence(5000), handler.ids());
+        Assert.assertTrue("5000 messages took " + elapsedMs + " ms", elapsedMs < 30_000);
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testPartialBatchIsFlushedAfterInterval() throws Exception {
+        final RecordingHandler handler = startServer(0);
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 100)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS, 100)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        for (int i = 0; i < 3; i++) {
+            sink.store(message(i));
+        }
+
+        awaitUntil(() -> handler.messageCount() == 3);
+        Assert.assertEquals(1, handler.requests.size());
+        Assert.assertEquals(sequence(3), handler.ids());
+    }
+
+    @Test
+    public void testGzipJsonArray() throws Exception {
+        final RecordingHandler handler = startServer(0);
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("json_array")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 10)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_GZIP, true)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        for (int i = 0; i < 20; i++) {
+            sink.store(message(i));
+        }
+
+        awaitUntil(() -> handler.messageCount() == 20);
+        Assert.assertEquals(2, handler.requests.size());
+        Assert.assertEquals(2, handler.gzipped.get());
+        Assert.assertEquals(sequence(20), handler.ids());
+    }
+
+    @Test
+    public void testFailedBatchIsRetriedInOrder() throws Exception {
+        final RecordingHandler handler = startServer(2);
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 5)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS, 10)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        for (int i = 0; i < 50; i++) {
+            sink.store(message(i));
+        }
+
+        awaitUntil(() -> handler.messageCount() == 50);
+        Assert.assertEquals(sequence(50), handler.ids());
+        Assert.assertTrue(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testUnreachableEndpointUsesFallback() throws Exception {
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson", "http://localhost:" + findFreePort() + "/endpoint")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 5)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_COUNT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS, 10)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        for (int i = 0; i < 12; i++) {
+            sink.store(message(i));
+        }
+
+        sink.close();
+        sink = null;
+        Assert.assertEquals(12, fallback.messages.size());
+    }
+
+    @Test
+    public void testBatchAwaitingRetryIsStoredOnFallbackOnClose() throws Exception {
+        final RecordingHandler handler = startServer(Integer.MAX_VALUE);
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 5)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS, 60_000)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS, 60_000)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_MAX_DELAY_MS, 60_000)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        for (int i = 0; i < 5; i++) {
+            sink.store(message(i));
+        }
+
+        // the first attempt failed, the retry is due in 30 to 60 seconds
+        awaitUntil(() -> handler.received.get() == 1);
+
+        final long start = System.nanoTime();
+        sink.close();
+        sink = null;
+        final long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        final List<String> ids = new ArrayList<>();
+        for (final AuditMessage msg : fallback.messages) {
+            ids.add(String.valueOf(msg.getAsMap().get(AuditMessage.REQUEST_BODY)));
+        }
+        Assert.assertEquals(sequence(5), ids);
+        Assert.assertEquals(1, handler.received.get());
+        Assert.assertTrue("close took " + elapsedMs + " ms", elapsedMs < 5_000);
+    }
+
+    @Test
+    public void testFullBufferUsesFallback() throws Exception {
+        final LoggingSink fallback = new LoggingSink("test", Settings.EMPTY, null, null);
+        sink = new WebhookSink("name", settings("ndjson", "http://localhost:" + findFreePort() + "/endpoint")
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_SIZE, 10)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_PENDING, 10)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_MAX_IN_FLIGHT, 1)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_FLUSH_INTERVAL_MS, 60_000)
+                .build(), ConfigConstants.SECURITY_AUDIT_CONFIG_DEFAULT, null, fallback);
+
+        // the first batch is retried against the unreachable endpoint, at most one more batch fits into the buffer
+        final AuditMessage msg = message(0);
+        for (int i = 0; i < 31; i++) {
+            Assert.assertTrue(sink.doStore(msg));
+        }
+        Assert.assertFalse(fallback.messages.isEmpty());
+    }
+
+    @Test
+    public void testBackoffIsCapped() throws Exception {
+        final WebhookBatchSender sender = new WebhookBatchSender("test", Settings.builder()
+                .put(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_INITIAL_DELAY_MS, 100)
+                .put(ConfigConstants.SECURITY_AUDIT_WEBHOOK_BATCH_RETRY_MAX_DELAY_MS, 1000)
+                .build(), "http://localhost", WebhookSink.WebhookFormat.NDJSON, AuditMessage::toJson,
+                HttpAsyncClients.createDefault(), msg -> {});
+
+        try {
+            for (int attempt = 0; attempt < 40; attempt++) {
+                final long expected = Math.min(1000, 100L << Math.min(attempt, 30));
+                final long delay = sender.backoffDelayMs(attempt);
+                Assert.assertTrue(delay >= expected / 2);
+                Assert.assertTrue(delay <= expected);
+            }
+        } finally {
+            sender.close();
+        }
+    }
+
+    private static AuditMessage message(final int id) {
+        final AuditMessage msg = MockAuditMessageFactory.validAuditMessage();
+        msg.addUnescapedJsonToRequestBody(String.valueOf(id));
+        return msg;
+    }
+
+    private static List<String> sequence(final int count) {
+        final List<String> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(String.valueOf(i));
+        }
+        return ids;
+    }
+
+    private Settings.Builder settings(final String format) {
+        return settings(format, "http://localhost:" + server.getLocalPort() + "/endpoint");
+    }
+
+    private static Settings.Builder settings(final String format, final String url) {
+        return Settings.builder()
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_URL, url)
+                .put(PREFIX + ConfigConstants.SECURITY_AUDIT_WEBHOOK_FORMAT, format)
+                .put("path.home", ".");
+    }
+
+    private RecordingHandler startServer(final int failures) throws Exception {
+        final RecordingHandler handler = new RecordingHandler(failures);
+        server = ServerBootstrap.bootstrap()
+                .setListenerPort(findFreePort())
+                .setServerInfo("Test/1.1")
+                .registerHandler("*", handler)
+                .create();
+        server.start();
+        return handler;
+    }
+
+    private static void awaitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assert.fail("Condition not met within 30 seconds");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static int findFreePort() {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            return serverSocket.getLocalPort();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to find free port", e);
+        }
+    }
+
+    private static class RecordingHandler implements HttpRequestHandler {
+
+        final List<String> requests = Collections.synchronizedList(new ArrayList<>());
+        final AtomicInteger gzipped = new AtomicInteger();
+        final AtomicInteger received = new AtomicInteger();
+        private final AtomicInteger failures;
+
+        RecordingHandler(final int failures) {
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public void handle(final HttpRequest request, final HttpResponse response, final HttpContext context) throws IOException {
+            received.incrementAndGet();
+            if (failures.getAndDecrement() > 0) {
+                response.setStatusCode(HttpStatus.SC_SERVICE_UNAVAILABLE);
+                return;
+            }
+
+            final byte[] bytes = EntityUtils.toByteArray(((HttpEntityEnclosingRequest) request).getEntity());
+            final Header encoding = request.getFirstHeader("Content-Encoding");
+
+            if (encoding != null && "gzip".equals(encoding.getValue())) {
+                gzipped.incrementAndGet();
+                try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                    requests.add(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+            } else {
+                requests.add(new String(bytes, StandardCharsets.UTF_8));
+            }
+        }
+
+        int messageCount() {
+            try {
+                return ids().size();
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        List<String> ids() throws IOException {
+            final List<String> ids = new ArrayList<>();
+            synchronized (requests) {
+                for (final String body : requests) {
+                    if (body.startsWith("[")) {
+                        for (final JsonNode node : DefaultObjectMapper.readTree(body)) {
+                            ids.add(node.get(AuditMessage.REQUEST_BODY).asText());
+                        }
+                    } else {
+                        for (final String line : body.split("\n")) {
+                            ids.add(DefaultObjectMapper.readTree(line).get(AuditMessage.REQUEST_BODY).asText());
+                        }
+                    }
+                }
+            }
+            return ids;
+        }
+    }
+}
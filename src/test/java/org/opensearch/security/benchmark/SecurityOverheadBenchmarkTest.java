@@ -0,0 +1,135 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.benchmark;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.test.DynamicSecurityConfig;
+import org.opensearch.security.test.SingleClusterTest;
+import org.opensearch.security.test.helper.cluster.ClusterConfiguration;
+import org.opensearch.security.test.helper.cluster.ClusterHelper;
+import org.opensearch.security.test.helper.cluster.ClusterInfo;
+import org.opensearch.security.test.helper.config.SyntheticSecurityConfig;
+import org.opensearch.security.test.helper.load.LoadGenerator;
+import org.opensearch.security.test.helper.load.LoadReport;
+import org.opensearch.security.test.helper.load.SyntheticWorkload;
+import org.opensearch.security.test.helper.load.SyntheticWorkload.Identity;
+import org.opensearch.security.test.helper.load.SyntheticWorkload.Operation;
+import org.opensearch.security.test.helper.rest.RestHelper;
+
+/**
+ * Runs the same synthetic workload against a single node without and with the security plugin and reports
+ * throughput and latency percentiles per operation and identity.
+ * <p>
+ * Only runs with {@code -Dtests.security.benchmark=true}, see the {@code securityBenchmark} gradle task.
+ * The workload is configured with {@code benchmark.*} system properties, e.g. {@code -Pbenchmark.roles=5000},
+ * and the results are written as json to {@code benchmark.output} if set.
+ */
+public class SecurityOverheadBenchmarkTest extends SingleClusterTest {
+
+    @Test
+    public void testSecurityOverhead() throws Exception {
+        Assume.assumeTrue("Benchmarks are disabled", Boolean.getBoolean("tests.security.benchmark"));
+
+        final SyntheticSecurityConfig config = new SyntheticSecurityConfig()
+                .setRoles(Integer.getInteger("benchmark.roles", 1000))
+                .setGroups(Integer.getInteger("benchmark.groups", 100))
+                .setActionGroups(Integer.getInteger("benchmark.actionGroups", 100))
+                .setTenants(Integer.getInteger("benchmark.tenants", 100))
+                .setUsers(Integer.getInteger("benchmark.users", 100))
+                .setApps(Integer.getInteger("benchmark.apps", 20))
+                .setIndices(Integer.getInteger("benchmark.indices", 100))
+                .setDlsFlsEvery(Integer.getInteger("benchmark.dlsFlsEvery", 10));
+        final SyntheticWorkload workload = new SyntheticWorkload(config,
+                Integer.getInteger("benchmark.documents", 100),
+                Integer.getInteger("benchmark.fields", 20),
+                Integer.getInteger("benchmark.batchSize", 10));
+        final List<Operation> operations = Arrays.stream(System.getProperty("benchmark.operations", "search,get,mget,msearch,bulk").split(","))
+                .map(o -> Operation.valueOf(o.trim().toUpperCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+        final List<Identity> identities = Arrays.stream(System.getProperty("benchmark.identities", "basic,jwt").split(","))
+                .map(i -> Identity.valueOf(i.trim().toUpperCase(Locale.ROOT)))
+                .collect(Collectors.toList());
+
+        final List<LoadReport> reports = new ArrayList<>();
+
+        final ClusterHelper baselineClusterHelper = new ClusterHelper("benchmark_baseline_" + System.nanoTime());
+        try {
+            final ClusterInfo baselineClusterInfo = baselineClusterHelper.startCluster(
+                    i -> Settings.builder().put("cluster.routing.allocation.disk.threshold_enabled", false).build(),
+                    ClusterConfiguration.SINGLENODE_WITHOUT_SECURITY_PLUGIN);
+            workload.populate(baselineClusterHelper.nodeClient());
+            reports.add(loadGenerator(new RestHelper(baselineClusterInfo, false, false, getResourceFolder()), workload, operations)
+                    .run("baseline", Identity.NONE));
+        } finally {
+            baselineClusterHelper.stopCluster();
+        }
+
+        final DynamicSecurityConfig securityConfig = new DynamicSecurityConfig().setConfig("config_benchmark.yml");
+        for (final CType type : Arrays.asList(CType.ROLES, CType.ROLESMAPPING, CType.ACTIONGROUPS, CType.TENANTS, CType.INTERNALUSERS)) {
+            securityConfig.setConfigAsYamlString(type, config.yaml(type));
+        }
+        setup(Settings.EMPTY, securityConfig, Settings.EMPTY, true, ClusterConfiguration.SINGLENODE);
+        workload.populate(getClient());
+        for (final Identity identity : identities) {
+            reports.add(loadGenerator(nonSslRestHelper(), workload, operations).run("security_" + identity.name().toLowerCase(Locale.ROOT), identity));
+        }
+
+        final LoadReport baseline = reports.get(0);
+        for (final LoadReport report : reports) {
+            System.out.println(report.toString(report == baseline ? null : baseline));
+        }
+
+        final String output = System.getProperty("benchmark.output");
+        if (output != null) {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            result.put("workload", System.getProperties().stringPropertyNames().stream()
+                    .filter(p -> p.startsWith("benchmark.") && !p.equals("benchmark.output"))
+                    .sorted()
+                    .collect(Collectors.toMap(p -> p, System::getProperty, (a, b) -> a, LinkedHashMap::new)));
+            result.put("runs", reports.stream().map(LoadReport::toMap).collect(Collectors.toList()));
+            final File file = new File(output);
+            file.getAbsoluteFile().getParentFile().mkdirs();
+            Files.write(file.toPath(), DefaultObjectMapper.writeValueAsString(result, false).getBytes(StandardCharsets.UTF_8));
+        }
+
+        for (final LoadReport report : reports) {
+            Assert.assertEquals(report.getLabel() + " had errors, see log", 0, report.getErrors());
+        }
+    }
+
+    private static LoadGenerator loadGenerator(RestHelper restHelper, SyntheticWorkload workload, List<Operation> operations) {
+        return new LoadGenerator(restHelper, workload)
+                .setThreads(Integer.getInteger("benchmark.threads", 8))
+                .setWarmup(Integer.getInteger("benchmark.warmupSeconds", 10), TimeUnit.SECONDS)
+                .setDuration(Integer.getInteger("benchmark.durationSeconds", 30), TimeUnit.SECONDS)
+                .setSeed(Long.getLong("benchmark.seed", 42))
+                .setOperations(operations);
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.resolver.IndexAliasLookup;
+
+public class ClusterInfoHolderTest {
+
+    @Test
+    public void testAliasLookupFollowsTheClusterState() {
+        final ClusterInfoHolder holder = new ClusterInfoHolder();
+        final ClusterState first = clusterState("logs-1", "logs");
+        holder.clusterChanged(new ClusterChangedEvent("test", first, ClusterState.EMPTY_STATE));
+
+        final IndexAliasLookup lookup = holder.getIndexAliasLookup(first.metadata());
+        Assert.assertTrue(lookup.isFor(first.metadata()));
+        Assert.assertSame(lookup, holder.getIndexAliasLookup(first.metadata()));
+        Assert.assertEquals(Collections.singleton("logs"), lookup.getMatchingAliases(Collections.singleton("lo*")));
+
+        final ClusterState second = clusterState("logs-1", "logs-current");
+        holder.clusterChanged(new ClusterChangedEvent("test", second, first));
+
+        Assert.assertEquals(Collections.singleton("logs-current"),
+                holder.getIndexAliasLookup(second.metadata()).getMatchingAliases(Collections.singleton("lo*")));
+    }
+
+    @Test
+    public void testNodesKeepTheirOwnAliasLookup() {
+        final ClusterInfoHolder node1 = new ClusterInfoHolder();
+        final ClusterInfoHolder node2 = new ClusterInfoHolder();
+        final ClusterState cluster1 = clusterState("logs-1", "logs");
+        final ClusterState cluster2 = clusterState("metrics-1", "metrics");
+
+        node1.clusterChanged(new ClusterChangedEvent("test", cluster1, ClusterState.EMPTY_STATE));
+        node2.clusterChanged(new ClusterChangedEvent("test", cluster2, ClusterState.EMPTY_STATE));
+
+        final IndexAliasLookup lookup1 = node1.getIndexAliasLookup(cluster1.metadata());
+        final IndexAliasLookup lookup2 = node2.getIndexAliasLookup(cluster2.metadata());
+
+        Assert.assertEquals(Collections.singleton("logs"), lookup1.getMatchingAliases(Collections.singleton("*")));
+        Assert.assertEquals(Collections.singleton("metrics"), lookup2.getMatchingAliases(Collections.singleton("*")));
+        // resolving on one node does not replace the lookup of the other one
+        Assert.assertSame(lookup1, node1.getIndexAliasLookup(cluster1.metadata()));
+        Assert.assertSame(lookup2, node2.getIndexAliasLookup(cluster2.metadata()));
+    }
+
+    private static ClusterState clusterState(final String index, final String alias) {
+        return ClusterState.builder(ClusterName.DEFAULT)
+                .metadata(Metadata.builder().put(IndexMetadata.builder(index)
+                        .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                        .numberOfShards(1)
+                        .numberOfReplicas(0)
+                        .putAlias(AliasMetadata.builder(alias)), false))
+                .build();
+    }
+}
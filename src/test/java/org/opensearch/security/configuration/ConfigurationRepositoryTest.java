@@ -0,0 +1,73 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Collections;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.client.Client;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.auditlog.AuditLog;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.threadpool.ThreadPool;
+
+public class ConfigurationRepositoryTest {
+
+    private final ConfigurationRepository repository = ConfigurationRepository.create(Settings.EMPTY, null, Mockito.mock(ThreadPool.class),
+            Mockito.mock(Client.class), Mockito.mock(ClusterService.class), Mockito.mock(AuditLog.class));
+
+    @Test
+    public void testSnapshotIsReusedUntilTheConfigChanges() throws Exception {
+        repository.updateConfiguration(Collections.singletonMap(CType.INTERNALUSERS, internalUsers("user_1")));
+
+        final SecurityDynamicConfiguration<?> first = repository.getConfigurationSnapshot(CType.INTERNALUSERS, false);
+        Assert.assertTrue(first.exists("user_1"));
+        Assert.assertSame(first, repository.getConfigurationSnapshot(CType.INTERNALUSERS, false));
+
+        // copies for modification do not change the snapshot
+        repository.getConfiguration(CType.INTERNALUSERS).remove("user_1");
+        Assert.assertSame(first, repository.getConfigurationSnapshot(CType.INTERNALUSERS, false));
+        Assert.assertTrue(first.exists("user_1"));
+
+        repository.updateConfiguration(Collections.singletonMap(CType.INTERNALUSERS, internalUsers("user_2")));
+
+        final SecurityDynamicConfiguration<?> second = repository.getConfigurationSnapshot(CType.INTERNALUSERS, false);
+        Assert.assertNotSame(first, second);
+        Assert.assertTrue(second.exists("user_2"));
+        Assert.assertFalse(second.exists("user_1"));
+        Assert.assertSame(second, repository.getConfigurationSnapshot(CType.INTERNALUSERS, false));
+        // callers still holding the previous snapshot keep seeing a consistent config
+        Assert.assertTrue(first.exists("user_1"));
+    }
+
+    @Test
+    public void testSnapshotsArePerConfigType() throws Exception {
+        repository.updateConfiguration(Collections.singletonMap(CType.INTERNALUSERS, internalUsers("user_1")));
+        final SecurityDynamicConfiguration<?> users = repository.getConfigurationSnapshot(CType.INTERNALUSERS, false);
+
+        repository.updateConfiguration(Collections.singletonMap(CType.TENANTS, SecurityDynamicConfiguration.fromJson(
+                "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2},\"tenant_1\":{}}", CType.TENANTS, 2, 0, 0)));
+
+        Assert.assertTrue(repository.getConfigurationSnapshot(CType.TENANTS, false).exists("tenant_1"));
+        Assert.assertSame(users, repository.getConfigurationSnapshot(CType.INTERNALUSERS, false));
+    }
+
+    private static SecurityDynamicConfiguration<?> internalUsers(final String user) throws Exception {
+        return SecurityDynamicConfiguration.fromJson("{\"_meta\":{\"type\":\"internalusers\",\"config_version\":2},"
+                + "\"" + user + "\":{\"hash\":\"$2a$12$n5nubfWATfQjSYHiWtUyeOxMIxFInUHOAx8VMmGmxFNPGpaBmeB.m\"}}", CType.INTERNALUSERS, 2, 0, 0);
+    }
+}
@@ -0,0 +1,358 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.get.MultiGetItemResponse;
+import org.opensearch.action.get.MultiGetRequest;
+import org.opensearch.action.get.MultiGetResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.IndexNotFoundException;
+import org.opensearch.index.get.GetResult;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.query.TermsQueryBuilder;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.search.SearchModule;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.EvaluatedDlsFlsConfig;
+import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class DlsFilterLevelActionHandlerTest {
+
+    private static final String SEARCH = "indices:data/read/search";
+    private static final String GET = "indices:data/read/get";
+    private static final String MGET = "indices:data/read/mget";
+
+    private final AtomicReference<SearchRequest> executed = new AtomicReference<>();
+    private final ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+    private final DlsQueryParser dlsQueryParser = new DlsQueryParser(
+            new NamedXContentRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedXContents()));
+    private Client nodeClient;
+    private ClusterService clusterService;
+    private IndexNameExpressionResolver resolver;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        nodeClient = mock(Client.class);
+        doAnswer(invocation -> {
+            executed.set(invocation.getArgument(0));
+            return null;
+        }).when(nodeClient).search(any(SearchRequest.class), any(ActionListener.class));
+
+        clusterService = mock(ClusterService.class);
+        resolver = mock(IndexNameExpressionResolver.class);
+    }
+
+    @Test
+    public void testIndicesWithTheSameQueriesAreGrouped() {
+        final Map<String, Set<String>> dls = ImmutableMap.of(
+                "logs-*", ImmutableSet.of(term("grouped_dept", "a")),
+                "metrics", ImmutableSet.of(term("grouped_dept", "a")),
+                "secret", ImmutableSet.of(term("grouped_dept", "b")));
+
+        final BoolQueryBuilder query = search(new SearchRequest(), dls, "logs-1", "logs-2", "metrics", "secret");
+
+        assertEquals(1, Integer.parseInt(query.minimumShouldMatch()));
+        assertEquals(2, query.should().size());
+        assertTrue(query.must().isEmpty());
+
+        final Map<QueryBuilder, Set<String>> scoped = scopedQueries(query);
+        assertEquals(ImmutableSet.of("logs-1", "logs-2", "metrics"), scoped.get(QueryBuilders.termQuery("grouped_dept", "a")));
+        assertEquals(ImmutableSet.of("secret"), scoped.get(QueryBuilders.termQuery("grouped_dept", "b")));
+        assertTrue(unrestrictedIndices(query).isEmpty());
+    }
+
+    @Test
+    public void testIndicesWithSeveralQueries() {
+        final Map<String, Set<String>> dls = ImmutableMap.of(
+                "logs-*", ImmutableSet.of(term("multi_dept", "a"), term("multi_owner", "x")));
+
+        final BoolQueryBuilder query = search(new SearchRequest(), dls, "logs-1", "logs-2");
+
+        // every query of the set is a should clause of its own, scoped to the indices sharing the set
+        final Map<QueryBuilder, Set<String>> scoped = scopedQueries(query);
+        assertEquals(2, scoped.size());
+        assertEquals(ImmutableSet.of("logs-1", "logs-2"), scoped.get(QueryBuilders.termQuery("multi_dept", "a")));
+        assertEquals(ImmutableSet.of("logs-1", "logs-2"), scoped.get(QueryBuilders.termQuery("multi_owner", "x")));
+    }
+
+    @Test
+    public void testUnrestrictedIndicesPass() {
+        final Map<String, Set<String>> dls = ImmutableMap.of(
+                "logs-*", ImmutableSet.of(term("mixed_dept", "a")));
+
+        final SearchRequest request = new SearchRequest().source(new SearchSourceBuilder().query(QueryBuilders.matchQuery("message", "error")));
+        final BoolQueryBuilder query = search(request, dls, "logs-1", "public-1", "public-2");
+
+        assertEquals(ImmutableSet.of("public-1", "public-2"), unrestrictedIndices(query));
+        assertEquals(ImmutableSet.of("logs-1"), scopedQueries(query).get(QueryBuilders.termQuery("mixed_dept", "a")));
+        // the query of the request still applies to all indices
+        assertEquals(Collections.singletonList(QueryBuilders.matchQuery("message", "error")), query.must());
+    }
+
+    @Test
+    public void testNoRestrictedIndexLeavesRequestUnchanged() {
+        final Map<String, Set<String>> dls = ImmutableMap.of(
+                "logs-*", ImmutableSet.of(term("unrestricted_dept", "a")));
+
+        final SearchRequest request = new SearchRequest().source(new SearchSourceBuilder());
+
+        assertTrue(handle(request, dls, "public-1", "public-2"));
+        assertNull(executed.get());
+        assertNull(request.source().query());
+    }
+
+    @Test
+    public void testRemoteClusterIndicesArePrefixed() {
+        final Map<String, Set<String>> dls = ImmutableMap.of(
+                "logs-*", ImmutableSet.of(term("remote_dept", "a")));
+
+        final SearchRequest request = SearchRequest.subSearchRequest(new SearchRequest().source(new SearchSourceBuilder()),
+                new String[] { "logs-1", "public" }, "remote", 0, true);
+        final BoolQueryBuilder query = search(request, dls, "logs-1", "public");
+
+        assertEquals(ImmutableSet.of("remote:logs-1"), scopedQueries(query).get(QueryBuilders.termQuery("remote_dept", "a")));
+        assertEquals(ImmutableSet.of("remote:public"), unrestrictedIndices(query));
+    }
+
+    @Test
+    public void testQueryExtensionIsReusedForTheSameQueries() {
+        final long hits = (Long) DlsFilterLevelActionHandler.getQueryExtensionCacheStats().get("hits");
+
+        final BoolQueryBuilder first = search(new SearchRequest().source(new SearchSourceBuilder().query(QueryBuilders.termQuery("first", "1"))),
+                new HashMap<>(ImmutableMap.of("logs-*", ImmutableSet.of(term("cached_dept", "a")))), "logs-1", "logs-2");
+        assertEquals(hits, DlsFilterLevelActionHandler.getQueryExtensionCacheStats().get("hits"));
+
+        // another user with the same DLS queries, e.g. from another role
+        final BoolQueryBuilder second = search(new SearchRequest().source(new SearchSourceBuilder().query(QueryBuilders.termQuery("second", "2"))),
+                new HashMap<>(ImmutableMap.of("logs-*", new HashSet<>(Arrays.asList(term("cached_dept", "a"))))), "logs-1", "logs-2");
+        assertEquals(hits + 1, DlsFilterLevelActionHandler.getQueryExtensionCacheStats().get("hits"));
+
+        // every request gets its own bool query, so the query of one request never leaks into another
+        assertNotSame(first, second);
+        assertEquals(first.should(), second.should());
+        assertEquals(Collections.singletonList(QueryBuilders.termQuery("first", "1")), first.must());
+        assertEquals(Collections.singletonList(QueryBuilders.termQuery("second", "2")), second.must());
+
+        // other indices or other queries are not served from the same entry
+        search(new SearchRequest(), ImmutableMap.of("logs-*", ImmutableSet.of(term("cached_dept", "a"))), "logs-1", "logs-3");
+        search(new SearchRequest(), ImmutableMap.of("logs-*", ImmutableSet.of(term("cached_dept", "b"))), "logs-1", "logs-2");
+        assertEquals(hits + 1, DlsFilterLevelActionHandler.getQueryExtensionCacheStats().get("hits"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiGetKeepsFailedItems() {
+        final Map<String, Set<String>> dls = ImmutableMap.of("logs-*", ImmutableSet.of(term("mget_dept", "a")));
+        final AtomicReference<Map<String, Set<String>>> shardLevelQueries = new AtomicReference<>();
+
+        doAnswer(invocation -> {
+            shardLevelQueries.set(dlsQueryHeader());
+            final ActionListener<MultiGetResponse> listener = invocation.getArgument(1);
+            listener.onResponse(new MultiGetResponse(new MultiGetItemResponse[] {
+                    new MultiGetItemResponse(getResponse("logs-1", "visible", true), null),
+                    new MultiGetItemResponse(getResponse("logs-1", "hidden", false), null),
+                    new MultiGetItemResponse(null, new MultiGetResponse.Failure("logs-2", "failed", new IndexNotFoundException("logs-2"))) }));
+            return null;
+        }).when(nodeClient).multiGet(any(MultiGetRequest.class), any(ActionListener.class));
+
+        final AtomicReference<MultiGetResponse> response = new AtomicReference<>();
+        final MultiGetRequest request = new MultiGetRequest().add("logs-1", "visible").add("logs-1", "hidden").add("logs-2", "failed");
+
+        assertFalse(handle(MGET, request, ActionListener.wrap(response::set, e -> { throw new AssertionError(e); }), dls, null,
+                "logs-1", "logs-2"));
+
+        // the request is executed unchanged, the shards apply the DLS queries
+        assertEquals(ImmutableMap.of("logs-*", ImmutableSet.of(term("mget_dept", "a"))), shardLevelQueries.get());
+        assertNull(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_DLS_QUERY_HEADER));
+
+        // documents hidden by DLS are not listed, but a failure is not turned into a missing document
+        final MultiGetItemResponse[] items = response.get().getResponses();
+        assertEquals(2, items.length);
+        assertEquals("visible", items[0].getId());
+        assertTrue(items[0].getResponse().isExists());
+        assertEquals("failed", items[1].getId());
+        assertTrue(items[1].isFailed());
+        assertTrue(items[1].getFailure().getFailure() instanceof IndexNotFoundException);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGetWithTermsLookup() {
+        final String lookup = "{\"terms\":{\"access_codes\":{\"index\":\"user_access_codes\",\"id\":\"user1\",\"path\":\"access_codes\"}}}";
+        final Map<String, Set<String>> dls = ImmutableMap.of("tlq-*", ImmutableSet.of(lookup));
+        final List<String> allowListOfLookups = new ArrayList<>();
+        final AtomicReference<String> allowListOfGet = new AtomicReference<>();
+        final AtomicReference<Map<String, Set<String>>> shardLevelQueries = new AtomicReference<>();
+
+        doAnswer(invocation -> {
+            final GetRequest request = invocation.getArgument(0);
+            final ActionListener<GetResponse> listener = invocation.getArgument(1);
+
+            if ("user_access_codes".equals(request.index())) {
+                allowListOfLookups.add(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_DOC_ALLOWLIST_HEADER));
+                listener.onResponse(new GetResponse(new GetResult(request.index(), request.id(), 1, 1, 1, true,
+                        new BytesArray("{\"access_codes\":[1337,42]}"), Collections.emptyMap(), Collections.emptyMap())));
+            } else {
+                allowListOfGet.set(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_DOC_ALLOWLIST_HEADER));
+                shardLevelQueries.set(dlsQueryHeader());
+                listener.onResponse(getResponse(request.index(), request.id(), true));
+            }
+            return null;
+        }).when(nodeClient).get(any(GetRequest.class), any(ActionListener.class));
+
+        final TermsLookupCache termsLookupCache = new TermsLookupCache(Settings.EMPTY, NamedXContentRegistry.EMPTY, null);
+        final AtomicReference<GetResponse> response = new AtomicReference<>();
+
+        assertFalse(handle(GET, new GetRequest("tlq-1", "1"), ActionListener.wrap(response::set, e -> { throw new AssertionError(e); }),
+                dls, termsLookupCache, "tlq-1"));
+
+        assertTrue(response.get().isExists());
+
+        // only the lookup document may be read with the document allow list, not the requested one
+        assertEquals(1, allowListOfLookups.size());
+        assertTrue(allowListOfLookups.get(0), allowListOfLookups.get(0).contains("user_access_codes"));
+        assertNull(allowListOfGet.get());
+
+        // the shards get the looked up terms inline
+        final Set<String> queries = shardLevelQueries.get().get("tlq-*");
+        assertEquals(1, queries.size());
+        assertEquals(QueryBuilders.termsQuery("access_codes", 1337, 42), dlsQueryParser.parse(queries.iterator().next()));
+    }
+
+    private BoolQueryBuilder search(final SearchRequest request, final Map<String, Set<String>> dls, final String... indices) {
+        if (request.source() == null) {
+            request.source(new SearchSourceBuilder());
+        }
+
+        executed.set(null);
+        assertFalse(handle(request, dls, indices));
+        assertSame(request, executed.get());
+        return (BoolQueryBuilder) request.source().query();
+    }
+
+    private boolean handle(final SearchRequest request, final Map<String, Set<String>> dls, final String... indices) {
+        return handle(SEARCH, request, ActionListener.wrap(r -> {}, e -> { throw new AssertionError(e); }), dls, null, indices);
+    }
+
+    private boolean handle(final String action, final ActionRequest request, final ActionListener<?> listener,
+                           final Map<String, Set<String>> dls, final TermsLookupCache termsLookupCache, final String... indices) {
+        // the cluster state of the mocked cluster service is null
+        when(resolver.concreteIndexNames(ArgumentMatchers.<ClusterState>any(), any(), eq("*"))).thenReturn(indices);
+
+        return DlsFilterLevelActionHandler.handle(action, request, listener,
+                new EvaluatedDlsFlsConfig(dls, Collections.emptyMap(), Collections.emptyMap()), Resolved._LOCAL_ALL, nodeClient,
+                clusterService, resolver, dlsQueryParser, termsLookupCache, threadContext);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Set<String>> dlsQueryHeader() {
+        return (Map<String, Set<String>>) Base64Helper.deserializeObject(threadContext.getHeader(ConfigConstants.OPENDISTRO_SECURITY_DLS_QUERY_HEADER));
+    }
+
+    private static GetResponse getResponse(final String index, final String id, final boolean exists) {
+        if (exists) {
+            return new GetResponse(new GetResult(index, id, 1, 1, 1, true, new BytesArray("{}"), Collections.emptyMap(), Collections.emptyMap()));
+        }
+        return new GetResponse(new GetResult(index, id, SequenceNumbers.UNASSIGNED_SEQ_NO, SequenceNumbers.UNASSIGNED_PRIMARY_TERM, -1, false,
+                null, Collections.emptyMap(), Collections.emptyMap()));
+    }
+
+    /**
+     * @return the indices each DLS query is scoped to
+     */
+    private static Map<QueryBuilder, Set<String>> scopedQueries(final BoolQueryBuilder query) {
+        final Map<QueryBuilder, Set<String>> result = new HashMap<>();
+        for (final QueryBuilder clause : query.should()) {
+            if (clause instanceof BoolQueryBuilder) {
+                final List<QueryBuilder> must = ((BoolQueryBuilder) clause).must();
+                assertEquals(2, must.size());
+                assertNull(result.put(must.get(1), indices(must.get(0))));
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> unrestrictedIndices(final BoolQueryBuilder query) {
+        final Set<String> result = new HashSet<>();
+        for (final QueryBuilder clause : query.should()) {
+            if (!(clause instanceof BoolQueryBuilder)) {
+                result.addAll(indices(clause));
+            }
+        }
+        return result;
+    }
+
+    private static Set<String> indices(final QueryBuilder indexQuery) {
+        if (indexQuery instanceof TermQueryBuilder) {
+            assertEquals("_index", ((TermQueryBuilder) indexQuery).fieldName());
+            return Collections.singleton((String) ((TermQueryBuilder) indexQuery).value());
+        }
+
+        assertEquals("_index", ((TermsQueryBuilder) indexQuery).fieldName());
+        final Set<String> result = new HashSet<>();
+        for (final Object value : ((TermsQueryBuilder) indexQuery).values()) {
+            result.add(value.toString());
+        }
+        assertEquals("indices are not repeated", ((TermsQueryBuilder) indexQuery).values().size(), result.size());
+        return result;
+    }
+
+    private static String term(final String field, final String value) {
+        return "{\"term\":{\"" + field + "\":\"" + value + "\"}}";
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.security.privileges.PrivilegesInterceptor;
+import org.opensearch.security.resolver.IndexResolverReplacer.Resolved;
+import org.opensearch.security.securityconf.DynamicConfigModel;
+import org.opensearch.security.user.User;
+
+public class PrivilegesInterceptorImplTest {
+
+    private final PrivilegesInterceptorImpl interceptor = new PrivilegesInterceptorImpl(null, null, null, null);
+
+    @Test
+    public void testTenantsAreNotMappedWithoutMultitenancy() {
+        final User user = new User("user");
+        user.setRequestedTenant("tenant_1");
+
+        Assert.assertSame(PrivilegesInterceptor.CONTINUE_EVALUATION_REPLACE_RESULT,
+                interceptor.replaceDashboardsIndex(new SearchRequest(".kibana"), "indices:data/read/search", user, config(false),
+                        Resolved._LOCAL_ALL, failingTenants()));
+    }
+
+    @Test
+    public void testTenantsAreNotMappedForOtherIndices() {
+        final User user = new User("user");
+        Assert.assertSame(PrivilegesInterceptor.CONTINUE_EVALUATION_REPLACE_RESULT,
+                interceptor.replaceDashboardsIndex(new SearchRequest(), "indices:data/read/search", user, config(true),
+                        Resolved._LOCAL_ALL, failingTenants()));
+
+        user.setRequestedTenant("tenant_1");
+        Assert.assertSame(PrivilegesInterceptor.CONTINUE_EVALUATION_REPLACE_RESULT,
+                interceptor.replaceDashboardsIndex(new SearchRequest(), "indices:data/read/search", user, config(true),
+                        Resolved._LOCAL_ALL, failingTenants()));
+    }
+
+    private static DynamicConfigModel config(final boolean multitenancy) {
+        final DynamicConfigModel config = Mockito.mock(DynamicConfigModel.class);
+        Mockito.when(config.isDashboardsMultitenancyEnabled()).thenReturn(multitenancy);
+        Mockito.when(config.getDashboardsServerUsername()).thenReturn("kibanaserver");
+        Mockito.when(config.getDashboardsIndexname()).thenReturn(".kibana");
+        return config;
+    }
+
+    private static Supplier<Map<String, Boolean>> failingTenants() {
+        return () -> {
+            throw new AssertionError("the tenants must not be mapped");
+        };
+    }
+}
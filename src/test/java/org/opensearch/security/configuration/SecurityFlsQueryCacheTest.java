@@ -0,0 +1,155 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import com.google.common.collect.ImmutableSet;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.TermQuery;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.index.mapper.FieldNamesFieldMapper;
+import org.opensearch.security.support.Base64Helper;
+import org.opensearch.security.support.ConfigConstants;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SecurityFlsQueryCacheTest {
+
+    @Test
+    public void testNoRestriction() {
+        assertNull(SecurityFlsQueryCache.getRestriction(new ThreadContext(Settings.EMPTY), "index"));
+        assertNull(SecurityFlsQueryCache.getRestriction(context(map("other", "field"), null), "index"));
+    }
+
+    @Test
+    public void testIncludes() {
+        final SecurityFlsQueryCache.Restriction restriction = SecurityFlsQueryCache.getRestriction(context(map("index", "name", "age"), null), "index");
+
+        assertTrue(restriction.allowsCaching(new TermQuery(new Term("name", "a"))));
+        assertTrue(restriction.allowsCaching(new TermQuery(new Term("_id", "1"))));
+        assertTrue(restriction.allowsCaching(IntPoint.newRangeQuery("age", 1, 10)));
+        assertTrue(restriction.allowsCaching(new MatchAllDocsQuery()));
+        assertFalse(restriction.allowsCaching(new TermQuery(new Term("secret", "a"))));
+        assertFalse(restriction.allowsCaching(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("name", "a")), BooleanClause.Occur.MUST)
+                .add(new PrefixQuery(new Term("secret", "a")), BooleanClause.Occur.MUST_NOT)
+                .build()));
+    }
+
+    @Test
+    public void testExcludes() {
+        final SecurityFlsQueryCache.Restriction restriction = SecurityFlsQueryCache.getRestriction(context(map("ind*", "~secret*"), null), "index");
+
+        assertTrue(restriction.allowsCaching(new TermQuery(new Term("name", "a"))));
+        assertFalse(restriction.allowsCaching(new TermQuery(new Term("secret_value", "a"))));
+        assertFalse(restriction.allowsCaching(IntPoint.newRangeQuery("secret", 1, 10)));
+    }
+
+    @Test
+    public void testMaskedFields() {
+        final SecurityFlsQueryCache.Restriction restriction = SecurityFlsQueryCache.getRestriction(context(null, map("index", "ip*::SHA-512")), "index");
+
+        assertTrue(restriction.allowsCaching(new TermQuery(new Term("name", "a"))));
+        assertFalse(restriction.allowsCaching(new TermQuery(new Term("ip_source", "a"))));
+        assertFalse(restriction.allowsCaching(new TermQuery(new Term("ip_source.keyword", "a"))));
+    }
+
+    @Test
+    public void testFieldNamesTermsAreCheckedAsFields() {
+        final SecurityFlsQueryCache.Restriction excludes = SecurityFlsQueryCache.getRestriction(context(map("index", "~secret*"), null), "index");
+
+        // exists queries on fields without doc values and norms
+        assertTrue(excludes.allowsCaching(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "name"))));
+        assertFalse(excludes.allowsCaching(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "secret_value"))));
+        assertFalse(excludes.allowsCaching(new BooleanQuery.Builder()
+                .add(new TermQuery(new Term("name", "a")), BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "secret")), BooleanClause.Occur.MUST_NOT)
+                .build()));
+        assertFalse(excludes.allowsCaching(new PrefixQuery(new Term(FieldNamesFieldMapper.NAME, "sec"))));
+
+        final SecurityFlsQueryCache.Restriction includes = SecurityFlsQueryCache.getRestriction(context(map("index", "name"), null), "index");
+        assertTrue(includes.allowsCaching(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "name"))));
+        assertFalse(includes.allowsCaching(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "other"))));
+
+        final SecurityFlsQueryCache.Restriction masked = SecurityFlsQueryCache.getRestriction(context(null, map("index", "ip*")), "index");
+        assertFalse(masked.allowsCaching(new TermQuery(new Term(FieldNamesFieldMapper.NAME, "ip_source"))));
+    }
+
+    @Test
+    public void testUnknownLeafIsNotCached() {
+        final SecurityFlsQueryCache.Restriction restriction = SecurityFlsQueryCache.getRestriction(context(map("index", "name"), null), "index");
+
+        assertFalse(restriction.allowsCaching(new Query() {
+            @Override
+            public String toString(final String field) {
+                return "unknown";
+            }
+
+            @Override
+            public void visit(final QueryVisitor visitor) {
+                visitor.visitLeaf(this);
+            }
+
+            @Override
+            public boolean equals(final Object obj) {
+                return obj == this;
+            }
+
+            @Override
+            public int hashCode() {
+                return System.identityHashCode(this);
+            }
+        }));
+    }
+
+    @Test
+    public void testRestrictionIsShared() {
+        final ThreadContext context = context(map("index", "name"), null);
+
+        assertNotNull(SecurityFlsQueryCache.getRestriction(context, "index"));
+        assertSame(SecurityFlsQueryCache.getRestriction(context, "index"), SecurityFlsQueryCache.getRestriction(context, "index"));
+    }
+
+    private static HashMap<String, HashSet<String>> map(final String index, final String... fields) {
+        final HashMap<String, HashSet<String>> map = new HashMap<>();
+        map.put(index, new HashSet<>(ImmutableSet.copyOf(fields)));
+        return map;
+    }
+
+    private static ThreadContext context(final Serializable flsFields, final Serializable maskedFields) {
+        final ThreadContext context = new ThreadContext(Settings.EMPTY);
+        if (flsFields != null) {
+            context.putHeader(ConfigConstants.OPENDISTRO_SECURITY_FLS_FIELDS_HEADER, Base64Helper.serializeObject(flsFields));
+        }
+        if (maskedFields != null) {
+            context.putHeader(ConfigConstants.OPENDISTRO_SECURITY_MASKED_FIELD_HEADER, Base64Helper.serializeObject(maskedFields));
+        }
+        return context;
+    }
+}
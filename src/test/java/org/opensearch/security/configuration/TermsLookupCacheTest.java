@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.configuration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.Version;
+import org.opensearch.action.ActionListener;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.AliasMetadata;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.bytes.BytesArray;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.NamedXContentRegistry;
+import org.opensearch.index.get.GetResult;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+public class TermsLookupCacheTest {
+
+    private final List<GetRequest> requests = new ArrayList<>();
+    private final AtomicLong seqNo = new AtomicLong(1);
+    // the index the requested index or alias resolves to, null for the requested index itself
+    private final AtomicReference<String> concreteIndex = new AtomicReference<>();
+    private Client client;
+    private TermsLookupCache cache;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        client = mock(Client.class);
+        doAnswer(invocation -> {
+            final GetRequest request = invocation.getArgument(0);
+            final ActionListener<GetResponse> listener = invocation.getArgument(1);
+            requests.add(request);
+
+            final boolean fetchSource = request.fetchSourceContext() == null || request.fetchSourceContext().fetchSource();
+            final String index = concreteIndex.get() != null ? concreteIndex.get() : request.index();
+            listener.onResponse(new GetResponse(new GetResult(index, request.id(), seqNo.get(), 1, seqNo.get(), true,
+                    fetchSource ? new BytesArray("{\"groups\":[\"a\",\"b\"]}") : null, Collections.emptyMap(), Collections.emptyMap())));
+            return null;
+        }).when(client).get(any(GetRequest.class), any(ActionListener.class));
+
+        cache = new TermsLookupCache(Settings.EMPTY, NamedXContentRegistry.EMPTY, null);
+    }
+
+    @Test
+    public void testUnchangedDocumentIsOnlyFetchedOnce() {
+        final GetResponse first = get("acl", "user1");
+        final GetResponse second = get("acl", "user1");
+
+        assertSame(first, second);
+        assertEquals(2, requests.size());
+        assertTrue(requests.get(0).fetchSourceContext() == null || requests.get(0).fetchSourceContext().fetchSource());
+        assertFalse(requests.get(1).fetchSourceContext().fetchSource());
+        assertEquals(1L, cache.getCacheStats().get("hits"));
+    }
+
+    @Test
+    public void testChangedDocumentIsFetchedAgain() {
+        final GetResponse first = get("acl", "user1");
+        seqNo.incrementAndGet();
+        final GetResponse second = get("acl", "user1");
+
+        assertNotSame(first, second);
+        assertEquals(2, second.getSeqNo());
+        assertEquals(3, requests.size());
+        assertTrue(requests.get(2).fetchSourceContext() == null || requests.get(2).fetchSourceContext().fetchSource());
+        assertEquals(1L, cache.getCacheStats().get("stale"));
+
+        assertSame(second, get("acl", "user1"));
+    }
+
+    @Test
+    public void testDocumentsAreCachedSeparately() {
+        final GetResponse user1 = get("acl", "user1");
+        final GetResponse user2 = get("acl", "user2");
+
+        assertNotSame(user1, user2);
+        assertEquals("user2", user2.getId());
+        assertEquals(2L, cache.getCacheStats().get("size"));
+    }
+
+    @Test
+    public void testMovedAliasIsFetchedAgain() {
+        concreteIndex.set("acl-1");
+        final GetResponse first = get("acl", "user1");
+        assertEquals("acl-1", first.getIndex());
+
+        // the document in the new index has the same sequence number and primary term
+        concreteIndex.set("acl-2");
+        final GetResponse second = get("acl", "user1");
+
+        assertEquals("acl-2", second.getIndex());
+        assertEquals(3, requests.size());
+        assertEquals(1L, cache.getCacheStats().get("stale"));
+        assertSame(second, get("acl", "user1"));
+    }
+
+    @Test
+    public void testChangedAliasesClearTheCache() {
+        final ClusterState acl1 = clusterState(index("acl-1", "acl"), index("acl-2"));
+        get("acl", "user1");
+
+        cache.clusterChanged(new ClusterChangedEvent("test", clusterState(index("acl-1", "acl"), index("acl-2"), index("other")), acl1));
+        assertEquals("unrelated changes keep the cache", 1L, cache.getCacheStats().get("size"));
+
+        cache.clusterChanged(new ClusterChangedEvent("test", clusterState(index("acl-1"), index("acl-2", "acl")), acl1));
+        assertEquals(0L, cache.getCacheStats().get("size"));
+
+        get("acl", "user1");
+        cache.clusterChanged(new ClusterChangedEvent("test", clusterState(index("acl-1", "acl"), index("acl-2"), index("acl-3", "acl")), acl1));
+        assertEquals("an alias on a new index", 0L, cache.getCacheStats().get("size"));
+    }
+
+    private static IndexMetadata index(final String name, final String... aliases) {
+        final IndexMetadata.Builder builder = IndexMetadata.builder(name)
+                .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT)
+                        .put(IndexMetadata.SETTING_INDEX_UUID, name))
+                .numberOfShards(1)
+                .numberOfReplicas(0);
+        for (final String alias : aliases) {
+            builder.putAlias(AliasMetadata.builder(alias));
+        }
+        return builder.build();
+    }
+
+    private static ClusterState clusterState(final IndexMetadata... indices) {
+        final Metadata.Builder metadata = Metadata.builder();
+        for (final IndexMetadata index : indices) {
+            metadata.put(index, false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    private GetResponse get(final String index, final String id) {
+        final AtomicReference<GetResponse> result = new AtomicReference<>();
+        cache.get(new GetRequest(index, id), client, ActionListener.wrap(result::set, e -> { throw new AssertionError(e); }));
+        return result.get();
+    }
+}
@@ -12,7 +12,9 @@
 package org.opensearch.security.dlic.dlsfls;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -535,6 +537,46 @@ public class DlsTermLookupQueryTest extends AbstractDlsFlsTest {
 		}
 	}
 
+	@Test
+	public void testMGet_SeveralDocumentsPerIndex_1337() throws Exception {
+
+		setup(new DynamicSecurityConfig().setConfig("securityconfig_tlq.yml")
+				.setSecurityInternalUsers("internal_users_tlq.yml").setSecurityRoles("roles_tlq.yml")
+				.setSecurityRolesMapping("roles_mapping_tlq.yml"));
+
+		String body = "{ \"docs\": ["
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"1\", \"_source\": [\"bu\"] },"
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"2\" },"
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"3\" },"
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"16\" },"
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"17\" },"
+				+ "{ \"_index\": \"tlqdocuments\", \"_id\": \"does_not_exist\" },"
+				+ "{ \"_index\": \"tlqdummy\", \"_id\": \"101\" },"
+				+ "{ \"_index\": \"tlqdummy\", \"_id\": \"102\" }"
+				+ "] }";
+
+		HttpResponse response = rh.executePostRequest("/_mget?pretty", body, encodeBasicHeader("tlq_1337", "password"));
+		Assert.assertEquals(200, response.getStatusCode());
+		MultiGetResponse mgetResponse = MultiGetResponse.fromXContent(XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY,
+				LoggingDeprecationHandler.INSTANCE, response.getBody()));
+
+		// the shards apply the resolved terms lookup to every requested document, only visible documents are listed
+		Map<String, Set<String>> visible = new HashMap<>();
+		for (MultiGetItemResponse item : mgetResponse.getResponses()) {
+			Assert.assertFalse(item.getId(), item.isFailed());
+			Assert.assertTrue(item.getId(), item.getResponse().isExists());
+			visible.computeIfAbsent(item.getIndex(), k -> new HashSet<>()).add(item.getId());
+
+			if (item.getIndex().equals("tlqdocuments") && item.getId().equals("1")) {
+				// source filtering of the item is kept
+				Assert.assertEquals(Collections.singleton("bu"), item.getResponse().getSourceAsMap().keySet());
+			}
+		}
+
+		Assert.assertEquals(new HashSet<>(Arrays.asList("1", "3")), visible.get("tlqdocuments"));
+		Assert.assertEquals(new HashSet<>(Arrays.asList("101", "102")), visible.get("tlqdummy"));
+	}
+
 // ------------------------
 // Test aggregations
 // ------------------------
@@ -19,7 +19,10 @@ import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
 import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.index.IndexModule;
+import org.opensearch.indices.IndicesQueryCache;
 import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
 
 public class FlsExistsFieldsTest extends AbstractDlsFlsTest {
@@ -27,6 +30,8 @@ public class FlsExistsFieldsTest extends AbstractDlsFlsTest {
     protected void populateData(Client tc) {
 
         tc.admin().indices().create(new CreateIndexRequest("data")
+                // lets every query use the node query cache, see testExistsFieldWithQueryCache
+                .settings(Settings.builder().put(IndexModule.INDEX_QUERY_CACHE_EVERYTHING_SETTING.getKey(), true))
                 .simpleMapping("@timestamp", "type=date", "host", "type=text,norms=false", "response", "type=text,norms=false", "non-existing", "type=text,norms=false"))
                 .actionGet();
 
@@ -61,7 +66,56 @@ public class FlsExistsFieldsTest extends AbstractDlsFlsTest {
     public void testExistsField() throws Exception {
         setup();
 
-        String query = "{\n" +
+        String query = existsQuery();
+
+        HttpResponse res;
+        Assert.assertEquals(HttpStatus.SC_OK,
+                (res = rh.executePostRequest("/data/_search?pretty", query, encodeBasicHeader("admin", "admin"))).getStatusCode());
+        System.out.println(res.getBody());
+        Assert.assertTrue(res.getBody().contains("\"value\" : 1,\n      \"relation"));
+        Assert.assertTrue(res.getBody().contains("a-normal-0"));
+        Assert.assertTrue(res.getBody().contains("response"));
+        Assert.assertTrue(res.getBody().contains("404"));
+
+        //only see's - timestamp and host field
+        //therefore non-existing does not exist so we expect c-missing2-0 to be returned
+        Assert.assertEquals(HttpStatus.SC_OK,
+                (res = rh.executePostRequest("/data/_search?pretty", query, encodeBasicHeader("fls_exists", "password"))).getStatusCode());
+        System.out.println(res.getBody());
+        Assert.assertTrue(res.getBody().contains("\"value\" : 2,\n      \"relation"));
+        Assert.assertTrue(res.getBody().contains("a-normal-0"));
+        Assert.assertTrue(res.getBody().contains("c-missing2-0"));
+        Assert.assertFalse(res.getBody().contains("response"));
+    }
+
+    @Test
+    public void testExistsFieldWithQueryCache() throws Exception {
+        setup(Settings.builder().put(IndicesQueryCache.INDICES_QUERIES_CACHE_ALL_SEGMENTS_SETTING.getKey(), true).build());
+
+        // "non-existing" has neither doc values nor norms, so exists reads the hidden field from _field_names
+        final String query = existsQuery();
+
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(HttpStatus.SC_OK, rh.executePostRequest("/data/_cache/clear?query=true", "",
+                    encodeBasicHeader("admin", "admin")).getStatusCode());
+
+            // the users take turns in filling the node query cache
+            final boolean flsFirst = i == 0;
+            assertHits(query, flsFirst ? "fls_exists" : "admin", flsFirst ? 2 : 1);
+            assertHits(query, flsFirst ? "admin" : "fls_exists", flsFirst ? 1 : 2);
+            assertHits(query, flsFirst ? "fls_exists" : "admin", flsFirst ? 2 : 1);
+        }
+    }
+
+    private void assertHits(final String query, final String user, final int hits) throws Exception {
+        final HttpResponse res = rh.executePostRequest("/data/_search?pretty&request_cache=false", query,
+                encodeBasicHeader(user, "admin".equals(user) ? "admin" : "password"));
+        Assert.assertEquals(res.getBody(), HttpStatus.SC_OK, res.getStatusCode());
+        Assert.assertTrue(user + ": " + res.getBody(), res.getBody().contains("\"value\" : " + hits + ",\n      \"relation"));
+    }
+
+    private static String existsQuery() {
+        return "{\n" +
                 "  \"query\": {\n" +
                 "    \"bool\": {\n" +
 
@@ -88,24 +142,5 @@ public class FlsExistsFieldsTest extends AbstractDlsFlsTest {
                 "    }\n" +
                 "  }\n" +
                 "}";
-
-        HttpResponse res;
-        Assert.assertEquals(HttpStatus.SC_OK,
-                (res = rh.executePostRequest("/data/_search?pretty", query, encodeBasicHeader("admin", "admin"))).getStatusCode());
-        System.out.println(res.getBody());
-        Assert.assertTrue(res.getBody().contains("\"value\" : 1,\n      \"relation"));
-        Assert.assertTrue(res.getBody().contains("a-normal-0"));
-        Assert.assertTrue(res.getBody().contains("response"));
-        Assert.assertTrue(res.getBody().contains("404"));
-
-        //only see's - timestamp and host field
-        //therefore non-existing does not exist so we expect c-missing2-0 to be returned
-        Assert.assertEquals(HttpStatus.SC_OK,
-                (res = rh.executePostRequest("/data/_search?pretty", query, encodeBasicHeader("fls_exists", "password"))).getStatusCode());
-        System.out.println(res.getBody());
-        Assert.assertTrue(res.getBody().contains("\"value\" : 2,\n      \"relation"));
-        Assert.assertTrue(res.getBody().contains("a-normal-0"));
-        Assert.assertTrue(res.getBody().contains("c-missing2-0"));
-        Assert.assertFalse(res.getBody().contains("response"));
     }
 }
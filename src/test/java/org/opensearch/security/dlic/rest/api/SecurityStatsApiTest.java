@@ -0,0 +1,88 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.dlic.rest.api;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.common.collect.ImmutableMap;
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.auditlog.AbstractAuditlogiUnitTest;
+import org.opensearch.security.auditlog.AuditTestUtils;
+import org.opensearch.security.auditlog.config.AuditConfig;
+import org.opensearch.security.auditlog.integration.TestAuditlogImpl;
+import org.opensearch.security.compliance.ComplianceConfig;
+import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
+
+public class SecurityStatsApiTest extends AbstractAuditlogiUnitTest {
+
+    private static final String ENDPOINT = "_plugins/_security/api/stats";
+
+    @Test
+    public void testStats() throws Exception {
+        setup(Settings.builder().put("plugins.security.audit.type", TestAuditlogImpl.class.getName()).build());
+        updateAuditConfig(AuditTestUtils.createAuditPayload(new AuditConfig(true, AuditConfig.Filter.from(ImmutableMap.of(
+                "disabled_rest_categories", Collections.emptySet(), "disabled_transport_categories", Collections.emptySet())),
+                ComplianceConfig.DEFAULT)));
+
+        TestAuditlogImpl.clear();
+        Assert.assertEquals(HttpStatus.SC_OK, rh.executeGetRequest("_search", encodeBasicHeader("admin", "admin")).getStatusCode());
+        Assert.assertFalse(TestAuditlogImpl.messages.isEmpty());
+
+        // only admins may read the stats
+        Assert.assertEquals(HttpStatus.SC_FORBIDDEN, rh.executeGetRequest(ENDPOINT, encodeBasicHeader("admin", "admin")).getStatusCode());
+
+        rh.sendAdminCertificate = true;
+        rh.keystore = "auditlog/kirk-keystore.jks";
+        final HttpResponse response = rh.executeGetRequest(ENDPOINT);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        Assert.assertEquals(clusterInfo.numNodes, body.get("_nodes").get("successful").asInt());
+        final JsonNode nodes = body.get("nodes");
+        Assert.assertEquals(clusterInfo.numNodes, nodes.size());
+
+        for (final Iterator<JsonNode> it = nodes.elements(); it.hasNext();) {
+            final JsonNode node = it.next();
+            Assert.assertTrue(node.toString(), node.get("enabled").asBoolean());
+            Assert.assertTrue(node.toString(), node.get("caches").get("authentication").get("users").has("hits"));
+            Assert.assertTrue(node.toString(), node.get("caches").has("index_resolution"));
+            Assert.assertTrue(node.toString(), node.get("connection_pools").isObject());
+            Assert.assertTrue(node.toString(), node.get("gauges").has("audit_queue_size"));
+            Assert.assertTrue(node.toString(), node.get("config_compilation").get("roles").get("count").asLong() > 0);
+        }
+
+        // the audit messages of the search were routed and stored on the sink
+        Assert.assertTrue(response.getBody(), phaseCount(nodes, "authenticate") > 0);
+        Assert.assertTrue(response.getBody(), phaseCount(nodes, "evaluate_privileges") > 0);
+        Assert.assertTrue(response.getBody(), phaseCount(nodes, "audit_route") > 0);
+        Assert.assertTrue(response.getBody(), phaseCount(nodes, "audit_store") > 0);
+
+        final HttpResponse nodeResponse = rh.executeGetRequest(ENDPOINT + "/" + nodes.fieldNames().next());
+        Assert.assertEquals(nodeResponse.getBody(), HttpStatus.SC_OK, nodeResponse.getStatusCode());
+        Assert.assertEquals(1, DefaultObjectMapper.readTree(nodeResponse.getBody()).get("nodes").size());
+    }
+
+    private static long phaseCount(final JsonNode nodes, final String phase) {
+        long count = 0;
+        for (final Iterator<JsonNode> it = nodes.elements(); it.hasNext();) {
+            count += it.next().get("phases").get(phase).get("latency_nanos").get("count").asLong();
+        }
+        return count;
+    }
+}
@@ -32,6 +32,7 @@ import org.opensearch.security.configuration.DlsFlsRequestValve;
 import org.opensearch.security.http.XFFResolver;
 import org.opensearch.security.privileges.PrivilegesEvaluator;
 import org.opensearch.security.resolver.IndexResolverReplacer;
+import org.opensearch.security.stats.SecurityStats;
 import org.opensearch.security.support.ConfigConstants;
 import org.opensearch.security.support.WildcardMatcher;
 import org.opensearch.threadpool.ThreadPool;
@@ -82,7 +83,8 @@ public class SecurityFilterTest {
                 mock(ClusterService.class),
                 mock(CompatConfig.class),
                 mock(IndexResolverReplacer.class),
-                mock(XFFResolver.class)
+                mock(XFFResolver.class),
+                SecurityStats.NONE
         );
         assertEquals(expected, filter.getImmutableIndicesMatcher());
     }
@@ -105,7 +107,8 @@ public class SecurityFilterTest {
             mock(ClusterService.class),
             mock(CompatConfig.class),
             mock(IndexResolverReplacer.class),
-            mock(XFFResolver.class)
+            mock(XFFResolver.class),
+            SecurityStats.NONE
         );
 
         // Act
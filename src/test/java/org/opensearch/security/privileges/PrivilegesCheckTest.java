@@ -0,0 +1,187 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.privileges;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.http.Header;
+import org.apache.http.HttpStatus;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.test.DynamicSecurityConfig;
+import org.opensearch.security.test.SingleClusterTest;
+import org.opensearch.security.test.helper.rest.RestHelper;
+import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
+
+public class PrivilegesCheckTest extends SingleClusterTest {
+
+    private static final String ENDPOINT = "_plugins/_security/privileges/check";
+    private static final String HASH = "$2a$12$n5nubfWATfQjSYHiWtUyeOxMIxFInUHOAx8VMmGmxFNPGpaBmeB.m";
+    private static final String DLS = "{\"term\": {\"dept\": \"sales\"}}";
+
+    private static final Header RESTRICTED = encodeBasicHeader("restricted_user", "nagilum");
+    private static final Header ADMIN = encodeBasicHeader("admin_user", "nagilum");
+    private static final Header UNMAPPED = encodeBasicHeader("unmapped_user", "nagilum");
+
+    private static final String BATCH = "{\"privileges\": ["
+            + "{\"action\": \"cluster:monitor/health\"},"
+            + "{\"action\": \"cluster:admin/settings/update\"},"
+            + "{\"action\": \"indices:data/read/search\", \"index\": \"logs-*\"},"
+            + "{\"action\": \"indices:data/write/index\", \"index\": \"logs-1\"},"
+            + "{\"action\": \"indices:data/read/search\", \"index\": \"logs-1,public\"},"
+            + "{\"action\": \"indices:data/read/get\", \"index\": \"public\"},"
+            + "{\"action\": \"indices:data/read/search\", \"index\": \"secret\"}"
+            + "], \"tenants\": [\"analysts\", \"management\", \"other\", \"__user__\"]}";
+
+    private RestHelper rh;
+
+    @Before
+    public void setupCluster() throws Exception {
+        setup(Settings.EMPTY, new DynamicSecurityConfig()
+                .setConfigAsYamlString(CType.INTERNALUSERS, "_meta:\n  type: \"internalusers\"\n  config_version: 2\n"
+                        + "restricted_user:\n  hash: \"" + HASH + "\"\n"
+                        + "admin_user:\n  hash: \"" + HASH + "\"\n"
+                        + "unmapped_user:\n  hash: \"" + HASH + "\"\n")
+                .setConfigAsYamlString(CType.ROLES, "_meta:\n  type: \"roles\"\n  config_version: 2\n"
+                        + "restricted_role:\n"
+                        + "  cluster_permissions: [\"cluster:monitor/health\"]\n"
+                        + "  index_permissions:\n"
+                        + "  - index_patterns: [\"logs-*\"]\n"
+                        + "    dls: '" + DLS + "'\n"
+                        + "    fls: [\"~secret_field\"]\n"
+                        + "    masked_fields: [\"email\"]\n"
+                        + "    allowed_actions: [\"indices:data/read/*\"]\n"
+                        + "  - index_patterns: [\"public\"]\n"
+                        + "    allowed_actions: [\"indices:data/read/search\"]\n"
+                        + "  tenant_permissions:\n"
+                        + "  - tenant_patterns: [\"analysts\"]\n"
+                        + "    allowed_actions: [\"kibana:saved_objects/*/write\"]\n"
+                        + "  - tenant_patterns: [\"management\"]\n"
+                        + "    allowed_actions: [\"kibana:saved_objects/*/read\"]\n"
+                        + "admin_role:\n"
+                        + "  cluster_permissions: [\"*\"]\n"
+                        + "  index_permissions:\n"
+                        + "  - index_patterns: [\"*\"]\n"
+                        + "    allowed_actions: [\"*\"]\n"
+                        + "  tenant_permissions:\n"
+                        + "  - tenant_patterns: [\"*\"]\n"
+                        + "    allowed_actions: [\"kibana:saved_objects/*/write\"]\n")
+                .setConfigAsYamlString(CType.ROLESMAPPING, "_meta:\n  type: \"rolesmapping\"\n  config_version: 2\n"
+                        + "restricted_role:\n  users: [\"restricted_user\"]\n"
+                        + "admin_role:\n  users: [\"admin_user\"]\n")
+                .setConfigAsYamlString(CType.TENANTS, "_meta:\n  type: \"tenants\"\n  config_version: 2\n"
+                        + "analysts: {}\nmanagement: {}\nother: {}\n"), Settings.EMPTY, true);
+
+        try (Client tc = getClient()) {
+            for (String index : new String[] { "logs-1", "logs-2", "public", "secret" }) {
+                tc.index(new IndexRequest(index).setRefreshPolicy(RefreshPolicy.IMMEDIATE).source("{\"dept\": \"sales\"}", XContentType.JSON))
+                        .actionGet();
+            }
+        }
+
+        rh = nonSslRestHelper();
+    }
+
+    @Test
+    public void testRestrictedUser() throws Exception {
+        final HttpResponse response = rh.executePostRequest(ENDPOINT, BATCH, RESTRICTED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        Assert.assertEquals("restricted_user", body.get("user_name").asText());
+        assertAllowed(body, true, false, true, false, true, false, false);
+
+        Assert.assertEquals("read_write", body.get("tenants").get("analysts").asText());
+        Assert.assertEquals("read", body.get("tenants").get("management").asText());
+        Assert.assertEquals("none", body.get("tenants").get("other").asText());
+        // the private tenant of the user
+        Assert.assertEquals("read_write", body.get("tenants").get("__user__").asText());
+
+        Assert.assertFalse("only requested", body.has("dls_fls"));
+    }
+
+    @Test
+    public void testDlsFls() throws Exception {
+        HttpResponse response = rh.executePostRequest(ENDPOINT + "?dls_fls=true", BATCH, RESTRICTED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        JsonNode dlsFls = DefaultObjectMapper.readTree(response.getBody()).get("dls_fls");
+        // only the checked indices with restrictions are listed
+        Assert.assertEquals(dlsFls.toString(), 2, dlsFls.size());
+        for (String index : new String[] { "logs-1", "logs-2" }) {
+            Assert.assertEquals(DLS, dlsFls.get(index).get("dls").get(0).asText());
+            Assert.assertEquals("~secret_field", dlsFls.get(index).get("fls").get(0).asText());
+            Assert.assertEquals("email", dlsFls.get(index).get("masked_fields").get(0).asText());
+        }
+
+        response = rh.executePostRequest(ENDPOINT + "?dls_fls=true", BATCH, ADMIN);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        assertAllowed(body, true, true, true, true, true, true, true);
+        Assert.assertEquals("read_write", body.get("tenants").get("other").asText());
+        Assert.assertEquals(0, body.get("dls_fls").size());
+    }
+
+    @Test
+    public void testUserWithoutRoles() throws Exception {
+        // checking the own privileges does not require a permission
+        final HttpResponse response = rh.executePostRequest(ENDPOINT, BATCH, UNMAPPED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        assertAllowed(body, false, false, false, false, false, false, false);
+        Assert.assertEquals("none", body.get("tenants").get("analysts").asText());
+        Assert.assertEquals("read_write", body.get("tenants").get("__user__").asText());
+
+        Assert.assertEquals(HttpStatus.SC_UNAUTHORIZED, rh.executePostRequest(ENDPOINT, BATCH).getStatusCode());
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        HttpResponse response = rh.executeGetRequest(ENDPOINT + "?actions=indices:data/read/search,indices:data/write/index&index=logs-*"
+                + "&tenants=analysts,other", RESTRICTED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+
+        final JsonNode body = DefaultObjectMapper.readTree(response.getBody());
+        assertAllowed(body, true, false);
+        Assert.assertEquals("logs-*", body.get("privileges").get(0).get("index").asText());
+        Assert.assertEquals("read_write", body.get("tenants").get("analysts").asText());
+        Assert.assertEquals("none", body.get("tenants").get("other").asText());
+
+        response = rh.executeGetRequest(ENDPOINT + "?actions=cluster:monitor/health", RESTRICTED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_OK, response.getStatusCode());
+        assertAllowed(DefaultObjectMapper.readTree(response.getBody()), true);
+
+        // nothing to check
+        response = rh.executeGetRequest(ENDPOINT, RESTRICTED);
+        Assert.assertEquals(response.getBody(), HttpStatus.SC_BAD_REQUEST, response.getStatusCode());
+        Assert.assertTrue(response.getBody(), response.getBody().contains("no privileges or tenants to check"));
+    }
+
+    private static void assertAllowed(final JsonNode body, final boolean... expected) {
+        final JsonNode privileges = body.get("privileges");
+        Assert.assertEquals(privileges.toString(), expected.length, privileges.size());
+
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals(privileges.get(i).toString(), expected[i], privileges.get(i).get("allowed").asBoolean());
+        }
+    }
+}
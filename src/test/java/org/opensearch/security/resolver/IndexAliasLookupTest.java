@@ -0,0 +1,44 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class IndexAliasLookupTest {
+
+    private final IndexAliasLookup lookup = IndexAliasLookup.of(Arrays.asList("logs", "logs-2021", "logs-2022", "logz", "metrics-a", "alias_1"));
+
+    @Test
+    public void testExact() {
+        Assert.assertEquals(ImmutableSet.of("logs"), lookup.getMatchingAliases(Collections.singleton("logs")));
+        Assert.assertEquals(Collections.emptySet(), lookup.getMatchingAliases(Collections.singleton("log")));
+    }
+
+    @Test
+    public void testPrefix() {
+        Assert.assertEquals(ImmutableSet.of("logs", "logs-2021", "logs-2022", "logz"), lookup.getMatchingAliases(Collections.singleton("log*")));
+        Assert.assertEquals(ImmutableSet.of("logs-2021", "logs-2022"), lookup.getMatchingAliases(Collections.singleton("logs-*")));
+        Assert.assertEquals(ImmutableSet.of("logs-2021"), lookup.getMatchingAliases(Collections.singleton("logs-20?1")));
+    }
+
+    @Test
+    public void testLeadingWildcardAndRegex() {
+        Assert.assertEquals(ImmutableSet.of("logs-2022"), lookup.getMatchingAliases(Collections.singleton("*2022")));
+        Assert.assertEquals(ImmutableSet.of("metrics-a", "alias_1"), lookup.getMatchingAliases(Arrays.asList("/met.*/", "alias_?")));
+        Assert.assertEquals(6, lookup.getMatchingAliases(Collections.singleton("*")).size());
+    }
+}
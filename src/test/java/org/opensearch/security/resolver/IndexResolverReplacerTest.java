@@ -0,0 +1,128 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.resolver;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.IndexNameExpressionResolver;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+
+public class IndexResolverReplacerTest {
+
+    @Test
+    public void testPlainWildcardExpressions() {
+        Assert.assertTrue(IndexResolverReplacer.isPlainWildcardExpression("*"));
+        Assert.assertTrue(IndexResolverReplacer.isPlainWildcardExpression("logs-*"));
+        Assert.assertTrue(IndexResolverReplacer.isPlainWildcardExpression("*-2022-*"));
+    }
+
+    @Test
+    public void testOtherExpressions() {
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression(null));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression(""));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("logs"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("logs-20?1*"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("/logs-.*/"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("-logs-*"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("remote:logs-*"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("<logs-{now/d}*>"));
+        Assert.assertFalse(IndexResolverReplacer.isPlainWildcardExpression("logs-${user.name}*"));
+    }
+
+    @Test
+    public void testResolutionIsCachedPerMetadataVersion() {
+        final ClusterService clusterService = Mockito.mock(ClusterService.class);
+        Mockito.when(clusterService.state()).thenReturn(clusterState(1, "logs-1", "logs-2"));
+        final IndexResolverReplacer irr = indexResolverReplacer(clusterService);
+
+        Assert.assertEquals(Arrays.asList("logs-1", "logs-2"), sorted(irr.resolveIndexPatterns("logs-*").getAllIndices()));
+        assertCacheStats(irr, 0, 1);
+
+        Assert.assertEquals(Arrays.asList("logs-1", "logs-2"), sorted(irr.resolveIndexPatterns("logs-*").getAllIndices()));
+        assertCacheStats(irr, 1, 1);
+
+        // a new index changes the metadata version
+        Mockito.when(clusterService.state()).thenReturn(clusterState(2, "logs-1", "logs-2", "logs-3"));
+        Assert.assertEquals(Arrays.asList("logs-1", "logs-2", "logs-3"), sorted(irr.resolveIndexPatterns("logs-*").getAllIndices()));
+        assertCacheStats(irr, 1, 2);
+    }
+
+    @Test
+    public void testModifiedPatternsDoNotChangeTheCacheKey() {
+        final ClusterService clusterService = Mockito.mock(ClusterService.class);
+        Mockito.when(clusterService.state()).thenReturn(clusterState(1, "logs-1", "other-1"));
+        final IndexResolverReplacer irr = indexResolverReplacer(clusterService);
+
+        final String[] patterns = { "logs-*" };
+        irr.resolveIndexPatterns(patterns);
+        patterns[0] = "other-*";
+
+        Assert.assertEquals(Arrays.asList("logs-1"), sorted(irr.resolveIndexPatterns("logs-*").getAllIndices()));
+        assertCacheStats(irr, 1, 1);
+    }
+
+    @Test
+    public void testDateMathIsNotCached() {
+        final ClusterService clusterService = Mockito.mock(ClusterService.class);
+        Mockito.when(clusterService.state()).thenReturn(clusterState(1, "logs-1"));
+        final IndexResolverReplacer irr = indexResolverReplacer(clusterService);
+
+        irr.resolveIndexPatterns("<logs-{now/d}>");
+        irr.resolveIndexPatterns("<logs-{now/d}>");
+        irr.resolveIndexPatterns("logs-*", "<logs-{now/d}>");
+
+        assertCacheStats(irr, 0, 0);
+        Assert.assertEquals(0L, irr.getResolutionCacheStats().get("size"));
+    }
+
+    private static IndexResolverReplacer indexResolverReplacer(final ClusterService clusterService) {
+        return new IndexResolverReplacer(new IndexNameExpressionResolver(new ThreadContext(Settings.EMPTY)), clusterService, new ClusterInfoHolder());
+    }
+
+    private static ClusterState clusterState(final long version, final String... indices) {
+        final Metadata.Builder metadata = Metadata.builder().version(version);
+        for (final String index : indices) {
+            metadata.put(IndexMetadata.builder(index)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0), false);
+        }
+        return ClusterState.builder(ClusterName.DEFAULT).metadata(metadata).build();
+    }
+
+    private static void assertCacheStats(final IndexResolverReplacer irr, final long hits, final long misses) {
+        Assert.assertEquals(irr.getResolutionCacheStats().toString(), hits, irr.getResolutionCacheStats().get("hits"));
+        Assert.assertEquals(irr.getResolutionCacheStats().toString(), misses, irr.getResolutionCacheStats().get("misses"));
+    }
+
+    private static List<String> sorted(final Collection<String> values) {
+        final List<String> result = new ArrayList<>(values);
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.security.stats.SecurityStats;
+
+public class ConfigCompilerTest {
+
+    private final SecurityStats securityStats = new SecurityStats(Settings.EMPTY);
+    private final ConfigCompiler compiler = new ConfigCompiler(OpenSearchExecutors.newDirectExecutorService(), Settings.EMPTY, securityStats);
+
+    @Test
+    public void testCompilationsAreRecorded() {
+        final Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("b", "2");
+        entries.put("a", "1");
+        entries.put("empty", null);
+
+        final Map<String, Integer> compiled = compiler.compile("roles", entries, (name, value) -> Integer.valueOf(value));
+        Assert.assertEquals(Arrays.asList("b", "a"), Arrays.asList(compiled.keySet().toArray()));
+        compiler.compile("roles", entries, (name, value) -> Integer.valueOf(value));
+
+        final Map<String, Object> roles = compilationStats().get("roles");
+        Assert.assertEquals(2L, roles.get("count"));
+        Assert.assertEquals(0L, roles.get("failures"));
+        Assert.assertEquals(2L, roles.get("last_entries"));
+    }
+
+    @Test
+    public void testFailedCompilationsAreRecorded() {
+        final Map<String, String> entries = new LinkedHashMap<>();
+        entries.put("valid", "1");
+        entries.put("invalid", "x");
+
+        try {
+            compiler.compile("tenants", entries, (name, value) -> Integer.valueOf(value));
+            Assert.fail();
+        } catch (OpenSearchException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("[invalid]"));
+        }
+
+        final Map<String, Object> tenants = compilationStats().get("tenants");
+        Assert.assertEquals(1L, tenants.get("count"));
+        Assert.assertEquals(1L, tenants.get("failures"));
+        Assert.assertEquals(2L, tenants.get("last_entries"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Map<String, Object>> compilationStats() {
+        return (Map<String, Map<String, Object>>) securityStats.toMap().get("config_compilation");
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.securityconf;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import org.opensearch.OpenSearchException;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.security.configuration.ClusterInfoHolder;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.securityconf.impl.v7.ActionGroupsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleMappingsV7;
+import org.opensearch.security.securityconf.impl.v7.RoleV7;
+import org.opensearch.security.securityconf.impl.v7.TenantV7;
+import org.opensearch.security.stats.SecurityStats;
+import org.opensearch.security.user.User;
+
+public class ConfigModelV7Test {
+
+    private static final String ACTION_GROUPS = "{\"_meta\":{\"type\":\"actiongroups\",\"config_version\":2},"
+            + "\"read_group\":{\"allowed_actions\":[\"nested_group\",\"cluster:monitor/health\"]},"
+            + "\"nested_group\":{\"allowed_actions\":[\"indices:data/read/search\"]},"
+            + "\"cycle_a\":{\"allowed_actions\":[\"cycle_b\",\"cluster:monitor/a\"]},"
+            + "\"cycle_b\":{\"allowed_actions\":[\"cycle_c\",\"cluster:monitor/b\"]},"
+            + "\"cycle_c\":{\"allowed_actions\":[\"cycle_a\",\"cycle_b\",\"cluster:monitor/c\"]},"
+            + "\"tenant_write\":{\"allowed_actions\":[\"kibana:saved_objects/*/write\"]}}";
+
+    private static final String TENANTS = "{\"_meta\":{\"type\":\"tenants\",\"config_version\":2},\"tenant_1\":{},\"tenant_2\":{},\"other\":{}}";
+
+    @Test
+    public void testNestedActionGroupsAndTenants() throws Exception {
+        final ConfigModelV7 configModel = configModel("{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"reader\":{\"cluster_permissions\":[\"read_group\"],"
+                + "\"index_permissions\":[{\"index_patterns\":[\"index\"],\"allowed_actions\":[\"read_group\"]}],"
+                + "\"tenant_permissions\":[{\"tenant_patterns\":[\"tenant_*\"],\"allowed_actions\":[\"tenant_write\"]}]},"
+                + "\"cyclic_a\":{\"cluster_permissions\":[\"cycle_a\"]},"
+                + "\"cyclic_b\":{\"cluster_permissions\":[\"cycle_b\"]},"
+                + "\"cyclic_c\":{\"cluster_permissions\":[\"cycle_c\"]}}");
+
+        final SecurityRoles reader = configModel.getSecurityRoles().filter(Collections.singleton("reader"));
+        Assert.assertTrue(reader.impliesClusterPermissionPermission("cluster:monitor/health"));
+        Assert.assertTrue(reader.impliesClusterPermissionPermission("indices:data/read/search"));
+        Assert.assertFalse(reader.impliesClusterPermissionPermission("cluster:monitor/a"));
+
+        // every member of a cycle gets the actions of the whole cycle, whichever group is resolved first
+        for (String role : Arrays.asList("cyclic_a", "cyclic_b", "cyclic_c")) {
+            final SecurityRoles cyclic = configModel.getSecurityRoles().filter(Collections.singleton(role));
+            Assert.assertTrue(role, cyclic.impliesClusterPermissionPermission("cluster:monitor/a"));
+            Assert.assertTrue(role, cyclic.impliesClusterPermissionPermission("cluster:monitor/b"));
+            Assert.assertTrue(role, cyclic.impliesClusterPermissionPermission("cluster:monitor/c"));
+        }
+
+        final Map<String, Boolean> tenants = configModel.mapTenants(new User("user"), Collections.singleton("reader"));
+        Assert.assertEquals(Boolean.TRUE, tenants.get("tenant_1"));
+        Assert.assertFalse(tenants.containsKey("other"));
+    }
+
+    @Test
+    public void testWildcardTenants() throws Exception {
+        final ConfigModelV7 configModel = configModel("{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"reader\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"tenant_*\",\"undefined_*\"],"
+                + "\"allowed_actions\":[\"kibana:saved_objects/*/read\"]}]}}");
+
+        final Map<String, Boolean> tenants = configModel.mapTenants(new User("user"), Collections.singleton("reader"));
+        Assert.assertEquals(Boolean.FALSE, tenants.get("tenant_1"));
+        Assert.assertEquals(Boolean.FALSE, tenants.get("tenant_2"));
+        Assert.assertFalse(tenants.containsKey("other"));
+        // the private tenant of the user is always writable
+        Assert.assertEquals(Boolean.TRUE, tenants.get("user"));
+        Assert.assertEquals(tenants.toString(), 3, tenants.size());
+    }
+
+    @Test
+    public void testReadOnlyDoesNotOverrideReadWrite() throws Exception {
+        final ConfigModelV7 configModel = configModel("{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"writer\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"tenant_1\"],\"allowed_actions\":[\"tenant_write\"]}]},"
+                + "\"reader\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"tenant_*\"],\"allowed_actions\":[\"kibana:saved_objects/*/read\"]}]},"
+                + "\"both\":{\"tenant_permissions\":["
+                + "{\"tenant_patterns\":[\"other\"],\"allowed_actions\":[\"tenant_write\"]},"
+                + "{\"tenant_patterns\":[\"*\"],\"allowed_actions\":[\"kibana:saved_objects/*/read\"]}]}}");
+
+        for (Set<String> roles : Arrays.asList(new LinkedHashSet<>(Arrays.asList("writer", "reader")),
+                new LinkedHashSet<>(Arrays.asList("reader", "writer")))) {
+            final Map<String, Boolean> tenants = configModel.mapTenants(new User("user"), roles);
+            Assert.assertEquals(roles.toString(), Boolean.TRUE, tenants.get("tenant_1"));
+            Assert.assertEquals(roles.toString(), Boolean.FALSE, tenants.get("tenant_2"));
+        }
+
+        // within one role
+        final Map<String, Boolean> tenants = configModel.mapTenants(new User("user"), Collections.singleton("both"));
+        Assert.assertEquals(Boolean.TRUE, tenants.get("other"));
+        Assert.assertEquals(Boolean.FALSE, tenants.get("tenant_1"));
+    }
+
+    @Test
+    public void testTemplatedTenantsDependOnUserAttributes() throws Exception {
+        final ConfigModelV7 configModel = configModel("{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                + "\"templated\":{\"tenant_permissions\":[{\"tenant_patterns\":[\"${attr.internal.tenant}\"],"
+                + "\"allowed_actions\":[\"tenant_write\"]}]}}");
+        final Set<String> roles = ImmutableSet.of("templated");
+
+        // same user name and roles, only the attributes differ
+        final Map<String, Boolean> first = configModel.mapTenants(userWithTenantAttribute("tenant_1"), roles);
+        Assert.assertEquals(Boolean.TRUE, first.get("tenant_1"));
+        Assert.assertFalse(first.containsKey("other"));
+
+        final Map<String, Boolean> second = configModel.mapTenants(userWithTenantAttribute("other"), roles);
+        Assert.assertEquals(Boolean.TRUE, second.get("other"));
+        Assert.assertFalse(second.containsKey("tenant_1"));
+
+        Assert.assertEquals(first, configModel.mapTenants(userWithTenantAttribute("tenant_1"), roles));
+
+        // attributes can not select tenants which are not defined
+        final Map<String, Boolean> undefined = configModel.mapTenants(userWithTenantAttribute("undefined"), roles);
+        Assert.assertEquals(Collections.singletonMap("user", Boolean.TRUE), undefined);
+    }
+
+    @Test
+    public void testFailingRolesAreReported() throws Exception {
+        try {
+            configModel("{\"_meta\":{\"type\":\"roles\",\"config_version\":2},"
+                    + "\"valid\":{\"cluster_permissions\":[\"read_group\"]},"
+                    + "\"broken_b\":{\"index_permissions\":null},"
+                    + "\"broken_a\":{\"index_permissions\":null}}");
+            Assert.fail("Expected the broken roles to fail the reload");
+        } catch (OpenSearchException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("Unable to compile roles [broken_a, broken_b]"));
+        }
+    }
+
+    private static User userWithTenantAttribute(String tenant) {
+        final User user = new User("user");
+        user.addAttributes(Collections.singletonMap("attr.internal.tenant", tenant));
+        return user;
+    }
+
+    private static ConfigModelV7 configModel(String roles) throws Exception {
+        final DynamicConfigModel dcm = Mockito.mock(DynamicConfigModel.class);
+        Mockito.when(dcm.getHostsResolverMode()).thenReturn("ip-only");
+        return new ConfigModelV7(
+                SecurityDynamicConfiguration.<RoleV7>fromJson(roles, CType.ROLES, 2, 0, 0),
+                SecurityDynamicConfiguration.<RoleMappingsV7>fromJson("{\"_meta\":{\"type\":\"rolesmapping\",\"config_version\":2}}", CType.ROLESMAPPING, 2, 0, 0),
+                SecurityDynamicConfiguration.<ActionGroupsV7>fromJson(ACTION_GROUPS, CType.ACTIONGROUPS, 2, 0, 0),
+                SecurityDynamicConfiguration.<TenantV7>fromJson(TENANTS, CType.TENANTS, 2, 0, 0),
+                dcm,
+                Settings.EMPTY,
+                new ClusterInfoHolder(),
+                new ConfigCompiler(OpenSearchExecutors.newDirectExecutorService(), Settings.EMPTY, SecurityStats.NONE));
+    }
+}
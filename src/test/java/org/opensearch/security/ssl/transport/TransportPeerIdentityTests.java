@@ -0,0 +1,58 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+package org.opensearch.security.ssl.transport;
+
+import java.security.cert.X509Certificate;
+
+import javax.net.ssl.SSLSession;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class TransportPeerIdentityTests {
+
+    private SSLSession session;
+    private TransportPeerIdentity identity;
+
+    @Before
+    public void setup() {
+        session = Mockito.mock(SSLSession.class);
+        Mockito.when(session.getProtocol()).thenReturn("TLSv1.3");
+        Mockito.when(session.getCipherSuite()).thenReturn("TLS_AES_256_GCM_SHA384");
+        identity = new TransportPeerIdentity(session, new X509Certificate[0], new X509Certificate[0], "CN=node-0");
+    }
+
+    @Test
+    public void testValidOnlyForSameSession() {
+        Assert.assertTrue(identity.isValidFor(session));
+        Assert.assertFalse(identity.isValidFor(Mockito.mock(SSLSession.class)));
+        Assert.assertEquals("TLSv1.3", identity.getProtocol());
+        Assert.assertEquals("TLS_AES_256_GCM_SHA384", identity.getCipherSuite());
+        Assert.assertEquals("CN=node-0", identity.getPrincipal());
+    }
+
+    @Test
+    public void testInterClusterDecisionBoundToCacheKey() {
+        final Object key = new Object();
+
+        Assert.assertNull(identity.getInterClusterRequest(key));
+
+        identity.setInterClusterRequest(key, true);
+        Assert.assertEquals(Boolean.TRUE, identity.getInterClusterRequest(key));
+        Assert.assertNull(identity.getInterClusterRequest(new Object()));
+        Assert.assertNull(identity.getInterClusterRequest(null));
+
+        identity.setInterClusterRequest(null, false);
+        Assert.assertEquals(Boolean.TRUE, identity.getInterClusterRequest(key));
+    }
+}
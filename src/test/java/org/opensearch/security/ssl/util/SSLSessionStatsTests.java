@@ -0,0 +1,82 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl.util;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+
+import io.netty.channel.Channel;
+import io.netty.handler.ssl.SslHandler;
+import io.netty.util.concurrent.DefaultPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
+import io.netty.util.concurrent.Promise;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class SSLSessionStatsTests {
+
+    @Test
+    public void testFullResumedAndFailedHandshakes() {
+        final SSLSessionStats stats = new SSLSessionStats();
+
+        // a new session is created during the handshake
+        handshake(stats, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1)).setSuccess(null);
+        // a resumed session was created by an earlier handshake
+        handshake(stats, System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)).setSuccess(null);
+        handshake(stats, System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(1)).setSuccess(null);
+        handshake(stats, 0).setFailure(new SSLException("handshake failed"));
+
+        Assert.assertEquals(1, stats.getFullHandshakes());
+        Assert.assertEquals(2, stats.getResumedHandshakes());
+        Assert.assertEquals(1, stats.getFailedHandshakes());
+        Assert.assertEquals(1L, stats.toMap().get("full_handshakes"));
+        Assert.assertEquals(2L, stats.toMap().get("resumed_handshakes"));
+        Assert.assertEquals(1L, stats.toMap().get("failed_handshakes"));
+    }
+
+    @Test
+    public void testHandshakesAreCountedOnceCompleted() {
+        final SSLSessionStats stats = new SSLSessionStats();
+        final Promise<Channel> pending = handshake(stats, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(1));
+        Assert.assertEquals(0, stats.getFullHandshakes());
+
+        pending.setSuccess(null);
+        Assert.assertEquals(1, stats.getFullHandshakes());
+    }
+
+    @Test
+    public void testNoneDoesNotTrack() {
+        final SslHandler sslHandler = Mockito.mock(SslHandler.class);
+        SSLSessionStats.NONE.track(sslHandler);
+        Mockito.verifyZeroInteractions(sslHandler);
+        Assert.assertEquals(0, SSLSessionStats.NONE.getFullHandshakes());
+    }
+
+    private static Promise<Channel> handshake(final SSLSessionStats stats, final long sessionCreationTime) {
+        final SSLSession session = Mockito.mock(SSLSession.class);
+        Mockito.when(session.getCreationTime()).thenReturn(sessionCreationTime);
+        final SSLEngine engine = Mockito.mock(SSLEngine.class);
+        Mockito.when(engine.getSession()).thenReturn(session);
+
+        final Promise<Channel> handshakeFuture = new DefaultPromise<>(ImmediateEventExecutor.INSTANCE);
+        final SslHandler sslHandler = Mockito.mock(SslHandler.class);
+        Mockito.when(sslHandler.engine()).thenReturn(engine);
+        Mockito.when(sslHandler.handshakeFuture()).thenReturn(handshakeFuture);
+
+        stats.track(sslHandler);
+        return handshakeFuture;
+    }
+}
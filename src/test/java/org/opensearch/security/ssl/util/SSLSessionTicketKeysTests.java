@@ -0,0 +1,136 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.ssl.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.SSLSessionContext;
+
+import io.netty.handler.ssl.OpenSslSessionContext;
+import io.netty.handler.ssl.OpenSslSessionTicketKey;
+import io.netty.handler.ssl.SslContext;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class SSLSessionTicketKeysTests {
+
+    private static final String TRUST = "trust-fingerprint";
+
+    private final AtomicLong nanoTime = new AtomicLong(System.nanoTime());
+
+    @Test
+    public void testRotationKeepsThePreviousKey() {
+        final SSLSessionTicketKeys keys = new SSLSessionTicketKeys(1, nanoTime::get);
+        final List<OpenSslSessionTicketKey[]> installed = new ArrayList<>();
+
+        keys.apply(sslContext(installed), TRUST);
+        Assert.assertEquals(1, installed.size());
+        Assert.assertEquals(1, installed.get(0).length);
+
+        // the interval did not elapse yet
+        keys.rotateIfNeeded();
+        advance(999);
+        keys.rotateIfNeeded();
+        Assert.assertEquals(1, installed.size());
+
+        advance(1);
+        keys.rotateIfNeeded();
+        Assert.assertEquals(2, installed.size());
+        Assert.assertEquals(2, installed.get(1).length);
+        Assert.assertNotSame(installed.get(0)[0], installed.get(1)[0]);
+        Assert.assertSame("the previous key still decrypts", installed.get(0)[0], installed.get(1)[1]);
+
+        advance(1000);
+        keys.rotateIfNeeded();
+        Assert.assertEquals(3, installed.size());
+        Assert.assertSame(installed.get(1)[0], installed.get(2)[1]);
+        Assert.assertEquals("only one previous key is kept", 2, installed.get(2).length);
+    }
+
+    @Test
+    public void testKeysAreCarriedOverOnReload() {
+        final SSLSessionTicketKeys keys = new SSLSessionTicketKeys(1, nanoTime::get);
+        final List<OpenSslSessionTicketKey[]> installed = new ArrayList<>();
+        keys.apply(sslContext(installed), TRUST);
+        advance(1000);
+        keys.rotateIfNeeded();
+
+        // a reloaded certificate with the same trusted certificates
+        final List<OpenSslSessionTicketKey[]> reloaded = new ArrayList<>();
+        keys.apply(sslContext(reloaded), TRUST);
+        Assert.assertEquals(1, reloaded.size());
+        Assert.assertArrayEquals(installed.get(1), reloaded.get(0));
+
+        // later rotations only affect the new context
+        advance(1000);
+        keys.rotateIfNeeded();
+        Assert.assertEquals(2, installed.size());
+        Assert.assertEquals(2, reloaded.size());
+        Assert.assertSame(installed.get(1)[0], reloaded.get(1)[1]);
+    }
+
+    @Test
+    public void testKeysAreNotCarriedOverIfTheTrustChanged() {
+        final SSLSessionTicketKeys keys = new SSLSessionTicketKeys(60, nanoTime::get);
+        final List<OpenSslSessionTicketKey[]> installed = new ArrayList<>();
+        keys.apply(sslContext(installed), TRUST);
+
+        final List<OpenSslSessionTicketKey[]> reloaded = new ArrayList<>();
+        keys.apply(sslContext(reloaded), "other-trust-fingerprint");
+        Assert.assertEquals(1, reloaded.size());
+        Assert.assertEquals(1, reloaded.get(0).length);
+        Assert.assertNotSame(installed.get(0)[0], reloaded.get(0)[0]);
+    }
+
+    @Test
+    public void testDisabledAndJdkContexts() {
+        final List<OpenSslSessionTicketKey[]> installed = new ArrayList<>();
+        final SSLSessionTicketKeys disabled = new SSLSessionTicketKeys(0, nanoTime::get);
+        Assert.assertFalse(disabled.isEnabled());
+        disabled.apply(sslContext(installed), TRUST);
+        disabled.rotateIfNeeded();
+        Assert.assertTrue(installed.isEmpty());
+
+        final SslContext jdkContext = Mockito.mock(SslContext.class);
+        Mockito.when(jdkContext.sessionContext()).thenReturn(Mockito.mock(SSLSessionContext.class));
+        final SSLSessionTicketKeys keys = new SSLSessionTicketKeys(1, nanoTime::get);
+        keys.apply(jdkContext, TRUST);
+        advance(1000);
+        // must not fail without an OpenSSL session context
+        keys.rotateIfNeeded();
+    }
+
+    private void advance(final long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static SslContext sslContext(final List<OpenSslSessionTicketKey[]> installed) {
+        final OpenSslSessionContext sessionContext = Mockito.mock(OpenSslSessionContext.class);
+        Mockito.doAnswer(invocation -> {
+            final Object[] arguments = invocation.getArguments();
+            final OpenSslSessionTicketKey[] keys = new OpenSslSessionTicketKey[arguments.length];
+            for (int i = 0; i < arguments.length; i++) {
+                keys[i] = (OpenSslSessionTicketKey) arguments[i];
+            }
+            installed.add(keys);
+            return null;
+        }).when(sessionContext).setTicketKeys(Mockito.<OpenSslSessionTicketKey>any());
+
+        final SslContext sslContext = Mockito.mock(SslContext.class);
+        Mockito.when(sslContext.sessionContext()).thenReturn(sessionContext);
+        return sslContext;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.stats;
+
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.lease.Releasable;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (long value : new long[] { 0, 1, 3, 4, 7, 8, 9, 10, 100, 1023, 1024, 123456789L, Long.MAX_VALUE }) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            Assert.assertTrue(value + " above bucket " + index, value <= LatencyHistogram.bucketUpperBound(index));
+            if (index > 0) {
+                Assert.assertTrue(value + " below bucket " + index, value > LatencyHistogram.bucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        Assert.assertEquals(0, histogram.getPercentile(99));
+
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1000, histogram.getMax());
+        assertWithin(500, histogram.getPercentile(50));
+        assertWithin(990, histogram.getPercentile(99));
+        Assert.assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void testDisabledStats() {
+        final SecurityStats stats = new SecurityStats(false, false);
+        try (Releasable timer = stats.time(SecurityStats.Phase.AUTHENTICATE)) {
+            // nothing to time
+        }
+        Assert.assertEquals(0, stats.getLatency(SecurityStats.Phase.AUTHENTICATE).getCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEnabledStats() {
+        final SecurityStats stats = new SecurityStats(true, false);
+        stats.registerGauge("queue", () -> 3);
+        try (Releasable timer = stats.time(SecurityStats.Phase.MAP_ROLES)) {
+            // nothing to time
+        }
+        Assert.assertEquals(1, stats.getLatency(SecurityStats.Phase.MAP_ROLES).getCount());
+
+        final Map<String, Object> map = stats.toMap();
+        Assert.assertEquals(3L, ((Map<String, Object>) map.get("gauges")).get("queue"));
+        Assert.assertTrue(((Map<String, Object>) map.get("phases")).containsKey("map_roles"));
+    }
+
+    private static void assertWithin(long expected, long actual) {
+        Assert.assertTrue("expected " + expected + " but was " + actual, actual >= expected && actual <= expected * 1.25);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.support;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.common.bytes.BytesReference;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.security.securityconf.impl.CType;
+
+public class ConfigEntriesTest {
+
+    @Test
+    public void testManifest() throws IOException {
+        final ConfigEntries.Manifest manifest = new ConfigEntries.Manifest("gen1", 3, 2, 120000);
+        final ConfigEntries.Manifest read = ConfigEntries.readManifest(BytesReference.bytes(ConfigEntries.manifestSource(manifest)));
+
+        Assert.assertEquals("gen1", read.getGeneration());
+        Assert.assertEquals(3, read.getVersion());
+        Assert.assertEquals(2, read.getConfigVersion());
+        Assert.assertEquals(120000, read.getEntries());
+    }
+
+    @Test
+    public void testBlobIsNoManifest() throws IOException {
+        final BytesReference blob = BytesReference.bytes(XContentFactory.jsonBuilder().startObject()
+                .field("internalusers", "{\"_meta\":{\"type\":\"internalusers\",\"config_version\":2}}".getBytes(StandardCharsets.UTF_8))
+                .endObject());
+
+        Assert.assertNull(ConfigEntries.readManifest(blob));
+    }
+
+    @Test
+    public void testEntry() throws IOException {
+        final byte[] value = "{\"hash\":\"$2y$12$abc\",\"backend_roles\":[\"admin\"]}".getBytes(StandardCharsets.UTF_8);
+        final ConfigEntries.Entry entry = ConfigEntries.readEntry(BytesReference.bytes(
+                ConfigEntries.entrySource(CType.INTERNALUSERS, "alice", "gen1", 4, value)));
+
+        Assert.assertEquals("alice", entry.getName());
+        Assert.assertEquals(4, entry.getVersion());
+        Assert.assertFalse(entry.isDeleted());
+        Assert.assertArrayEquals(value, entry.getValue());
+    }
+
+    @Test
+    public void testTombstone() throws IOException {
+        final ConfigEntries.Entry entry = ConfigEntries.readEntry(BytesReference.bytes(
+                ConfigEntries.entrySource(CType.ROLESMAPPING, "all_access", "gen1", 5, null)));
+
+        Assert.assertEquals("all_access", entry.getName());
+        Assert.assertTrue(entry.isDeleted());
+        Assert.assertNull(entry.getValue());
+    }
+
+    @Test
+    public void testSupportedTypes() {
+        Assert.assertEquals("internalusers#gen1#3#alice", ConfigEntries.entryId(CType.INTERNALUSERS, "gen1", 3, "alice"));
+        Assert.assertTrue(ConfigEntries.supports(CType.ROLES));
+        Assert.assertFalse(ConfigEntries.supports(CType.CONFIG));
+        Assert.assertFalse(ConfigEntries.supports(CType.AUDIT));
+    }
+}
@@ -28,10 +28,13 @@ package org.opensearch.security.test;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.common.bytes.BytesReference;
 import org.opensearch.security.securityconf.impl.CType;
 import org.opensearch.security.test.helper.file.FileHelper;
 
@@ -49,6 +52,7 @@ public class DynamicSecurityConfig {
     private String securityAllowlist= "allowlist.yml";
     private String securityAudit = "audit.yml";
     private String securityConfigAsYamlString = null;
+    private final Map<CType, String> yamlStrings = new EnumMap<>(CType.class);
     private String legacyConfigFolder = "";
 
     public String getSecurityIndexName() {
@@ -70,6 +74,14 @@ public class DynamicSecurityConfig {
         return this;
     }
 
+    /**
+     * Uses the given yaml instead of the file for the config type, e.g. a generated configuration
+     */
+    public DynamicSecurityConfig setConfigAsYamlString(CType type, String yaml) {
+        yamlStrings.put(type, yaml);
+        return this;
+    }
+
     public DynamicSecurityConfig setSecurityRoles(String securityRoles) {
         this.securityRoles = securityRoles;
         return this;
@@ -129,27 +141,27 @@ public class DynamicSecurityConfig {
         ret.add(new IndexRequest(securityIndexName)
                 .id(CType.ACTIONGROUPS.toLCString())
                 .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                .source(CType.ACTIONGROUPS.toLCString(), FileHelper.readYamlContent(prefix+securityActionGroups)));
+                .source(CType.ACTIONGROUPS.toLCString(), readYamlContent(CType.ACTIONGROUPS, prefix+securityActionGroups)));
 
         ret.add(new IndexRequest(securityIndexName)
                 .id(CType.INTERNALUSERS.toLCString())
                 .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                .source(CType.INTERNALUSERS.toLCString(), FileHelper.readYamlContent(prefix+securityInternalUsers)));
+                .source(CType.INTERNALUSERS.toLCString(), readYamlContent(CType.INTERNALUSERS, prefix+securityInternalUsers)));
 
         ret.add(new IndexRequest(securityIndexName)
                 .id(CType.ROLES.toLCString())
                 .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                .source(CType.ROLES.toLCString(), FileHelper.readYamlContent(prefix+securityRoles)));
+                .source(CType.ROLES.toLCString(), readYamlContent(CType.ROLES, prefix+securityRoles)));
 
         ret.add(new IndexRequest(securityIndexName)
                 .id(CType.ROLESMAPPING.toLCString())
                 .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                .source(CType.ROLESMAPPING.toLCString(), FileHelper.readYamlContent(prefix+securityRolesMapping)));
+                .source(CType.ROLESMAPPING.toLCString(), readYamlContent(CType.ROLESMAPPING, prefix+securityRolesMapping)));
         if("".equals(legacyConfigFolder)) {
             ret.add(new IndexRequest(securityIndexName)
                     .id(CType.TENANTS.toLCString())
                     .setRefreshPolicy(RefreshPolicy.IMMEDIATE)
-                    .source(CType.TENANTS.toLCString(), FileHelper.readYamlContent(prefix+securityTenants)));
+                    .source(CType.TENANTS.toLCString(), readYamlContent(CType.TENANTS, prefix+securityTenants)));
         }
 
         if (null != FileHelper.getAbsoluteFilePathFromClassPath(prefix + securityNodesDn)) {
@@ -187,4 +199,9 @@ public class DynamicSecurityConfig {
         return Collections.unmodifiableList(ret);
     }
 
+    private BytesReference readYamlContent(CType type, String file) {
+        final String yaml = yamlStrings.get(type);
+        return yaml == null ? FileHelper.readYamlContent(file) : FileHelper.readYamlContentFromString(yaml);
+    }
+
 }
@@ -65,6 +65,9 @@ public enum ClusterConfiguration {
 
     //1 node (1md)
 	SINGLENODE(new NodeSettings(true, true)),
+
+	//1 node (1md) without security, the baseline for benchmarks
+	SINGLENODE_WITHOUT_SECURITY_PLUGIN(new NodeSettings(true, true).removePluginIfPresent(OpenSearchSecurityPlugin.class)),
     
 	//4 node (1m, 2d, 1c)
 	CLIENTNODE(new NodeSettings(true, false), new NodeSettings(false, true), new NodeSettings(false, true), new NodeSettings(false, false)),
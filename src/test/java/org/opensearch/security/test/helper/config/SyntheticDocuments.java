@@ -0,0 +1,54 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.test.helper.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.opensearch.security.DefaultObjectMapper;
+
+/**
+ * Generates documents matching the DLS, FLS and masked fields of {@link SyntheticSecurityConfig}.
+ * Every document has a {@code department}, an {@code email}, an {@code ip}, a {@code secret} and an {@code internal}
+ * object, plus {@code fields} generic fields, so the size of the source scales with {@code fields}.
+ */
+public final class SyntheticDocuments {
+
+    private SyntheticDocuments() {
+    }
+
+    public static Map<String, Object> document(int id, int fields) {
+        final Map<String, Object> document = new LinkedHashMap<>();
+        document.put("department", "d" + (id % 1000));
+        document.put("email", "user" + id + "@example.com");
+        document.put("ip", "10." + (id >> 16 & 0xff) + "." + (id >> 8 & 0xff) + "." + (id & 0xff));
+        document.put("secret", "s" + Integer.toHexString(id * 31));
+
+        final Map<String, Object> internal = new LinkedHashMap<>();
+        internal.put("owner", "user_" + id);
+        internal.put("score", id % 100);
+        document.put("internal", internal);
+
+        for (int i = 0; i < fields; i++) {
+            document.put("field_" + i, i % 3 == 0 ? (Object) (id * 7L + i) : "value " + id + " " + i);
+        }
+        return document;
+    }
+
+    public static String json(int id, int fields) {
+        try {
+            return DefaultObjectMapper.writeValueAsString(document(id, fields), false);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
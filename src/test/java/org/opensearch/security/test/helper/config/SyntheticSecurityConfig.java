@@ -0,0 +1,280 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.test.helper.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import org.opensearch.Version;
+import org.opensearch.cluster.ClusterName;
+import org.opensearch.cluster.ClusterState;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.metadata.Metadata;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.securityconf.impl.CType;
+import org.opensearch.security.securityconf.impl.SecurityDynamicConfiguration;
+import org.opensearch.security.user.User;
+
+/**
+ * Generates large, deterministic security configurations and matching index names for benchmarks and load tests.
+ * <p>
+ * Role {@code role_<r>} grants read and write access to {@code indexPatternsPerRole} patterns like {@code logs-<app>-*} and is
+ * mapped to user {@code user_<r>} and backend role {@code group_<r % groups>}. Every {@code dlsFlsEvery}th role also
+ * has a DLS query, FLS exclusions and masked fields. Indices are named {@code logs-<app>-<day>}.
+ * All internal users have the password {@link #PASSWORD}.
+ */
+public class SyntheticSecurityConfig {
+
+    public static final String PASSWORD = "nagilum";
+    private static final String PASSWORD_HASH = "$2a$12$n5nubfWATfQjSYHiWtUyeOxMIxFInUHOAx8VMmGmxFNPGpaBmeB.m";
+
+    private int roles = 1000;
+    private int indexPatternsPerRole = 3;
+    private int groups = 100;
+    private int actionGroups = 100;
+    private int tenants = 100;
+    private int users = 1000;
+    private int apps = 100;
+    private int indices = 5000;
+    private int dlsFlsEvery = 10;
+
+    public SyntheticSecurityConfig setRoles(int roles) {
+        this.roles = roles;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setIndexPatternsPerRole(int indexPatternsPerRole) {
+        this.indexPatternsPerRole = indexPatternsPerRole;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setGroups(int groups) {
+        this.groups = groups;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setActionGroups(int actionGroups) {
+        this.actionGroups = actionGroups;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setTenants(int tenants) {
+        this.tenants = tenants;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setUsers(int users) {
+        this.users = users;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setApps(int apps) {
+        this.apps = apps;
+        return this;
+    }
+
+    public SyntheticSecurityConfig setIndices(int indices) {
+        this.indices = indices;
+        return this;
+    }
+
+    /**
+     * @param dlsFlsEvery every how many roles have DLS, FLS and masked fields, 0 for none
+     */
+    public SyntheticSecurityConfig setDlsFlsEvery(int dlsFlsEvery) {
+        this.dlsFlsEvery = dlsFlsEvery;
+        return this;
+    }
+
+    public int getRoles() {
+        return roles;
+    }
+
+    public int getGroups() {
+        return groups;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getApps() {
+        return apps;
+    }
+
+    public int getIndices() {
+        return indices;
+    }
+
+    public List<String> indexNames() {
+        final List<String> names = new ArrayList<>(indices);
+        for (int i = 0; i < indices; i++) {
+            names.add(indexName(i % apps, i / apps));
+        }
+        return names;
+    }
+
+    public static String indexName(int app, int day) {
+        return "logs-" + app + "-" + day;
+    }
+
+    public static String userName(int i) {
+        return "user_" + i;
+    }
+
+    /**
+     * @return an authenticated user as the internal user backend would create it, without resolved security roles
+     */
+    public User user(int i) {
+        return new User(userName(i), Collections.singletonList(groupName(i)), null);
+    }
+
+    public JsonNode roles() {
+        final ObjectNode root = withMeta(CType.ROLES);
+        for (int r = 0; r < roles; r++) {
+            final ObjectNode role = root.putObject("role_" + r);
+            role.putArray("cluster_permissions").add("cluster_composite_ops");
+
+            final ObjectNode indexPermission = role.putArray("index_permissions").addObject();
+            final ArrayNode patterns = indexPermission.putArray("index_patterns");
+            for (int p = 0; p < indexPatternsPerRole; p++) {
+                patterns.add("logs-" + ((r + p) % apps) + "-*");
+            }
+            indexPermission.putArray("allowed_actions").add("ag_" + (r % Math.max(actionGroups, 1))).add("indices:data/read/search*");
+
+            if (dlsFlsEvery > 0 && r % dlsFlsEvery == 0) {
+                indexPermission.put("dls", "{\"term\": {\"department\": \"d" + r + "\"}}");
+                indexPermission.putArray("fls").add("~secret*").add("~internal.*");
+                indexPermission.putArray("masked_fields").add("email").add("ip::SHA-256");
+            }
+
+            final ObjectNode tenantPermission = role.putArray("tenant_permissions").addObject();
+            tenantPermission.putArray("tenant_patterns").add("tenant_" + (r % Math.max(tenants, 1)));
+            tenantPermission.putArray("allowed_actions").add(r % 2 == 0 ? "kibana_all_write" : "kibana_all_read");
+        }
+        return root;
+    }
+
+    public JsonNode roleMappings() {
+        final ObjectNode root = withMeta(CType.ROLESMAPPING);
+        for (int r = 0; r < roles; r++) {
+            final ObjectNode mapping = root.putObject("role_" + r);
+            mapping.putArray("users").add(userName(r));
+            mapping.putArray("backend_roles").add(groupName(r));
+        }
+        return root;
+    }
+
+    /**
+     * Action groups {@code ag_<i>} nest up to four levels deep, so resolution is not trivial.
+     */
+    public JsonNode actionGroups() {
+        final ObjectNode root = withMeta(CType.ACTIONGROUPS);
+        for (int i = 0; i < actionGroups; i++) {
+            final ArrayNode actions = root.putObject("ag_" + i).putArray("allowed_actions");
+            actions.add("indices:data/read/get").add("indices:data/read/mget*").add("indices:data/read/msearch*");
+            if (i % 5 != 0) {
+                actions.add("ag_" + (i - 1));
+            } else {
+                actions.add("indices:data/write/bulk*").add("indices:data/write/index");
+            }
+        }
+        return root;
+    }
+
+    public JsonNode tenants() {
+        final ObjectNode root = withMeta(CType.TENANTS);
+        for (int i = 0; i < tenants; i++) {
+            root.putObject("tenant_" + i).put("description", "Synthetic tenant " + i);
+        }
+        return root;
+    }
+
+    public JsonNode internalUsers() {
+        final ObjectNode root = withMeta(CType.INTERNALUSERS);
+        for (int i = 0; i < users; i++) {
+            final ObjectNode user = root.putObject(userName(i));
+            user.put("hash", PASSWORD_HASH);
+            user.putArray("backend_roles").add(groupName(i));
+            user.putObject("attributes").put("department", "d" + i);
+        }
+        return root;
+    }
+
+    public JsonNode toJson(CType type) {
+        switch (type) {
+            case ROLES:
+                return roles();
+            case ROLESMAPPING:
+                return roleMappings();
+            case ACTIONGROUPS:
+                return actionGroups();
+            case TENANTS:
+                return tenants();
+            case INTERNALUSERS:
+                return internalUsers();
+            default:
+                throw new IllegalArgumentException("No synthetic configuration for " + type);
+        }
+    }
+
+    public <T> SecurityDynamicConfiguration<T> sdc(CType type) throws IOException {
+        return SecurityDynamicConfiguration.fromNode(toJson(type), type, 2, 0, 0);
+    }
+
+    public String yaml(CType type) throws IOException {
+        return DefaultObjectMapper.YAML_MAPPER.writeValueAsString(toJson(type));
+    }
+
+    /**
+     * @return a cluster state holding all generated indices, each with one shard
+     */
+    public ClusterState clusterState() {
+        final Metadata.Builder metadata = Metadata.builder();
+        for (final String name : indexNames()) {
+            metadata.put(IndexMetadata.builder(name)
+                    .settings(Settings.builder().put(IndexMetadata.SETTING_VERSION_CREATED, Version.CURRENT))
+                    .numberOfShards(1)
+                    .numberOfReplicas(0), false);
+        }
+        return ClusterState.builder(new ClusterName("synthetic")).metadata(metadata).build();
+    }
+
+    /**
+     * @return the index patterns granted to {@code role_<r>}
+     */
+    public List<String> indexPatterns(int r) {
+        final String[] patterns = new String[indexPatternsPerRole];
+        for (int p = 0; p < indexPatternsPerRole; p++) {
+            patterns[p] = "logs-" + ((r + p) % apps) + "-*";
+        }
+        return Arrays.asList(patterns);
+    }
+
+    public String groupName(int i) {
+        return "group_" + (i % Math.max(groups, 1));
+    }
+
+    private static ObjectNode withMeta(CType type) {
+        final ObjectNode root = DefaultObjectMapper.objectMapper.createObjectNode();
+        root.putObject("_meta").put("type", type.toLCString()).put("config_version", 2);
+        return root;
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.test.helper.load;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.Header;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import org.opensearch.security.test.helper.load.SyntheticWorkload.Identity;
+import org.opensearch.security.test.helper.load.SyntheticWorkload.Operation;
+import org.opensearch.security.test.helper.rest.RestHelper;
+import org.opensearch.security.test.helper.rest.RestHelper.HttpResponse;
+
+/**
+ * Sends the requests of a {@link SyntheticWorkload} from {@code threads} closed loop clients over kept alive
+ * connections and measures the latency of every request after the warmup.
+ * Each client picks the operation and the user at random from a seeded generator, so runs are repeatable.
+ */
+public class LoadGenerator {
+
+    protected final Logger log = LogManager.getLogger(LoadGenerator.class);
+
+    private final RestHelper restHelper;
+    private final SyntheticWorkload workload;
+    private int threads = 8;
+    private long warmupMillis = TimeUnit.SECONDS.toMillis(10);
+    private long durationMillis = TimeUnit.SECONDS.toMillis(30);
+    private long seed = 42;
+    private List<Operation> operations = Arrays.asList(Operation.values());
+
+    public LoadGenerator(RestHelper restHelper, SyntheticWorkload workload) {
+        this.restHelper = restHelper;
+        this.workload = workload;
+    }
+
+    public LoadGenerator setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    public LoadGenerator setWarmup(long amount, TimeUnit unit) {
+        this.warmupMillis = unit.toMillis(amount);
+        return this;
+    }
+
+    public LoadGenerator setDuration(long amount, TimeUnit unit) {
+        this.durationMillis = unit.toMillis(amount);
+        return this;
+    }
+
+    public LoadGenerator setSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    public LoadGenerator setOperations(List<Operation> operations) {
+        this.operations = operations;
+        return this;
+    }
+
+    public LoadReport run(String label, Identity identity) throws Exception {
+        final int users = workload.getConfig().getUsers();
+        final Header[][] credentials = new Header[users][];
+        for (int u = 0; u < users; u++) {
+            credentials[u] = workload.credentials(identity, u);
+        }
+
+        final String httpServerUri = restHelper.getHttpServerUri();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        try (CloseableHttpClient httpClient = restHelper.getPooledHTTPClient(threads)) {
+            final long measureFrom = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+            final long measureTo = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+
+            final List<Future<Recorder>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                final Random random = new Random(seed + t);
+                futures.add(executor.submit(() -> {
+                    final Recorder recorder = new Recorder();
+                    long now;
+                    while ((now = System.nanoTime()) < measureTo) {
+                        final Operation operation = operations.get(random.nextInt(operations.size()));
+                        final int u = random.nextInt(users);
+                        final HttpUriRequest request = workload.request(operation, u, random, httpServerUri);
+                        request.setHeaders(credentials[u]);
+
+                        boolean error;
+                        String body;
+                        try {
+                            final HttpResponse response = new HttpResponse(httpClient.execute(request));
+                            body = response.getBody();
+                            error = response.getStatusCode() >= 300 || body.startsWith("{\"took\"") && body.contains("\"errors\":true");
+                            if (error) {
+                                body = response.getStatusCode() + " " + body;
+                            }
+                        } catch (Exception e) {
+                            error = true;
+                            body = e.toString();
+                        }
+                        final long end = System.nanoTime();
+
+                        if (now >= measureFrom) {
+                            recorder.record(operation, end - now, error);
+                        }
+                        if (error && recorder.firstError == null) {
+                            recorder.firstError = operation + " as " + identity + " user " + u + ": " + body;
+                        }
+                    }
+                    return recorder;
+                }));
+            }
+
+            final Recorder total = new Recorder();
+            for (final Future<Recorder> future : futures) {
+                total.merge(future.get());
+            }
+            if (total.firstError != null) {
+                log.warn("{}: {}", label, total.firstError);
+            }
+
+            final LoadReport report = new LoadReport(label, durationMillis / 1000d);
+            for (final Operation operation : operations) {
+                report.add(operation, total.latencies(operation), total.errors(operation));
+            }
+            return report;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class Recorder {
+        private final Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        private final Map<Operation, Integer> counts = new EnumMap<>(Operation.class);
+        private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        private String firstError;
+
+        void record(Operation operation, long nanos, boolean error) {
+            final int count = counts.getOrDefault(operation, 0);
+            long[] values = latencies.get(operation);
+            if (values == null) {
+                values = new long[1024];
+            } else if (values.length == count) {
+                values = Arrays.copyOf(values, count * 2);
+            }
+            values[count] = nanos;
+            latencies.put(operation, values);
+            counts.put(operation, count + 1);
+            if (error) {
+                errors.merge(operation, 1L, Long::sum);
+            }
+        }
+
+        void merge(Recorder other) {
+            for (final Map.Entry<Operation, Integer> entry : other.counts.entrySet()) {
+                final long[] values = other.latencies.get(entry.getKey());
+                for (int i = 0; i < entry.getValue(); i++) {
+                    record(entry.getKey(), values[i], false);
+                }
+            }
+            for (final Map.Entry<Operation, Long> entry : other.errors.entrySet()) {
+                errors.merge(entry.getKey(), entry.getValue(), Long::sum);
+            }
+            if (firstError == null) {
+                firstError = other.firstError;
+            }
+        }
+
+        long[] latencies(Operation operation) {
+            final long[] values = latencies.get(operation);
+            return values == null ? new long[0] : Arrays.copyOf(values, counts.get(operation));
+        }
+
+        long errors(Operation operation) {
+            return errors.getOrDefault(operation, 0L);
+        }
+    }
+}
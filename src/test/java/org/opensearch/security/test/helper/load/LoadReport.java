@@ -0,0 +1,134 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.test.helper.load;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.opensearch.security.test.helper.load.SyntheticWorkload.Operation;
+
+/**
+ * Throughput and latency percentiles per operation of one {@link LoadGenerator} run.
+ */
+public class LoadReport {
+
+    private final String label;
+    private final double seconds;
+    private final Map<Operation, OperationStats> operations = new EnumMap<>(Operation.class);
+
+    LoadReport(String label, double seconds) {
+        this.label = label;
+        this.seconds = seconds;
+    }
+
+    void add(Operation operation, long[] latenciesNanos, long errors) {
+        operations.put(operation, new OperationStats(latenciesNanos, errors, seconds));
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public OperationStats get(Operation operation) {
+        return operations.get(operation);
+    }
+
+    public long getErrors() {
+        return operations.values().stream().mapToLong(s -> s.errors).sum();
+    }
+
+    /**
+     * @return the report as nested maps, to be written as json
+     */
+    public Map<String, Object> toMap() {
+        final Map<String, Object> result = new LinkedHashMap<>();
+        result.put("label", label);
+        result.put("seconds", seconds);
+        final Map<String, Object> ops = new LinkedHashMap<>();
+        for (final Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+            ops.put(entry.getKey().name().toLowerCase(Locale.ROOT), entry.getValue().toMap());
+        }
+        result.put("operations", ops);
+        return result;
+    }
+
+    /**
+     * @return a table of this report, with the overhead of the median latency over {@code baseline} if not null
+     */
+    public String toString(LoadReport baseline) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%s (%.1fs)%n", label, seconds));
+        sb.append(String.format(Locale.ROOT, "  %-8s %9s %7s %10s %9s %9s %9s %9s%n", "op", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p50 +%"));
+        for (final Map.Entry<Operation, OperationStats> entry : operations.entrySet()) {
+            final OperationStats stats = entry.getValue();
+            final OperationStats base = baseline == null ? null : baseline.get(entry.getKey());
+            sb.append(String.format(Locale.ROOT, "  %-8s %9d %7d %10.1f %9.2f %9.2f %9.2f %9s%n",
+                    entry.getKey().name().toLowerCase(Locale.ROOT), stats.count, stats.errors, stats.throughput,
+                    stats.p50, stats.p90, stats.p99,
+                    base == null || base.p50 == 0 ? "-" : String.format(Locale.ROOT, "%.1f", (stats.p50 / base.p50 - 1) * 100)));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return toString(null);
+    }
+
+    public static class OperationStats {
+        public final long count;
+        public final long errors;
+        public final double throughput;
+        public final double p50;
+        public final double p90;
+        public final double p99;
+        public final double max;
+
+        OperationStats(long[] latenciesNanos, long errors, double seconds) {
+            final long[] sorted = latenciesNanos.clone();
+            Arrays.sort(sorted);
+            this.count = sorted.length;
+            this.errors = errors;
+            this.throughput = seconds > 0 ? count / seconds : 0;
+            this.p50 = percentileMillis(sorted, 50);
+            this.p90 = percentileMillis(sorted, 90);
+            this.p99 = percentileMillis(sorted, 99);
+            this.max = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6;
+        }
+
+        Map<String, Object> toMap() {
+            final Map<String, Object> result = new LinkedHashMap<>();
+            result.put("count", count);
+            result.put("errors", errors);
+            result.put("throughput", throughput);
+            result.put("p50_ms", p50);
+            result.put("p90_ms", p90);
+            result.put("p99_ms", p99);
+            result.put("max_ms", max);
+            return result;
+        }
+
+        /**
+         * Nearest rank percentile
+         */
+        private static double percentileMillis(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / 1e6;
+        }
+    }
+}
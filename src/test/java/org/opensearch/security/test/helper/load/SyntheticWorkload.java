@@ -0,0 +1,184 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.test.helper.load;
+
+import java.util.Random;
+
+import com.google.common.io.BaseEncoding;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.apache.http.Header;
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHeader;
+
+import org.opensearch.action.admin.indices.create.CreateIndexRequest;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest.RefreshPolicy;
+import org.opensearch.client.Client;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.test.AbstractSecurityUnitTest;
+import org.opensearch.security.test.helper.config.SyntheticDocuments;
+import org.opensearch.security.test.helper.config.SyntheticSecurityConfig;
+
+/**
+ * The data and the requests of a load test against the indices of a {@link SyntheticSecurityConfig}.
+ * <p>
+ * Every index holds {@code documents} documents with ids {@code 0..documents-1}. A request on behalf of
+ * {@code user_<u>} only targets the indices of the app granted to the backend role of the user, so with the
+ * security plugin all requests are permitted and go through DLS, FLS and field masking where the roles have them.
+ * Bulk requests overwrite existing documents, so the data does not grow during a run.
+ */
+public class SyntheticWorkload {
+
+    /**
+     * The signing key of the jwt authentication domain in {@code config_benchmark.yml}
+     */
+    public static final String JWT_SIGNING_KEY = "bjBkNDBjYjg0LWJlZTMtMTFlNi1hZjdjLWNiOWFiYTM1YWJjNQ==";
+
+    public enum Operation {
+        SEARCH, GET, MGET, MSEARCH, BULK
+    }
+
+    public enum Identity {
+        /** No credentials, for clusters without the security plugin */
+        NONE,
+        /** HTTP basic authentication against the internal users */
+        BASIC,
+        /** A signed JWT carrying the backend role of the user */
+        JWT
+    }
+
+    private final SyntheticSecurityConfig config;
+    private final int documents;
+    private final int fields;
+    private final int batchSize;
+
+    public SyntheticWorkload(SyntheticSecurityConfig config, int documents, int fields, int batchSize) {
+        if (config.getIndices() < config.getApps()) {
+            throw new IllegalArgumentException("Need at least one index per app, got " + config.getIndices() + " indices for " + config.getApps() + " apps");
+        }
+        this.config = config;
+        this.documents = documents;
+        this.fields = fields;
+        this.batchSize = batchSize;
+    }
+
+    public SyntheticSecurityConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * Creates all indices with one shard and no replicas and fills them with documents.
+     */
+    public void populate(Client client) {
+        final Settings indexSettings = Settings.builder()
+                .put("index.number_of_shards", 1)
+                .put("index.number_of_replicas", 0)
+                .build();
+
+        for (final String index : config.indexNames()) {
+            client.admin().indices().create(new CreateIndexRequest(index).settings(indexSettings)).actionGet();
+
+            final BulkRequest bulkRequest = new BulkRequest().setRefreshPolicy(RefreshPolicy.IMMEDIATE);
+            for (int d = 0; d < documents; d++) {
+                bulkRequest.add(new IndexRequest(index).id(String.valueOf(d)).source(SyntheticDocuments.document(d, fields)));
+            }
+            final BulkResponse bulkResponse = client.bulk(bulkRequest).actionGet();
+            if (bulkResponse.hasFailures()) {
+                throw new IllegalStateException("Could not populate " + index + ": " + bulkResponse.buildFailureMessage());
+            }
+        }
+    }
+
+    /**
+     * @return the credentials of {@code user_<u>}, computed once per user before a run so that signing tokens is not measured
+     */
+    public Header[] credentials(Identity identity, int u) {
+        switch (identity) {
+            case NONE:
+                return new Header[0];
+            case BASIC:
+                return new Header[] { AbstractSecurityUnitTest.encodeBasicHeader(SyntheticSecurityConfig.userName(u), SyntheticSecurityConfig.PASSWORD) };
+            case JWT:
+                final String token = Jwts.builder()
+                        .setSubject(SyntheticSecurityConfig.userName(u))
+                        .claim("roles", config.groupName(u))
+                        .signWith(Keys.hmacShaKeyFor(BaseEncoding.base64().decode(JWT_SIGNING_KEY)), SignatureAlgorithm.HS256)
+                        .compact();
+                return new Header[] { new BasicHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token) };
+            default:
+                throw new IllegalArgumentException("Unknown identity " + identity);
+        }
+    }
+
+    public HttpUriRequest request(Operation operation, int u, Random random, String httpServerUri) {
+        final int app = app(u);
+        switch (operation) {
+            case SEARCH:
+                return post(httpServerUri + "/logs-" + app + "-*/_search", "{\"size\":10,\"query\":{\"match_all\":{}}}", ContentType.APPLICATION_JSON);
+            case GET:
+                return new HttpGet(httpServerUri + "/" + index(app, random) + "/_doc/" + random.nextInt(documents));
+            case MGET: {
+                final StringBuilder body = new StringBuilder("{\"docs\":[");
+                for (int i = 0; i < batchSize; i++) {
+                    body.append(i == 0 ? "" : ",").append("{\"_index\":\"").append(index(app, random)).append("\",\"_id\":\"").append(random.nextInt(documents)).append("\"}");
+                }
+                return post(httpServerUri + "/_mget", body.append("]}").toString(), ContentType.APPLICATION_JSON);
+            }
+            case MSEARCH: {
+                final StringBuilder body = new StringBuilder();
+                for (int i = 0; i < batchSize; i++) {
+                    body.append("{\"index\":\"").append(index(app, random)).append("\"}\n");
+                    body.append("{\"size\":10,\"query\":{\"term\":{\"department\":\"d").append(random.nextInt(Math.min(documents, 1000))).append("\"}}}\n");
+                }
+                return post(httpServerUri + "/_msearch", body.toString(), ContentType.create("application/x-ndjson"));
+            }
+            case BULK: {
+                final StringBuilder body = new StringBuilder();
+                for (int i = 0; i < batchSize; i++) {
+                    final int d = random.nextInt(documents);
+                    body.append("{\"index\":{\"_index\":\"").append(index(app, random)).append("\",\"_id\":\"").append(d).append("\"}}\n");
+                    body.append(SyntheticDocuments.json(d, fields)).append('\n');
+                }
+                return post(httpServerUri + "/_bulk", body.toString(), ContentType.create("application/x-ndjson"));
+            }
+            default:
+                throw new IllegalArgumentException("Unknown operation " + operation);
+        }
+    }
+
+    /**
+     * @return the app whose indices {@code user_<u>} can read and write through its backend role
+     */
+    private int app(int u) {
+        return (u % Math.max(config.getGroups(), 1)) % config.getApps();
+    }
+
+    private String index(int app, Random random) {
+        final int days = (config.getIndices() - app + config.getApps() - 1) / config.getApps();
+        return SyntheticSecurityConfig.indexName(app, random.nextInt(days));
+    }
+
+    private static HttpPost post(String uri, String body, ContentType contentType) {
+        final HttpPost post = new HttpPost(uri);
+        post.setEntity(new StringEntity(body, contentType));
+        return post;
+    }
+}
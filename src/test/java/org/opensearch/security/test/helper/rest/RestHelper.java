@@ -223,13 +223,24 @@ public class RestHelper {
 		}
 	}
 	
-	protected final String getHttpServerUri() {
+	public final String getHttpServerUri() {
 		final String address = "http" + (enableHTTPClientSSL ? "s" : "") + "://" + clusterInfo.httpHost + ":" + clusterInfo.httpPort;
 		log.debug("Connect to {}", address);
 		return address;
 	}
 	
 	protected final CloseableHttpClient getHTTPClient() throws Exception {
+		return getHTTPClientBuilder().build();
+	}
+
+	/**
+	 * @return a client keeping up to {@code maxConnections} connections open, to send many requests without reconnecting
+	 */
+	public final CloseableHttpClient getPooledHTTPClient(final int maxConnections) throws Exception {
+		return getHTTPClientBuilder().setMaxConnTotal(maxConnections).setMaxConnPerRoute(maxConnections).build();
+	}
+
+	private HttpClientBuilder getHTTPClientBuilder() throws Exception {
 
 		final HttpClientBuilder hcb = HttpClients.custom();
 
@@ -288,7 +299,7 @@ public class RestHelper {
 
 		hcb.setDefaultSocketConfig(SocketConfig.custom().setSoTimeout(60 * 1000).build());
 
-		return hcb.build();
+		return hcb;
 	}
 
 	
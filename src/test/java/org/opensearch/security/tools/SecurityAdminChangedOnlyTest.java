@@ -0,0 +1,94 @@
+/*
+ * SPDX-License-Identifier: Apache-2.0
+ *
+ * The OpenSearch Contributors require contributions made to
+ * this file be licensed under the Apache-2.0 license or a
+ * compatible open source license.
+ *
+ * Modifications Copyright OpenSearch Contributors. See
+ * GitHub history for details.
+ */
+
+package org.opensearch.security.tools;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.client.RequestOptions;
+import org.opensearch.client.RestHighLevelClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.security.DefaultObjectMapper;
+import org.opensearch.security.support.ConfigConstants;
+import org.opensearch.security.test.DynamicSecurityConfig;
+import org.opensearch.security.test.SingleClusterTest;
+import org.opensearch.security.test.helper.file.FileHelper;
+
+public class SecurityAdminChangedOnlyTest extends SingleClusterTest {
+
+    private static final String INDEX = ConfigConstants.OPENDISTRO_SECURITY_DEFAULT_CONFIG_INDEX;
+
+    @Test
+    public void testDiffOfNewConfig() throws Exception {
+        Assert.assertEquals("new, 2 entries", SecurityAdmin.diff(null, json("{'_meta':{'type':'roles'},'a':{},'b':{}}")));
+        Assert.assertEquals("new, 1 entries", SecurityAdmin.diff(null, json("{'a':{}}")));
+    }
+
+    @Test
+    public void testDiffOfUnchangedConfig() throws Exception {
+        Assert.assertEquals("unchanged", SecurityAdmin.diff(json("{'a':{'x':1},'b':{}}"), json("{'b':{},'a':{'x':1}}")));
+    }
+
+    @Test
+    public void testDiffOfChangedConfig() throws Exception {
+        final JsonNode remote = json("{'_meta':{'type':'roles'},'kept':{'x':1},'changed':{'x':1},'removed_1':{},'removed_2':{}}");
+        final JsonNode local = json("{'_meta':{'type':'roles'},'kept':{'x':1},'changed':{'x':2},'added':{}}");
+
+        Assert.assertEquals("1 added, 1 changed, 2 removed", SecurityAdmin.diff(remote, local));
+        Assert.assertEquals("2 added, 1 changed, 1 removed", SecurityAdmin.diff(local, remote));
+    }
+
+    @Test
+    public void testConcurrentChangeIsAConflict() throws Exception {
+        final Settings settings = Settings.builder()
+                .put("plugins.security.ssl.http.enabled", true)
+                .put("plugins.security.ssl.http.keystore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("node-0-keystore.jks"))
+                .put("plugins.security.ssl.http.truststore_filepath", FileHelper.getAbsoluteFilePathFromClassPath("truststore.jks"))
+                .build();
+        setup(Settings.EMPTY, new DynamicSecurityConfig(), settings, true);
+
+        final String content = new String(Files.readAllBytes(Paths.get("src/test/resources/config.yml")), StandardCharsets.UTF_8);
+
+        try (RestHighLevelClient tc = getRestClient(clusterInfo, "kirk-keystore.jks", "truststore.jks")) {
+            final GetResponse compared = tc.get(new GetRequest(INDEX, "config"), RequestOptions.DEFAULT);
+            Assert.assertTrue(compared.isExists());
+
+            // another securityadmin run uploads the config between the comparison and the upload
+            final IndexRequest concurrent = SecurityAdmin.changedConfigRequest(INDEX, "config", content, compared);
+            Assert.assertTrue(SecurityAdmin.uploadChangedConfig(tc, new BulkRequest().add(concurrent)));
+            final long concurrentSeqNo = tc.get(new GetRequest(INDEX, "config"), RequestOptions.DEFAULT).getSeqNo();
+            Assert.assertTrue(concurrentSeqNo > compared.getSeqNo());
+
+            final IndexRequest stale = SecurityAdmin.changedConfigRequest(INDEX, "config", content, compared);
+            Assert.assertFalse(SecurityAdmin.uploadChangedConfig(tc, new BulkRequest().add(stale)));
+            Assert.assertEquals(concurrentSeqNo, tc.get(new GetRequest(INDEX, "config"), RequestOptions.DEFAULT).getSeqNo());
+
+            // a config type which did not exist when comparing must not overwrite one created meanwhile
+            final IndexRequest create = SecurityAdmin.changedConfigRequest(INDEX, "config", content, null);
+            Assert.assertFalse(SecurityAdmin.uploadChangedConfig(tc, new BulkRequest().add(create)));
+            Assert.assertEquals(concurrentSeqNo, tc.get(new GetRequest(INDEX, "config"), RequestOptions.DEFAULT).getSeqNo());
+        }
+    }
+
+    private static JsonNode json(final String json) throws Exception {
+        return DefaultObjectMapper.readTree(json.replace('\'', '"'));
+    }
+}